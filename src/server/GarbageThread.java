@@ -73,6 +73,7 @@ public class GarbageThread extends InternalSession
 		int state;
 		final long now = System.currentTimeMillis();
 		long finaltime;
+		final SDMSHistoryArchive archive = SDMSHistoryArchive.archive;
 
 		doTrace(cEnv, "Start Garbage Collect (now = " + now + " preserveTime = " + preserveTime + ")", SEVERITY_INFO);
 
@@ -168,8 +169,12 @@ public class GarbageThread extends InternalSession
 					if (sysEnv.maxHistoryCount == 0 || masterCtr <= sysEnv.maxHistoryCount)
 						continue;
 			}
+			if (archive != null && now - finaltime <= SystemEnvironment.historyArchiveTime)
+				archive.add(sysEnv, sme);
 			sme.releaseMaster(sysEnv);
 		}
+		if (archive != null)
+			archive.expire(sysEnv, now);
 
 		long purgeLow = sysEnv.roTxList.first(sysEnv);
 
@@ -90,6 +90,7 @@ public abstract class InternalSession extends SDMSThread
 	{
 		n.setEnv(cEnv);
 		cEnv.actstmt = n.getName();
+		n.postTs = System.nanoTime();
 		cEnv.cmdQueue().post(n);
 		cEnv.lock().do_wait();
 
@@ -31,6 +31,9 @@ import java.io.*;
 import java.util.*;
 import java.lang.*;
 import java.net.*;
+import java.nio.channels.*;
+import java.util.concurrent.*;
+import javax.net.ssl.*;
 
 import de.independit.scheduler.server.util.*;
 import de.independit.scheduler.server.parser.*;
@@ -50,7 +53,10 @@ public abstract class ListenThread extends SDMSThread
 	private int             svrtype;
 	private ThreadGroup	uc;
 	protected ServerSocket	serv;
-	private	UserConnection[] connects;
+	// the live sessions of this listener; a UserConnection removes itself when it terminates
+	private final Set<UserConnection> connects = Collections.newSetFromMap(new ConcurrentHashMap<UserConnection, Boolean>());
+	// the sessions of all multiplexing listeners; they are UserConnections which are never started
+	private final static Set<UserConnection> multiplexed = Collections.newSetFromMap(new ConcurrentHashMap<UserConnection, Boolean>());
 	private SyncFifo	cmdQueue;
 	private SyncFifo	roCmdQueue;
 	private boolean trace;
@@ -65,7 +71,6 @@ public abstract class ListenThread extends SDMSThread
 		maxConnections = mc;
 		if(maxConnections <= 0) maxConnections = 1000;
 		run = true;
-		connects = new UserConnection[maxConnections];
 		cmdQueue = f;
 		roCmdQueue = rof;
 		trace = false;
@@ -88,29 +93,82 @@ public abstract class ListenThread extends SDMSThread
 
 	public void trace_on()
 	{
-		int next;
 		trace = true;
-		for(next = 0; next < maxConnections; ++next) {
-			if(connects[next] == null) break;
-			if(!connects[next].isAlive()) break;
-			connects[next].getEnv().trace_on();
+		Iterator<UserConnection> i = connects.iterator();
+		while(i.hasNext()) {
+			UserConnection c = i.next();
+			if(c.isActive()) c.getEnv().trace_on();
 		}
 	}
 
 	public void trace_off()
 	{
-		int next;
 		trace = false;
-		for(next = 0; next < maxConnections; ++next) {
-			if(connects[next] == null) break;
-			if(!connects[next].isAlive()) break;
-			connects[next].getEnv().trace_off();
+		Iterator<UserConnection> i = connects.iterator();
+		while(i.hasNext()) {
+			UserConnection c = i.next();
+			if(c.isActive()) c.getEnv().trace_off();
 		}
 	}
 
+	protected void connectionClosed(UserConnection c)
+	{
+		connects.remove(c);
+		multiplexed.remove(c);
+	}
+
+	// the threads of the thread group and the multiplexed sessions belonging to it
+	public static SDMSThread[] getSessions(ThreadGroup tg)
+	{
+		SDMSThread[] list = new SDMSThread[tg.activeCount() + multiplexed.size()];
+		int nt = tg.enumerate(list);
+		Iterator<UserConnection> i = multiplexed.iterator();
+		while(i.hasNext() && nt < list.length) {
+			UserConnection c = i.next();
+			if(c.getThreadGroup() == tg) list[nt++] = c;
+		}
+		SDMSThread[] result = new SDMSThread[nt];
+		System.arraycopy(list, 0, result, 0, nt);
+		return result;
+	}
+
+	boolean running()
+	{
+		return run;
+	}
+
+	boolean isListener()
+	{
+		return svrtype == LISTENER;
+	}
+
+	UserConnection newSession(SessionChannel s)
+	{
+		UserConnection c = new UserConnection(trace, uc, s, cmdQueue, roCmdQueue, port, this);
+		connects.add(c);
+		multiplexed.add(c);
+		return c;
+	}
+
 	abstract ServerSocket getServerSocket(int port)
 		throws IOException;
 
+	ServerSocketChannel getServerChannel(int port)
+		throws IOException
+	{
+		ServerSocketChannel ch = ServerSocketChannel.open();
+		ch.socket().setPerformancePreferences(0, 1, 0);
+		ch.socket().bind(new InetSocketAddress(port));
+		ch.configureBlocking(false);
+		return ch;
+	}
+
+	// the engine encrypting a multiplexed session, or null
+	SSLEngine createEngine()
+	{
+		return null;
+	}
+
 	private void init()
 	{
 		try {
@@ -146,22 +204,37 @@ public abstract class ListenThread extends SDMSThread
 		return soc;
 	}
 
+	// removes connections which died without deregistering, e.g. after an Error before SDMSrun() was entered
+	private void purgeConnections()
+	{
+		Iterator<UserConnection> i = connects.iterator();
+		while(i.hasNext()) {
+			UserConnection c = i.next();
+			if(c.getState() == Thread.State.TERMINATED)
+				i.remove();
+		}
+	}
+
 	public void SDMSrun()
 	{
 		Socket		sock;
 
+		if(SystemEnvironment.sessionMultiplexing) {
+			try {
+				new SessionMultiplexer(this, maxConnections).run(port);
+			} catch(Error e) {
+				doTrace(null, e.toString(), e.getStackTrace(), SEVERITY_FATAL);
+			}
+			return;
+		}
+
 		init();
 
 		try {
 run:			while(run) {
-				int next;
-
-				do {
-					for(next = 0; next < maxConnections; ++next) {
-						if(connects[next] == null) break;
-						if(!connects[next].isAlive()) break;
-					}
-					if(next == maxConnections) {
+				while(connects.size() >= maxConnections) {
+					purgeConnections();
+					if(connects.size() >= maxConnections) {
 
 						if(svrtype == LISTENER)
 							doTrace(null, "Out of user connects, waiting 1 second", SEVERITY_WARNING);
@@ -173,13 +246,14 @@ run:			while(run) {
 							continue run;
 						}
 					}
-				} while(next >= maxConnections);
+				}
 
 				try {
 					sock = accept();
 					sock.setKeepAlive(true);
-					connects[next] = new UserConnection(trace, uc, sock, cmdQueue, roCmdQueue, port);
-					connects[next].start();
+					UserConnection c = new UserConnection(trace, uc, sock, cmdQueue, roCmdQueue, port, this);
+					connects.add(c);
+					c.start();
 					sock = null;
 				} catch (InterruptedIOException iioe) {
 					continue run;
@@ -187,25 +261,24 @@ run:			while(run) {
 					doTrace(null, "Exception : " + ioe, SEVERITY_WARNING);
 					break;
 				}
-
-				for(next = 0; next < maxConnections; ++next) {
-					if(connects[next] == null) continue;
-					if(!connects[next].isAlive()) connects[next] = null;
-				}
 			}
 		} catch(Error e) {
 			doTrace(null, e.toString(), e.getStackTrace(), SEVERITY_FATAL);
 		}
 		doTrace(null, (svrtype == LISTENER ? "Listener" : "Service") + " waiting for UserConnections to terminate", SEVERITY_INFO);
-		for(int i = 0; i < maxConnections; ++i) {
-			if(connects[i] == null) continue;
-			if(!connects[i].isAlive()) continue;
-			try {
-				doTrace(null, "Waiting for " + connects[i].toString(), SEVERITY_INFO);
-				connects[i].do_stop();
-				connects[i].join();
-			} catch(InterruptedException ie) {
-				--i;
+		Iterator<UserConnection> i = connects.iterator();
+		while(i.hasNext()) {
+			UserConnection c = i.next();
+			if(!c.isAlive()) continue;
+			doTrace(null, "Waiting for " + c.toString(), SEVERITY_INFO);
+			c.do_stop();
+			while(true) {
+				try {
+					c.join();
+				} catch(InterruptedException ie) {
+					continue;
+				}
+				break;
 			}
 		}
 
@@ -0,0 +1,283 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software: 
+you can redistribute it and/or modify it under the terms of the 
+GNU Affero General Public License as published by the 
+Free Software Foundation, either version 3 of the License, 
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+
+
+package de.independit.scheduler.server;
+
+import java.io.*;
+import java.util.*;
+import java.lang.*;
+import java.net.*;
+
+import de.independit.scheduler.server.util.*;
+import de.independit.scheduler.server.repository.*;
+import de.independit.scheduler.server.exception.*;
+
+// Answers HTTP requests with the server metrics in the Prometheus text format
+public class MetricsThread extends SDMSThread
+{
+	private final static int NR = 1234325;
+
+	// bucket limits in microseconds; the counts reported for them are approximate within 1/16
+	private final static long[] BUCKETS = {
+		100, 250, 500, 1000, 2500, 5000, 10000, 25000, 50000,
+		100000, 250000, 500000, 1000000, 2500000, 5000000, 10000000
+	};
+
+	// limits protecting the endpoint against clients which are slow or send garbage
+	private final static int MAX_HANDLERS = 8;
+	private final static int MAX_LINE = 8192;
+	private final static int MAX_HEADER = 32768;
+	private final static int READ_TIMEOUT = 2000;
+	private final static int MAX_LIFETIME = 10000;
+
+	private final SystemEnvironment sysEnv;
+	private final int port;
+	private ServerSocket serv = null;
+	// the requests are answered by short lived handler threads, only the accept loop uses this list
+	private final Vector<Handler> handlers = new Vector<Handler>();
+
+	public MetricsThread(SystemEnvironment env, int port)
+	{
+		super("MetricsThread");
+		sysEnv = env;
+		this.port = port;
+		setDaemon(true);
+	}
+
+	public int id()
+	{
+		return NR;
+	}
+
+	public void do_stop()
+	{
+		run = false;
+		try {
+			if (serv != null) serv.close();
+		} catch (IOException ioe) { }
+		interrupt();
+	}
+
+	public void SDMSrun()
+	{
+		String address = SystemEnvironment.metricsAddress;
+		try {
+			serv = new ServerSocket();
+			serv.setReuseAddress(true);
+			serv.bind(new InetSocketAddress(InetAddress.getByName(address), port));
+			serv.setSoTimeout(1000);
+		} catch (IOException ioe) {
+			doTrace(null, "Cannot open metrics port " + address + ":" + port + " : " + ioe.toString(), SEVERITY_ERROR);
+			return;
+		}
+		doTrace(null, "Metrics available at " + address + ":" + port, SEVERITY_INFO);
+		while (run) {
+			Socket s = null;
+			try {
+				s = serv.accept();
+			} catch (SocketTimeoutException ste) {
+			} catch (IOException ioe) {
+				if (run)
+					doTrace(null, "Error while accepting metrics request : " + ioe.toString(), SEVERITY_WARNING);
+			}
+			reapHandlers();
+			if (s == null)
+				continue;
+			if (handlers.size() >= MAX_HANDLERS) {
+				// the oldest request is the most likely one to hang, it makes room for the new one
+				Handler oldest = handlers.remove(0);
+				doTrace(null, "Too many concurrent metrics requests, connection from " + oldest.socket.getInetAddress() + " closed", SEVERITY_WARNING);
+				close(oldest.socket);
+			}
+			Handler h = new Handler(s);
+			handlers.add(h);
+			h.start();
+		}
+		for (int i = 0; i < handlers.size(); ++i)
+			close(handlers.get(i).socket);
+	}
+
+	// Drops the finished handlers and closes the connections of those which take too long,
+	// which lets their blocked reads or writes fail
+	private void reapHandlers()
+	{
+		long now = System.currentTimeMillis();
+		for (int i = handlers.size() - 1; i >= 0; --i) {
+			Handler h = handlers.get(i);
+			if (!h.isAlive())
+				handlers.remove(i);
+			else if (now - h.started > MAX_LIFETIME)
+				close(h.socket);
+		}
+	}
+
+	private static void close(Socket s)
+	{
+		try {
+			s.close();
+		} catch (IOException ioe) { }
+	}
+
+	private class Handler extends Thread
+	{
+		private final Socket socket;
+		private final long started;
+
+		private Handler(Socket s)
+		{
+			super("MetricsHandler");
+			socket = s;
+			started = System.currentTimeMillis();
+			setDaemon(true);
+		}
+
+		public void run()
+		{
+			try {
+				socket.setSoTimeout(READ_TIMEOUT);
+				handle(socket);
+			} catch (IOException ioe) {
+				if (run)
+					doTrace(null, "Error while serving metrics to " + socket.getInetAddress() + " : " + ioe.toString(), SEVERITY_WARNING);
+			} finally {
+				close(socket);
+			}
+		}
+	}
+
+	private void handle(Socket s)
+		throws IOException
+	{
+		InputStream in = new BufferedInputStream(s.getInputStream());
+		String request = readLine(in);
+		String line = request;
+		int headerSize = 0;
+		while (line != null && line.length() > 0 && headerSize <= MAX_HEADER) {
+			line = readLine(in);
+			if (line != null)
+				headerSize += line.length() + 2;
+		}
+
+		if (request == null || line == null)
+			respond(s, "400 Bad Request", "");
+		else if (headerSize > MAX_HEADER)
+			respond(s, "431 Request Header Fields Too Large", "");
+		else if (request.startsWith("GET "))
+			respond(s, "200 OK", render());
+		else
+			respond(s, "405 Method Not Allowed", "");
+	}
+
+	// Returns the next line without its line terminator,
+	// or null if the input ends before or the line is longer than MAX_LINE
+	private String readLine(InputStream in)
+		throws IOException
+	{
+		StringBuffer sb = new StringBuffer();
+		int c;
+		while ((c = in.read()) != -1) {
+			if (c == '\n') {
+				int l = sb.length();
+				if (l > 0 && sb.charAt(l - 1) == '\r')
+					sb.setLength(l - 1);
+				return sb.toString();
+			}
+			if (sb.length() >= MAX_LINE)
+				return null;
+			sb.append((char) c);
+		}
+		return null;
+	}
+
+	private void respond(Socket s, String status, String body)
+		throws IOException
+	{
+		byte[] b = body.getBytes("UTF-8");
+		OutputStream out = new BufferedOutputStream(s.getOutputStream());
+		String header = "HTTP/1.0 " + status + "\r\n" +
+		                "Content-Type: text/plain; version=0.0.4; charset=utf-8\r\n" +
+		                "Content-Length: " + b.length + "\r\n" +
+		                "Connection: close\r\n\r\n";
+		out.write(header.getBytes("US-ASCII"));
+		out.write(b);
+		out.flush();
+	}
+
+	private String render()
+	{
+		StringBuffer sb = new StringBuffer();
+
+		sb.append("# HELP schedulix_command_microseconds Latency of the commands\n");
+		sb.append("# TYPE schedulix_command_microseconds histogram\n");
+		Vector<String> names = Metrics.getCommandNames();
+		for (int i = 0; i < names.size(); ++i) {
+			String name = names.get(i);
+			for (int k = 0; k < Metrics.KIND_NAMES.length; ++k)
+				renderHistogram(sb, "schedulix_command_microseconds",
+				                "command=\"" + name + "\",kind=\"" + Metrics.KIND_NAMES[k].toLowerCase() + "\"",
+				                Metrics.getCommand(name, k));
+		}
+
+		sb.append("# HELP schedulix_scheduler_phase_microseconds Duration of the phases of a scheduling pass\n");
+		sb.append("# TYPE schedulix_scheduler_phase_microseconds histogram\n");
+		names = Metrics.getPhaseNames();
+		for (int i = 0; i < names.size(); ++i) {
+			String name = names.get(i);
+			renderHistogram(sb, "schedulix_scheduler_phase_microseconds", "phase=\"" + name + "\"", Metrics.getPhase(name));
+		}
+
+		sb.append("# HELP schedulix_table_objects Number of objects held in memory per table\n");
+		sb.append("# TYPE schedulix_table_objects gauge\n");
+		try {
+			Iterator<?> it = SystemEnvironment.repository.getTableIterator(sysEnv);
+			while (it.hasNext()) {
+				SDMSTable t = (SDMSTable) it.next();
+				sb.append("schedulix_table_objects{table=\"").append(t.tableName()).append("\"} ").append(t.rawSize()).append('\n');
+			}
+		} catch (SDMSException e) {
+			doTrace(null, "Error while collecting table sizes : " + e.toString(), SEVERITY_WARNING);
+		}
+
+		sb.append("# HELP schedulix_purge_set_size Number of objects waiting to be purged\n");
+		sb.append("# TYPE schedulix_purge_set_size gauge\n");
+		sb.append("schedulix_purge_set_size{set=\"versioned\"} ").append(sysEnv.vPurgeSet.size()).append('\n');
+		sb.append("schedulix_purge_set_size{set=\"non_versioned\"} ").append(sysEnv.nvPurgeSet.size()).append('\n');
+
+		return sb.toString();
+	}
+
+	private void renderHistogram(StringBuffer sb, String metric, String labels, LatencyHistogram h)
+	{
+		if (h == null || h.getCount() == 0) return;
+		for (int i = 0; i < BUCKETS.length; ++i)
+			sb.append(metric).append("_bucket{").append(labels).append(",le=\"").append(BUCKETS[i]).append("\"} ")
+			  .append(h.getCountBelow(BUCKETS[i])).append('\n');
+		sb.append(metric).append("_bucket{").append(labels).append(",le=\"+Inf\"} ").append(h.getCount()).append('\n');
+		sb.append(metric).append("_sum{").append(labels).append("} ").append(h.getSum()).append('\n');
+		sb.append(metric).append("_count{").append(labels).append("} ").append(h.getCount()).append('\n');
+	}
+}
@@ -31,6 +31,8 @@ import java.io.*;
 import java.util.*;
 import java.lang.*;
 import java.net.*;
+import java.nio.channels.*;
+import java.security.*;
 import javax.net.ssl.*;
 
 import de.independit.scheduler.server.util.*;
@@ -44,6 +46,7 @@ public class SSLListenThread extends ListenThread
 	public final static String __version = "@(#) $Id: SSLListenThread.java,v 2.2.6.1 2013/03/14 10:24:09 ronald Exp $";
 
 	private String[] prots = null;
+	private SSLContext context = null;
 
 	public SSLListenThread(ThreadGroup t, int p, int mc, SyncFifo f, SyncFifo rof, int type)
 	{
@@ -65,6 +68,27 @@ public class SSLListenThread extends ListenThread
 		return sslserversocket;
 	}
 
+	ServerSocketChannel getServerChannel(int port)
+	throws IOException
+	{
+		try {
+			context = SSLContext.getDefault();
+		} catch (NoSuchAlgorithmException nsae) {
+			throw new IOException(nsae.toString());
+		}
+		prots = context.getSupportedSSLParameters().getProtocols();
+
+		return super.getServerChannel(port);
+	}
+
+	SSLEngine createEngine()
+	{
+		SSLEngine engine = context.createSSLEngine();
+		engine.setUseClientMode(false);
+		engine.setNeedClientAuth(SystemEnvironment.clientAuthentication);
+		return engine;
+	}
+
 	protected Socket accept()
 	throws InterruptedIOException, IOException
 	{
@@ -82,13 +82,27 @@ public class SchedulingThread extends InternalSession
 	public final static int FP_FOLDER	= 1;
 	public final static int FP_LOCAL	= 2;
 
-	private final static Integer ONE = new Integer(1);
+	private final static Integer ONE = Integer.valueOf(1);
 
 	private HashSet jsToNotify = new HashSet();
 
 	public long envhit = 0;
 	public long envmiss = 0;
 
+	// jobs which entered a wait state since the last pass; unless a full pass is needed,
+	// only these are scheduled (behind the reservations of the previous pass)
+	private final HashSet<Long> dirtySmes = new HashSet<Long>();
+	private long lastFullPass = 0;
+	private int passCandidates = 0;
+	private int passAdvanced = 0;
+
+	// statistics shown by SHOW SYSTEM
+	public long fullPasses = 0;
+	public long incrementalPasses = 0;
+	public int lastPassCandidates = 0;
+	public int lastPassAdvanced = 0;
+	public long lastPassTime = 0;
+
 	private long timer = 0;
 	private	java.util.Date dts = new java.util.Date();
 
@@ -218,7 +232,7 @@ public class SchedulingThread extends InternalSession
 					} else {
 					}
 				}
-				needSched = true;
+				markDirty(sysEnv, smeId);
 			}
 		} catch (SDMSException e) {
 			throw e;
@@ -257,6 +271,8 @@ public class SchedulingThread extends InternalSession
 				if (actualRequestList != null) {
 					addToRequestList(actualRequestList);
 				}
+				// the jobs taken from the dirty set might not have been scheduled
+				needSched = true;
 				throw e;
 			} else {
 				StringWriter stackTrace = new StringWriter();
@@ -277,35 +293,67 @@ public class SchedulingThread extends InternalSession
 		if (sysEnv.maxWriter > 1)
 			LockingSystem.lock(sysEnv, this, ObjectLock.EXCLUSIVE);
 
+		long phaseStart = System.nanoTime();
 		processRequestList(sysEnv);
+		phaseStart = recordPhase("processRequestList", phaseStart);
 
 		if(needReSched) {
 			doTrace(cEnv, "==============> Start Resource Rescheduling <=================\nStartTime = 0", SEVERITY_MESSAGE);
 			SDMSnpJobFootprintTable.table.clearTableUnlocked(sysEnv);
 			reschedule(sysEnv);
+			phaseStart = recordPhase("reschedule", phaseStart);
 			doTrace(cEnv, "==============> End Resource Rescheduling   <=================\nEndTime = " + (dts.getTime() - timer), SEVERITY_MESSAGE);
 			needSched = true;
 		}
+		boolean incremental = false;
 		if(!needSched) {
 			long ts = dts.getTime() - timeoutWakeup;
 			if(ts < 0) {
-				notifyJobservers(sysEnv);
-				return;
+				if(!hasDirtySmes()) {
+					notifyJobservers(sysEnv);
+					return;
+				}
+				// new arrivals are scheduled behind the reservations of the last full pass,
+				// which is therefore repeated at least every ScheduleWakeup seconds
+				incremental = (timer - lastFullPass < SystemEnvironment.scheduleWakeupInterval * 1000L);
 			}
 		}
 
-		Locklist resourceChain = new Locklist();
+		Locklist resourceChain;
+		passCandidates = 0;
+		passAdvanced = 0;
 
-		doTrace(cEnv, "---------------> Start Synchronize Resource Scheduling <-------------------\nStartTime = " + (dts.getTime() - timer), SEVERITY_MESSAGE);
-		needSched = false;
-		syncSchedule(sysEnv, resourceChain);
-		doTrace(cEnv, "---------------> Start System Resource Scheduling <-------------------\nStartTime = " + (dts.getTime() - timer), SEVERITY_MESSAGE);
-		resourceSchedule(sysEnv, resourceChain);
+		if(incremental) {
+			doTrace(cEnv, "---------------> Start Incremental Resource Scheduling <-------------------\nStartTime = " + (dts.getTime() - timer), SEVERITY_MESSAGE);
+			resourceChain = incrementalSchedule(sysEnv);
+			phaseStart = recordPhase("incrementalSchedule", phaseStart);
+			incrementalPasses++;
+		} else {
+			resourceChain = new Locklist();
+			synchronized(dirtySmes) {
+				dirtySmes.clear();
+			}
+			lastFullPass = timer;
+
+			doTrace(cEnv, "---------------> Start Synchronize Resource Scheduling <-------------------\nStartTime = " + (dts.getTime() - timer), SEVERITY_MESSAGE);
+			needSched = false;
+			syncSchedule(sysEnv, resourceChain);
+			phaseStart = recordPhase("syncSchedule", phaseStart);
+			doTrace(cEnv, "---------------> Start System Resource Scheduling <-------------------\nStartTime = " + (dts.getTime() - timer), SEVERITY_MESSAGE);
+			resourceSchedule(sysEnv, resourceChain);
+			phaseStart = recordPhase("resourceSchedule", phaseStart);
+			fullPasses++;
+		}
 		synchronized(lock) {
 			publl = resourceChain;
 		}
+		lastPassCandidates = passCandidates;
+		lastPassAdvanced = passAdvanced;
+		lastPassTime = new java.util.Date().getTime() - timer;
+		doTrace(cEnv, "Scheduling pass examined " + passCandidates + " jobs, " + passAdvanced + " advanced in " + lastPassTime + " ms", SEVERITY_MESSAGE);
 
 		notifyJobservers(sysEnv);
+		phaseStart = recordPhase("notifyJobservers", phaseStart);
 
 		doTrace(cEnv, "---------------> Start Cleanup LifeTables   <-------------------\nStartTime = " + (dts.getTime() - timer), SEVERITY_MESSAGE);
 		long purgeLow = sysEnv.roTxList.first(sysEnv);
@@ -313,10 +361,96 @@ public class SchedulingThread extends InternalSession
 		doTrace(cEnv, "purgeSetSize = " + sysEnv.nvPurgeSet.size(), SEVERITY_MESSAGE);
 
 		sysEnv.nvPurgeSet.purge(sysEnv, purgeLow);
+		recordPhase("purge", phaseStart);
 
 		doTrace(cEnv, "---------------> End Resource Scheduling   <-------------------\nEndTime = " + (dts.getTime() - timer), SEVERITY_MESSAGE);
 	}
 
+	// records the time since start for the phase and returns the start of the next phase
+	private long recordPhase(String phase, long start)
+	{
+		long now = System.nanoTime();
+		Metrics.recordPhase(phase, (now - start) / 1000);
+		return now;
+	}
+
+	private Locklist incrementalSchedule(SystemEnvironment sysEnv)
+		throws SDMSException
+	{
+		SDMSSubmittedEntity sme;
+		Vector<Long> ids;
+		Locklist resourceChain;
+
+		synchronized(dirtySmes) {
+			ids = new Vector<Long>(dirtySmes);
+			dirtySmes.clear();
+		}
+		synchronized(lock) {
+			resourceChain = (publl == null ? new Locklist() : new Locklist(publl));
+		}
+
+		Vector smev = new Vector();
+		for(int i = 0; i < ids.size(); ++i) {
+			Long smeId = ids.get(i);
+			resourceChain.removeSme(smeId);
+			try {
+				smev.add(SDMSSubmittedEntityTable.getObjectForUpdate(sysEnv, smeId));
+			} catch (NotFoundException nfe) {
+				continue;
+			}
+		}
+		if (isTraced(cEnv, SEVERITY_DEBUG))
+			doTrace(cEnv, "Number of changed Jobs : " + smev.size(), SEVERITY_DEBUG);
+
+		pc.setNow();
+		Collections.sort(smev, pc);
+
+		Vector sv = SDMSScopeTable.idx_type.getVector(sysEnv, Integer.valueOf(SDMSScope.SERVER));
+		if(sv.size() > 0) {
+			for(int i = 0; i < smev.size(); ++i) {
+				sme = (SDMSSubmittedEntity) smev.get(i);
+				if(sme.getState(sysEnv).intValue() != SDMSSubmittedEntity.SYNCHRONIZE_WAIT ||
+				   sme.getIsSuspended(sysEnv).intValue() != SDMSSubmittedEntity.NOSUSPEND ||
+				   sme.getParentSuspended(sysEnv).intValue() > 0			  ||
+				   sme.getOldState(sysEnv) != null)
+					continue;
+				++passCandidates;
+				syncScheduleSme(sysEnv, sme, resourceChain);
+				if(sme.getState(sysEnv).intValue() != SDMSSubmittedEntity.SYNCHRONIZE_WAIT)
+					++passAdvanced;
+			}
+		}
+		for(int i = 0; i < smev.size(); ++i) {
+			sme = (SDMSSubmittedEntity) smev.get(i);
+			if(sme.getState(sysEnv).intValue() != SDMSSubmittedEntity.RESOURCE_WAIT ||
+			   sme.getIsSuspended(sysEnv).intValue() != SDMSSubmittedEntity.NOSUSPEND ||
+			   sme.getParentSuspended(sysEnv).intValue() > 0)
+				continue;
+			++passCandidates;
+			resourceScheduleSme(sysEnv, sme, resourceChain);
+			if(sme.getState(sysEnv).intValue() != SDMSSubmittedEntity.RESOURCE_WAIT)
+				++passAdvanced;
+		}
+		return resourceChain;
+	}
+
+	private void markDirty(SystemEnvironment sysEnv, Long smeId)
+		throws SDMSException
+	{
+		if (sysEnv.maxWriter > 1)
+			LockingSystem.lock(sysEnv, this, ObjectLock.EXCLUSIVE);
+		synchronized(dirtySmes) {
+			dirtySmes.add(smeId);
+		}
+	}
+
+	private boolean hasDirtySmes()
+	{
+		synchronized(dirtySmes) {
+			return !dirtySmes.isEmpty();
+		}
+	}
+
 	public boolean getNextJobSchedule(SystemEnvironment sysEnv)
 		throws SDMSException
 	{
@@ -365,28 +499,28 @@ public class SchedulingThread extends InternalSession
 		pc.setNow();
 		needReSched = false;
 
-		Vector sv = SDMSScopeTable.idx_type.getVectorForUpdate(sysEnv, new Integer(SDMSScope.SERVER));
+		Vector sv = SDMSScopeTable.idx_type.getVectorForUpdate(sysEnv, Integer.valueOf(SDMSScope.SERVER));
 
-		Vector rjv = SDMSSubmittedEntityTable.idx_state.getVectorForUpdate(sysEnv, new Integer(SDMSSubmittedEntity.RUNNABLE), null, Integer.MAX_VALUE);
+		Vector rjv = SDMSSubmittedEntityTable.idx_state.getVectorForUpdate(sysEnv, Integer.valueOf(SDMSSubmittedEntity.RUNNABLE), null, Integer.MAX_VALUE);
 		doTrace(cEnv, "Number of Runnable Jobs found: " + rjv.size(), SEVERITY_MESSAGE);
 
 		doTrace(cEnv, "==============> Rescheduling Runnables <=================\nStartTime = " + (dts.getTime() - timer), SEVERITY_MESSAGE);
 		rescheduleVector(sysEnv, rjv, sv, SDMSSubmittedEntity.RUNNABLE);
 
 		doTrace(cEnv, "==============> Rescheduling Resource Wait <=================\nStartTime = " + (dts.getTime() - timer), SEVERITY_MESSAGE);
-		Vector smev = SDMSSubmittedEntityTable.idx_state.getVectorForUpdate(sysEnv, new Integer(SDMSSubmittedEntity.RESOURCE_WAIT), null, Integer.MAX_VALUE);
+		Vector smev = SDMSSubmittedEntityTable.idx_state.getVectorForUpdate(sysEnv, Integer.valueOf(SDMSSubmittedEntity.RESOURCE_WAIT), null, Integer.MAX_VALUE);
 		doTrace(cEnv, "Number of Jobs in Resource Wait found: " + smev.size(), SEVERITY_MESSAGE);
 
 		rescheduleVector(sysEnv, smev, sv, SDMSSubmittedEntity.RESOURCE_WAIT);
 
 		doTrace(cEnv, "==============> Rescheduling Synchronize Wait <=================\nStartTime = " + (dts.getTime() - timer), SEVERITY_MESSAGE);
-		smev = SDMSSubmittedEntityTable.idx_state.getVectorForUpdate(sysEnv, new Integer(SDMSSubmittedEntity.SYNCHRONIZE_WAIT), null, Integer.MAX_VALUE);
+		smev = SDMSSubmittedEntityTable.idx_state.getVectorForUpdate(sysEnv, Integer.valueOf(SDMSSubmittedEntity.SYNCHRONIZE_WAIT), null, Integer.MAX_VALUE);
 		doTrace(cEnv, "Number of Jobs in Synchronize Wait found: " + smev.size(), SEVERITY_MESSAGE);
 
 		rescheduleVector(sysEnv, smev, sv, SDMSSubmittedEntity.SYNCHRONIZE_WAIT);
 
 		doTrace(cEnv, "==============> Rescheduling Dependency Wait <=================\nStartTime = " + (dts.getTime() - timer), SEVERITY_MESSAGE);
-		smev = SDMSSubmittedEntityTable.idx_state.getVector(sysEnv, new Integer(SDMSSubmittedEntity.DEPENDENCY_WAIT), null, Integer.MAX_VALUE);
+		smev = SDMSSubmittedEntityTable.idx_state.getVector(sysEnv, Integer.valueOf(SDMSSubmittedEntity.DEPENDENCY_WAIT), null, Integer.MAX_VALUE);
 		doTrace(cEnv, "Number of Jobs in Dependency Wait found: " + smev.size(), SEVERITY_MESSAGE);
 
 		rescheduleVector(sysEnv, smev, sv, SDMSSubmittedEntity.DEPENDENCY_WAIT);
@@ -469,10 +603,12 @@ public class SchedulingThread extends InternalSession
 		SDMSSubmittedEntity sme;
 		int i;
 
-		Vector smev = SDMSSubmittedEntityTable.idx_state.getVectorForUpdate(sysEnv, new Integer(SDMSSubmittedEntity.SYNCHRONIZE_WAIT), null, Integer.MAX_VALUE);
-		Vector sv = SDMSScopeTable.idx_type.getVector(sysEnv, new Integer(SDMSScope.SERVER));
-		doTrace(cEnv, "Number of Job Server : " + sv.size(), SEVERITY_DEBUG);
-		doTrace(cEnv, "Number of Jobs in SYNCHRONIZE_WAIT : " + smev.size(), SEVERITY_DEBUG);
+		Vector smev = SDMSSubmittedEntityTable.idx_state.getVectorForUpdate(sysEnv, Integer.valueOf(SDMSSubmittedEntity.SYNCHRONIZE_WAIT), null, Integer.MAX_VALUE);
+		Vector sv = SDMSScopeTable.idx_type.getVector(sysEnv, Integer.valueOf(SDMSScope.SERVER));
+		if (isTraced(cEnv, SEVERITY_DEBUG))
+			doTrace(cEnv, "Number of Job Server : " + sv.size(), SEVERITY_DEBUG);
+		if (isTraced(cEnv, SEVERITY_DEBUG))
+			doTrace(cEnv, "Number of Jobs in SYNCHRONIZE_WAIT : " + smev.size(), SEVERITY_DEBUG);
 		if(sv.size() == 0) {
 			return;
 		}
@@ -487,7 +623,10 @@ public class SchedulingThread extends InternalSession
 			   sme.getParentSuspended(sysEnv).intValue() > 0			  ||
 			   sme.getOldState(sysEnv) != null)
 				continue;
+			++passCandidates;
 			syncScheduleSme(sysEnv, sme, resourceChain);
+			if(sme.getState(sysEnv).intValue() != SDMSSubmittedEntity.SYNCHRONIZE_WAIT)
+				++passAdvanced;
 		}
 	}
 
@@ -556,7 +695,7 @@ public class SchedulingThread extends InternalSession
 			SDMSNamedEnvironment ne = SDMSNamedEnvironmentTable.getObject(sysEnv, envId);
 			validFrom = new Long(ne.getValidFrom(sysEnv));
 			validTo = new Long(ne.getValidTo(sysEnv));
-			result = SDMSScopeTable.idx_type.getVectorForUpdate(sysEnv, new Integer(SDMSScope.SERVER));
+			result = SDMSScopeTable.idx_type.getVectorForUpdate(sysEnv, Integer.valueOf(SDMSScope.SERVER));
 			Iterator i = result.iterator();
 			while (i.hasNext()) {
 				SDMSScope s = (SDMSScope) i.next();
@@ -627,12 +766,12 @@ public class SchedulingThread extends InternalSession
 			nrId = r.getNrId(sysEnv);
 			if(ra.getAllocationType(sysEnv).intValue() == SDMSResourceAllocation.RESERVATION) {
 				if(fpFolder.containsKey(nrId) || fpLocal.containsKey(nrId)) {
-					ra.setAllocationType(sysEnv, new Integer(SDMSResourceAllocation.ALLOCATION));
+					ra.setAllocationType(sysEnv, Integer.valueOf(SDMSResourceAllocation.ALLOCATION));
 				} else {
 					srId = (Long) sfp.get(nrId);
 					sr = SDMSResourceTable.getObjectForUpdate(sysEnv, srId);
 					if(sr.getId(sysEnv).equals(rId)) {
-						ra.setAllocationType(sysEnv, new Integer(SDMSResourceAllocation.ALLOCATION));
+						ra.setAllocationType(sysEnv, Integer.valueOf(SDMSResourceAllocation.ALLOCATION));
 					}
 				}
 				if (ra.getIsSticky(sysEnv).booleanValue()) {
@@ -751,7 +890,8 @@ public class SchedulingThread extends InternalSession
 		boolean fitsSomewhere = false;
 		HashMap smefp = (HashMap) getJobFootprint(sysEnv, sme).get(FP_SCOPE);
 
-		doTrace(cEnv, ": Job " + sme.getId(sysEnv) + " is re-evaluated", SEVERITY_DEBUG);
+		if (isTraced(cEnv, SEVERITY_DEBUG))
+			doTrace(cEnv, ": Job " + sme.getId(sysEnv) + " is re-evaluated", SEVERITY_DEBUG);
 		long actVersion = sme.getSeVersion(sysEnv).longValue();
 		SDMSSchedulingEntity se = SDMSSchedulingEntityTable.getObject(sysEnv, sme.getSeId(sysEnv), actVersion);
 		if(se.getType(sysEnv).intValue() != SDMSSchedulingEntity.JOB) return;
@@ -763,12 +903,14 @@ public class SchedulingThread extends InternalSession
 			s = SDMSScopeTable.getObject(sysEnv, rq.getScopeId(sysEnv));
 			sv.add(s);
 		}
-		doTrace(cEnv, ": we found " + sv.size() + " potential servers", SEVERITY_DEBUG);
+		if (isTraced(cEnv, SEVERITY_DEBUG))
+			doTrace(cEnv, ": we found " + sv.size() + " potential servers", SEVERITY_DEBUG);
 
 		for(int j = 0; j < sv.size(); ++j) {
 			s = (SDMSScope) sv.get(j);
 			Long sId = s.getId(sysEnv);
-			doTrace(cEnv, ": testing server " + sId, SEVERITY_DEBUG);
+			if (isTraced(cEnv, SEVERITY_DEBUG))
+				doTrace(cEnv, ": testing server " + sId, SEVERITY_DEBUG);
 
 			SDMSnpSrvrSRFootprint npsfp = SDMSnpSrvrSRFootprintTable.idx_sId_getUnique(sysEnv, s.getId(sysEnv));
 			HashMap sfp = npsfp.getFp(sysEnv);
@@ -913,7 +1055,7 @@ public class SchedulingThread extends InternalSession
 		try {
 			SDMSResourceAllocation ra = SDMSResourceAllocationTable.idx_smeId_rId_stickyName_getUniqueForUpdate(
 				sysEnv, new SDMSKey(smeId, rId, rr.getStickyName(sysEnv)));
-			ra.setRefcount(sysEnv, new Integer(ra.getRefcount(sysEnv).intValue() + 1));
+			ra.setRefcount(sysEnv, Integer.valueOf(ra.getRefcount(sysEnv).intValue() + 1));
 			return;
 		} catch (NotFoundException nfe) {
 		}
@@ -921,7 +1063,7 @@ public class SchedulingThread extends InternalSession
 
 		if(type == SDMSNamedResource.SYNCHRONIZING) {
 			lock = rr.getLockmode(sysEnv);
-			if(lock == null) lock = new Integer(Lockmode.N);
+			if(lock == null) lock = Integer.valueOf(Lockmode.N);
 			rsmpId = rr.getRsmpId(sysEnv);
 			Long stickyParentSeId = rr.getStickyParent(sysEnv);
 			if (rr.getIsSticky(sysEnv).booleanValue()) {
@@ -963,11 +1105,11 @@ public class SchedulingThread extends InternalSession
 				}
 			}
 		} else {
-			lock = new Integer(Lockmode.N);
+			lock = Integer.valueOf(Lockmode.N);
 			rsmpId = null;
 		}
 
-		Integer reqAmount = new Integer((int) Math.ceil(rr.getAmount(sysEnv).intValue() * factor));
+		Integer reqAmount = Integer.valueOf((int) Math.ceil(rr.getAmount(sysEnv).intValue() * factor));
 
 		if (rr.getIsSticky(sysEnv).booleanValue()) {
 			String stickyName = rr.getStickyName(sysEnv);
@@ -1023,11 +1165,11 @@ public class SchedulingThread extends InternalSession
 									"Invalid lock escalation for already reserved sticky resource $1, job definition $2",
 										rId, se.pathString(sysEnv)));
 							}
-							ra.setLockmode(sysEnv, new Integer(raLockMode));
+							ra.setLockmode(sysEnv, Integer.valueOf(raLockMode));
 						}
 
 						int refCount = ra.getRefcount(sysEnv).intValue();
-						ra.setRefcount(sysEnv, new Integer(refCount + 1));
+						ra.setRefcount(sysEnv, Integer.valueOf(refCount + 1));
 						break;
 					}
 				}
@@ -1044,7 +1186,7 @@ public class SchedulingThread extends InternalSession
 							rr.getIsSticky(sysEnv),
 							rr.getStickyName(sysEnv),
 							stickyParentId,
-							new Integer(SDMSResourceAllocation.MASTER_REQUEST),
+							Integer.valueOf(SDMSResourceAllocation.MASTER_REQUEST),
 							null,
 							lock,
 							ONE);
@@ -1061,7 +1203,7 @@ public class SchedulingThread extends InternalSession
 							rr.getIsSticky(sysEnv),
 							rr.getStickyName(sysEnv),
 							stickyParentId,
-							new Integer(SDMSResourceAllocation.REQUEST),
+							Integer.valueOf(SDMSResourceAllocation.REQUEST),
 							rsmpId,
 							lock,
 							ONE);
@@ -1124,7 +1266,7 @@ public class SchedulingThread extends InternalSession
 			if(reserveSyncResources(sysEnv, sme, se, actVersion, sfp, resourceChain, rrvi)) {
 				resourcesReserved = true;
 				SDMSRunnableQueue rq = SDMSRunnableQueueTable.idx_smeId_scopeId_getUniqueForUpdate(sysEnv, new SDMSKey(smeId, sId));
-				rq.setState(sysEnv, new Integer(SDMSSubmittedEntity.RESOURCE_WAIT));
+				rq.setState(sysEnv, Integer.valueOf(SDMSSubmittedEntity.RESOURCE_WAIT));
 			}
 		}
 
@@ -1146,7 +1288,7 @@ public class SchedulingThread extends InternalSession
 					rq.delete(sysEnv);
 				}
 			}
-			sme.setState(sysEnv, new Integer(SDMSSubmittedEntity.RESOURCE_WAIT));
+			sme.setState(sysEnv, Integer.valueOf(SDMSSubmittedEntity.RESOURCE_WAIT));
 		} else {
 			checkTimeout(sysEnv, sme, se, actVersion);
 		}
@@ -1278,8 +1420,9 @@ public class SchedulingThread extends InternalSession
 		if (sysEnv.maxWriter > 1)
 			LockingSystem.lock(sysEnv, this, ObjectLock.EXCLUSIVE);
 
-		sv = SDMSSubmittedEntityTable.idx_state.getVectorForUpdate(sysEnv, new Integer(SDMSSubmittedEntity.RESOURCE_WAIT), null, Integer.MAX_VALUE);
-		doTrace(cEnv, "Number of Jobs in RESOURCE_WAIT : " + sv.size(), SEVERITY_DEBUG);
+		sv = SDMSSubmittedEntityTable.idx_state.getVectorForUpdate(sysEnv, Integer.valueOf(SDMSSubmittedEntity.RESOURCE_WAIT), null, Integer.MAX_VALUE);
+		if (isTraced(cEnv, SEVERITY_DEBUG))
+			doTrace(cEnv, "Number of Jobs in RESOURCE_WAIT : " + sv.size(), SEVERITY_DEBUG);
 
 		pc.setNow();
 		Collections.sort(sv, pc);
@@ -1288,7 +1431,10 @@ public class SchedulingThread extends InternalSession
 			sme = (SDMSSubmittedEntity) sv.get(i);
 			if(sme.getIsSuspended(sysEnv).intValue() != SDMSSubmittedEntity.NOSUSPEND || sme.getParentSuspended(sysEnv).intValue() > 0)
 				continue;
+			++passCandidates;
 			resourceScheduleSme(sysEnv, sme, resourceChain);
+			if(sme.getState(sysEnv).intValue() != SDMSSubmittedEntity.RESOURCE_WAIT)
+				++passAdvanced;
 		}
 	}
 
@@ -1329,13 +1475,14 @@ public class SchedulingThread extends InternalSession
 			HashMap sfp = (SDMSnpSrvrSRFootprintTable.idx_sId_getUnique(sysEnv, s.getId(sysEnv))).getFp(sysEnv);
 			if(reserveSysResources(sysEnv, sme, sfp, resourceChain, it)) {
 				resourcesReserved = true;
-				rq.setState(sysEnv, new Integer(SDMSSubmittedEntity.RUNNABLE));
+				rq.setState(sysEnv, Integer.valueOf(SDMSSubmittedEntity.RUNNABLE));
 				allocateAndReleaseResources(sysEnv, sme, s);
 				break;
 			}
 		}
 		if(resourcesReserved) {
-			doTrace(cEnv, ": Job " + smeId + " added to Runnable Queue " + s.getId(sysEnv), SEVERITY_DEBUG);
+			if (isTraced(cEnv, SEVERITY_DEBUG))
+				doTrace(cEnv, ": Job " + smeId + " added to Runnable Queue " + s.getId(sysEnv), SEVERITY_DEBUG);
 			Vector rv = SDMSResourceAllocationTable.idx_smeId.getVector(sysEnv, smeId);
 			for(int i = 0; i < rv.size(); i++) {
 				SDMSResourceAllocation ra = (SDMSResourceAllocation) rv.get(i);
@@ -1353,7 +1500,7 @@ public class SchedulingThread extends InternalSession
 					rq.delete(sysEnv);
 				}
 			}
-			sme.setState(sysEnv, new Integer(SDMSSubmittedEntity.RUNNABLE));
+			sme.setState(sysEnv, Integer.valueOf(SDMSSubmittedEntity.RUNNABLE));
 			synchronized (jsToNotify) {
 				jsToNotify.add(s.getId(sysEnv));
 			}
@@ -1410,7 +1557,7 @@ public class SchedulingThread extends InternalSession
 			}
 
 			Integer jAmount;
-			if(rr == null)	jAmount = new Integer(0);
+			if(rr == null)	jAmount = Integer.valueOf(0);
 			else		jAmount = rr.getAmount(sysEnv);
 			if(sAmount == null)
 				continue;
@@ -1461,7 +1608,7 @@ public class SchedulingThread extends InternalSession
 			}
 
 			Integer jAmount;
-			if(rr == null)	jAmount = new Integer(0);
+			if(rr == null)	jAmount = Integer.valueOf(0);
 			else		jAmount = rr.getAmount(sysEnv);
 			if(sAmount == null)
 				continue;
@@ -1571,7 +1718,7 @@ public class SchedulingThread extends InternalSession
 						throw new SDMSEscape();
 					}
 					if(mri.mustAllocate) {
-						mra.setAllocationType(sysEnv, new Integer(SDMSResourceAllocation.MASTER_RESERVATION));
+						mra.setAllocationType(sysEnv, Integer.valueOf(SDMSResourceAllocation.MASTER_RESERVATION));
 					}
 				}
 
@@ -1590,13 +1737,13 @@ public class SchedulingThread extends InternalSession
 					continue;
 				}
 
-				ra.setAllocationType(sysEnv, new Integer(SDMSResourceAllocation.RESERVATION));
+				ra.setAllocationType(sysEnv, Integer.valueOf(SDMSResourceAllocation.RESERVATION));
 
 				if(isSticky) {
 					int mAmount = mra.getAmount(sysEnv).intValue();
 					int raAmount = ra.getAmount(sysEnv).intValue();
 
-					mra.setAmount(sysEnv, new Integer(mAmount - raAmount));
+					mra.setAmount(sysEnv, Integer.valueOf(mAmount - raAmount));
 				}
 			}
 			if(!allocSucceeded) throw new SDMSEscape();
@@ -1690,16 +1837,16 @@ public class SchedulingThread extends InternalSession
 
 		ra = SDMSResourceAllocationTable.table.create(sysEnv,
 						rId, new Long(- sme.getMasterId(sysEnv)), nrId,
-						new Integer(amount),
-						new Integer(amount),
+						Integer.valueOf(amount),
+						Integer.valueOf(amount),
 						rr.getKeepMode(sysEnv),
 						Boolean.TRUE,
 						null,
 						sme.getMasterId(sysEnv),
-						new Integer(SDMSResourceAllocation.MASTER_REQUEST),
+						Integer.valueOf(SDMSResourceAllocation.MASTER_REQUEST),
 						null,
-						new Integer(lockmode),
-						new Integer(refcount));
+						Integer.valueOf(lockmode),
+						Integer.valueOf(refcount));
 
 		return ra;
 	}
@@ -1826,7 +1973,7 @@ public class SchedulingThread extends InternalSession
 					throw new SDMSEscape();
 				}
 
-				ra.setAllocationType(sysEnv, new Integer(SDMSResourceAllocation.RESERVATION));
+				ra.setAllocationType(sysEnv, Integer.valueOf(SDMSResourceAllocation.RESERVATION));
 			}
 			if(!allocSucceeded) throw new SDMSEscape();
 			if(resourceChain != null) {
@@ -2013,7 +2160,8 @@ public class SchedulingThread extends InternalSession
 				while(fId != null) {
 					k = new SDMSKey(nrId, fId);
 					if (myRscCache.containsKey(k)) {
-						doTrace(cEnv, "Cache hit for folder " + k, SEVERITY_DEBUG);
+						if (isTraced(cEnv, SEVERITY_DEBUG))
+							doTrace(cEnv, "Cache hit for folder " + k, SEVERITY_DEBUG);
 						hit = true;
 						Vector e = (Vector) myRscCache.get(k);
 						if (e == null) {
@@ -2024,7 +2172,8 @@ public class SchedulingThread extends InternalSession
 						}
 						break;
 					} else {
-						doTrace(cEnv, "Cache miss for folder " + k, SEVERITY_DEBUG);
+						if (isTraced(cEnv, SEVERITY_DEBUG))
+							doTrace(cEnv, "Cache miss for folder " + k, SEVERITY_DEBUG);
 						try {
 							r = SDMSResourceTable.idx_nrId_scopeId_getUnique(sysEnv, k);
 							bestFit = r;
@@ -2045,7 +2194,8 @@ public class SchedulingThread extends InternalSession
 					}
 				}
 				if(bestFitFId != null) break;
-				doTrace(cEnv, "No folder Resource found for " + k, SEVERITY_DEBUG);
+				if (isTraced(cEnv, SEVERITY_DEBUG))
+					doTrace(cEnv, "No folder Resource found for " + k, SEVERITY_DEBUG);
 				if (!hit) {
 					for (int kvi = 0; kvi < kv.size(); ++kvi) {
 						myRscCache.put(kv.get(kvi), null);
@@ -2063,7 +2213,8 @@ public class SchedulingThread extends InternalSession
 			while(pSmeId != null) {
 				k = new SDMSKey(nrId, pSmeId);
 				if (myRscCache.containsKey(k)) {
-					doTrace(cEnv, "Cache hit for sme " + k, SEVERITY_DEBUG);
+					if (isTraced(cEnv, SEVERITY_DEBUG))
+						doTrace(cEnv, "Cache hit for sme " + k, SEVERITY_DEBUG);
 					hit = true;
 					Vector e = (Vector) myRscCache.get(k);
 					if (e == null) {
@@ -2075,7 +2226,8 @@ public class SchedulingThread extends InternalSession
 					break;
 				} else {
 					try {
-						doTrace(cEnv, "Cache miss for sme " + k, SEVERITY_DEBUG);
+						if (isTraced(cEnv, SEVERITY_DEBUG))
+							doTrace(cEnv, "Cache miss for sme " + k, SEVERITY_DEBUG);
 						r = SDMSResourceTable.idx_nrId_scopeId_getUnique(sysEnv, k);
 						bestFit = r;
 						bestFitSmeId = pSmeId;
@@ -2095,7 +2247,8 @@ public class SchedulingThread extends InternalSession
 				}
 			}
 			if(bestFitSmeId == null && !hit) {
-				doTrace(cEnv, "No sme Resource found for " + k, SEVERITY_DEBUG);
+				if (isTraced(cEnv, SEVERITY_DEBUG))
+					doTrace(cEnv, "No sme Resource found for " + k, SEVERITY_DEBUG);
 				for (int kvi = 0; kvi < kv.size(); ++kvi) {
 					myRscCache.put(kv.get(kvi), null);
 				}
@@ -2138,10 +2291,12 @@ public class SchedulingThread extends InternalSession
 	void recalc_sfp(SystemEnvironment sysEnv, Long scopeId, SDMSScope s)
 		throws SDMSException
 	{
-		doTrace(cEnv, "Calculating footprint for scope " + s.pathString(sysEnv), SEVERITY_DEBUG);
+		if (isTraced(cEnv, SEVERITY_DEBUG))
+			doTrace(cEnv, "Calculating footprint for scope " + s.pathString(sysEnv), SEVERITY_DEBUG);
 		if(s.getType(sysEnv).intValue() == SDMSScope.SERVER) {
 			HashMap fp = getScopeFootprint(sysEnv, s);
-			doTrace(cEnv, "footprint = " + fp.toString(), SEVERITY_DEBUG);
+			if (isTraced(cEnv, SEVERITY_DEBUG))
+				doTrace(cEnv, "footprint = " + fp.toString(), SEVERITY_DEBUG);
 			(SDMSnpSrvrSRFootprintTable.idx_sId_getUnique(sysEnv, scopeId)).setFp(sysEnv, fp);
 		} else {
 			Vector v = SDMSScopeTable.idx_parentId.getVector(sysEnv, scopeId);
@@ -2164,7 +2319,7 @@ public class SchedulingThread extends InternalSession
 		SDMSScope s;
 		Vector v;
 
-		v = SDMSScopeTable.idx_type.getVector(sysEnv, new Integer(SDMSScope.SERVER));
+		v = SDMSScopeTable.idx_type.getVector(sysEnv, Integer.valueOf(SDMSScope.SERVER));
 		for(int j = 0; j < v.size(); j++) {
 			s = (SDMSScope) v.get(j);
 			SDMSnpSrvrSRFootprintTable.table.create(sysEnv, s.getId(sysEnv), null, getScopeFootprint(sysEnv, s));
@@ -2174,7 +2329,7 @@ public class SchedulingThread extends InternalSession
 			Vector rl = new Vector();
 			SDMSSubmittedEntity sme;
 			SDMSSchedulingEntity se;
-			v = SDMSSubmittedEntityTable.idx_state.getVector(sysEnv, new Integer(SDMSSubmittedEntity.DEPENDENCY_WAIT));
+			v = SDMSSubmittedEntityTable.idx_state.getVector(sysEnv, Integer.valueOf(SDMSSubmittedEntity.DEPENDENCY_WAIT));
 			for (int i = 0; i < v.size(); ++i) {
 				sme = (SDMSSubmittedEntity) v.get(i);
 				se = SDMSSchedulingEntityTable.getObject(sysEnv, sme.getSeId(sysEnv), sme.getSeVersion(sysEnv));
@@ -2182,7 +2337,7 @@ public class SchedulingThread extends InternalSession
 				if (sme.getOldState(sysEnv) != null)
 					rl.add(sme.getId(sysEnv));
 			}
-			v = SDMSSubmittedEntityTable.idx_state.getVector(sysEnv, new Integer(SDMSSubmittedEntity.SYNCHRONIZE_WAIT));
+			v = SDMSSubmittedEntityTable.idx_state.getVector(sysEnv, Integer.valueOf(SDMSSubmittedEntity.SYNCHRONIZE_WAIT));
 			for (int i = 0; i < v.size(); ++i) {
 				sme = (SDMSSubmittedEntity) v.get(i);
 				se = SDMSSchedulingEntityTable.getObject(sysEnv, sme.getSeId(sysEnv), sme.getSeVersion(sysEnv));
@@ -2233,7 +2388,7 @@ public class SchedulingThread extends InternalSession
 				needReSched = true;
 				break;
 			default:
-				throw new FatalException(new SDMSMessage(sysEnv, "03202252140", "Unknown change code $1", new Integer(change)));
+				throw new FatalException(new SDMSMessage(sysEnv, "03202252140", "Unknown change code $1", Integer.valueOf(change)));
 		}
 		needSched = true;
 	}
@@ -2249,7 +2404,7 @@ public class SchedulingThread extends InternalSession
 			case DELETE:
 				break;
 			default:
-				throw new FatalException(new SDMSMessage(sysEnv, "03203060018", "Unknown change code $1", new Integer(change)));
+				throw new FatalException(new SDMSMessage(sysEnv, "03203060018", "Unknown change code $1", Integer.valueOf(change)));
 		}
 		needSched = true;
 	}
@@ -2292,7 +2447,7 @@ public class SchedulingThread extends InternalSession
 				needSched = true;
 				break;
 			default:
-				throw new FatalException(new SDMSMessage(sysEnv, "03202252142", "Unknown change code $1", new Integer(change)));
+				throw new FatalException(new SDMSMessage(sysEnv, "03202252142", "Unknown change code $1", Integer.valueOf(change)));
 		}
 		needSched = true;
 	}
@@ -2321,20 +2476,29 @@ public class SchedulingThread extends InternalSession
 							SDMSRunnableQueue rq = (SDMSRunnableQueue)v.get(i);
 							rq.delete(sysEnv);
 						}
+						needSched = true;
+						break;
+					case SDMSSubmittedEntity.DEPENDENCY_WAIT:
+					case SDMSSubmittedEntity.SYNCHRONIZE_WAIT:
+						markDirty(sysEnv, sme.getId(sysEnv));
+						break;
+					default:
+						needSched = true;
 						break;
 				}
-				needSched = true;
+				break;
+			case RERUN:
+			case SUBMIT:
+				markDirty(sysEnv, sme.getId(sysEnv));
 				break;
 			case FINISH:
 			case PRIORITY:
-			case RERUN:
 			case IGNORE_RESOURCE:
-			case SUBMIT:
 			case RESUME:
 				needSched = true;
 				break;
 			default:
-				throw new FatalException(new SDMSMessage(sysEnv, "03202252317", "Unknown change code $1", new Integer(change)));
+				throw new FatalException(new SDMSMessage(sysEnv, "03202252317", "Unknown change code $1", Integer.valueOf(change)));
 		}
 	}
 
@@ -2343,6 +2507,13 @@ public class SchedulingThread extends InternalSession
 		needReSched = true;
 	}
 
+	// called whenever allocated or reserved amounts are given back; all waiting jobs
+	// might profit, hence the next pass has to be a full one
+	public void notifyRelease()
+	{
+		needSched = true;
+	}
+
 }
 
 class DoSchedule extends Node
@@ -2388,6 +2559,10 @@ class prioComparator implements Comparator
 	long priorityDelay;
 	long now;
 
+	// The sort keys (dynamic priority, raw priority, id) are computed once per job
+	// when it is compared first; they are valid until the next setNow()
+	private final HashMap<SDMSSubmittedEntity, long[]> keys = new HashMap<SDMSSubmittedEntity, long[]>();
+
 	public prioComparator(SystemEnvironment e, long p)
 	{
 		sysEnv = e;
@@ -2398,6 +2573,21 @@ class prioComparator implements Comparator
 	public void setNow()
 	{
 		now = System.currentTimeMillis();
+		keys.clear();
+	}
+
+	private long[] getKey(SDMSSubmittedEntity sme)
+		throws SDMSException
+	{
+		long[] key = keys.get(sme);
+		if (key == null) {
+			key = new long[3];
+			key[0] = dynPrio(sme);
+			key[1] = sme.getRawPriority(sysEnv).intValue();
+			key[2] = sme.getId(sysEnv).longValue();
+			keys.put(sme, key);
+		}
+		return key;
 	}
 
 	public int dynPrio(SDMSSubmittedEntity sme)
@@ -2424,33 +2614,18 @@ class prioComparator implements Comparator
 
 	public int compare(Object o1, Object o2)
 	{
-		SDMSSubmittedEntity sme1;
-		SDMSSubmittedEntity sme2;
-		int p1, p2;
-
-		sme1 = (SDMSSubmittedEntity) o1;
-		sme2 = (SDMSSubmittedEntity) o2;
+		long k1[], k2[];
 
 		try {
-			p1 = dynPrio(sme1);
-			p2 = dynPrio(sme2);
-			if(p1 < p2) return -1;
-			if(p1 > p2) return 1;
-
-			int rp1, rp2;
-			rp1 = sme1.getRawPriority(sysEnv).intValue();
-			rp2 = sme2.getRawPriority(sysEnv).intValue();
-			if(rp1 < rp2) return -1;
-			if(rp1 > rp2) return 1;
-
-			long l1, l2;
-			l1 = sme1.getId(sysEnv).longValue();
-			l2 = sme2.getId(sysEnv).longValue();
-			if(l1 < l2) return -1;
-			if(l1 > l2) return 1;
+			k1 = getKey((SDMSSubmittedEntity) o1);
+			k2 = getKey((SDMSSubmittedEntity) o2);
 		} catch (SDMSException e) {
 			throw new RuntimeException("Error while comparing : " + e.toString());
 		}
+		for (int i = 0; i < k1.length; ++i) {
+			if(k1[i] < k2[i]) return -1;
+			if(k1[i] > k2[i]) return 1;
+		}
 		return 0;
 	}
 }
@@ -2525,6 +2700,34 @@ class Locklist
 		lpj = new HashMap();
 	}
 
+	public Locklist(Locklist l)
+	{
+		lpr = new HashMap();
+		lpj = new HashMap();
+		Iterator i = l.lpr.keySet().iterator();
+		while(i.hasNext()) {
+			Long rId = (Long) i.next();
+			HashMap h = (HashMap) l.lpr.get(rId);
+			HashMap nh = new HashMap();
+			Iterator j = h.values().iterator();
+			while(j.hasNext()) {
+				Reservator r = (Reservator) j.next();
+				Reservator nr = new Reservator(r.rId, r.smeId, r.amount, r.lock.getLockmode());
+				nr.seq = r.seq;
+				nh.put(r.smeId, nr);
+				if(!ZERO.equals(r.smeId)) {
+					HashMap jh = (HashMap) lpj.get(r.smeId);
+					if(jh == null) {
+						jh = new HashMap();
+						lpj.put(r.smeId, jh);
+					}
+					jh.put(rId, nr);
+				}
+			}
+			lpr.put(rId, nh);
+		}
+	}
+
 	public Reservator get(Long rId, Long smeId)
 	{
 		HashMap h = (HashMap) lpr.get(rId);
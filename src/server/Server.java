@@ -35,6 +35,7 @@ import de.independit.scheduler.server.util.*;
 import de.independit.scheduler.server.repository.*;
 import de.independit.scheduler.server.exception.*;
 import de.independit.scheduler.server.output.*;
+import de.independit.scheduler.server.locking.*;
 
 public class Server
 {
@@ -56,6 +57,7 @@ public class Server
 	private ShutdownThread shutt;
 	private RenewTicketThread rtt;
 	private DBCleanupThread dbct;
+	private MetricsThread mt;
 	private String iniFile;
 
 	private SystemEnvironment env;
@@ -86,6 +88,8 @@ public class Server
 		}
 
 		env = new SystemEnvironment(props, programLevel);
+		if (SystemEnvironment.asyncTrace)
+			TraceWriter.startWriter();
 		if(adminMode) env.disableConnect();
 		if(protectMode) SystemEnvironment.setProtectMode();
 		SystemEnvironment.server = this;
@@ -138,8 +142,8 @@ public class Server
 	private void initWorkers() throws SDMSException
 	{
 		wg = new ThreadGroup("WorkerThreads");
-		cmdQueue = new SyncFifo();
-		roCmdQueue = new SyncFifo();
+		cmdQueue = new SyncFifo(SystemEnvironment.cmdQueueSize);
+		roCmdQueue = new SyncFifo(SystemEnvironment.cmdQueueSize);
 		SystemEnvironment.wg = wg;
 	}
 
@@ -260,10 +264,17 @@ public class Server
 			SDMSThread.doTrace(null, "SSL communication Listener disabled", SDMSThread.SEVERITY_INFO);
 			ssllt = null;
 		}
+
+		if (SystemEnvironment.metricsPort != 0) {
+			mt = new MetricsThread(env, SystemEnvironment.metricsPort);
+			mt.start();
+		} else
+			mt = null;
 	}
 
 	public void shutdown()
 	{
+		LockingSystem.stopDeadlockDetector();
 		if(gst != null) {
 			if(gst.isAlive()) {
 				gst.do_stop();
@@ -312,6 +323,12 @@ public class Server
 				SDMSThread.doTrace(null, "Stopped " + dbct.toString(), SDMSThread.SEVERITY_INFO);
 			}
 		}
+		if (mt != null) {
+			if (mt.isAlive()) {
+				mt.do_stop();
+				SDMSThread.doTrace(null, "Stopped " + mt.toString(), SDMSThread.SEVERITY_INFO);
+			}
+		}
 		if(wt != null) {
 			for(int i = 0; i < wt.length; ++i) {
 				if(wt[i] != null) {
@@ -327,15 +344,12 @@ public class Server
 
 	public void killUser(int cid)
 	{
-		int numUser = utg.activeCount();
 		SDMSThread list[];
 		int i;
 
-		list = new SDMSThread[numUser];
-
-		utg.enumerate(list);
-		for(i = 0; i< numUser; i++) {
-			if(list[i] != null && list[i].id() == cid) {
+		list = ListenThread.getSessions(utg);
+		for(i = 0; i< list.length; i++) {
+			if(list[i].id() == cid) {
 				list[i].do_stop();
 			}
 		}
@@ -343,15 +357,12 @@ public class Server
 
 	public void killAll()
 	{
-		int numUser = utg.activeCount();
 		SDMSThread list[];
 		int i;
 
-		list = new SDMSThread[numUser];
-
-		utg.enumerate(list);
-		for(i = 0; i< numUser; i++) {
-			if(list[i] != null && list[i].isAlive()) {
+		list = ListenThread.getSessions(utg);
+		for(i = 0; i< list.length; i++) {
+			if(list[i].isAlive() || (list[i] instanceof UserConnection && ((UserConnection) list[i]).isActive())) {
 				list[i].do_stop();
 				SDMSThread.doTrace(null, "Stopped " + list[i].toString(), SDMSThread.SEVERITY_INFO);
 			}
@@ -379,7 +390,16 @@ public class Server
 							"03110181511", "Class $1 not Found", jdbcDriver));
 		}
 		try {
-			c = DriverManager.getConnection(dbUrl, dbUser, dbPasswd);
+			Properties info = new Properties();
+			if (dbUser != null) info.setProperty("user", dbUser);
+			if (dbPasswd != null) info.setProperty("password", dbPasswd);
+			if (SystemEnvironment.dbBatchSize > 1) {
+				if ((dbUrl.startsWith("jdbc:mysql:") || dbUrl.startsWith("jdbc:mariadb:")) && dbUrl.indexOf("rewriteBatchedStatements") < 0)
+					info.setProperty("rewriteBatchedStatements", "true");
+				else if (dbUrl.startsWith("jdbc:postgresql:") && dbUrl.indexOf("reWriteBatchedInserts") < 0)
+					info.setProperty("reWriteBatchedInserts", "true");
+			}
+			c = DriverManager.getConnection(dbUrl, info);
 		} catch(SQLException sqle) {
 			throw new FatalException(new SDMSMessage(env,
 							"03110181512", "Unable to connect to $1, $2", dbUrl, sqle.toString()));
@@ -448,6 +468,9 @@ public class Server
 			SDMSThread.doTrace(null, (new SDMSMessage(env, "03202252202",
 							"Fatal exception while initializing System Threads:\n$1", fe.toString())).toString(), SDMSThread.SEVERITY_FATAL);
 		}
+		if (SystemEnvironment.maxWriter > 1 && SystemEnvironment.deadlockDetectionInterval > 0) {
+			LockingSystem.startDeadlockDetector(SystemEnvironment.deadlockDetectionInterval);
+		}
 		try {
 			startWorkers();
 		} catch(SDMSException fe) {
@@ -0,0 +1,416 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software: 
+you can redistribute it and/or modify it under the terms of the 
+GNU Affero General Public License as published by the 
+Free Software Foundation, either version 3 of the License, 
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+
+
+package de.independit.scheduler.server;
+
+import java.io.*;
+import java.util.*;
+import java.lang.*;
+import java.net.*;
+import java.nio.*;
+import java.nio.channels.*;
+import javax.net.ssl.*;
+
+import de.independit.scheduler.server.util.*;
+
+// A session served by a SessionMultiplexer. The selector thread reads from and writes to
+// the channel and does the TLS handshake if there is an SSLEngine. Complete statements are
+// parsed by a thread of the multiplexer's pool, which also waits for their results. At most
+// one such thread works for a session at any time, so its statements keep their order.
+public class SessionChannel implements Runnable
+{
+
+	private final static int READ_SIZE = 8192;
+	// the client is not read from while this many bytes of statements wait for the parser
+	private final static int MAX_QUEUED = 1024 * 1024;
+	// the parser waits while this many bytes of output have not been sent to the client
+	private final static int MAX_OUTPUT = 1024 * 1024;
+	private final static ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+	private final SessionMultiplexer mux;
+	private final SocketChannel channel;
+	private final SSLEngine engine;
+	private SelectionKey key = null;
+	private UserConnection uc = null;
+
+	// used by the selector thread only
+	private ByteBuffer netIn;
+	private ByteBuffer appIn = null;
+	private ByteBuffer netOut;
+	private byte[] inBuf = new byte[READ_SIZE];
+	private int inLen = 0;
+	private int scanned = 0;
+	private final StatementFramer framer = new StatementFramer();
+	private boolean eof = false;
+
+	// guarded by this
+	private final LinkedList<byte[]> statements = new LinkedList<byte[]>();
+	private int queued = 0;
+	private boolean busy = false;
+	private final LinkedList<ByteBuffer> output = new LinkedList<ByteBuffer>();
+	private int outputSize = 0;
+
+	private volatile boolean ended = false;
+	private volatile boolean killed = false;
+	private volatile boolean closed = false;
+	private volatile long lastInput;
+
+	// used by the parser thread only
+	private boolean connected = false;
+
+	public SessionChannel(SessionMultiplexer m, SocketChannel c, SSLEngine e)
+	{
+		mux = m;
+		channel = c;
+		engine = e;
+		if (engine != null) {
+			SSLSession s = engine.getSession();
+			netIn = ByteBuffer.allocate(s.getPacketBufferSize());
+			appIn = ByteBuffer.allocate(s.getApplicationBufferSize());
+			netOut = ByteBuffer.allocate(s.getPacketBufferSize());
+		} else {
+			netIn = ByteBuffer.allocate(READ_SIZE);
+			netOut = ByteBuffer.allocate(0);
+		}
+		netOut.flip();
+		lastInput = System.currentTimeMillis();
+	}
+
+	void register(Selector selector, UserConnection c)
+		throws ClosedChannelException
+	{
+		uc = c;
+		key = channel.register(selector, SelectionKey.OP_READ, this);
+	}
+
+	public InetAddress getInetAddress()
+	{
+		return channel.socket().getInetAddress();
+	}
+
+	public OutputStream getOutputStream()
+	{
+		return new OutputStream() {
+			public void write(int b)
+				throws IOException
+			{
+				byte[] buf = new byte[1];
+				buf[0] = (byte) b;
+				send(buf, 0, 1);
+			}
+
+			public void write(byte[] b, int off, int len)
+				throws IOException
+			{
+				if (len > 0) send(b, off, len);
+			}
+		};
+	}
+
+	public boolean isOpen()
+	{
+		return !closed && !killed;
+	}
+
+	// may be called by any thread
+	public void kill()
+	{
+		killed = true;
+		mux.changed(this);
+	}
+
+	private synchronized void send(byte[] b, int off, int len)
+		throws IOException
+	{
+		while (outputSize >= MAX_OUTPUT && !closed) {
+			try {
+				wait();
+			} catch (InterruptedException ie) {
+				throw new InterruptedIOException();
+			}
+		}
+		if (closed) throw new IOException("Connection closed");
+
+		byte[] buf = new byte[len];
+		System.arraycopy(b, off, buf, 0, len);
+		output.add(ByteBuffer.wrap(buf));
+		outputSize += len;
+		mux.changed(this);
+	}
+
+	// removes the first buffer of the output after it has been sent completely
+	private synchronized void sent()
+	{
+		ByteBuffer b = output.removeFirst();
+		outputSize -= b.capacity();
+		notifyAll();
+	}
+
+	// selector thread: the channel is readable
+	void readable()
+		throws IOException
+	{
+		if (channel.read(netIn) < 0) eof = true;
+		else lastInput = System.currentTimeMillis();
+
+		if (engine == null) {
+			netIn.flip();
+			append(netIn);
+			netIn.clear();
+		} else {
+			while (unwrap() | flush())
+				;
+		}
+		frame();
+		update();
+	}
+
+	// selector thread: the channel is writable
+	void writable()
+		throws IOException
+	{
+		if (engine == null)
+			flush();
+		else {
+			while (flush() | unwrap())
+				;
+			frame();
+		}
+		update();
+	}
+
+	// writes as much output as the channel takes; returns true if the SSLEngine produced data
+	private boolean flush()
+		throws IOException
+	{
+		ByteBuffer b;
+		boolean progress = false;
+
+		while (true) {
+			if (netOut.hasRemaining()) {
+				channel.write(netOut);
+				if (netOut.hasRemaining()) break;
+			}
+			synchronized (this) {
+				b = output.peek();
+			}
+			if (engine == null) {
+				if (b == null) break;
+				channel.write(b);
+				if (b.hasRemaining()) break;
+				sent();
+				continue;
+			}
+			if (b == null && engine.getHandshakeStatus() != SSLEngineResult.HandshakeStatus.NEED_WRAP) break;
+			netOut.clear();
+			SSLEngineResult r = engine.wrap(b == null ? EMPTY : b, netOut);
+			netOut.flip();
+			runTasks();
+			if (r.getStatus() != SSLEngineResult.Status.OK)
+				throw new SSLException("Cannot encrypt output : " + r.getStatus());
+			if (b != null && !b.hasRemaining()) sent();
+			if (r.bytesProduced() == 0) break;
+			progress = true;
+		}
+		return progress;
+	}
+
+	// decrypts the data read so far; returns true if the SSLEngine consumed data
+	private boolean unwrap()
+		throws IOException
+	{
+		boolean progress = false;
+
+		netIn.flip();
+		try {
+			while (netIn.hasRemaining()) {
+				SSLEngineResult r = engine.unwrap(netIn, appIn);
+				runTasks();
+				appIn.flip();
+				append(appIn);
+				appIn.clear();
+				if (r.getStatus() == SSLEngineResult.Status.CLOSED) {
+					eof = true;
+					break;
+				}
+				if (r.getStatus() == SSLEngineResult.Status.BUFFER_OVERFLOW) {
+					appIn = ByteBuffer.allocate(appIn.capacity() + engine.getSession().getApplicationBufferSize());
+					continue;
+				}
+				if (r.bytesConsumed() == 0) break;
+				progress = true;
+			}
+		} finally {
+			netIn.compact();
+		}
+		if (!netIn.hasRemaining()) {
+			// an incomplete record fills the buffer
+			ByteBuffer b = ByteBuffer.allocate(netIn.capacity() + engine.getSession().getPacketBufferSize());
+			netIn.flip();
+			b.put(netIn);
+			netIn = b;
+		}
+		return progress;
+	}
+
+	private void runTasks()
+	{
+		Runnable task;
+		while ((task = engine.getDelegatedTask()) != null)
+			task.run();
+	}
+
+	private void append(ByteBuffer b)
+	{
+		int n = b.remaining();
+		if (inLen + n > inBuf.length) {
+			byte[] buf = new byte[Math.max(inBuf.length * 2, inLen + n)];
+			System.arraycopy(inBuf, 0, buf, 0, inLen);
+			inBuf = buf;
+		}
+		b.get(inBuf, inLen, n);
+		inLen += n;
+	}
+
+	// hands the complete statements read so far to the parser
+	private void frame()
+	{
+		if (ended) {
+			// the input after the end of the session is ignored
+			inLen = 0;
+			scanned = 0;
+			return;
+		}
+		int end = framer.scan(inBuf, scanned, inLen);
+		scanned = inLen;
+		if (end < 0) return;
+
+		byte[] stmts = new byte[end];
+		System.arraycopy(inBuf, 0, stmts, 0, end);
+		System.arraycopy(inBuf, end, inBuf, 0, inLen - end);
+		inLen -= end;
+		scanned -= end;
+
+		boolean start;
+		synchronized (this) {
+			statements.add(stmts);
+			queued += end;
+			start = !busy;
+			busy = true;
+		}
+		if (start) mux.execute(this);
+	}
+
+	// parser thread: parses and posts the statements of this session until there are no more
+	public void run()
+	{
+		Thread t = Thread.currentThread();
+		String name = t.getName();
+		// the trace shows the name a UserConnection thread would have
+		t.setName(uc.getName());
+		try {
+			while (true) {
+				byte[] stmts;
+				synchronized (this) {
+					stmts = statements.poll();
+					if (stmts == null || closed) {
+						busy = false;
+						lastInput = System.currentTimeMillis();
+						break;
+					}
+					queued -= stmts.length;
+				}
+				if (!uc.parse(stmts, connected)) {
+					synchronized (this) {
+						ended = true;
+						statements.clear();
+						queued = 0;
+						busy = false;
+					}
+					break;
+				}
+				connected = true;
+			}
+		} finally {
+			t.setName(name);
+		}
+		mux.changed(this);
+	}
+
+	// selector thread: adjusts the interest in the channel to the state of the session
+	void update()
+	{
+		if (closed) return;
+
+		int ops = 0;
+		boolean idle;
+		synchronized (this) {
+			if (!ended && !eof && queued < MAX_QUEUED) ops |= SelectionKey.OP_READ;
+			if (!output.isEmpty() || netOut.hasRemaining()) ops |= SelectionKey.OP_WRITE;
+			idle = !busy && statements.isEmpty();
+		}
+		if (killed || ((ended || eof) && idle && (ops & SelectionKey.OP_WRITE) == 0)) {
+			close();
+			return;
+		}
+		key.interestOps(ops);
+	}
+
+	// selector thread: closes the session if it has waited for input longer than its timeout
+	void checkTimeout(long now)
+	{
+		int timeout = uc.getTimeout();
+		if (closed || timeout <= 0) return;
+		synchronized (this) {
+			if (busy) return;
+		}
+		if (now - lastInput < timeout * 1000L) return;
+
+		uc.timedOut();
+		close();
+	}
+
+	// selector thread
+	void close()
+	{
+		if (closed) return;
+		synchronized (this) {
+			closed = true;
+			output.clear();
+			outputSize = 0;
+			notifyAll();
+		}
+		key.cancel();
+		try {
+			channel.close();
+		} catch (IOException ioe) {
+
+		}
+		mux.closed(this, uc);
+	}
+
+}
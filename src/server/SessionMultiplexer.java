@@ -0,0 +1,215 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software: 
+you can redistribute it and/or modify it under the terms of the 
+GNU Affero General Public License as published by the 
+Free Software Foundation, either version 3 of the License, 
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+
+
+package de.independit.scheduler.server;
+
+import java.io.*;
+import java.util.*;
+import java.lang.*;
+import java.net.*;
+import java.nio.channels.*;
+import java.util.concurrent.*;
+
+import de.independit.scheduler.server.util.*;
+
+// Serves the sessions of a listener from the listener's thread with a selector instead of
+// one UserConnection thread per session. A pool of at most SessionParserThreads threads
+// parses the statements and waits for their results.
+public class SessionMultiplexer
+{
+
+	private final static int SELECT_TIMEOUT = 1000;
+
+	private static int threadNr = 0;
+
+	private final ListenThread listener;
+	private final int maxConnections;
+	private Selector selector = null;
+	private ServerSocketChannel serv = null;
+	private SelectionKey acceptKey = null;
+	private ThreadPoolExecutor parsers = null;
+	// used by the selector thread only
+	private final HashSet<SessionChannel> sessions = new HashSet<SessionChannel>();
+	// sessions whose state was changed by other threads
+	private final ConcurrentLinkedQueue<SessionChannel> changes = new ConcurrentLinkedQueue<SessionChannel>();
+
+	public SessionMultiplexer(ListenThread l, int mc)
+	{
+		listener = l;
+		maxConnections = mc;
+	}
+
+	// runs in the thread of the listener until the listener is stopped
+	public void run(int port)
+	{
+		try {
+			serv = listener.getServerChannel(port);
+			selector = Selector.open();
+			acceptKey = serv.register(selector, SelectionKey.OP_ACCEPT);
+		} catch (IOException ioe) {
+			SDMSThread.doTrace(null, "Oops: ServerSocket open() problem: " + ioe + "\nPort = " + port, SDMSThread.SEVERITY_FATAL);
+			return;
+		}
+		parsers = new ThreadPoolExecutor(SystemEnvironment.sessionParserThreads, SystemEnvironment.sessionParserThreads,
+		                                 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+			public Thread newThread(Runnable r)
+			{
+				// not within the thread groups of the workers and sessions, which are enumerated as SDMSThreads
+				Thread t = new Thread(SystemEnvironment.wg.getParent(), r, listener.getName() + "Parser" + (++threadNr),
+				                      SystemEnvironment.userThreadStackSize * 1024L);
+				t.setDaemon(true);
+				return t;
+			}
+		});
+		parsers.allowCoreThreadTimeOut(true);
+		SDMSThread.doTrace(null, listener.getName() + " multiplexing sessions at port " + port, SDMSThread.SEVERITY_INFO);
+
+		long lastCheck = System.currentTimeMillis();
+		while (listener.running()) {
+			try {
+				selector.select(SELECT_TIMEOUT);
+			} catch (IOException ioe) {
+				SDMSThread.doTrace(null, "Exception : " + ioe, SDMSThread.SEVERITY_WARNING);
+				break;
+			}
+
+			SessionChannel s;
+			while ((s = changes.poll()) != null)
+				s.update();
+
+			Iterator<SelectionKey> i = selector.selectedKeys().iterator();
+			while (i.hasNext()) {
+				SelectionKey k = i.next();
+				i.remove();
+				if (!k.isValid()) continue;
+				if (k == acceptKey) {
+					accept();
+					continue;
+				}
+				s = (SessionChannel) k.attachment();
+				try {
+					if (k.isReadable()) s.readable();
+					if (k.isValid() && k.isWritable()) s.writable();
+				} catch (IOException ioe) {
+					SDMSThread.doTrace(null, "Connection lost : " + ioe, SDMSThread.SEVERITY_MESSAGE);
+					s.close();
+				}
+			}
+
+			long now = System.currentTimeMillis();
+			if (now - lastCheck >= SELECT_TIMEOUT) {
+				lastCheck = now;
+				Iterator<SessionChannel> j = new ArrayList<SessionChannel>(sessions).iterator();
+				while (j.hasNext())
+					j.next().checkTimeout(now);
+			}
+		}
+
+		shutdown();
+	}
+
+	private void accept()
+	{
+		while (sessions.size() < maxConnections) {
+			SocketChannel ch = null;
+			try {
+				ch = serv.accept();
+				if (ch == null) return;
+				ch.configureBlocking(false);
+				ch.socket().setTcpNoDelay(true);
+				ch.socket().setKeepAlive(true);
+				SessionChannel s = new SessionChannel(this, ch, listener.createEngine());
+				s.register(selector, listener.newSession(s));
+				sessions.add(s);
+			} catch (IOException ioe) {
+				SDMSThread.doTrace(null, "Exception : " + ioe, SDMSThread.SEVERITY_WARNING);
+				if (ch != null) {
+					try {
+						ch.close();
+					} catch (IOException cioe) {
+
+					}
+				}
+				return;
+			}
+		}
+		// accepting again when a session terminates
+		if (listener.isListener())
+			SDMSThread.doTrace(null, "Out of user connects, waiting for a session to terminate", SDMSThread.SEVERITY_WARNING);
+		acceptKey.interestOps(0);
+	}
+
+	// may be called by any thread
+	void changed(SessionChannel s)
+	{
+		changes.add(s);
+		selector.wakeup();
+	}
+
+	void execute(SessionChannel s)
+	{
+		try {
+			parsers.execute(s);
+		} catch (RejectedExecutionException ree) {
+			// only while shutting down
+		}
+	}
+
+	// selector thread
+	void closed(SessionChannel s, UserConnection c)
+	{
+		sessions.remove(s);
+		listener.connectionClosed(c);
+		SDMSThread.doTrace(c.getEnv(), "UserConnection terminated", SDMSThread.SEVERITY_MESSAGE);
+		if (acceptKey.isValid() && acceptKey.interestOps() == 0)
+			acceptKey.interestOps(SelectionKey.OP_ACCEPT);
+	}
+
+	private void shutdown()
+	{
+		SDMSThread.doTrace(null, listener.getName() + " closing " + sessions.size() + " sessions", SDMSThread.SEVERITY_INFO);
+		Iterator<SessionChannel> i = new ArrayList<SessionChannel>(sessions).iterator();
+		while (i.hasNext())
+			i.next().close();
+
+		// the stop of the listener interrupted this thread
+		Thread.interrupted();
+		parsers.shutdownNow();
+		try {
+			parsers.awaitTermination(10, TimeUnit.SECONDS);
+		} catch (InterruptedException ie) {
+
+		}
+		try {
+			selector.close();
+			serv.close();
+		} catch (IOException ioe) {
+			SDMSThread.doTrace(null, "Oops: ServerSocket close() problem: " + ioe, SDMSThread.SEVERITY_FATAL);
+		}
+	}
+
+}
@@ -73,6 +73,7 @@ public class ShutdownThread extends SDMSThread
 			sysEnv.dbConnection = Server.connectToDB(sysEnv);
 		} catch(SDMSException e) {
 			doTrace(null, "Error while unlocking repository (couldn't get database connection)", SEVERITY_ERROR);
+			TraceWriter.flush();
 			return;
 		}
 		try {
@@ -103,6 +104,7 @@ public class ShutdownThread extends SDMSThread
 		}
 
 		doTrace (null, "Shutdown completed", SEVERITY_INFO);
+		TraceWriter.flush();
 
 		return;
 	}
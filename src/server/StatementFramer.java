@@ -0,0 +1,235 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software: 
+you can redistribute it and/or modify it under the terms of the 
+GNU Affero General Public License as published by the 
+Free Software Foundation, either version 3 of the License, 
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+
+
+package de.independit.scheduler.server;
+
+import java.io.*;
+import java.util.*;
+import java.lang.*;
+
+// Finds the ends of the statements in the byte stream of a session, so that only complete
+// statements are handed to the parser. It follows the lexical rules of the Scanner as far as
+// they decide where a statement ends: strings, comments, select texts, multicommands and
+// the NUL byte which forces the end of a command.
+public class StatementFramer
+{
+
+	private final static int NORMAL        = 0;
+	private final static int STRING        = 1;
+	private final static int STRING_ESC    = 2;
+	private final static int LINE_COMMENT  = 3;
+	private final static int BLOCK_COMMENT = 4;
+	private final static int SELECT        = 5;
+	private final static int SELECT_STRING = 6;
+
+	private final static int MAX_WORD = 20;
+	private final static String WITH = "WITH";
+
+	private int state = NORMAL;
+	private boolean inMultiCmd = false;
+	// the previous character in NORMAL state was a '/' or a '-', or a '*' within a block comment
+	private int pending = 0;
+	// the identifier being read, in upper case and cut to MAX_WORD characters
+	private StringBuffer word = null;
+	// BEGIN or END were read and only white space followed
+	private String multiPrefix = null;
+	private int selectBrackets = 0;
+	private int withMatched = 0;
+
+	public StatementFramer()
+	{
+	}
+
+	// scans b[off] .. b[len - 1] and returns the offset behind the end of the last complete statement in it, or -1
+	public int scan(byte[] b, int off, int len)
+	{
+		int end = -1;
+
+		for (int i = off; i < len; ++i) {
+			int c = b[i] & 0xff;
+			if (c == 0 && state != LINE_COMMENT && state != SELECT_STRING) {
+				reset();
+				end = i + 1;
+				continue;
+			}
+			switch (state) {
+				case NORMAL:
+					if (normal(c)) end = i + 1;
+					break;
+				case STRING:
+					if (c == '\\') state = STRING_ESC;
+					else if (c == '\'') state = NORMAL;
+					break;
+				case STRING_ESC:
+					state = STRING;
+					break;
+				case LINE_COMMENT:
+					if (c == '\n' || c == '\r') state = NORMAL;
+					break;
+				case BLOCK_COMMENT:
+					if (pending == '*' && c == '/') {
+						state = NORMAL;
+						pending = 0;
+					} else
+						pending = c;
+					break;
+				case SELECT:
+					if (select(c)) end = i + 1;
+					break;
+				case SELECT_STRING:
+					if (c == '\'') state = SELECT;
+					break;
+			}
+		}
+
+		return end;
+	}
+
+	private void reset()
+	{
+		state = NORMAL;
+		inMultiCmd = false;
+		pending = 0;
+		word = null;
+		multiPrefix = null;
+	}
+
+	// returns true if c ends a statement
+	private boolean normal(int c)
+	{
+		if (isWordChar(c) && (word != null || !isDigit(c))) {
+			if (word == null) {
+				pending = 0;
+				word = new StringBuffer();
+			}
+			if (word.length() < MAX_WORD)
+				word.append(Character.toUpperCase((char) c));
+			return false;
+		}
+		if (word != null) {
+			endOfWord();
+			if (state == SELECT)
+				return select(c);
+		}
+
+		if (pending == '/' && (c == '/' || c == '*')) {
+			pending = 0;
+			state = (c == '/' ? LINE_COMMENT : BLOCK_COMMENT);
+			return false;
+		}
+		if (pending == '-' && c == '-') {
+			pending = 0;
+			state = LINE_COMMENT;
+			return false;
+		}
+		pending = 0;
+
+		if (c == ' ' || c == '\n' || c == '\t' || c == '\r') return false;
+		multiPrefix = null;
+
+		switch (c) {
+			case '/':
+			case '-':
+				pending = c;
+				break;
+			case '\'':
+				state = STRING;
+				break;
+			case ';':
+				if (!inMultiCmd) return true;
+				break;
+		}
+		return false;
+	}
+
+	// returns true if c ends a statement
+	private boolean select(int c)
+	{
+		if (Character.toUpperCase((char) c) == WITH.charAt(withMatched)) {
+			if (++withMatched == WITH.length()) {
+				// the scanner reads "with" again as the first word after the select text
+				state = NORMAL;
+				word = new StringBuffer(WITH);
+				withMatched = 0;
+			}
+			return false;
+		}
+		withMatched = (Character.toUpperCase((char) c) == WITH.charAt(0) ? 1 : 0);
+
+		switch (c) {
+			case '\'':
+				state = SELECT_STRING;
+				break;
+			case '(':
+				selectBrackets++;
+				break;
+			case ')':
+				if (selectBrackets == 0) state = NORMAL;
+				else selectBrackets--;
+				break;
+			case ';':
+				state = NORMAL;
+				return normal(c);
+		}
+		return false;
+	}
+
+	private void endOfWord()
+	{
+		String w = word.toString();
+		word = null;
+
+		if (multiPrefix != null && w.startsWith("MULTICOMMAND")) {
+			inMultiCmd = multiPrefix.equals("BEGIN");
+			multiPrefix = null;
+			return;
+		}
+		multiPrefix = null;
+		if (w.equals("BEGIN") || w.equals("END")) {
+			multiPrefix = w;
+		} else if (w.equals("BEGIN_MULTICOMMAND") || w.equals("BEGINMULTICOMMAND")) {
+			inMultiCmd = true;
+		} else if (w.equals("END_MULTICOMMAND") || w.equals("ENDMULTICOMMAND")) {
+			inMultiCmd = false;
+		} else if (w.equals("SELECT")) {
+			state = SELECT;
+			selectBrackets = 0;
+			withMatched = 0;
+		}
+	}
+
+	private static boolean isDigit(int c)
+	{
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isWordChar(int c)
+	{
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '_' || c == '@' || c == '#';
+	}
+
+}
@@ -82,6 +82,9 @@ public class SystemEnvironment implements Cloneable
 	public static long cntRwTx = 0;
 	public static long cntDl = 0;
 	public static long cntWl = 0;
+	public static long cntDepTested = 0;
+	public static long cntDepSkipped = 0;
+	public static long cntDepMismatch = 0;
 	public static Server server;
 	public static SchedulingThread sched;
 	public static GarbageThread garb;
@@ -103,7 +106,14 @@ public class SystemEnvironment implements Cloneable
 	public static DatagramSocket notifySocket;
 
 	public static String runMode;
-	public static int traceLevel;
+	public static volatile int traceLevel;
+	public static boolean asyncTrace;
+	public static int traceBufferSize;
+	public static String traceFile;
+	public static int traceFileAge;
+	public static int traceFileCount;
+	public static int traceFileSize;
+	public static boolean traceJson;
 	public static String parameterHandling;
 	public static TimerUnit timerHorizon;
 	public static TimerUnit timerRecalc;
@@ -118,9 +128,21 @@ public class SystemEnvironment implements Cloneable
 	public static boolean archive;
 	public static int minHistoryCount;
 	public static int maxHistoryCount;
+	public static long historyArchiveTime;
+	public static long historyArchiveSize;
 	public static int maxWorker;
 	public static int maxWriter;
+	public static long deadlockDetectionInterval;
+	public static int cmdQueueSize;
+	public static int dbBatchSize;
+	public static int dbFetchSize;
+	public static int dbLoadPartitionSize;
+	public static int groupCommitWindow;
+	public static int groupCommitSize;
 	public static int maxConnects;
+	public static int userThreadStackSize;
+	public static boolean sessionMultiplexing;
+	public static int sessionParserThreads;
 	public static String exportVariablesString;
 	public static String userExportVariablesString;
 	public static String jdbcDriver;
@@ -142,7 +164,12 @@ public class SystemEnvironment implements Cloneable
 	public static int sessionTimeout;
 	public static String compatLevel;
 	public static boolean singleServer;
+	public static boolean verifyDependencyCheck;
+	public static boolean eagerPurge;
 	public static int maxNumCalEntries;
+	public static int intervalCacheSize;
+	public static int metricsPort;
+	public static String metricsAddress;
 	public static int defCalHorizon;
 	public static boolean fatalIsError;
 	public static String selectGroup;
@@ -179,23 +206,36 @@ public class SystemEnvironment implements Cloneable
 	public static final String S_ARCHICOLS             = "ArchiveHierarchyColumns";
 	public static final String S_ARCKJCOLS             = "ArchiveKillJobColumns";
 	public static final String S_AUDITFILE             = "AuditFile";
+	public static final String S_ASYNCTRACE            = "AsyncTrace";
 	public static final String S_AUTHCLASS             = "AuthenticationClass";
 	public static final String S_CALHORIZON            = "CalendarHorizon";
 	public static final String S_CALENTRIES            = "CalendarEntries";
+	public static final String S_DBBATCHSIZE           = "DbBatchSize";
+	public static final String S_DBFETCHSIZE           = "DbFetchSize";
 	public static final String S_DBLOADER              = "DbLoaders";
+	public static final String S_DBLOADPARTITIONSIZE   = "DbLoadPartitionSize";
 	public static final String S_DBPASSWD              = "DbPasswd";
 	public static final String S_DBURL                 = "DbUrl";
 	public static final String S_DBUSER                = "DbUser";
+	public static final String S_DEADLOCKDETECTION     = "DeadlockDetectionInterval";
 	public static final String S_DMPLANGLEVEL          = "DumpLangLevel";
+	public static final String S_EAGERPURGE            = "EagerPurge";
 	public static final String S_ENHANCEDCMDPARSING    = "EnhancedCmdParsing";
 	public static final String S_EXPORTVARIABLES       = "ExportVariables";
 	public static final String S_GCWAKEUP              = "GCWakeup";
+	public static final String S_GROUPCOMMITSIZE       = "GroupCommitSize";
+	public static final String S_GROUPCOMMITWINDOW     = "GroupCommitWindow";
 	public static final String S_HISTORY               = "History";
 	public static final String S_DBHISTORY             = "DbHistory";
 	public static final String S_HISTORYLIMIT          = "HistoryLimit";
 	public static final String S_MINHISTORYCOUNT       = "MinHistoryCount";
 	public static final String S_MAXHISTORYCOUNT       = "MaxHistoryCount";
+	public static final String S_HISTORYARCHIVE        = "HistoryArchive";
+	public static final String S_HISTORYARCHIVESIZE    = "HistoryArchiveSize";
+	public static final String S_METRICSADDRESS        = "MetricsAddress";
+	public static final String S_METRICSPORT           = "MetricsPort";
 	public static final String S_HOSTNAME              = "Hostname";
+	public static final String S_INTERVALCACHESIZE     = "IntervalCacheSize";
 	public static final String S_JDBCDRIVER            = "JdbcDriver";
 	public static final String S_LEVEL                 = "CompatibilityLevel";
 	public static final String S_PARAMETERHANDLING     = "ParameterHandling";
@@ -206,6 +246,8 @@ public class SystemEnvironment implements Cloneable
 	public static final String S_SCHEDULEWAKEUP        = "ScheduleWakeup";
 	public static final String S_SELECTGROUP           = "SelectGroup";
 	public static final String S_SERVICEPORT           = "ServicePort";
+	public static final String S_SESSIONMULTIPLEXING   = "SessionMultiplexing";
+	public static final String S_SESSIONPARSERTHREADS  = "SessionParserThreads";
 	public static final String S_SESSIONTIMEOUT        = "SessionTimeout";
 	public static final String S_SHOWSTACKTRACE        = "ShowStackTrace";
 	public static final String S_SINGLESERVER          = "SingleServer";
@@ -216,13 +258,21 @@ public class SystemEnvironment implements Cloneable
 	public static final String S_TIMERSUSPENDLIMIT     = "TimerSuspendLimit";
 	public static final String S_TIMERTIMEOUT          = "TimerTimeout";
 	public static final String S_TIMERWAKEUP           = "TimerWakeup";
+	public static final String S_TRACEBUFFERSIZE       = "TraceBufferSize";
+	public static final String S_TRACEFILE             = "TraceFile";
+	public static final String S_TRACEFILEAGE          = "TraceFileAge";
+	public static final String S_TRACEFILECOUNT        = "TraceFileCount";
+	public static final String S_TRACEFILESIZE         = "TraceFileSize";
+	public static final String S_TRACEFORMAT           = "TraceFormat";
 	public static final String S_TRACELEVEL            = "TraceLevel";
 	public static final String S_TRIGGERSOFTLIMIT      = "TriggerSoftLimit";
 	public static final String S_TRIGGERHARDLIMIT      = "TriggerHardLimit";
 	public static final String S_TTWAKEUP              = "TTWakeup";
 	public static final String S_TXRETRYCOUNT          = "TxRetryCount";
 	public static final String S_USERTHREADS           = "UserThreads";
+	public static final String S_USERTHREADSTACKSIZE   = "UserThreadStackSize";
 	public static final String S_USEREXPORTVARIABLES   = "UserExportVariables";
+	public static final String S_VERIFYDEPENDENCYCHECK = "VerifyDependencyCheck";
 	public static final String S_WORKERTHREADS         = "WorkerThreads";
 	public static final String S_WRITERTHREADS         = "WriterThreads";
 	public static final String S_KEYSTORE              = "KeyStore";
@@ -234,6 +284,7 @@ public class SystemEnvironment implements Cloneable
 	public static final String S_TRUSTSTOREPROVIDER    = "TrustStoreProvider";
 	public static final String S_TRUSTSTORETYPE        = "TrustStoreType";
 	public static final String S_CLIENTAUTHENTICATION  = "ClientAuthentication";
+	public static final String S_CMDQUEUESIZE          = "CmdQueueSize";
 
 	public static final String J_KEYSTORE                     = "javax.net.ssl.keyStore";
 	public static final String J_KEYSTOREPASSWORD             = "javax.net.ssl.keyStorePassword";
@@ -373,6 +424,7 @@ public class SystemEnvironment implements Cloneable
 		getSimpleValues();
 		getAuthClass();
 		getPropsTraceLevel();
+		getAsyncTrace();
 		getShowStackTrace();
 		getArchive();
 		getArchiveCols();
@@ -381,15 +433,21 @@ public class SystemEnvironment implements Cloneable
 		getTimerRecalc();
 		getPort();
 		getServicePort();
+		getMetricsPort();
 		getTxRetryCount();
 		getHistory();
 		getDbHistory();
 		getHistoryLimit();
 		getMinHistoryCount();
 		getMaxHistoryCount();
+		getHistoryArchive();
 		getWorkerThreads();
 		getWriterThreads();
+		getDeadlockDetectionInterval();
+		getCmdQueueSize();
 		getUserThreads();
+		getUserThreadStackSize();
+		getSessionMultiplexing();
 		getExportVariables();
 		getScheduleWakeup();
 		getGCWakeup();
@@ -402,9 +460,15 @@ public class SystemEnvironment implements Cloneable
 		getTimerSuspendLimit();
 		getTimerTimeout();
 		getDbLoader();
+		getDbLoad();
+		getDbBatchSize();
+		getGroupCommit();
 		getCompatLevel();
 		getSingleServer();
+		getVerifyDependencyCheck();
+		getEagerPurge();
 		getMaxNumCalEntries();
+		getIntervalCacheSize();
 		getCalHorizon();
 
 		getTriggerSoftLimit();
@@ -732,6 +796,40 @@ public class SystemEnvironment implements Cloneable
 		props.setProperty(S_TRACELEVEL, "" + traceLevel);
 	}
 
+	private void getAsyncTrace()
+	{
+		String s_asyncTrace = props.getProperty(S_ASYNCTRACE, "false");
+		asyncTrace = Boolean.parseBoolean(s_asyncTrace.trim());
+		props.setProperty(S_ASYNCTRACE, asyncTrace ? "true" : "false" );
+
+		String s_traceBufferSize = props.getProperty(S_TRACEBUFFERSIZE, "8192");
+		traceBufferSize = checkIntProperty(s_traceBufferSize, S_TRACEBUFFERSIZE, 16, 8192, 0, "Invalid TraceBufferSize : ");
+		props.setProperty(S_TRACEBUFFERSIZE, "" + traceBufferSize);
+
+		traceFile = props.getProperty(S_TRACEFILE, "").trim();
+		props.setProperty(S_TRACEFILE, traceFile);
+
+		String s_traceFileAge = props.getProperty(S_TRACEFILEAGE, "0");
+		traceFileAge = checkIntProperty(s_traceFileAge, S_TRACEFILEAGE, 0, 0, 0, "Invalid TraceFileAge : ");
+		props.setProperty(S_TRACEFILEAGE, "" + traceFileAge);
+
+		String s_traceFileCount = props.getProperty(S_TRACEFILECOUNT, "5");
+		traceFileCount = checkIntProperty(s_traceFileCount, S_TRACEFILECOUNT, 1, 5, 0, "Invalid TraceFileCount : ");
+		props.setProperty(S_TRACEFILECOUNT, "" + traceFileCount);
+
+		String s_traceFileSize = props.getProperty(S_TRACEFILESIZE, "0");
+		traceFileSize = checkIntProperty(s_traceFileSize, S_TRACEFILESIZE, 0, 0, 0, "Invalid TraceFileSize : ");
+		props.setProperty(S_TRACEFILESIZE, "" + traceFileSize);
+
+		String s_traceFormat = props.getProperty(S_TRACEFORMAT, "TEXT").trim().toUpperCase();
+		if (!s_traceFormat.equals("TEXT") && !s_traceFormat.equals("JSON")) {
+			SDMSThread.doTrace(null, "Invalid TraceFormat : " + s_traceFormat, SDMSThread.SEVERITY_WARNING);
+			s_traceFormat = "TEXT";
+		}
+		traceJson = s_traceFormat.equals("JSON");
+		props.setProperty(S_TRACEFORMAT, s_traceFormat);
+	}
+
 	private void getTimerHorizon()
 	{
 		final String s_timerHorizon = props.getProperty (S_TIMERHORIZON, "5");
@@ -755,6 +853,16 @@ public class SystemEnvironment implements Cloneable
 		props.setProperty(S_PORT, "" + port);
 	}
 
+	private void getMetricsPort()
+	{
+		String s_port = props.getProperty(S_METRICSPORT, "0");
+		metricsPort = checkIntProperty(s_port, S_METRICSPORT, 0, 0, 65535, "Invalid port number : ");
+		props.setProperty(S_METRICSPORT, "" + metricsPort);
+
+		metricsAddress = props.getProperty(S_METRICSADDRESS, "localhost").trim();
+		props.setProperty(S_METRICSADDRESS, metricsAddress);
+	}
+
 	private void getSSLPort()
 	{
 		String s_port = props.getProperty(S_SSLPORT, "0");
@@ -827,6 +935,19 @@ public class SystemEnvironment implements Cloneable
 		props.setProperty(S_MAXHISTORYCOUNT, "" + maxHistoryCount);
 	}
 
+	private void getHistoryArchive()
+	{
+		String s_archiveTime = props.getProperty(S_HISTORYARCHIVE, "0");
+		historyArchiveTime = checkIntProperty(s_archiveTime, S_HISTORYARCHIVE, 0, 0, 0, "Invalid HistoryArchive : ");
+		props.setProperty(S_HISTORYARCHIVE, "" + historyArchiveTime);
+		historyArchiveTime *= 1000 * 60;
+
+		String s_archiveSize = props.getProperty(S_HISTORYARCHIVESIZE, "256");
+		historyArchiveSize = checkIntProperty(s_archiveSize, S_HISTORYARCHIVESIZE, 1, 256, 0, "Invalid HistoryArchiveSize : ");
+		props.setProperty(S_HISTORYARCHIVESIZE, "" + historyArchiveSize);
+		historyArchiveSize *= 1024 * 1024;
+	}
+
 	private void getCalHorizon()
 	{
 		String s_calHorizon = props.getProperty(S_CALHORIZON, "62");
@@ -841,6 +962,13 @@ public class SystemEnvironment implements Cloneable
 		props.setProperty(S_CALENTRIES, "" + maxNumCalEntries);
 	}
 
+	private void getIntervalCacheSize()
+	{
+		String s_intervalCacheSize = props.getProperty(S_INTERVALCACHESIZE, "256");
+		intervalCacheSize = checkIntProperty(s_intervalCacheSize, S_INTERVALCACHESIZE, 0, 256, 0, "Invalid IntervalCacheSize : ");
+		props.setProperty(S_INTERVALCACHESIZE, "" + intervalCacheSize);
+	}
+
 	private void getWorkerThreads()
 	{
 		String s_maxWorker = props.getProperty(S_WORKERTHREADS, "2");
@@ -855,6 +983,20 @@ public class SystemEnvironment implements Cloneable
 		props.setProperty(S_WRITERTHREADS, "" + maxWriter);
 	}
 
+	private void getCmdQueueSize()
+	{
+		String s_cmdQueueSize = props.getProperty(S_CMDQUEUESIZE, "" + SyncFifo.DEFAULT_CAPACITY);
+		cmdQueueSize = checkIntProperty(s_cmdQueueSize, S_CMDQUEUESIZE, 16, SyncFifo.DEFAULT_CAPACITY, 0, "Invalid CmdQueueSize : ");
+		props.setProperty(S_CMDQUEUESIZE, "" + cmdQueueSize);
+	}
+
+	private void getDeadlockDetectionInterval()
+	{
+		String s_interval = props.getProperty(S_DEADLOCKDETECTION, "1000");
+		deadlockDetectionInterval = checkIntProperty(s_interval, S_DEADLOCKDETECTION, 0, 1000, 60000, "Invalid DeadlockDetectionInterval : ");
+		props.setProperty(S_DEADLOCKDETECTION, "" + deadlockDetectionInterval);
+	}
+
 	private void getUserThreads()
 	{
 		String s_maxConnects = props.getProperty(S_USERTHREADS, "10");
@@ -862,6 +1004,24 @@ public class SystemEnvironment implements Cloneable
 		props.setProperty(S_USERTHREADS, "" + maxConnects);
 	}
 
+	private void getUserThreadStackSize()
+	{
+		String s_stackSize = props.getProperty(S_USERTHREADSTACKSIZE, "0");
+		userThreadStackSize = checkIntProperty(s_stackSize, S_USERTHREADSTACKSIZE, 0, 0, 0, "Invalid UserThreadStackSize : ");
+		props.setProperty(S_USERTHREADSTACKSIZE, "" + userThreadStackSize);
+	}
+
+	private void getSessionMultiplexing()
+	{
+		String s_multiplexing = props.getProperty(S_SESSIONMULTIPLEXING, "false");
+		sessionMultiplexing = Boolean.parseBoolean(s_multiplexing.trim());
+		props.setProperty(S_SESSIONMULTIPLEXING, sessionMultiplexing ? "true" : "false");
+
+		String s_threads = props.getProperty(S_SESSIONPARSERTHREADS, "50");
+		sessionParserThreads = checkIntProperty(s_threads, S_SESSIONPARSERTHREADS, 1, 50, 0, "Invalid number of session parser threads : ");
+		props.setProperty(S_SESSIONPARSERTHREADS, "" + sessionParserThreads);
+	}
+
 	private void getScheduleWakeup()
 	{
 		String s_scheduleWakeupInterval = props.getProperty(S_SCHEDULEWAKEUP, "30");
@@ -907,6 +1067,20 @@ public class SystemEnvironment implements Cloneable
 		props.setProperty(S_SINGLESERVER, singleServer ? "true" : "false" );
 	}
 
+	private void getVerifyDependencyCheck()
+	{
+		String s_verify = props.getProperty(S_VERIFYDEPENDENCYCHECK, "false");
+		verifyDependencyCheck = Boolean.parseBoolean(s_verify.trim());
+		props.setProperty(S_VERIFYDEPENDENCYCHECK, verifyDependencyCheck ? "true" : "false" );
+	}
+
+	private void getEagerPurge()
+	{
+		String s_eagerPurge = props.getProperty(S_EAGERPURGE, "false");
+		eagerPurge = Boolean.parseBoolean(s_eagerPurge.trim());
+		props.setProperty(S_EAGERPURGE, eagerPurge ? "true" : "false" );
+	}
+
 	private void getSysPasswd()
 	{
 		sysPasswd = props.getProperty(S_SYSPASSWD, "G0H0ME");
@@ -950,6 +1124,33 @@ public class SystemEnvironment implements Cloneable
 		props.setProperty(S_TRIGGERHARDLIMIT, "" + triggerHardLimit);
 	}
 
+	private void getDbLoad()
+	{
+		String s_fetchSize = props.getProperty (S_DBFETCHSIZE, "1000");
+		dbFetchSize = checkIntProperty(s_fetchSize, S_DBFETCHSIZE, 0, 1000, 0, "Invalid DbFetchSize : ");
+		props.setProperty(S_DBFETCHSIZE, "" + dbFetchSize);
+		String s_partitionSize = props.getProperty (S_DBLOADPARTITIONSIZE, "100000");
+		dbLoadPartitionSize = checkIntProperty(s_partitionSize, S_DBLOADPARTITIONSIZE, 0, 100000, 0, "Invalid DbLoadPartitionSize : ");
+		props.setProperty(S_DBLOADPARTITIONSIZE, "" + dbLoadPartitionSize);
+	}
+
+	private void getDbBatchSize()
+	{
+		String s_dbBatchSize = props.getProperty (S_DBBATCHSIZE, "1000");
+		dbBatchSize = checkIntProperty(s_dbBatchSize, S_DBBATCHSIZE, 1, 1000, 0, "Invalid DbBatchSize : ");
+		props.setProperty(S_DBBATCHSIZE, "" + dbBatchSize);
+	}
+
+	private void getGroupCommit()
+	{
+		String s_window = props.getProperty (S_GROUPCOMMITWINDOW, "0");
+		groupCommitWindow = checkIntProperty(s_window, S_GROUPCOMMITWINDOW, 0, 0, 1000, "Invalid GroupCommitWindow : ");
+		props.setProperty(S_GROUPCOMMITWINDOW, "" + groupCommitWindow);
+		String s_size = props.getProperty (S_GROUPCOMMITSIZE, "16");
+		groupCommitSize = checkIntProperty(s_size, S_GROUPCOMMITSIZE, 2, 16, 0, "Invalid GroupCommitSize : ");
+		props.setProperty(S_GROUPCOMMITSIZE, "" + groupCommitSize);
+	}
+
 	private void getDbLoader()
 	{
 		int numProc = Runtime.getRuntime().availableProcessors();
@@ -1161,6 +1362,12 @@ public class SystemEnvironment implements Cloneable
 	{
 		cntWl   ++;
 	}
+	public static synchronized void incrCntDep (long tested, long skipped, long mismatch)
+	{
+		cntDepTested   += tested;
+		cntDepSkipped  += skipped;
+		cntDepMismatch += mismatch;
+	}
 
 	public Object clone()
 		throws CloneNotSupportedException
@@ -1205,7 +1412,7 @@ public class SystemEnvironment implements Cloneable
 		return new Long(java.lang.Math.abs(random.nextLong()));
 	}
 
-	public static synchronized int getTraceLevel()
+	public static int getTraceLevel()
 	{
 		return traceLevel;
 	}
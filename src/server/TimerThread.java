@@ -103,6 +103,13 @@ public class TimerThread
 	private int current = 0;
 	private int total = 0;
 
+	// Scheduled events ordered by the minute of their next activity. The queued minute
+	// of an event is never later than its committed NEXT_ACTIVITY_TIME; an event which
+	// is due too early is simply requeued. Events without a next activity are due at once.
+	private final TreeMap<Integer, HashSet<Long>> queue = new TreeMap<Integer, HashSet<Long>>();
+	private final HashMap<Long, Integer> queued = new HashMap<Long, Integer>();
+	private static final Integer DUE = Integer.valueOf(Integer.MIN_VALUE);
+
 	public TimerThread (final SystemEnvironment sysEnv, final SyncFifo f)
 	{
 		super (name);
@@ -146,7 +153,7 @@ public class TimerThread
 				aliveSinceLong = false;
 			}
 		} catch (final NotFoundException e) {
-			SDMSPersistentValueTable.table.create (sysEnv, LAST_SCHEDULE_RUN, new Integer (now.toMinutes()));
+			SDMSPersistentValueTable.table.create (sysEnv, LAST_SCHEDULE_RUN, Integer.valueOf(now.toMinutes()));
 			lastRun.set (now);
 			aliveSinceLong = false;
 		}
@@ -156,7 +163,7 @@ public class TimerThread
 		throws SDMSException
 	{
 		final SDMSPersistentValue persVal = SDMSPersistentValueTable.idx_name_getUniqueForUpdate(sysEnv, LAST_SCHEDULE_RUN);
-		persVal.setIntValue (sysEnv, new Integer (now.toMinutes()));
+		persVal.setIntValue (sysEnv, Integer.valueOf(now.toMinutes()));
 		lastRun.set (now);
 	}
 
@@ -200,7 +207,7 @@ public class TimerThread
 
 		final Boolean doSuspend = (forceSuspend || submitSuspended) ? Boolean.TRUE : Boolean.FALSE;
 
-		final SDMSSubmittedEntity sme = se.submitMaster (sysEnv, parmList, new Integer(doSuspend.booleanValue() ? SDMSSubmittedEntity.SUSPEND : SDMSSubmittedEntity.NOSUSPEND),
+		final SDMSSubmittedEntity sme = se.submitMaster (sysEnv, parmList, Integer.valueOf(doSuspend.booleanValue() ? SDMSSubmittedEntity.SUSPEND : SDMSSubmittedEntity.NOSUSPEND),
 		                                null ,
 								ownerId, null , "Event " + evt.getName (sysEnv));
 
@@ -380,41 +387,142 @@ public class TimerThread
 		return "TimeScheduling (" + current + "/" + total + ")";
 	}
 
+	public final int getQueueSize()
+	{
+		synchronized (queue) {
+			return queued.size();
+		}
+	}
+
+	// puts the event into the queue, or moves it to an earlier minute
+	private final void enqueue (final Long scevId, final Integer minute)
+	{
+		synchronized (queue) {
+			final Integer old = queued.get (scevId);
+			if (old != null && old.intValue() <= minute.intValue())
+				return;
+			requeue (scevId, minute);
+		}
+	}
+
+	// puts the event into the queue at the given minute, even if this is later than before
+	private final void requeue (final Long scevId, final Integer minute)
+	{
+		synchronized (queue) {
+			final Integer old = queued.put (scevId, minute);
+			if (old != null) {
+				final HashSet<Long> s = queue.get (old);
+				s.remove (scevId);
+				if (s.isEmpty())
+					queue.remove (old);
+			}
+			HashSet<Long> s = queue.get (minute);
+			if (s == null) {
+				s = new HashSet<Long>();
+				queue.put (minute, s);
+			}
+			s.add (scevId);
+		}
+	}
+
+	// removes and returns the events queued up to the given minute
+	private final Vector<Long> dequeueDue (final int minute)
+	{
+		final Vector<Long> due = new Vector<Long>();
+		synchronized (queue) {
+			final SortedMap<Integer, HashSet<Long>> head = queue.headMap (Integer.valueOf(minute + 1));
+			final Iterator<HashSet<Long>> i = head.values().iterator();
+			while (i.hasNext())
+				due.addAll (i.next());
+			head.clear();
+			for (int j = 0; j < due.size(); ++j)
+				queued.remove (due.get (j));
+		}
+		return due;
+	}
+
+	private final void enqueueAll (final SystemEnvironment sysEnv)
+		throws SDMSException
+	{
+		final Iterator scevIt = SDMSScheduledEventTable.table.iterator (sysEnv, false );
+		while (scevIt.hasNext()) {
+			final SDMSScheduledEvent scev = (SDMSScheduledEvent) scevIt.next();
+			if (! scev.getIsBroken (sysEnv).booleanValue())
+				enqueue (scev.getId (sysEnv), nextActivityMinute (sysEnv, scev));
+		}
+	}
+
+	private final Integer nextActivityMinute (final SystemEnvironment sysEnv, final SDMSScheduledEvent scev)
+		throws SDMSException
+	{
+		final Long nextActivityTime = scev.getNextActivityTime (sysEnv);
+		if (nextActivityTime == null)
+			return DUE;
+		return Integer.valueOf(new TimerDate (new DateTime (nextActivityTime).toDate()).toMinutes());
+	}
+
 	private final void scheduleAll (final SystemEnvironment sysEnv)
 		throws SDMSException
 	{
 
 		current = 0;
-		total = SDMSScheduledEventTable.table.rawSize();
+		total = 0;
 		if (lastRun.lt (now)) {
 			nowLong = dateToDateTimeLong (now);
 
-			final Iterator scevIt = SDMSScheduledEventTable.table.iterator (sysEnv, false );
-			while (scevIt.hasNext()) {
-				current ++;
-				final SDMSScheduledEvent scev = (SDMSScheduledEvent) scevIt.next();
-
-				if (! scev.getIsBroken (sysEnv).booleanValue()) {
-					suspendNow.set (now.plus (-1, scev.getEffectiveSuspendLimit(sysEnv)));
-
+			final int nowMinute = now.toMinutes();
+			final Integer nextMinute = Integer.valueOf(nowMinute + 1);
+			final Vector<Long> due = dequeueDue (nowMinute);
+			total = due.size();
+			doTrace (cEnv, total + " scheduled events due, " + getQueueSize() + " waiting", SEVERITY_MESSAGE);
+
+			boolean done = false;
+			try {
+				for (int d = 0; d < due.size(); ++d) {
+					current ++;
+					final Long scevId = due.get (d);
+					final SDMSScheduledEvent scev;
 					try {
-						sysEnv.tx.beginSubTransaction (sysEnv);
-						doSchedule (sysEnv, scev);
-						sysEnv.tx.commitSubTransaction (sysEnv);
-					} catch (final SerializationException e) {
-						sysEnv.tx.rollbackSubTransaction (sysEnv);
-						throw e;
-					} catch (final SDMSException e) {
-						sysEnv.tx.rollbackSubTransaction (sysEnv);
-						createError (sysEnv, scev, e.toString());
-						retire (sysEnv, scev, e);
-					} catch (final Exception e) {
-						sysEnv.tx.rollbackSubTransaction (sysEnv);
-						createError (sysEnv, scev, e.toString());
-						retire (sysEnv, scev, new CommonErrorException (new SDMSMessage (sysEnv, "04311102118", toString (e))));
+						scev = SDMSScheduledEventTable.getObject (sysEnv, scevId);
+					} catch (final NotFoundException nfe) {
+						continue;
 					}
 
+					if (! scev.getIsBroken (sysEnv).booleanValue()) {
+						final Integer nextActivity = nextActivityMinute (sysEnv, scev);
+						if (nextActivity != DUE && new TimerDate (nextActivity.intValue()).gt (now)) {
+							requeue (scevId, nextActivity.intValue() > nowMinute ? nextActivity : nextMinute);
+							continue;
+						}
+						// changed by this transaction; the committed next activity is picked up at the next run
+						enqueue (scevId, nextMinute);
+						suspendNow.set (now.plus (-1, scev.getEffectiveSuspendLimit(sysEnv)));
+
+						try {
+							sysEnv.tx.beginSubTransaction (sysEnv);
+							doSchedule (sysEnv, scev);
+							sysEnv.tx.commitSubTransaction (sysEnv);
+						} catch (final SerializationException e) {
+							sysEnv.tx.rollbackSubTransaction (sysEnv);
+							throw e;
+						} catch (final SDMSException e) {
+							sysEnv.tx.rollbackSubTransaction (sysEnv);
+							createError (sysEnv, scev, e.toString());
+							retire (sysEnv, scev, e);
+						} catch (final Exception e) {
+							sysEnv.tx.rollbackSubTransaction (sysEnv);
+							createError (sysEnv, scev, e.toString());
+							retire (sysEnv, scev, new CommonErrorException (new SDMSMessage (sysEnv, "04311102118", toString (e))));
+						}
+
+					}
 				}
+				done = true;
+			} finally {
+				// the transaction is going to be rolled back, check all events again at the next run
+				if (!done)
+					for (int d = 0; d < due.size(); ++d)
+						enqueue (due.get (d), DUE);
 			}
 
 			setLastRunToNow (sysEnv);
@@ -444,6 +552,7 @@ public class TimerThread
 
 		loadLastRun (sysEnv);
 
+		enqueueAll (sysEnv);
 	}
 
 	public void schedule (final SystemEnvironment sysEnv)
@@ -466,7 +575,7 @@ public class TimerThread
 	{
 
 		if (action != ALTER)
-			throw new FatalException (new SDMSMessage (sysEnv, "04207262214", "Unexpected action code $1 for Event $2", new Integer (action), evt.getId (sysEnv)));
+			throw new FatalException (new SDMSMessage (sysEnv, "04207262214", "Unexpected action code $1 for Event $2", Integer.valueOf(action), evt.getId (sysEnv)));
 
 	}
 
@@ -477,7 +586,7 @@ public class TimerThread
 	{
 
 		if (action != ALTER)
-			throw new FatalException (new SDMSMessage (sysEnv, "04207262215", "Unexpected action code $1 for Interval $2", new Integer (action), ival.getId (sysEnv)));
+			throw new FatalException (new SDMSMessage (sysEnv, "04207262215", "Unexpected action code $1 for Interval $2", Integer.valueOf(action), ival.getId (sysEnv)));
 		if (sysEnv.maxWriter > 1)
 			LockingSystem.lock(sysEnv, this, ObjectLock.EXCLUSIVE);
 
@@ -487,6 +596,7 @@ public class TimerThread
 			final Iterator ivalIdsIt = ivalIds.iterator();
 			while (ivalIdsIt.hasNext()) {
 				final Long ivalId = (Long) ivalIdsIt.next();
+				SDMSInterval.invalidateOccurrences (ivalId);
 
 				final Vector sceList = SDMSScheduleTable.idx_intId.getVector (sysEnv, ivalId);
 
@@ -536,7 +646,7 @@ public class TimerThread
 		final Long sceId = sce.getId (sysEnv);
 
 		if (action != ALTER)
-			throw new FatalException (new SDMSMessage (sysEnv, "04207262216", "Unexpected action code $1 for Schedule $2", new Integer (action), sceId));
+			throw new FatalException (new SDMSMessage (sysEnv, "04207262216", "Unexpected action code $1 for Schedule $2", Integer.valueOf(action), sceId));
 
 		if (sysEnv.maxWriter > 1)
 			LockingSystem.lock(sysEnv, this, ObjectLock.EXCLUSIVE);
@@ -558,6 +668,10 @@ public class TimerThread
 		if (sysEnv.maxWriter > 1)
 			LockingSystem.lock(sysEnv, this, ObjectLock.EXCLUSIVE);
 
+		// the next run checks the committed state of the event
+		if (action != DROP)
+			enqueue (scev.getId (sysEnv), DUE);
+
 		switch (action) {
 		case CREATE:
 			if (! scev.getIsBroken (sysEnv).booleanValue())
@@ -595,7 +709,7 @@ public class TimerThread
 			break;
 
 		default:
-			throw new FatalException (new SDMSMessage (sysEnv, "04207262159", "Unexpected action code $1 for Scheduled Event $2", new Integer (action), scev.getId (sysEnv)));
+			throw new FatalException (new SDMSMessage (sysEnv, "04207262159", "Unexpected action code $1 for Scheduled Event $2", Integer.valueOf(action), scev.getId (sysEnv)));
 		}
 
 	}
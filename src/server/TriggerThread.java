@@ -52,6 +52,16 @@ public class TriggerThread extends InternalSession
 	private LockableHashSet jobsToResume;
 	private boolean firstTime;
 
+	// Trigger queue entries ordered by their next trigger time. The queued time of an entry
+	// is never later than its committed NEXT_TRIGGER_TIME, unless the run which changed it
+	// failed; then the entry is checked again after at most maxWakeupInterval.
+	private final TreeMap<Long, HashSet<Long>> queue = new TreeMap<Long, HashSet<Long>>();
+	private final HashMap<Long, Long> queued = new HashMap<Long, Long>();
+
+	// statistics of the last check
+	public int lastDue = 0;
+	public long lastMaxLateness = 0;
+
 	public TriggerThread(SystemEnvironment env, SyncFifo f)
 		throws SDMSException
 	{
@@ -69,6 +79,77 @@ public class TriggerThread extends InternalSession
 		return new DoCheckTrigger();
 	}
 
+	public int getQueueSize()
+	{
+		synchronized (queue) {
+			return queued.size();
+		}
+	}
+
+	public int getResumeQueueSize()
+	{
+		return jobsToResume.size();
+	}
+
+	// called by the writers changing a trigger queue entry; the lock is held until their commit,
+	// so checkTrigger() never sees an entry whose creation or new trigger time isn't committed yet
+	public void enqueue(SystemEnvironment sysEnv, Long tqId, Long nextTriggerTime)
+		throws SDMSException
+	{
+		if (sysEnv.maxWriter > 1)
+			LockingSystem.lock(sysEnv, queue, ObjectLock.EXCLUSIVE);
+		enqueue(tqId, nextTriggerTime);
+	}
+
+	// puts the entry into the queue, or moves it to an earlier time
+	private void enqueue(Long tqId, Long nextTriggerTime)
+	{
+		synchronized (queue) {
+			Long old = queued.get(tqId);
+			if (old != null && old.longValue() <= nextTriggerTime.longValue())
+				return;
+			requeue(tqId, nextTriggerTime);
+		}
+	}
+
+	// puts the entry into the queue at the given time, even if this is later than before
+	private void requeue(Long tqId, Long nextTriggerTime)
+	{
+		synchronized (queue) {
+			Long old = queued.put(tqId, nextTriggerTime);
+			if (old != null) {
+				HashSet<Long> s = queue.get(old);
+				s.remove(tqId);
+				if (s.isEmpty())
+					queue.remove(old);
+			}
+			HashSet<Long> s = queue.get(nextTriggerTime);
+			if (s == null) {
+				s = new HashSet<Long>();
+				queue.put(nextTriggerTime, s);
+			}
+			s.add(tqId);
+		}
+	}
+
+	// removes and returns the entries queued up to the given time
+	private Vector<Long> dequeueDue(long now)
+	{
+		Vector<Long> due = new Vector<Long>();
+		synchronized (queue) {
+			SortedMap<Long, HashSet<Long>> head = queue.headMap(Long.valueOf(now + 1));
+			Iterator<HashSet<Long>> i = head.values().iterator();
+			while (i.hasNext())
+				due.addAll(i.next());
+			head.clear();
+			for (int j = 0; j < due.size(); ++j)
+				queued.remove(due.get(j));
+			if (!queue.isEmpty() && queue.firstKey().longValue() < nextTime)
+				nextTime = queue.firstKey().longValue();
+		}
+		return due;
+	}
+
 	public void checkTrigger(SystemEnvironment sysEnv)
 		throws SDMSException
 	{
@@ -77,22 +158,62 @@ public class TriggerThread extends InternalSession
 		Iterator i;
 		int ctr = 0;
 		doTrace(cEnv, "Start Trigger Check", SEVERITY_MESSAGE);
-		i = SDMSTriggerQueueTable.table.iterator(sysEnv, false );
-		while(i.hasNext()) {
-			SDMSTriggerQueue tq = (SDMSTriggerQueue) i.next();
-			++ctr;
-			try {
-				checkSingleTrigger(sysEnv, tq, now);
-			} catch (SerializationException e) {
-				throw e;
-			} catch (SDMSException e) {
-				Long trId = tq.getTrId(sysEnv);
-				Long smeId = tq.getSmeId(sysEnv);
-				doTrace (cEnv, "Error while processing Trigger " + trId +
-				         " for Submitted Entity " + smeId + " : " + e.toString(), SEVERITY_ERROR);
+		if (sysEnv.maxWriter > 1)
+			LockingSystem.lock(sysEnv, queue, ObjectLock.EXCLUSIVE);
+		if (firstTime) {
+			i = SDMSTriggerQueueTable.table.iterator(sysEnv, false );
+			while(i.hasNext()) {
+				SDMSTriggerQueue tq = (SDMSTriggerQueue) i.next();
+				enqueue(tq.getId(sysEnv), tq.getNextTriggerTime(sysEnv));
+			}
+		}
+		Vector<Long> due = dequeueDue(now);
+		long maxLateness = 0;
+		boolean done = false;
+		try {
+			for (int d = 0; d < due.size(); ++d) {
+				Long tqId = due.get(d);
+				if (!SDMSTriggerQueueTable.table.exists(sysEnv, tqId))
+					continue;
+				SDMSTriggerQueue tq = SDMSTriggerQueueTable.getObject(sysEnv, tqId);
+				++ctr;
+				long ntt = tq.getNextTriggerTime(sysEnv).longValue();
+				if (ntt > now) {
+					requeue(tqId, Long.valueOf(ntt));
+					if (ntt < nextTime) nextTime = ntt;
+					continue;
+				}
+				if (now - ntt > maxLateness) maxLateness = now - ntt;
+				try {
+					checkSingleTrigger(sysEnv, tq, now);
+				} catch (SerializationException e) {
+					throw e;
+				} catch (SDMSException e) {
+					Long trId = tq.getTrId(sysEnv);
+					Long smeId = tq.getSmeId(sysEnv);
+					doTrace (cEnv, "Error while processing Trigger " + trId +
+					         " for Submitted Entity " + smeId + " : " + e.toString(), SEVERITY_ERROR);
+				}
+				// the new trigger time isn't committed yet; entries which weren't
+				// rescheduled are checked again after maxWakeupInterval
+				long recheck = now + maxWakeupInterval;
+				if (SDMSTriggerQueueTable.table.exists(sysEnv, tqId)) {
+					ntt = tq.getNextTriggerTime(sysEnv).longValue();
+					if (ntt > now && ntt < recheck)
+						recheck = ntt;
+					requeue(tqId, Long.valueOf(recheck));
+					if (recheck < nextTime) nextTime = recheck;
+				}
 			}
+			done = true;
+		} finally {
+			if (!done)
+				for (int d = 0; d < due.size(); ++d)
+					enqueue(due.get(d), Long.valueOf(0));
 		}
-		doTrace(cEnv, "End Trigger Check (" + ctr + " triggers checked)", SEVERITY_MESSAGE);
+		lastDue = ctr;
+		lastMaxLateness = maxLateness;
+		doTrace(cEnv, "End Trigger Check (" + ctr + " triggers checked, " + getQueueSize() + " queued, max. lateness " + maxLateness + " ms)", SEVERITY_MESSAGE);
 		doTrace(cEnv, "Start Resuming Jobs", SEVERITY_MESSAGE);
 		ctr = 0;
 
@@ -51,12 +51,16 @@ public class UserConnection extends SDMSThread
 	private InputStream istream;
 	private Socket sock;
 	private int timeout;
+	private ListenThread listener;
+	// the channel of a session served by a SessionMultiplexer; such a UserConnection is never started
+	private SessionChannel channel = null;
 	private static int i = 1000;
 
-	public UserConnection(boolean svrtrc, ThreadGroup g, Socket s, SyncFifo f, SyncFifo rof, int port)
+	public UserConnection(boolean svrtrc, ThreadGroup g, Socket s, SyncFifo f, SyncFifo rof, int port, ListenThread l)
 	{
-		super(g, Integer.toString(++i));
+		super(g, Integer.toString(++i), SystemEnvironment.userThreadStackSize * 1024L);
 		sock = s;
+		listener = l;
 		try {
 			synchronized(initLock) {
 				ostream = new PrintStream(sock.getOutputStream(), true);
@@ -77,8 +81,24 @@ public class UserConnection extends SDMSThread
 		ostream.flush();
 	}
 
+	public UserConnection(boolean svrtrc, ThreadGroup g, SessionChannel s, SyncFifo f, SyncFifo rof, int port, ListenThread l)
+	{
+		super(g, Integer.toString(++i));
+		channel = s;
+		listener = l;
+		ostream = new PrintStream(new BufferedOutputStream(channel.getOutputStream()), false);
+		timeout = SystemEnvironment.sessionTimeout;
+
+		env = new ConnectionEnvironment(i, svrtrc, ostream, f, rof, port, channel.getInetAddress());
+		env.setMe(this);
+		parser = new SDMSParser(ostream, env);
+
+		doTrace(env, "UserConnection initialized", SEVERITY_MESSAGE);
+	}
+
 	public boolean iAmAlive()
 	{
+		if(channel != null) return channel.isOpen();
 		if(!super.isAlive()) return false;
 		if(!sock.isConnected()) {
 			do_stop();
@@ -87,6 +107,13 @@ public class UserConnection extends SDMSThread
 		return true;
 	}
 
+	// unlike iAmAlive() this never stops the session
+	public boolean isActive()
+	{
+		if(channel != null) return channel.isOpen();
+		return isAlive();
+	}
+
 	public ConnectionEnvironment getEnv()
 	{
 		return env;
@@ -100,6 +127,10 @@ public class UserConnection extends SDMSThread
 	public void do_stop()
 	{
 		run = false;
+		if(channel != null) {
+			channel.kill();
+			return;
+		}
 
 		try {
 			istream.close();
@@ -112,6 +143,10 @@ public class UserConnection extends SDMSThread
 	public void setTimeout(int newTimeout)
 	{
 		if(newTimeout < 0) return;
+		if(channel != null) {
+			timeout = newTimeout;
+			return;
+		}
 		synchronized(sock) {
 			try {
 				sock.setSoTimeout(newTimeout * 1000);
@@ -142,17 +177,7 @@ public class UserConnection extends SDMSThread
 			parser.yyparse(scanner);
 		} catch (java.net.SocketTimeoutException ste) {
 
-			if (run) {
-				String username = null;
-				if(env.isUser()) {
-					username = "user " + env.uid();
-				} else if(env.isJobServer()) {
-					username = "jobserver " +  env.uid();
-				} else {
-					username = "job " +  env.uid();
-				}
-				doTrace(env, "Connection (" + username + ") timed out", SEVERITY_WARNING);
-			}
+			if (run) timedOut();
 		} catch (SDMSException se) {
 			if(run) {
 				doTrace(env, "Oops -> "+se+" at line "+scanner.yyline(), se.getStackTrace(), SEVERITY_ERROR);
@@ -174,7 +199,61 @@ public class UserConnection extends SDMSThread
 		} catch (IOException ioe) {
 			if(run) doTrace(env, "Oops -> Socket close() problem", SEVERITY_ERROR);
 		}
+		if (listener != null)
+			listener.connectionClosed(this);
 		doTrace(env, "UserConnection terminated", SEVERITY_MESSAGE);
 	}
 
+	void timedOut()
+	{
+		String username = null;
+		if(env.isUser()) {
+			username = "user " + env.uid();
+		} else if(env.isJobServer()) {
+			username = "jobserver " +  env.uid();
+		} else {
+			username = "job " +  env.uid();
+		}
+		doTrace(env, "Connection (" + username + ") timed out", SEVERITY_WARNING);
+	}
+
+	// parses the complete statements a SessionMultiplexer has read for this session
+	// returns false if the session has ended
+	boolean parse(byte[] stmts, boolean connected)
+	{
+		Object rc = null;
+		Reader r = new InputStreamReader(new ByteArrayInputStream(stmts));
+
+		if(scanner == null) {
+			doTrace(env, "UserConnection started", SEVERITY_MESSAGE);
+			scanner = new de.independit.scheduler.server.parser.Scanner(r);
+			scanner.setEnv(env);
+		} else
+			scanner.yyreset(r);
+
+		try {
+			if(connected)
+				rc = parser.yyparse(new ContinuedInput(scanner));
+			else
+				rc = parser.yyparse(scanner);
+		} catch (SDMSException se) {
+			if(run) {
+				doTrace(env, "Oops -> "+se+" at line "+scanner.yyline(), se.getStackTrace(), SEVERITY_ERROR);
+			}
+		} catch (Parser.yyException ye) {
+			if(run) {
+				doTrace(env, "Oops -> "+ye+" at line "+scanner.yyline(), ye.getStackTrace(), SEVERITY_ERROR);
+			}
+		} catch (Exception e) {
+			if(run) {
+				doTrace(env, "Oops -> " + e, e.getStackTrace(), SEVERITY_ERROR);
+			}
+		} catch (Error e) {
+			doTrace(env, "Oops -> " + e, e.getStackTrace(), SEVERITY_FATAL);
+		}
+		ostream.flush();
+
+		return rc != null && run;
+	}
+
 }
@@ -112,6 +112,9 @@ public class WorkerThread extends SDMSThread
 			actNode = n;
 			state = null;
 			cEnv = n.getEnv();
+			if (n.postTs != 0)
+				Metrics.recordCommand(n.getName(), Metrics.QUEUE_WAIT, (System.nanoTime() - n.postTs) / 1000);
+			lockWaitNanos = 0;
 			n.getLock();
 			exceptionsToTrace = n.exceptionsToTrace;
 			commiting = false;
@@ -140,6 +143,7 @@ public class WorkerThread extends SDMSThread
 								LockingSystem.lock(env, workerLock, ObjectLock.SHARED);
 						}
 
+						long execStart = System.nanoTime();
 						env.inExecution = true;
 						env.initLockCp();
 						n.go(env);
@@ -155,11 +159,18 @@ public class WorkerThread extends SDMSThread
 						if (protoCommit)
 							doTrace(cEnv, "Server Execution time for " + n.getClass() + " : " + (System.currentTimeMillis() - cEnv.tx.startTime) +
 								" ms -- Start Committing", SEVERITY_MESSAGE);
+						long commitStart = System.nanoTime();
 						cEnv.tx.commit(env);
+						Metrics.recordCommand(n.getName(), Metrics.EXECUTION, (commitStart - execStart) / 1000);
+						Metrics.recordCommand(n.getName(), Metrics.COMMIT, (System.nanoTime() - commitStart) / 1000);
+						if (cEnv.tx.flushRoundTrips > 0 && isTraced(cEnv, SEVERITY_MESSAGE))
+							doTrace(cEnv, "Commit wrote " + cEnv.tx.flushRows + " rows in " + cEnv.tx.flushRoundTrips + " round trips", SEVERITY_MESSAGE);
 						env.sched.publishRequestList(env);
 						i = retryCount;
 						succeeded = true;
-						if (n instanceof Connect) {
+						if (!isTraced(cEnv, SEVERITY_MESSAGE)) {
+							// nothing to trace
+						} else if (n instanceof Connect) {
 							Node cmd = ((Connect) n).getNode();
 							doTrace(cEnv, "Execution time for " + n.getClass() + (cmd == null ? "" : "/" + cmd.getClass()) + " : " +
 								(cEnv.tx.endTime - cEnv.tx.startTime) + " ms", SEVERITY_MESSAGE);
@@ -215,6 +226,7 @@ public class WorkerThread extends SDMSThread
 							}
 					}
 				} while(i < retryCount);
+				Metrics.recordCommand(n.getName(), Metrics.LOCK_WAIT, lockWaitNanos / 1000);
 				if (SystemEnvironment.auditFile != null && n.auditFlag) {
 					if (cEnv.actstmt != null)
 						AuditWriter.write(env, cEnv.tx.versionId, cEnv.actstmt);
@@ -0,0 +1,206 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software:
+you can redistribute it and/or modify it under the terms of the
+GNU Affero General Public License as published by the
+Free Software Foundation, either version 3 of the License,
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+package de.independit.scheduler.server.locking;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Vector;
+
+import de.independit.scheduler.server.*;
+import de.independit.scheduler.server.util.*;
+import de.independit.scheduler.server.exception.*;
+
+public class DeadlockDetector extends SDMSThread
+{
+
+	private final static int NR = 77777777;
+
+	// The waits-for graph. Nodes are the waiting threads, the edges point to the threads
+	// holding the lock a thread waits for. It is maintained incrementally by the LockingSystem
+	// when a thread starts or stops waiting and is rebuilt from the lock table every interval ms.
+	private final HashMap<SDMSThread, HashSet<SDMSThread>> waitsFor = new HashMap<SDMSThread, HashSet<SDMSThread>> ();
+	private final Vector<SDMSThread> newWaiters = new Vector<SDMSThread> ();
+
+	private long interval;
+
+	public static long detectionTime = 0;
+	public static long detectionRuns = 0;
+	// number of full checks which found at least one deadlock, and number of aborted waits
+	public static long cyclesFound = 0;
+	public static long victims = 0;
+
+	public DeadlockDetector(long interval)
+	{
+		super("DeadlockDetector");
+		this.interval = interval;
+		setDaemon(true);
+	}
+
+	public int id()
+	{
+		return -NR;
+	}
+
+	protected synchronized void addWaiter(SDMSThread waiter, HashSet<SDMSThread> holders)
+	{
+		waitsFor.put(waiter, holders);
+		newWaiters.add(waiter);
+		notify();
+	}
+
+	protected synchronized void removeWaiter(SDMSThread waiter)
+	{
+		waitsFor.remove(waiter);
+	}
+
+	public void SDMSrun()
+	{
+		doTrace(null, "DeadlockDetector started with an interval of " + interval + " ms", SEVERITY_INFO);
+		while (run) {
+			Vector<SDMSThread> startNodes = null;
+			HashMap<SDMSThread, HashSet<SDMSThread>> graph = null;
+			synchronized (this) {
+				if (newWaiters.isEmpty()) {
+					try {
+						wait(interval);
+					} catch (InterruptedException ie) {  }
+				}
+				if (!newWaiters.isEmpty()) {
+					startNodes = new Vector<SDMSThread> (newWaiters);
+					newWaiters.clear();
+					graph = new HashMap<SDMSThread, HashSet<SDMSThread>> (waitsFor);
+				}
+			}
+			if (!run) break;
+			long start = System.currentTimeMillis();
+			if (startNodes != null)
+				checkNewEdges(graph, startNodes);
+			else
+				fullCheck();
+			synchronized (DeadlockDetector.class) {
+				detectionTime += System.currentTimeMillis() - start;
+				detectionRuns ++;
+			}
+		}
+	}
+
+	// a new cycle can only emerge through a newly inserted edge, so only the new waiters are searched
+	private void checkNewEdges(HashMap<SDMSThread, HashSet<SDMSThread>> graph, Vector<SDMSThread> startNodes)
+	{
+		boolean candidate = false;
+		for (int i = 0; i < startNodes.size() && !candidate; ++i) {
+			if (findCycle(graph, startNodes.get(i)) != null)
+				candidate = true;
+		}
+		// the incremental graph may contain stale edges, a candidate cycle has to be confirmed
+		if (candidate)
+			fullCheck();
+	}
+
+	private void fullCheck()
+	{
+		LockingSystemSynchronized.latchAll();
+		try {
+			HashMap<SDMSThread, HashSet<SDMSThread>> graph = LockingSystemSynchronized.buildWaitsForGraph();
+			Iterator<SDMSThread> i = new Vector<SDMSThread> (graph.keySet()).iterator();
+			boolean found = false;
+			while (i.hasNext()) {
+				SDMSThread t = i.next();
+				Vector<SDMSThread> cycle;
+				while ((cycle = findCycle(graph, t)) != null) {
+					SDMSThread victim = chooseVictim(cycle);
+					found = true;
+					synchronized (DeadlockDetector.class) {
+						victims ++;
+					}
+					if ((LockingSystem.debug & (LockingSystem.DEBUG_ALL | LockingSystem.DEBUG_DEADLOCK_DETECTION)) != 0)
+						System.out.println(getName() + ":Deadlock detected, cycle length = " + cycle.size() + ", victim = " + victim.getName());
+					graph.remove(victim);
+					LockingSystemSynchronized.abortWait(victim);
+				}
+			}
+			if (found) {
+				synchronized (DeadlockDetector.class) {
+					cyclesFound ++;
+				}
+			}
+			synchronized (this) {
+				waitsFor.clear();
+				waitsFor.putAll(graph);
+			}
+		} finally {
+			LockingSystemSynchronized.unlatchAll();
+		}
+	}
+
+	private Vector<SDMSThread> findCycle(HashMap<SDMSThread, HashSet<SDMSThread>> graph, SDMSThread start)
+	{
+		Vector<SDMSThread> path = new Vector<SDMSThread> ();
+		HashSet<SDMSThread> visited = new HashSet<SDMSThread> ();
+		if (search(graph, start, start, path, visited))
+			return path;
+		return null;
+	}
+
+	private boolean search(HashMap<SDMSThread, HashSet<SDMSThread>> graph, SDMSThread start, SDMSThread t,
+	                       Vector<SDMSThread> path, HashSet<SDMSThread> visited)
+	{
+		HashSet<SDMSThread> holders = graph.get(t);
+		if (holders == null)
+			return false;
+		visited.add(t);
+		path.add(t);
+		Iterator<SDMSThread> i = holders.iterator();
+		while (i.hasNext()) {
+			SDMSThread h = i.next();
+			if (h == start)
+				return true;
+			if (!visited.contains(h) && search(graph, start, h, path, visited))
+				return true;
+		}
+		path.remove(path.size() - 1);
+		return false;
+	}
+
+	// the cheapest transaction to roll back is the one holding the least locks,
+	// on equal costs the youngest one is chosen
+	private SDMSThread chooseVictim(Vector<SDMSThread> cycle)
+	{
+		SDMSThread victim = null;
+		int victimCost = Integer.MAX_VALUE;
+		for (int i = 0; i < cycle.size(); ++i) {
+			SDMSThread t = cycle.get(i);
+			int cost = (t.locksHeld == null ? 0 : t.locksHeld.size());
+			if (victim == null || cost < victimCost ||
+			    (cost == victimCost && t.lockStartTs > victim.lockStartTs)) {
+				victim = t;
+				victimCost = cost;
+			}
+		}
+		return victim;
+	}
+}
@@ -0,0 +1,66 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software:
+you can redistribute it and/or modify it under the terms of the
+GNU Affero General Public License as published by the
+Free Software Foundation, either version 3 of the License,
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+package de.independit.scheduler.server.locking;
+
+import java.util.HashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class LockPartition
+{
+	protected final int id;
+
+	protected final ReentrantLock latch = new ReentrantLock();
+
+	protected final HashMap<Object, ObjectLock> objectLocks = new HashMap<Object, ObjectLock> ();
+
+	protected ObjectLock unusedLocks = null;
+
+	protected long lockHWM = 0;
+	protected long lockUsed = 0;
+	protected long lockRequest = 0;
+	protected long lockDiscarded = 0;
+	protected long lockHWMdelta = 0;
+
+	protected LockPartition(int id)
+	{
+		this.id = id;
+	}
+
+	protected void latch()
+	{
+		latch.lock();
+	}
+
+	protected void unlatch()
+	{
+		latch.unlock();
+	}
+
+	public String toString()
+	{
+		return "LockPartition[" + id + "]";
+	}
+}
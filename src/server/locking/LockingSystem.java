@@ -47,6 +47,9 @@ public class LockingSystem
 
 	public static long DEADLOCK_TIMEOUT_MS = 0;
 
+	// if set, deadlocks are detected by the background DeadlockDetector instead of the waiting threads
+	protected static volatile DeadlockDetector detector = null;
+
 	private static Object deadlockDetectionLock = new Object();
 	private static SDMSThread deadlockDetectionThread = null;
 	private static int deadlockDetectionWaitCount = 0;
@@ -67,7 +70,8 @@ public class LockingSystem
 			System.out.println(Thread.currentThread().getName() +
 			                   ":LockingSystem.lock("  + ObjectLock.objectToShortString(object) + ", mode = "+ mode + ")");
 		ObjectLock lock = LockingSystemSynchronized.getLock(sysEnv, object, mode);
-		if (lock.wait)
+		if (lock.wait) {
+			long waitStart = System.nanoTime();
 			try {
 				lock.syncLock.doWait(sysEnv);
 				if (lock.wait) {
@@ -84,7 +88,27 @@ public class LockingSystem
 				lt.lastSerializationException = ile;
 				LockingSystemSynchronized.resetWait(lt);
 				throw new InterruptedLockException();
+			} finally {
+				lt.lockWaitNanos += System.nanoTime() - waitStart;
 			}
+		}
+	}
+
+	public static DeadlockDetector startDeadlockDetector(long interval)
+	{
+		DeadlockDetector d = new DeadlockDetector(interval);
+		d.start();
+		detector = d;
+		return d;
+	}
+
+	public static void stopDeadlockDetector()
+	{
+		DeadlockDetector d = detector;
+		if (d == null)
+			return;
+		detector = null;
+		d.do_stop();
 	}
 
 	protected static void deadlockDetection(SystemEnvironment sysEnv, SDMSThread thread)
@@ -25,10 +25,13 @@ along with this program. If not, see <http://www.gnu.org/licenses/>.
 */
 package de.independit.scheduler.server.locking;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
 
 import de.independit.scheduler.server.*;
 import de.independit.scheduler.server.util.*;
@@ -38,31 +41,65 @@ import de.independit.scheduler.server.exception.*;
 public class LockingSystemSynchronized
 {
 
-	private static HashMap<SDMSThread, HashMap<Object, ObjectLock>> threads = new HashMap<SDMSThread, HashMap<Object, ObjectLock>> ();
+	// The lock table is partitioned by the hash of the locked object.
+	// Each partition is protected by its own latch, the locks a thread holds and the lock
+	// it waits for are kept in the SDMSThread itself.
+	// Only the deadlock detection and the dump have to latch all partitions (in ascending order).
+	public static final int PARTITIONS = 64;
 
-	private static HashMap<Object, ObjectLock> objectLocks = new HashMap<Object, ObjectLock> ();
+	private static final LockPartition[] partitions = new LockPartition[PARTITIONS];
+	static {
+		for (int i = 0; i < PARTITIONS; ++i)
+			partitions[i] = new LockPartition(i);
+	}
+
+	// all threads which ever acquired a lock, used to dump the locking state
+	private static final Set<SDMSThread> lockingThreads = Collections.newSetFromMap(new ConcurrentHashMap<SDMSThread, Boolean>());
+
+	protected static LockPartition[] getPartitions()
+	{
+		return partitions;
+	}
 
-	private static HashMap<SDMSThread, ObjectLock> waits = new HashMap<SDMSThread, ObjectLock> ();
+	protected static LockPartition getPartition(Object object)
+	{
+		int h = object.hashCode();
+		h ^= (h >>> 16);
+		return partitions[(h & 0x7fffffff) % PARTITIONS];
+	}
 
-	public static synchronized boolean isWait(SDMSThread t)
+	protected static void latchAll()
 	{
-		return (waits.get(t) != null);
+		for (int i = 0; i < PARTITIONS; ++i)
+			partitions[i].latch();
+	}
 
+	protected static void unlatchAll()
+	{
+		for (int i = PARTITIONS - 1; i >= 0; --i)
+			partitions[i].unlatch();
 	}
 
-	public static synchronized String waitInfo(SDMSThread t)
+	public static boolean isWait(SDMSThread t)
 	{
-		ObjectLock lock = waits.get(t);
+		return (t.waitLock != null);
+
+	}
+
+	public static String waitInfo(SDMSThread t)
+	{
+		ObjectLock lock = t.waitLock;
 		if (lock == null) return "";
 		return lock.objectToShortString();
 	}
 
-	protected static synchronized Vector<ObjectLock> release(SystemEnvironment sysEnv)
+	protected static Vector<ObjectLock> release(SystemEnvironment sysEnv)
 	throws FatalException
 	{
-		HashMap<Object, ObjectLock> locksHeld = threads.get(sysEnv.thread);
-		if (locksHeld == null)
+		ConcurrentHashMap<Object, ObjectLock> locksHeld = sysEnv.thread.locksHeld;
+		if (locksHeld == null || locksHeld.isEmpty())
 			return null;
+		// the helper threads of a thread share its locks, so the map may change while we iterate
 		Iterator<ObjectLock> i = locksHeld.values().iterator();
 		Vector<ObjectLock> locksToNotify = null;
 
@@ -81,7 +118,15 @@ public class LockingSystemSynchronized
 				sep = ", ";
 			}
 
-			Vector<ObjectLock> locksToNotifyForLock = releaseLock(sysEnv, lock, false);
+			LockPartition partition = getPartition(lock.object);
+			Vector<ObjectLock> locksToNotifyForLock;
+			partition.latch();
+			try {
+				locksToNotifyForLock = releaseLock(sysEnv, partition, lock, false);
+				i.remove();
+			} finally {
+				partition.unlatch();
+			}
 			if (locksToNotifyForLock != null) {
 				if (locksToNotify == null)
 					locksToNotify = new Vector<ObjectLock> ();
@@ -106,12 +151,10 @@ public class LockingSystemSynchronized
 			}
 		}
 
-		threads.put(sysEnv.thread, null);
-
 		return locksToNotify;
 	}
 
-	protected static synchronized Vector<ObjectLock> releaseSubTxLocks(SystemEnvironment sysEnv, long checkPoint)
+	protected static Vector<ObjectLock> releaseSubTxLocks(SystemEnvironment sysEnv, long checkPoint)
 	throws FatalException
 	{
 
@@ -136,7 +179,14 @@ public class LockingSystemSynchronized
 				sep = ", ";
 			}
 
-			Vector<ObjectLock> locksToNotifyForLock = releaseLock(sysEnv, lock, true);
+			LockPartition partition = getPartition(lock.object);
+			Vector<ObjectLock> locksToNotifyForLock;
+			partition.latch();
+			try {
+				locksToNotifyForLock = releaseLock(sysEnv, partition, lock, true);
+			} finally {
+				partition.unlatch();
+			}
 			if (locksToNotifyForLock != null) {
 				if (locksToNotify == null)
 					locksToNotify = new Vector<ObjectLock> ();
@@ -146,7 +196,7 @@ public class LockingSystemSynchronized
 		return locksToNotify;
 	}
 
-	private static synchronized void removeLockFromSubTxStack(SystemEnvironment sysEnv, ObjectLock lock)
+	private static void removeLockFromSubTxStack(SystemEnvironment sysEnv, ObjectLock lock)
 	{
 		if (sysEnv.tx.subTxLocks != null) {
 			if (!sysEnv.tx.subTxLocks.remove(lock)) {
@@ -161,40 +211,58 @@ public class LockingSystemSynchronized
 		}
 	}
 
-	protected static synchronized Vector<ObjectLock> release(SystemEnvironment sysEnv, Object object)
+	protected static Vector<ObjectLock> release(SystemEnvironment sysEnv, Object object)
 	throws FatalException
 	{
-		ObjectLock lock = getLockForThread(sysEnv.thread, object);
+		LockPartition partition = getPartition(object);
+		ObjectLock lock;
 		Vector<ObjectLock> locksToNotify = null;
-		if (lock != null) {
-			locksToNotify = releaseLock(sysEnv, lock, true);
-			removeLockFromSubTxStack(sysEnv, lock);
+		partition.latch();
+		try {
+			lock = getLockForThread(sysEnv.thread, object);
+			if (lock != null)
+				locksToNotify = releaseLock(sysEnv, partition, lock, true);
+		} finally {
+			partition.unlatch();
 		}
+		if (lock != null)
+			removeLockFromSubTxStack(sysEnv, lock);
 		return locksToNotify;
 	}
-	protected static synchronized Vector<ObjectLock> releaseToCheckPoint(SystemEnvironment sysEnv, Object object, long checkPoint)
+	protected static Vector<ObjectLock> releaseToCheckPoint(SystemEnvironment sysEnv, Object object, long checkPoint)
 	throws FatalException
 	{
-		ObjectLock lock = getLockForThread(sysEnv.thread, object);
-
+		LockPartition partition = getPartition(object);
+		ObjectLock lock;
 		Vector<ObjectLock> locksToNotify = null;
-		if (lock != null) {
-			if (lock.createCp <= checkPoint)
-				return null;
-			locksToNotify = releaseLock(sysEnv, lock, true);
-			removeLockFromSubTxStack(sysEnv, lock);
+		partition.latch();
+		try {
+			lock = getLockForThread(sysEnv.thread, object);
+			if (lock != null) {
+				if (lock.createCp <= checkPoint)
+					return null;
+				locksToNotify = releaseLock(sysEnv, partition, lock, true);
+			}
+		} finally {
+			partition.unlatch();
 		}
+		if (lock != null)
+			removeLockFromSubTxStack(sysEnv, lock);
 		return locksToNotify;
 	}
 
-	protected static synchronized void resetWait(SDMSThread thread)
+	protected static void resetWait(SDMSThread thread)
 	{
-		waits.put(thread, null);
+		thread.waitLock = null;
+		thread.deadlockVictim = false;
+		DeadlockDetector detector = LockingSystem.detector;
+		if (detector != null)
+			detector.removeWaiter(thread);
 	}
 
 	public static ObjectLock getLockForThread (SDMSThread thread, Object object)
 	{
-		HashMap<Object, ObjectLock> threadLocks = threads.get(thread);
+		ConcurrentHashMap<Object, ObjectLock> threadLocks = thread.locksHeld;
 		if (threadLocks == null)
 			return null;
 		return threadLocks.get(object);
@@ -202,28 +270,47 @@ public class LockingSystemSynchronized
 
 	private static void clearLockForThread(SDMSThread thread, ObjectLock lock)
 	{
-		HashMap<Object, ObjectLock> threadLocks = threads.get(thread);
+		ConcurrentHashMap<Object, ObjectLock> threadLocks = thread.locksHeld;
 		if (threadLocks == null)
 			return;
 		threadLocks.remove(lock.object);
-		if (threadLocks.isEmpty())
-			threads.put(thread, null);
 	}
 
 	private static void registerLockForThread (SDMSThread thread, Object object, ObjectLock lock)
 	{
-		HashMap<Object, ObjectLock> threadLocks = threads.get(thread);
+		ConcurrentHashMap<Object, ObjectLock> threadLocks = thread.locksHeld;
 		if (threadLocks == null) {
-			threadLocks = new HashMap<Object, ObjectLock> ();
-			threads.put(thread, threadLocks);
+			synchronized (thread) {
+				threadLocks = thread.locksHeld;
+				if (threadLocks == null) {
+					threadLocks = new ConcurrentHashMap<Object, ObjectLock> ();
+					thread.locksHeld = threadLocks;
+					lockingThreads.add(thread);
+				}
+			}
 		}
+		if (threadLocks.isEmpty())
+			thread.lockStartTs = System.currentTimeMillis();
 		threadLocks.put(object, lock);
 	}
 
-	protected static synchronized ObjectLock getLock(SystemEnvironment sysEnv, Object object, int mode)
+	protected static ObjectLock getLock(SystemEnvironment sysEnv, Object object, int mode)
 	throws DeadlockException
 	{
 		if (object == null) throw new RuntimeException();
+		LockPartition partition = getPartition(object);
+		partition.latch();
+		try {
+			return getLock(sysEnv, partition, object, mode);
+		} finally {
+			partition.unlatch();
+		}
+	}
+
+	private static ObjectLock getLock(SystemEnvironment sysEnv, LockPartition partition, Object object, int mode)
+	throws DeadlockException
+	{
+		HashMap<Object, ObjectLock> objectLocks = partition.objectLocks;
 		ObjectLock lock = getLockForThread(sysEnv.thread, object);
 		boolean escalateDeadlock = false;
 
@@ -297,7 +384,7 @@ public class LockingSystemSynchronized
 				}
 			}
 		} else {
-			lock = ObjectLock.getObjectLock(sysEnv.thread, object, mode, sysEnv.getLockCp());
+			lock = ObjectLock.getObjectLock(partition, sysEnv.thread, object, mode, sysEnv.getLockCp());
 			if (sysEnv.tx.subTxLocks != null) {
 				sysEnv.tx.subTxLocks.add(lock);
 			}
@@ -327,7 +414,10 @@ public class LockingSystemSynchronized
 		}
 		if (lock.wait) {
 			if (lock.object == null) throw new RuntimeException();
-			waits.put(sysEnv.thread, lock);
+			sysEnv.thread.waitLock = lock;
+			DeadlockDetector detector = LockingSystem.detector;
+			if (detector != null)
+				detector.addWaiter(sysEnv.thread, getHolders(partition, lock));
 		}
 
 		if ((LockingSystem.debug & LockingSystem.DEBUG_ALL) != 0)
@@ -346,7 +436,8 @@ public class LockingSystemSynchronized
 		return lock;
 	}
 
-	private static synchronized Vector<ObjectLock> releaseLock(SystemEnvironment sysEnv, ObjectLock lock, boolean removeFromThreadLocks)
+	// caller must hold the latch of the partition
+	private static Vector<ObjectLock> releaseLock(SystemEnvironment sysEnv, LockPartition partition, ObjectLock lock, boolean removeFromThreadLocks)
 	throws FatalException
 	{
 		if (!lock.releaseAllowed(sysEnv)) {
@@ -392,7 +483,10 @@ public class LockingSystemSynchronized
 				}
 				throw new RuntimeException();
 			}
-			objectLocks.put(lock.object, lock.next);
+			if (lock.next == null)
+				partition.objectLocks.remove(lock.object);
+			else
+				partition.objectLocks.put(lock.object, lock.next);
 		} else
 			lock.prev.next = lock.next;
 
@@ -402,20 +496,38 @@ public class LockingSystemSynchronized
 		if (removeFromThreadLocks) {
 			clearLockForThread(sysEnv.thread, lock);
 		}
-		lock.syncLock.freeObjectLock(sysEnv);
+		lock.syncLock.freeObjectLock(partition, sysEnv);
 
 		return locksToNotify;
 	}
 
 	public static ObjectLock getObjectLocks(Object object)
 	{
-		return objectLocks.get(object);
+		LockPartition partition = getPartition(object);
+		partition.latch();
+		try {
+			return partition.objectLocks.get(object);
+		} finally {
+			partition.unlatch();
+		}
+	}
+
+	protected static void deadlockDetection(SystemEnvironment sysEnv, SDMSThread thread, HashSet<SDMSThread> waiters)
+	throws DeadlockException, NotMyDeadlockException
+	{
+		latchAll();
+		try {
+			walkWaiters(sysEnv, thread, waiters);
+		} finally {
+			unlatchAll();
+		}
 	}
 
-	protected static synchronized void deadlockDetection(SystemEnvironment sysEnv, SDMSThread thread, HashSet<SDMSThread> waiters)
+	// caller must hold the latches of all partitions
+	private static void walkWaiters(SystemEnvironment sysEnv, SDMSThread thread, HashSet<SDMSThread> waiters)
 	throws DeadlockException, NotMyDeadlockException
 	{
-		ObjectLock lock = waits.get(thread);
+		ObjectLock lock = thread.waitLock;
 		if (lock == null)
 			return;
 		if (!lock.wait)
@@ -428,17 +540,20 @@ public class LockingSystemSynchronized
 		}
 		waiters.add(thread);
 
-		deadlockDetection(sysEnv, lock.object, waiters);
+		walkHolders(sysEnv, lock.object, waiters);
 	}
 
-	private static synchronized void deadlockDetection(SystemEnvironment sysEnv, Object object, HashSet<SDMSThread> waiters)
+	// caller must hold the latches of all partitions
+	private static void walkHolders(SystemEnvironment sysEnv, Object object, HashSet<SDMSThread> waiters)
 	throws DeadlockException, NotMyDeadlockException
 	{
-		ObjectLock lock = objectLocks.get(object);
+		if (object == null)
+			return;
+		ObjectLock lock = getPartition(object).objectLocks.get(object);
 
 		while (lock != null && !lock.wait) {
 			try {
-				deadlockDetection(sysEnv, lock.thread, waiters);
+				walkWaiters(sysEnv, lock.thread, waiters);
 			} catch (DeadlockException de) {
 				if ((LockingSystem.debug & (LockingSystem.DEBUG_ALL | LockingSystem.DEBUG_DEADLOCK_DETECTION)) != 0)
 					System.out.println(lock.objectToShortString() + " " + lock.dumpLockList ());
@@ -452,14 +567,53 @@ public class LockingSystemSynchronized
 		}
 	}
 
-	public synchronized static void checkAndDump()
+	// caller must hold the latch of the partition of the lock
+	private static HashSet<SDMSThread> getHolders(LockPartition partition, ObjectLock waitLock)
+	{
+		HashSet<SDMSThread> holders = new HashSet<SDMSThread> ();
+		ObjectLock lock = partition.objectLocks.get(waitLock.object);
+		while (lock != null && !lock.wait) {
+			if (lock.thread != waitLock.thread)
+				holders.add(lock.thread);
+			lock = lock.next;
+		}
+		return holders;
+	}
+
+	// caller must hold the latches of all partitions
+	protected static HashMap<SDMSThread, HashSet<SDMSThread>> buildWaitsForGraph()
+	{
+		HashMap<SDMSThread, HashSet<SDMSThread>> graph = new HashMap<SDMSThread, HashSet<SDMSThread>> ();
+		Iterator<SDMSThread> it = lockingThreads.iterator();
+		while (it.hasNext()) {
+			SDMSThread thread = it.next();
+			ObjectLock lock = thread.waitLock;
+			if (lock == null || !lock.wait || thread.deadlockVictim)
+				continue;
+			graph.put(thread, getHolders(getPartition(lock.object), lock));
+		}
+		return graph;
+	}
+
+	// caller must hold the latches of all partitions
+	protected static void abortWait(SDMSThread victim)
+	{
+		ObjectLock lock = victim.waitLock;
+		if (lock == null || !lock.wait)
+			return;
+		victim.deadlockVictim = true;
+		synchronized (lock.syncLock) {
+			lock.syncLock.notify();
+		}
+	}
+
+	public static void checkAndDump()
 	{
 		boolean dump = true;
-		Iterator<SDMSThread> iw = waits.keySet().iterator();
+		Iterator<SDMSThread> iw = lockingThreads.iterator();
 		while (iw.hasNext()) {
 			SDMSThread thread = iw.next();
-			ObjectLock lock = waits.get(thread);
-			if (lock == null) {
+			if (thread.waitLock == null) {
 				dump = false;
 				break;
 			}
@@ -467,7 +621,17 @@ public class LockingSystemSynchronized
 		if (dump) dump();
 	}
 
-	public synchronized static StringBuilder strDump()
+	public static StringBuilder strDump()
+	{
+		latchAll();
+		try {
+			return strDumpLatched();
+		} finally {
+			unlatchAll();
+		}
+	}
+
+	private static StringBuilder strDumpLatched()
 	{
 		StringBuilder b = new StringBuilder();
 		StringBuilder tmp = new StringBuilder();
@@ -476,12 +640,12 @@ public class LockingSystemSynchronized
 		b.append("\n");
 		b.append("------- Locks per thread --------------------------------------------------------");
 		b.append("\n");
-		Iterator<SDMSThread> it = threads.keySet().iterator();
+		Iterator<SDMSThread> it = lockingThreads.iterator();
 		while (it.hasNext()) {
 			SDMSThread thread = it.next();
-			HashMap<Object, ObjectLock> locks = threads.get(thread);
+			ConcurrentHashMap<Object, ObjectLock> locks = thread.locksHeld;
 			int numlocks = 0;
-			if (locks == null) {
+			if (locks == null || locks.isEmpty()) {
 				tmp.append("    No Locks held");
 				tmp.append("\n");
 			} else {
@@ -518,45 +682,48 @@ public class LockingSystemSynchronized
 		}
 		b.append("------- Locks per object --------------------------------------------------------");
 		b.append("\n");
-		Iterator<Object> io = objectLocks.keySet().iterator();
-		while (io.hasNext()) {
-			Object object = io.next();
-			ObjectLock lock = objectLocks.get(object);
-			if (lock == null)
-				continue;
-			String os;
-			if (lock.object instanceof SDMSObject)
-				os = ((SDMSObject)lock.object).toShortString();
-			else if (lock.object instanceof SDMSVersions)
-				os = ((SDMSVersions)lock.object).toShortString();
-			else if (lock.object instanceof SDMSIndexBucket)
-				os = ((SDMSIndexBucket)lock.object).toShortString();
-			else if (lock.object instanceof SDMSIndexMap)
-				os = ((SDMSIndexMap)lock.object).toShortString();
-			else if (lock.object != null)
-				os = lock.object.toString();
-			else
-				os = "Oops! lock.object == null!";
-			b.append("Locks held on object " + os);
-			b.append("\n");
-			while (lock != null) {
-				b.append("    Thread[" + lock.thread.getName() + "] id = " + lock.id + ", mode = " + lock.mode +
-				         ", wait = " + lock.wait +
-				         ", waiting = " + lock.waiting +
-				         ", escalated=" + lock.escalated +
-				         ", notify=" + lock.notify
-				        );
+		for (int pi = 0; pi < PARTITIONS; ++pi) {
+			HashMap<Object, ObjectLock> objectLocks = partitions[pi].objectLocks;
+			Iterator<Object> io = objectLocks.keySet().iterator();
+			while (io.hasNext()) {
+				Object object = io.next();
+				ObjectLock lock = objectLocks.get(object);
+				if (lock == null)
+					continue;
+				String os;
+				if (lock.object instanceof SDMSObject)
+					os = ((SDMSObject)lock.object).toShortString();
+				else if (lock.object instanceof SDMSVersions)
+					os = ((SDMSVersions)lock.object).toShortString();
+				else if (lock.object instanceof SDMSIndexBucket)
+					os = ((SDMSIndexBucket)lock.object).toShortString();
+				else if (lock.object instanceof SDMSIndexMap)
+					os = ((SDMSIndexMap)lock.object).toShortString();
+				else if (lock.object != null)
+					os = lock.object.toString();
+				else
+					os = "Oops! lock.object == null!";
+				b.append("Locks held on object " + os);
 				b.append("\n");
-				lock = lock.next;
+				while (lock != null) {
+					b.append("    Thread[" + lock.thread.getName() + "] id = " + lock.id + ", mode = " + lock.mode +
+					         ", wait = " + lock.wait +
+					         ", waiting = " + lock.waiting +
+					         ", escalated=" + lock.escalated +
+					         ", notify=" + lock.notify
+					        );
+					b.append("\n");
+					lock = lock.next;
+				}
 			}
 		}
 		b.append("------- Lock waits --------------------------------------------------------------");
 		b.append("\n");
-		Iterator<SDMSThread> iw = waits.keySet().iterator();
+		Iterator<SDMSThread> iw = lockingThreads.iterator();
 		while (iw.hasNext()) {
 			SDMSThread thread = iw.next();
 			String out = "Thread " + thread.getName() + " waits on ";
-			ObjectLock lock = waits.get(thread);
+			ObjectLock lock = thread.waitLock;
 			if (lock != null)
 				b.append(out + lock.toString() + "\n" + lock.dumpLockList ());
 			else
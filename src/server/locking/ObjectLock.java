@@ -26,6 +26,7 @@ along with this program. If not, see <http://www.gnu.org/licenses/>.
 package de.independit.scheduler.server.locking;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.io.*;
 import de.independit.scheduler.server.*;
 import de.independit.scheduler.server.exception.*;
@@ -53,8 +54,6 @@ public class ObjectLock
 
 	protected boolean notify;
 
-	private static ObjectLock unusedLocks = null;
-
 	protected int id;
 
 	public Object object = null;
@@ -64,13 +63,8 @@ public class ObjectLock
 	public int mode = 0;
 	protected ObjectLock next = null;
 	protected ObjectLock prev = null;
-	public static long lockHWM = 0;
-	public static long lockUsed = 0;
-	public static long lockRequest = 0;
-	public static long lockDiscarded = 0;
-	public static long lockHWMdelta = 0;
 
-	private static int lastId = 0;
+	private static AtomicInteger lastId = new AtomicInteger(0);
 
 	public long createCp;
 
@@ -79,13 +73,13 @@ public class ObjectLock
 
 	protected ObjectLock(SDMSThread thread, Object object, int mode, long createCp)
 	{
-		id = lastId;
-		lastId = lastId + 1;
+		id = lastId.getAndIncrement();
 		syncLock = new SyncLock(this);
 		initialize(thread, object, mode, createCp);
 	}
 
-	protected static synchronized void freeObjectLock(SystemEnvironment sysEnv, ObjectLock objectLock)
+	// caller must hold the latch of the partition
+	protected static void freeObjectLock(LockPartition partition, SystemEnvironment sysEnv, ObjectLock objectLock)
 	{
 
 		if (objectLock.thread == null || !sysEnv.thread.equals(objectLock.thread)) {
@@ -98,11 +92,11 @@ public class ObjectLock
 			return;
 		}
 
-		lockUsed--;
+		partition.lockUsed--;
 		if (objectLock.notify) {
 
-			lockDiscarded++;
-			lockHWMdelta++;
+			partition.lockDiscarded++;
+			partition.lockHWMdelta++;
 			return;
 		}
 
@@ -111,9 +105,9 @@ public class ObjectLock
 
 		objectLock.prev = null;
 		if (reUseLocks) {
-			objectLock.next = unusedLocks;
+			objectLock.next = partition.unusedLocks;
 
-			unusedLocks = objectLock;
+			partition.unusedLocks = objectLock;
 			if ((LockingSystem.debug & (LockingSystem.DEBUG_ALL | LockingSystem.DEBUG_FREE)) != 0)
 				objectLock.freeStackTrace = getStackTrace();
 		} else {
@@ -121,25 +115,62 @@ public class ObjectLock
 		}
 	}
 
-	protected static synchronized ObjectLock getObjectLock(SDMSThread thread, Object object, int mode, long createCp)
+	// caller must hold the latch of the partition
+	protected static ObjectLock getObjectLock(LockPartition partition, SDMSThread thread, Object object, int mode, long createCp)
 	{
 		ObjectLock lock = null;
-		if (unusedLocks == null || !reUseLocks) {
+		if (partition.unusedLocks == null || !reUseLocks) {
 			lock = new ObjectLock(thread, object, mode, createCp);
-			if (lockHWMdelta > 0)
-				lockHWMdelta--;
+			if (partition.lockHWMdelta > 0)
+				partition.lockHWMdelta--;
 			else
-				lockHWM++;
+				partition.lockHWM++;
 		} else {
-			lock = unusedLocks;
-			unusedLocks = lock.next;
+			lock = partition.unusedLocks;
+			partition.unusedLocks = lock.next;
 			lock.initialize(thread, object, mode, createCp);
 		}
-		lockUsed++;
-		lockRequest++;
+		partition.lockUsed++;
+		partition.lockRequest++;
 		return lock;
 	}
 
+	public static long getLockHWM()
+	{
+		long sum = 0;
+		LockPartition[] partitions = LockingSystemSynchronized.getPartitions();
+		for (int i = 0; i < partitions.length; ++i)
+			sum += partitions[i].lockHWM;
+		return sum;
+	}
+
+	public static long getLockUsed()
+	{
+		long sum = 0;
+		LockPartition[] partitions = LockingSystemSynchronized.getPartitions();
+		for (int i = 0; i < partitions.length; ++i)
+			sum += partitions[i].lockUsed;
+		return sum;
+	}
+
+	public static long getLockRequest()
+	{
+		long sum = 0;
+		LockPartition[] partitions = LockingSystemSynchronized.getPartitions();
+		for (int i = 0; i < partitions.length; ++i)
+			sum += partitions[i].lockRequest;
+		return sum;
+	}
+
+	public static long getLockDiscarded()
+	{
+		long sum = 0;
+		LockPartition[] partitions = LockingSystemSynchronized.getPartitions();
+		for (int i = 0; i < partitions.length; ++i)
+			sum += partitions[i].lockDiscarded;
+		return sum;
+	}
+
 	private void initialize(SDMSThread thread, Object object, int mode, long createCp)
 	{
 
@@ -26,6 +26,7 @@ along with this program. If not, see <http://www.gnu.org/licenses/>.
 package de.independit.scheduler.server.locking;
 
 import de.independit.scheduler.server.*;
+import de.independit.scheduler.server.util.*;
 import de.independit.scheduler.server.exception.*;
 
 public class SyncLock
@@ -48,7 +49,21 @@ public class SyncLock
 
 			lock.waiting = true;
 
-			if (LockingSystem.DEADLOCK_TIMEOUT_MS == 0) {
+			if (LockingSystem.detector != null) {
+				SDMSThread thread = lock.thread;
+				while (lock.wait) {
+					if (thread.deadlockVictim) {
+						if ((LockingSystem.debug & (LockingSystem.DEBUG_ALL | LockingSystem.DEBUG_DEADLOCK_DETECTION)) != 0)
+							System.out.println(Thread.currentThread().getName() + ":doWait() Deadlock[4] on " + toString());
+						DeadlockException.countAndTraceDeadlock(ObjectLock.getStackTrace());
+						throw new DeadlockException();
+					}
+					synchronized (this) {
+						if (lock.wait && !thread.deadlockVictim)
+							wait(100);
+					}
+				}
+			} else if (LockingSystem.DEADLOCK_TIMEOUT_MS == 0) {
 				boolean tryAgain = false;
 				try {
 					LockingSystem.deadlockDetection(sysEnv, lock.thread);
@@ -142,9 +157,9 @@ public class SyncLock
 		}
 	}
 
-	protected synchronized void freeObjectLock(SystemEnvironment sysEnv)
+	protected synchronized void freeObjectLock(LockPartition partition, SystemEnvironment sysEnv)
 	{
-		ObjectLock.freeObjectLock(sysEnv, lock);
+		ObjectLock.freeObjectLock(partition, sysEnv, lock);
 	}
 
 	public String toString()
@@ -88,8 +88,8 @@ public class AlterServer extends Node
 			int i, nt;
 
 			tg = env.getMe().getThreadGroup();
-			list = new SDMSThread[tg.activeCount()];
-			nt = tg.enumerate(list);
+			list = ListenThread.getSessions(tg);
+			nt = list.length;
 
 			for(i=0; i<nt; i++) {
 				if(list[i] instanceof ListenThread) break;
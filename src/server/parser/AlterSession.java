@@ -66,8 +66,8 @@ public class AlterSession extends Node
 		int searchedId;
 
 		tg = env.getMe().getThreadGroup();
-		list = new SDMSThread[tg.activeCount()];
-		nt = tg.enumerate(list);
+		list = ListenThread.getSessions(tg);
+		nt = list.length;
 
 		if(sid == null) sid = new Integer(env.id());
 		searchedId = sid.intValue();
@@ -0,0 +1,75 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software:
+you can redistribute it and/or modify it under the terms of the
+GNU Affero General Public License as published by the
+Free Software Foundation, either version 3 of the License,
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+
+
+package de.independit.scheduler.server.parser;
+
+
+import java.io.*;
+import java.util.*;
+import java.lang.*;
+
+import de.independit.scheduler.server.exception.*;
+
+// Input of a session whose connect has already been parsed, e.g. the next statements
+// read by a multiplexing listener. The leading CONTINUED token tells the parser to
+// accept commands without a connect in front of them.
+public class ContinuedInput implements Parser.yyInput
+{
+
+	private final Parser.yyInput input;
+	// 0 before the first token, 1 while CONTINUED is the current token, 2 afterwards
+	private int pos = 0;
+
+	public ContinuedInput(Parser.yyInput i)
+	{
+		input = i;
+	}
+
+	public boolean advance()
+		throws IOException, SDMSException
+	{
+		if (pos == 0) {
+			pos = 1;
+			return true;
+		}
+		pos = 2;
+		return input.advance();
+	}
+
+	public int token()
+	{
+		if (pos == 1) return Parser.CONTINUED;
+		return input.token();
+	}
+
+	public Object value()
+	{
+		if (pos == 1) return new Token(Parser.CONTINUED, "");
+		return input.value();
+	}
+
+}
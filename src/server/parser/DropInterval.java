@@ -68,6 +68,7 @@ public class DropInterval
 		IntervalUtil.killSelections (sysEnv, ivalId);
 
 		ival.delete (sysEnv);
+		SDMSInterval.invalidateOccurrences (ivalId);
 
 		result.setFeedback (new SDMSMessage (sysEnv, "04207181908", "Interval dropped"));
 	}
@@ -97,8 +97,10 @@ public class ListSession extends Node
 		desc.add("WAIT");
 
 		tg = env.getMe().getThreadGroup();
-		list = new SDMSThread[tg.activeCount() + 5];
-		nt = tg.enumerate(list);
+		SDMSThread[] sessions = ListenThread.getSessions(tg);
+		list = new SDMSThread[sessions.length + 4];
+		nt = sessions.length;
+		System.arraycopy(sessions, 0, list, 0, nt);
 		list[nt] = SystemEnvironment.sched;
 		nt++;
 		list[nt] = SystemEnvironment.tt;
@@ -112,11 +114,12 @@ public class ListSession extends Node
 		sessionCtr = 0;
 		for(i=0; i<nt; i++) {
 			if (list[i] instanceof ListenThread) continue;
-			if (!list[i].isAlive()) continue;
 			if (list[i] instanceof UserConnection) {
+				if (!((UserConnection) list[i]).isActive()) continue;
 				cEnv = ((UserConnection) list[i]).getEnv();
 				isInternal = false;
 			} else {
+				if (!list[i].isAlive()) continue;
 				cEnv = ((InternalSession) list[i]).getEnv();
 				isInternal = true;
 			}
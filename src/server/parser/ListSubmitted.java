@@ -72,6 +72,8 @@ public class ListSubmitted extends Node
 	HashMap esdHash = new HashMap();
 	Vector parms = null;
 	boolean filtered = false;
+	int limit = 0;
+	int offset = 0;
 
 	private void initialize(Vector jv, WithHash w)
 	{
@@ -82,6 +84,10 @@ public class ListSubmitted extends Node
 			if(mode == null) mode = new Integer(ListSubmitted.LIST);
 			if(with.containsKey(ParseStr.S_EXPAND))
 				expandIds = (HashSet) with.get(ParseStr.S_EXPAND);
+			if(with.containsKey(ParseStr.S_LIMIT))
+				limit = ((Integer) with.get(ParseStr.S_LIMIT)).intValue();
+			if(with.containsKey(ParseStr.S_OFFSET))
+				offset = ((Integer) with.get(ParseStr.S_OFFSET)).intValue();
 		}
 		txMode = SDMSTransaction.READONLY;
 		auditFlag = false;
@@ -159,13 +165,22 @@ public class ListSubmitted extends Node
 			SDMSThread.doTrace(sysEnv.cEnv, "type creator : getMastersFirst", SDMSThread.SEVERITY_DEBUG);
 			getMastersFirst(sysEnv, result, filter);
 		} else {
-
-			SDMSThread.doTrace(sysEnv.cEnv, "type creator : Scan", SDMSThread.SEVERITY_DEBUG);
-			Iterator i = SDMSSubmittedEntityTable.table.iterator(sysEnv, filter);
+			Vector candidates = objFilter.getCandidates(sysEnv);
 			filtered = true;
+			if (candidates != null) {
+				SDMSThread.doTrace(sysEnv.cEnv, "type creator : Index (" + candidates.size() + " candidates)", SDMSThread.SEVERITY_DEBUG);
+				for(int i = 0; i < candidates.size(); i++) {
+					SDMSProxy p = (SDMSProxy) candidates.get(i);
+					if (filter.isValid(sysEnv, p))
+						result.addElement(p);
+				}
+			} else {
+				SDMSThread.doTrace(sysEnv.cEnv, "type creator : Scan", SDMSThread.SEVERITY_DEBUG);
+				Iterator i = SDMSSubmittedEntityTable.table.iterator(sysEnv, filter);
 
-			while(i.hasNext()) {
-				result.addElement(i.next());
+				while(i.hasNext()) {
+					result.addElement(i.next());
+				}
 			}
 		}
 		if (objFilter.hasFuture) {
@@ -1123,14 +1138,27 @@ public class ListSubmitted extends Node
 			}
 		});
 
+		// only the requested page of the sorted list is formatted and returned
+		int found = d_container.lines;
+		if (offset > 0 || limit > 0) {
+			int from = Math.min(offset, found);
+			int to = (limit > 0 && limit < found - from) ? from + limit : found;
+			d_container.dataset = new Vector(d_container.dataset.subList(from, to));
+			d_container.lines = d_container.dataset.size();
+		}
+
 		formatSubmitTimes(sysEnv, d_container.dataset);
 
 		int maxlength = convertPaths(sysEnv, d_container.dataset);
 		d_container.setWidth(sysEnv, 2, maxlength);
 
 		result.setOutputContainer(d_container);
-		result.setFeedback(new SDMSMessage(sysEnv, "03201170305", "$1 Object(s) found",
-							new Integer(d_container.lines)));
+		if (offset > 0 || limit > 0)
+			result.setFeedback(new SDMSMessage(sysEnv, "03610181630", "$1 of $2 Object(s) shown, starting at $3",
+								new Integer(d_container.lines), new Integer(found), new Integer(offset)));
+		else
+			result.setFeedback(new SDMSMessage(sysEnv, "03201170305", "$1 Object(s) found",
+								new Integer(d_container.lines)));
 	}
 
 }
@@ -51,6 +51,8 @@ public abstract class Node
 	public Long contextVersion;
 	public boolean auditFlag;
 	public long exceptionsToTrace;
+	// System.nanoTime() when the node was posted into a command queue
+	public long postTs = 0;
 
 	public Node()
 	{
@@ -163,6 +163,54 @@ public class ObjectFilter
 		this.filter = filter;
 	}
 
+	// Returns the submitted entities which can satisfy the filter. The conditions of each
+	// alternative are looked up through their indexes and the results are intersected.
+	// Returns null if some alternative has no indexed condition, or the filter is negated;
+	// then all objects have to be checked. The filter must still be applied to the result.
+	public Vector getCandidates(SystemEnvironment sysEnv)
+		throws SDMSException
+	{
+		HashMap c = getCandidates(sysEnv, filter);
+		if (c == null) return null;
+		return new Vector(c.values());
+	}
+
+	private HashMap getCandidates(SystemEnvironment sysEnv, Vector subFilter)
+		throws SDMSException
+	{
+		int i, j;
+		if(subFilter == null || subFilter.size() < 2) return null;
+		if(!((Boolean) subFilter.get(0)).booleanValue()) return null;
+		HashMap result = new HashMap();
+		for(i = 1; i < subFilter.size(); i++) {
+			Vector item = (Vector) subFilter.get(i);
+			HashMap itemCandidates = null;
+			for(j = 0; j < item.size(); j++) {
+				Object o = item.get(j);
+				HashMap c;
+				if(o instanceof Vector)
+					c = getCandidates(sysEnv, (Vector) o);
+				else {
+					Vector v = ((Filter) o).getCandidates(sysEnv);
+					if (v == null) continue;
+					c = new HashMap();
+					for (int k = 0; k < v.size(); ++k) {
+						SDMSProxy p = (SDMSProxy) v.get(k);
+						c.put(p.getId(sysEnv), p);
+					}
+				}
+				if (c == null) continue;
+				if (itemCandidates == null)
+					itemCandidates = c;
+				else
+					itemCandidates.keySet().retainAll(c.keySet());
+			}
+			if (itemCandidates == null) return null;
+			result.putAll(itemCandidates);
+		}
+		return result;
+	}
+
 	public boolean checkPrivileges(SystemEnvironment sysEnv, SDMSProxy p)
 		throws SDMSException
 	{
@@ -249,6 +249,7 @@ public class ParseStr
 	public static final String S_MERGE_GLOBAL	= "MERGE_GLOBAL";
 	public static final String S_MERGE_LOCAL	= "MERGE_LOCAL";
 	public static final String S_MERGE_MODE		= "MERGE_MODE";
+	public static final String S_METRICS		= "METRICS";
 	public static final String S_MILESTONE		= "MILESTONE";
 	public static final String S_MIN		= "MIN";
 	public static final String S_MINPCT		= "MINPCT";
@@ -287,6 +288,7 @@ public class ParseStr
 	public static final String S_OBJECT		= "OBJECT";
 	public static final String S_OF			= "OF";
 	public static final String S_OFFLINE		= "OFFLINE";
+	public static final String S_OFFSET		= "OFFSET";
 	public static final String S_ON			= "ON";
 	public static final String S_ONLINE		= "ONLINE";
 	public static final String S_ONLY		= "ONLY";
@@ -629,6 +631,7 @@ public class ParseStr
 		mapper.put(new Integer(Parser.MERGE_GLOBAL),		ParseStr.S_MERGE_GLOBAL);
 		mapper.put(new Integer(Parser.MERGE_LOCAL),		ParseStr.S_MERGE_LOCAL);
 		mapper.put(new Integer(Parser.MERGE_MODE),		ParseStr.S_MERGE_MODE);
+		mapper.put(new Integer(Parser.METRICS),			ParseStr.S_METRICS);
 		mapper.put(new Integer(Parser.MILESTONE),		ParseStr.S_MILESTONE);
 		mapper.put(new Integer(Parser.MIN),			ParseStr.S_MIN);
 		mapper.put(new Integer(Parser.MINPCT),			ParseStr.S_MINPCT);
@@ -659,6 +662,7 @@ public class ParseStr
 		mapper.put(new Integer(Parser.OBJECT),			ParseStr.S_OBJECT);
 		mapper.put(new Integer(Parser.OF),			ParseStr.S_OF);
 		mapper.put(new Integer(Parser.OFFLINE),			ParseStr.S_OFFLINE);
+		mapper.put(new Integer(Parser.OFFSET),			ParseStr.S_OFFSET);
 		mapper.put(new Integer(Parser.ON),			ParseStr.S_ON);
 		mapper.put(new Integer(Parser.ONLINE),			ParseStr.S_ONLINE);
 		mapper.put(new Integer(Parser.ONLY),			ParseStr.S_ONLY);
@@ -91,6 +91,7 @@ public class SDMSParser extends Parser
 		env.setLast();
 		env.setState(ConnectionEnvironment.QUEUED);
 		env.firstToken = null;
+		n.postTs = System.nanoTime();
 		if(n.txMode == SDMSTransaction.READWRITE) {
 			env.cmdQueue().post(n);
 		} else {
@@ -100,6 +101,7 @@ public class SDMSParser extends Parser
 
 		env.setState(ConnectionEnvironment.RENDERING);
 		n.render(ostream);
+		ostream.flush();
 		env.setLast();
 		env.setState(ConnectionEnvironment.IDLE);
 		env.actstmt = null;
@@ -146,6 +148,15 @@ public class SDMSParser extends Parser
 	protected String[] yyExpecting (int state)
 	{
 		String result[] = super.yyExpecting(state);
+		for(int i = 0; i < result.length; ++i) {
+			if(!result[i].equals("CONTINUED")) continue;
+			// the token is passed by the multiplexing listener only and cannot be typed
+			String tmp[] = new String[result.length - 1];
+			System.arraycopy(result, 0, tmp, 0, i);
+			System.arraycopy(result, i + 1, tmp, i, tmp.length - i);
+			result = tmp;
+			break;
+		}
 		if(result.length > 35) {
 			result = new String[1];
 			result[0] = "valid identifier";
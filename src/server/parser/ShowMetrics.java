@@ -0,0 +1,140 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software:
+you can redistribute it and/or modify it under the terms of the
+GNU Affero General Public License as published by the
+Free Software Foundation, either version 3 of the License,
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+
+
+package de.independit.scheduler.server.parser;
+
+import java.io.*;
+import java.util.*;
+import java.lang.*;
+
+import de.independit.scheduler.server.*;
+import de.independit.scheduler.server.exception.*;
+import de.independit.scheduler.server.output.*;
+import de.independit.scheduler.server.repository.*;
+import de.independit.scheduler.server.util.*;
+
+public class ShowMetrics extends Node
+{
+
+	public ShowMetrics()
+	{
+		super();
+		txMode = SDMSTransaction.READONLY;
+		auditFlag = false;
+	}
+
+	public void go(SystemEnvironment sysEnv)
+		throws SDMSException
+	{
+		Vector<String> desc = new Vector<String>();
+
+		desc.add("TYPE");
+		desc.add("NAME");
+		desc.add("METRIC");
+		desc.add("COUNT");
+		desc.add("AVG");
+		desc.add("P50");
+		desc.add("P90");
+		desc.add("P99");
+		desc.add("MAX");
+
+		SDMSOutputContainer d_container = new SDMSOutputContainer(sysEnv, "Metrics", desc);
+
+		// latencies are reported in microseconds
+		Vector<String> names = Metrics.getCommandNames();
+		for (int i = 0; i < names.size(); ++i) {
+			String name = names.get(i);
+			for (int k = 0; k < Metrics.KIND_NAMES.length; ++k)
+				addHistogram(sysEnv, d_container, "COMMAND", name, Metrics.KIND_NAMES[k], Metrics.getCommand(name, k));
+		}
+		names = Metrics.getPhaseNames();
+		for (int i = 0; i < names.size(); ++i) {
+			String name = names.get(i);
+			addHistogram(sysEnv, d_container, "SCHEDULER", name, "TIME", Metrics.getPhase(name));
+		}
+
+		Vector<SDMSTable> tables = new Vector<SDMSTable>();
+		Iterator<?> it = SystemEnvironment.repository.getTableIterator(sysEnv);
+		while (it.hasNext())
+			tables.add((SDMSTable) it.next());
+		Collections.sort(tables, new Comparator<SDMSTable>() {
+			public int compare(SDMSTable t1, SDMSTable t2)
+			{
+				return t1.tableName().compareTo(t2.tableName());
+			}
+		});
+		for (int i = 0; i < tables.size(); ++i) {
+			SDMSTable t = tables.get(i);
+			addGauge(sysEnv, d_container, "TABLE", t.tableName(), "SIZE", t.rawSize());
+		}
+		addGauge(sysEnv, d_container, "PURGE_SET", "VERSIONED", "SIZE", sysEnv.vPurgeSet.size());
+		addGauge(sysEnv, d_container, "PURGE_SET", "NON_VERSIONED", "SIZE", sysEnv.nvPurgeSet.size());
+		SDMSHistoryArchive archive = SDMSHistoryArchive.archive;
+		if (archive != null) {
+			addGauge(sysEnv, d_container, "HISTORY_ARCHIVE", "MASTERS", "SIZE", archive.getMasterCount());
+			addGauge(sysEnv, d_container, "HISTORY_ARCHIVE", "JOBS", "SIZE", archive.getJobCount());
+			addGauge(sysEnv, d_container, "HISTORY_ARCHIVE", "MEMORY", "BYTES", archive.getSize());
+			addGauge(sysEnv, d_container, "HISTORY_ARCHIVE", "FAULTS", "COUNT", archive.getFaultCount());
+		}
+
+		result.setOutputContainer(d_container);
+		result.setFeedback(new SDMSMessage(sysEnv, "03610181640", "Metrics shown"));
+	}
+
+	private void addHistogram(SystemEnvironment sysEnv, SDMSOutputContainer c, String type, String name, String metric, LatencyHistogram h)
+		throws SDMSException
+	{
+		if (h == null || h.getCount() == 0) return;
+		Vector<Object> data = new Vector<Object>();
+		data.add(type);
+		data.add(name);
+		data.add(metric);
+		data.add(Long.valueOf(h.getCount()));
+		data.add(Long.valueOf(h.getMean()));
+		data.add(Long.valueOf(h.getPercentile(0.5)));
+		data.add(Long.valueOf(h.getPercentile(0.9)));
+		data.add(Long.valueOf(h.getPercentile(0.99)));
+		data.add(Long.valueOf(h.getMax()));
+		c.addData(sysEnv, data);
+	}
+
+	private void addGauge(SystemEnvironment sysEnv, SDMSOutputContainer c, String type, String name, String metric, long value)
+		throws SDMSException
+	{
+		Vector<Object> data = new Vector<Object>();
+		data.add(type);
+		data.add(name);
+		data.add(metric);
+		data.add(Long.valueOf(value));
+		data.add(null);
+		data.add(null);
+		data.add(null);
+		data.add(null);
+		data.add(null);
+		c.addData(sysEnv, data);
+	}
+}
@@ -85,8 +85,8 @@ public class ShowSession extends Node
 		desc.add("STATEMENT");
 
 		tg = env.getMe().getThreadGroup();
-		list = new SDMSThread[tg.activeCount()];
-		nt = tg.enumerate(list);
+		list = ListenThread.getSessions(tg);
+		nt = list.length;
 
 		if(sid == null) sid = new Integer(env.id());
 
@@ -102,6 +102,31 @@ public class ShowSystem extends Node
 		desc.add("CNT_RW_TX");
 		desc.add("CNT_DL");
 		desc.add("CNT_WL");
+		desc.add("DL_DETECTION_TIME");
+		desc.add("DL_CYCLES");
+		desc.add("DL_VICTIMS");
+		desc.add("RW_QUEUE_DEPTH");
+		desc.add("RW_QUEUE_HWM");
+		desc.add("RW_QUEUE_FULL");
+		desc.add("RW_QUEUE_POSTED");
+		desc.add("RO_QUEUE_DEPTH");
+		desc.add("RO_QUEUE_HWM");
+		desc.add("RO_QUEUE_FULL");
+		desc.add("RO_QUEUE_POSTED");
+		desc.add("DEP_TESTED");
+		desc.add("DEP_SKIPPED");
+		desc.add("DEP_MISMATCH");
+		desc.add("SCHED_FULL_PASSES");
+		desc.add("SCHED_INC_PASSES");
+		desc.add("SCHED_CANDIDATES");
+		desc.add("SCHED_ADVANCED");
+		desc.add("SCHED_TIME");
+		desc.add("TRIGGER_QUEUE");
+		desc.add("TRIGGER_DUE");
+		desc.add("TRIGGER_LATENESS");
+		desc.add("RESUME_QUEUE");
+		desc.add("INTERVAL_CACHE_HITS");
+		desc.add("INTERVAL_CACHE_MISSES");
 		Iterator i = s.iterator();
 		Vector conf = new Vector();
 		while(i.hasNext()) {
@@ -145,13 +170,32 @@ public class ShowSystem extends Node
 		else
 			data.add("" + (int) (SystemEnvironment.sched.envhit * 100.0)/(SystemEnvironment.sched.envhit + SystemEnvironment.sched.envmiss) + " %");
 
-		data.add(new Long(ObjectLock.lockHWM));
-		data.add(new Long(ObjectLock.lockRequest));
-		data.add(new Long(ObjectLock.lockUsed));
-		data.add(new Long(ObjectLock.lockDiscarded));
+		data.add(new Long(ObjectLock.getLockHWM()));
+		data.add(new Long(ObjectLock.getLockRequest()));
+		data.add(new Long(ObjectLock.getLockUsed()));
+		data.add(new Long(ObjectLock.getLockDiscarded()));
 		data.add(new Long(SystemEnvironment.cntRwTx));
 		data.add(new Long(SystemEnvironment.cntDl));
 		data.add(new Long(SystemEnvironment.cntWl));
+		data.add(new Long(DeadlockDetector.detectionTime));
+		data.add(new Long(DeadlockDetector.cyclesFound));
+		data.add(new Long(DeadlockDetector.victims));
+		addQueueStatistics(data, sysEnv.cEnv.cmdQueue());
+		addQueueStatistics(data, sysEnv.cEnv.roCmdQueue());
+		data.add(new Long(SystemEnvironment.cntDepTested));
+		data.add(new Long(SystemEnvironment.cntDepSkipped));
+		data.add(new Long(SystemEnvironment.cntDepMismatch));
+		data.add(new Long(SystemEnvironment.sched.fullPasses));
+		data.add(new Long(SystemEnvironment.sched.incrementalPasses));
+		data.add(new Integer(SystemEnvironment.sched.lastPassCandidates));
+		data.add(new Integer(SystemEnvironment.sched.lastPassAdvanced));
+		data.add(new Long(SystemEnvironment.sched.lastPassTime));
+		data.add(Integer.valueOf(SystemEnvironment.tt.getQueueSize()));
+		data.add(Integer.valueOf(SystemEnvironment.tt.lastDue));
+		data.add(Long.valueOf(SystemEnvironment.tt.lastMaxLateness));
+		data.add(Integer.valueOf(SystemEnvironment.tt.getResumeQueueSize()));
+		data.add(new Long(SDMSInterval.cacheHits.get()));
+		data.add(new Long(SDMSInterval.cacheMisses.get()));
 		i = conf.iterator();
 		while(i.hasNext()) {
 			String str = (String) i.next();
@@ -189,6 +233,21 @@ public class ShowSystem extends Node
 		result.setFeedback(new SDMSMessage(sysEnv, "03202252102", "System shown"));
 	}
 
+	private void addQueueStatistics(Vector data, SyncFifo q)
+	{
+		if (q == null) {
+			data.add(null);
+			data.add(null);
+			data.add(null);
+			data.add(null);
+			return;
+		}
+		data.add(new Integer(q.size()));
+		data.add(new Integer(q.getHWM()));
+		data.add(new Long(q.getFullWaits()));
+		data.add(new Long(q.getPosted()));
+	}
+
 	private void add_worker(SystemEnvironment sysEnv, SDMSOutputContainer w_container)
 		throws SDMSException
 	{
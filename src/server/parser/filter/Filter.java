@@ -46,5 +46,14 @@ public abstract class Filter
 
 	public abstract boolean valid(SystemEnvironment sysEnv, SDMSProxy p)
 		throws SDMSException;
+
+	// Returns the submitted entities which can satisfy this filter, looked up through an index.
+	// The result may contain more objects than valid() accepts. Filters which can't be
+	// evaluated by an index return null.
+	public Vector getCandidates(SystemEnvironment sysEnv)
+		throws SDMSException
+	{
+		return null;
+	}
 }
 
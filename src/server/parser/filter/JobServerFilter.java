@@ -63,6 +63,19 @@ public class JobServerFilter extends Filter
 		return false;
 	}
 
+	public Vector getCandidates(SystemEnvironment sysEnv)
+		throws SDMSException
+	{
+		if(scopeIds == null) {
+			fillScopeIds(sysEnv);
+		}
+		Vector v = new Vector();
+		Iterator i = scopeIds.iterator();
+		while (i.hasNext())
+			v.addAll(SDMSSubmittedEntityTable.idx_scopeId.getVector(sysEnv, i.next()));
+		return v;
+	}
+
 	private void fillScopeIds(SystemEnvironment sysEnv)
 	{
 		if(scopeIds == null) {
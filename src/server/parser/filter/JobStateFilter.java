@@ -55,6 +55,16 @@ public class JobStateFilter extends Filter
 		return false;
 	}
 
+	public Vector getCandidates(SystemEnvironment sysEnv)
+		throws SDMSException
+	{
+		Vector v = new Vector();
+		Iterator i = jobStates.iterator();
+		while (i.hasNext())
+			v.addAll(SDMSSubmittedEntityTable.idx_state.getVector(sysEnv, i.next()));
+		return v;
+	}
+
 	public boolean equals(Object o)
 	{
 		if (o == this) return true;
@@ -57,6 +57,19 @@ public class JobidFilter extends Filter
 		return false;
 	}
 
+	public Vector getCandidates(SystemEnvironment sysEnv)
+		throws SDMSException
+	{
+		Vector v = new Vector();
+		Iterator i = jids.iterator();
+		while (i.hasNext()) {
+			try {
+				v.add(SDMSSubmittedEntityTable.getObject(sysEnv, (Long) i.next()));
+			} catch (NotFoundException nfe) { }
+		}
+		return v;
+	}
+
 	public boolean equals(Object o)
 	{
 		if (o == this) return true;
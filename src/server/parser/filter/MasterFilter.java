@@ -59,6 +59,12 @@ public class MasterFilter extends Filter
 		return false;
 	}
 
+	public Vector getCandidates(SystemEnvironment sysEnv)
+		throws SDMSException
+	{
+		return SDMSSubmittedEntityTable.idx_parentId.getVector(sysEnv, null);
+	}
+
 	public boolean equals(Object o)
 	{
 		if (!(o instanceof MasterFilter)) return false;
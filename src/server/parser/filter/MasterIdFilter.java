@@ -58,6 +58,16 @@ public class MasterIdFilter extends Filter
 		return false;
 	}
 
+	public Vector getCandidates(SystemEnvironment sysEnv)
+		throws SDMSException
+	{
+		Vector v = new Vector();
+		Iterator i = mids.iterator();
+		while (i.hasNext())
+			v.addAll(SDMSSubmittedEntityTable.idx_masterId.getVector(sysEnv, i.next()));
+		return v;
+	}
+
 	public boolean equals(Object o)
 	{
 		if (o == this) return true;
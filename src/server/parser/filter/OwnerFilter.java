@@ -76,6 +76,19 @@ public class OwnerFilter extends Filter
 		return false;
 	}
 
+	public Vector getCandidates(SystemEnvironment sysEnv)
+		throws SDMSException
+	{
+		if(owners == null) {
+			fillOwners(sysEnv);
+		}
+		Vector v = new Vector();
+		Iterator i = owners.iterator();
+		while (i.hasNext())
+			v.addAll(SDMSSubmittedEntityTable.idx_ownerId.getVector(sysEnv, i.next()));
+		return v;
+	}
+
 	private void fillOwners(SystemEnvironment sysEnv)
 	{
 		if(owners == null) {
@@ -0,0 +1,103 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software:
+you can redistribute it and/or modify it under the terms of the
+GNU Affero General Public License as published by the
+Free Software Foundation, either version 3 of the License,
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+
+
+package de.independit.scheduler.server.parser.triggerexpr;
+
+import java.io.*;
+import java.util.*;
+import java.lang.*;
+import de.independit.scheduler.server.repository.*;
+import de.independit.scheduler.server.exception.*;
+import de.independit.scheduler.server.parser.*;
+import de.independit.scheduler.server.*;
+
+public class ExprContext
+{
+	final SystemEnvironment sysEnv;
+	private final SDMSSubmittedEntity sme;
+	private final SDMSResource r;
+	private final SDMSTrigger t;
+	private final SDMSTriggerQueue tq;
+	private final SDMSScope evalScope;
+
+	private static final String emptyString = "";
+
+	public ExprContext(SystemEnvironment env, SDMSSubmittedEntity sme, SDMSResource rs, SDMSTrigger tr, SDMSTriggerQueue trq, SDMSScope s)
+	{
+		this.sysEnv = env;
+		this.sme = sme;
+		this.r = rs;
+		this.t = tr;
+		this.tq = trq;
+		this.evalScope = s;
+	}
+
+	String resolve(String o, int type)
+		throws SDMSException
+	{
+		String p = emptyString;
+		switch (type) {
+			case ExprParser.JPARAMETER:
+				p = sme.getVariableValue(sysEnv, o, false, ParseStr.S_LIBERAL, true /* triggercontext */, evalScope);
+				break;
+			case ExprParser.RPARAMETER:
+				if (r != null)
+					p = r.getVariableValue(sysEnv, o);
+				break;
+			case ExprParser.TPARAMETER:
+				p = resolveTriggerVariable(o);
+				if (p == null) p = emptyString;
+				break;
+			case ExprParser.PARAMETER:
+				p = resolveTriggerVariable(o);
+				if(p != null) return p;
+				if(sme != null)
+					p = sme.getVariableValue(sysEnv, o, false, ParseStr.S_LIBERAL, true /* triggercontext */, evalScope);
+				else
+					if (r != null)
+						p = r.getVariableValue(sysEnv, o);
+					else
+						p = emptyString;
+				break;
+		}
+		return p;
+	}
+
+	public String resolveTriggerVariable(String key)
+	{
+		if(tq == null) return null;
+		try {
+			if(key.equals(ExprParser.S_TIMES_CHECKED)) {
+				return tq.getTimesChecked(sysEnv).toString();
+			}
+			if(key.equals(ExprParser.S_TIMES_FIRED)) {
+				return tq.getTimesTriggered(sysEnv).toString();
+			}
+		} catch(SDMSException e) { /* ignore */ }
+		return null;
+	}
+}
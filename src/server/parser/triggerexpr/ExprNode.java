@@ -0,0 +1,199 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software:
+you can redistribute it and/or modify it under the terms of the
+GNU Affero General Public License as published by the
+Free Software Foundation, either version 3 of the License,
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+
+
+package de.independit.scheduler.server.parser.triggerexpr;
+
+import java.io.*;
+import java.util.*;
+import java.lang.*;
+import java.math.*;
+import de.independit.scheduler.server.repository.*;
+import de.independit.scheduler.server.exception.*;
+import de.independit.scheduler.server.*;
+
+public class ExprNode
+{
+	// pseudo operators; all other nodes use the token of their operator or function
+	static final int LITERAL = -1;
+	static final int SIGN    = -2;
+	static final int TRUE    = -3;
+
+	private final int op;
+	private final int subop;
+	private final ExprNode arg1;
+	private final ExprNode arg2;
+	private final ExprNode arg3;
+	private final ParseObject constant;
+	private final Boolean boolConstant;
+	private final String name;
+
+	private ExprNode(int op, int subop, ExprNode a1, ExprNode a2, ExprNode a3, ParseObject c, Boolean b, String n)
+	{
+		this.op = op;
+		this.subop = subop;
+		arg1 = a1;
+		arg2 = a2;
+		arg3 = a3;
+		constant = c;
+		boolConstant = b;
+		name = n;
+	}
+
+	static ExprNode operator(int op, ExprNode a1, ExprNode a2)
+	{
+		return new ExprNode(op, 0, a1, a2, null, null, null, null);
+	}
+
+	static ExprNode function(int op, ExprNode a1, ExprNode a2, ExprNode a3)
+	{
+		return new ExprNode(op, 0, a1, a2, a3, null, null, null);
+	}
+
+	static ExprNode sign(Integer s, ExprNode a1)
+	{
+		return new ExprNode(SIGN, s.intValue(), a1, null, null, null, null, null);
+	}
+
+	static ExprNode literal(ParseObject c)
+	{
+		return new ExprNode(LITERAL, 0, null, null, null, c, null, null);
+	}
+
+	static ExprNode bool(Boolean b)
+	{
+		return new ExprNode(ExprParser.BOOLEAN, 0, null, null, null, null, b, null);
+	}
+
+	static ExprNode parameter(int type, String n)
+	{
+		return new ExprNode(type, 0, null, null, null, null, null, n);
+	}
+
+	static ExprNode alwaysTrue()
+	{
+		return new ExprNode(TRUE, 0, null, null, null, null, Boolean.TRUE, null);
+	}
+
+	// the result of a condition is a Boolean, the result of an expression a String, Long or Double
+	public Object eval(ExprContext ctx)
+		throws SDMSException
+	{
+		if (isBoolean())
+			return test(ctx);
+		return value(ctx).getValue();
+	}
+
+	private boolean isBoolean()
+	{
+		switch(op) {
+			case TRUE:
+			case ExprParser.BOOLEAN:
+			case ExprParser.OR:
+			case ExprParser.AND:
+			case ExprParser.NOT:
+			case ExprParser.EQ:
+			case ExprParser.NE:
+			case ExprParser.GT:
+			case ExprParser.GE:
+			case ExprParser.LT:
+			case ExprParser.LE:
+			case ExprParser.MATCHES:
+			case ExprParser.NOMATCH:
+				return true;
+		}
+		return false;
+	}
+
+	// Both operands of AND and OR are evaluated, as errors in resolving
+	// parameters must be reported independent of the value of the other operand
+	Boolean test(ExprContext ctx)
+		throws SDMSException
+	{
+		switch(op) {
+			case TRUE:
+			case ExprParser.BOOLEAN:
+				return boolConstant;
+			case ExprParser.OR:
+				{
+					boolean b1 = arg1.test(ctx).booleanValue();
+					boolean b2 = arg2.test(ctx).booleanValue();
+					return Boolean.valueOf(b1 || b2);
+				}
+			case ExprParser.AND:
+				{
+					boolean b1 = arg1.test(ctx).booleanValue();
+					boolean b2 = arg2.test(ctx).booleanValue();
+					return Boolean.valueOf(b1 && b2);
+				}
+			case ExprParser.NOT:
+				return Boolean.valueOf(! arg1.test(ctx).booleanValue());
+		}
+		return arg1.value(ctx).compare(arg2.value(ctx), Integer.valueOf(op), false);
+	}
+
+	ParseObject value(ExprContext ctx)
+		throws SDMSException
+	{
+		switch(op) {
+			case LITERAL:
+				return constant;
+			case ExprParser.PARAMETER:
+			case ExprParser.JPARAMETER:
+			case ExprParser.RPARAMETER:
+			case ExprParser.TPARAMETER:
+				return new ParseObject(ctx.resolve(name, op));
+			case SIGN:
+				return arg1.value(ctx).changeSign(Integer.valueOf(subop), false);
+			case ExprParser.PLUS:
+			case ExprParser.MINUS:
+				return arg1.value(ctx).add(arg2.value(ctx), Integer.valueOf(op), false);
+			case ExprParser.TIMES:
+			case ExprParser.DIV:
+			case ExprParser.MOD:
+				return arg1.value(ctx).mult(arg2.value(ctx), Integer.valueOf(op), false);
+			case ExprParser.ABS:
+				return arg1.value(ctx).abs(false);
+			case ExprParser.INT:
+				return arg1.value(ctx).to_int(false);
+			case ExprParser.DATE:
+				return arg1.value(ctx).to_date(arg2.value(ctx), false);
+			case ExprParser.LOWERCASE:
+				return arg1.value(ctx).lowercase(false);
+			case ExprParser.ROUND:
+				return arg1.value(ctx).round(false);
+			case ExprParser.STR:
+				return arg1.value(ctx).adjust(ParseObject.STRING, false);
+			case ExprParser.SUBSTR:
+				return arg1.value(ctx).substr(arg2.value(ctx), (arg3 == null ? null : arg3.value(ctx)), false);
+			case ExprParser.TRIM:
+				return arg1.value(ctx).trim(false);
+			case ExprParser.UPPERCASE:
+				return arg1.value(ctx).uppercase(false);
+		}
+		throw new FatalException(new SDMSMessage(ctx.sysEnv, "03610181620", "Unknown expression operator $1", Integer.valueOf(op)));
+	}
+}
@@ -0,0 +1,320 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software:
+you can redistribute it and/or modify it under the terms of the
+GNU Affero General Public License as published by the
+Free Software Foundation, either version 3 of the License,
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+
+
+package de.independit.scheduler.server.parser.triggerexpr;
+
+import java.io.*;
+import java.util.*;
+import java.lang.*;
+import java.math.*;
+import java.text.*;
+import de.independit.scheduler.server.*;
+
+class ParseObject {
+
+	private BigDecimal number;
+	private String     string;
+
+	private int type;
+
+	public static final int VOID   = 0;
+	public static final int STRING = 1;
+	public static final int NUMBER = 2;
+	public static final int DATE   = 3;
+
+	public static final BigDecimal one = new BigDecimal("1");
+
+
+	public ParseObject()
+	{
+		type = VOID;
+		number = null;
+		string = null;
+	}
+
+	public ParseObject(Object o)
+	{
+		if(o instanceof BigDecimal) {
+			type = NUMBER;
+			number = (BigDecimal) o;
+			string = null;
+		} else
+		if(o instanceof String) {
+			type = STRING;
+			string = (String) o;
+			number = null;
+		} else
+		if(o.getClass().getName().endsWith("Something date like")) {
+			type = DATE;
+			string = null;
+			number = null;
+		} else {
+			// Error
+			System.err.println("Fatal Exception! Unexpected Object: " + o.toString() + "\n");
+			System.exit(1);
+		}
+	}
+
+	public ParseObject(String s)
+	{
+		type = STRING;
+		string = s;
+		number = null;
+	}
+
+	public ParseObject(BigDecimal d)
+	{
+		type = NUMBER;
+		number = d;
+		string = null;
+	}
+
+	public ParseObject(ParseObject p)
+	{
+		type = p.type;
+		number = p.number;
+		string = p.string;
+	}
+
+	public Object getValue()
+	{
+		if (type == STRING) return string;
+		if (type == NUMBER) {
+			if (number == null) return null;
+			long v;
+			try {
+				v = number.longValueExact();
+				return new Long(v);
+			} catch (ArithmeticException ae) {
+				double d;
+				d = number.doubleValue();
+				return new Double(d);
+			}
+		}
+		return null;
+	}
+
+	public ParseObject adjust(ParseObject po, boolean checkOnly)
+	{
+		return adjust(po.type, checkOnly);
+	}
+
+	public ParseObject adjust(int t, boolean checkOnly)
+	{
+		if(checkOnly) return new ParseObject();
+		if(type == t) return new ParseObject(this);
+		ParseObject rc = new ParseObject();
+		switch(t) {
+			case STRING:
+				rc.type = STRING;
+				rc.number = null;
+				if(type == NUMBER)	rc.string = number.toString();
+				if(type == VOID)	rc.string = new String();
+				break;
+			case NUMBER:
+				rc.type = NUMBER;
+				rc.string = null;
+				if(type == STRING)	rc.number = new BigDecimal(string);
+				if(type == VOID)	rc.number = new BigDecimal("0");
+				break;
+		}
+		return rc;
+	}
+
+	public ParseObject mult(ParseObject o2, Integer s, boolean checkOnly)
+	{
+		if(checkOnly) return new ParseObject();
+		int operator = s.intValue();
+		ParseObject op1 = adjust(ParseObject.NUMBER, checkOnly);
+		ParseObject op2 = o2.adjust(ParseObject.NUMBER, checkOnly);
+		switch(operator) {
+			case ExprParser.DIV:	op1.number = op1.number.divide(op2.number, BigDecimal.ROUND_HALF_UP); break;
+			case ExprParser.TIMES:	op1.number = op1.number.multiply(op2.number); break;
+			case ExprParser.MOD:
+				BigInteger n1 = op1.number.toBigInteger();
+				BigInteger n2 = op2.number.toBigInteger();
+				op1.number = new BigDecimal(n1.mod(n2));
+				break;
+		}
+		return op1;
+	}
+
+	public ParseObject add(ParseObject o2, Integer s, boolean checkOnly)
+	{
+		if(checkOnly) return new ParseObject();
+		int operator = s.intValue();
+		if(type == STRING && operator == ExprParser.PLUS) {
+			ParseObject str = o2.adjust(STRING, checkOnly);
+			str.string = string + str.string;
+			return str;
+		}
+		ParseObject op1 = adjust(NUMBER, checkOnly);
+		ParseObject op2 = o2.adjust(NUMBER, checkOnly);
+		switch(operator) {
+			case ExprParser.PLUS:	op1.number = op1.number.add(op2.number); break;
+			case ExprParser.MINUS:	op1.number = op1.number.add(op2.number.negate()); break;
+		}
+		return op1;
+	}
+
+	public int compareTo(ParseObject o2, boolean checkOnly)
+	{
+		ParseObject op2 = o2.adjust(type, checkOnly);
+		int val = 0;
+		switch(type) {
+			case NUMBER: val = number.compareTo(op2.number); break;
+			case STRING: val = string.compareTo(op2.string); break;
+		}
+		return val;
+	}
+
+	public Boolean compare(ParseObject o2, Integer s, boolean checkOnly)
+	{
+		if(checkOnly) return Boolean.TRUE;
+		int operator = s.intValue();
+		if(operator == ExprParser.MATCHES || operator == ExprParser.NOMATCH) {
+			ParseObject op1 = adjust(STRING, checkOnly);
+			ParseObject op2 = o2.adjust(STRING, checkOnly);
+			if(operator == ExprParser.MATCHES && op1.string.matches(op2.string)) return Boolean.TRUE;
+			if(operator == ExprParser.NOMATCH && !op1.string.matches(op2.string)) return Boolean.TRUE;
+			return Boolean.FALSE;
+		} else {
+			int val = compareTo(o2, checkOnly);
+			switch(operator) {
+				case ExprParser.EQ:	return new Boolean(val == 0);
+				case ExprParser.GE:	return new Boolean(val >= 0);
+				case ExprParser.GT:	return new Boolean(val > 0);
+				case ExprParser.LE:	return new Boolean(val <= 0);
+				case ExprParser.LT:	return new Boolean(val < 0);
+				case ExprParser.NE:	return new Boolean(val != 0);
+			}
+		}
+		return Boolean.TRUE;
+	}
+
+	public ParseObject changeSign(Integer s, boolean checkOnly)
+	{
+		if(checkOnly) return new ParseObject();
+		int operator = s.intValue();
+		ParseObject retval = adjust(ParseObject.NUMBER, checkOnly);
+		switch(operator) {
+			case ExprParser.PLUS:
+				// do nothing
+				break;
+			case ExprParser.MINUS:
+				retval.number = retval.number.negate();
+				break;
+		}
+		return retval;
+	}
+
+	public ParseObject to_int(boolean checkOnly)
+	{
+		if(checkOnly) return new ParseObject();
+		ParseObject retval = adjust(ParseObject.NUMBER, checkOnly);
+		retval.number = new BigDecimal(retval.number.toBigInteger());
+		return retval;
+	}
+
+	public ParseObject to_date(ParseObject format, boolean checkOnly)
+	{
+		if(checkOnly) return new ParseObject();
+		if(type == NUMBER) return this.to_int(false);
+		if(type == VOID) return this;
+		ParseObject retval;
+		if(format.type == STRING) {
+			try {
+				SimpleDateFormat sdf;
+				if (format.string != null)
+					sdf = new SimpleDateFormat(format.string);
+				else 
+					sdf = (SimpleDateFormat) SystemEnvironment.staticSystemDateFormat.clone();
+				Date d = sdf.parse(this.string);
+				retval = new ParseObject(new BigDecimal(d.getTime()));
+			} catch (ParseException pe) {
+				retval = new ParseObject(new BigDecimal(0));
+			}
+		} else {
+			retval = new ParseObject(new BigDecimal(0));
+		}
+		return retval;
+	}
+
+	public ParseObject abs(boolean checkOnly)
+	{
+		if(checkOnly) return new ParseObject();
+		ParseObject retval = adjust(ParseObject.NUMBER, checkOnly);
+		retval.number = retval.number.abs();
+		return retval;
+	}
+
+	public ParseObject round(boolean checkOnly)
+	{
+		if(checkOnly) return new ParseObject();
+		ParseObject retval = adjust(ParseObject.NUMBER, checkOnly);
+		retval.number = retval.number.divide(one, BigDecimal.ROUND_HALF_UP);
+		return retval;
+	}
+
+	public ParseObject substr(ParseObject v, ParseObject b, boolean checkOnly)
+	{
+		if(checkOnly) return new ParseObject();
+		ParseObject retval = adjust(STRING, checkOnly);
+		int von = v.adjust(NUMBER, checkOnly).number.intValue();
+		if(b != null) {
+			int bis = b.adjust(NUMBER, checkOnly).number.intValue();
+			retval.string = retval.string.substring(von, bis);
+		} else {
+			retval.string = retval.string.substring(von);
+		}
+		return retval;
+	}
+
+	public ParseObject trim(boolean checkOnly)
+	{
+		if(checkOnly) return new ParseObject();
+		ParseObject retval = adjust(STRING, checkOnly);
+		retval.string = retval.string.trim();
+		return retval;
+	}
+
+	public ParseObject uppercase(boolean checkOnly)
+	{
+		if(checkOnly) return new ParseObject();
+		ParseObject retval = adjust(STRING, checkOnly);
+		retval.string = retval.string.toUpperCase();
+		return retval;
+	}
+
+	public ParseObject lowercase(boolean checkOnly)
+	{
+		if(checkOnly) return new ParseObject();
+		ParseObject retval = adjust(STRING, checkOnly);
+		retval.string = retval.string.toLowerCase();
+		return retval;
+	}
+}
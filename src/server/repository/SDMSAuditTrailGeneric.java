@@ -123,7 +123,23 @@ public class SDMSAuditTrailGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"USER_ID",
+		"TS",
+		"TXID",
+		"ACTION",
+		"OBJECT_TYPE",
+		"OBJECT_ID",
+		"ORIGIN_ID",
+		"IS_SET_WARNING",
+		"ACTION_INFO",
+		"ACTION_COMMENT",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("AUDIT_TRAIL", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -722,7 +738,7 @@ public class SDMSAuditTrailGeneric extends SDMSObject
 			myInsert.setLong (13, createTs.longValue());
 			myInsert.setLong (14, changerUId.longValue());
 			myInsert.setLong (15, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "AuditTrail: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -746,7 +762,7 @@ public class SDMSAuditTrailGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "AuditTrail: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -755,59 +771,71 @@ public class SDMSAuditTrailGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSAuditTrailGeneric o = (SDMSAuditTrailGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(userId, o.userId)) dirty.set(0);
+		if (changed(ts, o.ts)) dirty.set(1);
+		if (changed(txId, o.txId)) dirty.set(2);
+		if (changed(action, o.action)) dirty.set(3);
+		if (changed(objectType, o.objectType)) dirty.set(4);
+		if (changed(objectId, o.objectId)) dirty.set(5);
+		if (changed(originId, o.originId)) dirty.set(6);
+		if (changed(isSetWarning, o.isSetWarning)) dirty.set(7);
+		if (changed(actionInfo, o.actionInfo)) dirty.set(8);
+		if (changed(actionComment, o.actionComment)) dirty.set(9);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(10);
+		if (changed(createTs, o.createTs)) dirty.set(11);
+		if (changed(changerUId, o.changerUId)) dirty.set(12);
+		if (changed(changeTs, o.changeTs)) dirty.set(13);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE AUDIT_TRAIL SET " +
-				        "" + squote + "USER_ID" + equote + " = ? " +
-				        ", " + squote + "TS" + equote + " = ? " +
-				        ", " + squote + "TXID" + equote + " = ? " +
-				        ", " + squote + "ACTION" + equote + " = ? " +
-				        ", " + squote + "OBJECT_TYPE" + equote + " = ? " +
-				        ", " + squote + "OBJECT_ID" + equote + " = ? " +
-				        ", " + squote + "ORIGIN_ID" + equote + " = ? " +
-				        ", " + squote + "IS_SET_WARNING" + equote + " = ? " +
-				        ", " + squote + "ACTION_INFO" + equote + " = ? " +
-				        ", " + squote + "ACTION_COMMENT" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "AuditTrail: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "AuditTrail: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, userId.longValue());
-			myUpdate.setLong (2, ts.longValue());
-			myUpdate.setLong (3, txId.longValue());
-			myUpdate.setInt(4, action.intValue());
-			myUpdate.setInt(5, objectType.intValue());
-			myUpdate.setLong (6, objectId.longValue());
-			myUpdate.setLong (7, originId.longValue());
-			myUpdate.setInt (8, isSetWarning.booleanValue() ? 1 : 0);
-			if (actionInfo == null)
-				myUpdate.setNull(9, Types.VARCHAR);
-			else
-				myUpdate.setString(9, actionInfo);
-			if (actionComment == null)
-				myUpdate.setNull(10, Types.VARCHAR);
-			else
-				myUpdate.setString(10, actionComment);
-			myUpdate.setLong (11, creatorUId.longValue());
-			myUpdate.setLong (12, createTs.longValue());
-			myUpdate.setLong (13, changerUId.longValue());
-			myUpdate.setLong (14, changeTs.longValue());
-			myUpdate.setLong(15, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, userId.longValue());
+			if (dirty.get(1))
+				myUpdate.setLong (p++, ts.longValue());
+			if (dirty.get(2))
+				myUpdate.setLong (p++, txId.longValue());
+			if (dirty.get(3))
+				myUpdate.setInt(p++, action.intValue());
+			if (dirty.get(4))
+				myUpdate.setInt(p++, objectType.intValue());
+			if (dirty.get(5))
+				myUpdate.setLong (p++, objectId.longValue());
+			if (dirty.get(6))
+				myUpdate.setLong (p++, originId.longValue());
+			if (dirty.get(7))
+				myUpdate.setInt (p++, isSetWarning.booleanValue() ? 1 : 0);
+			if (dirty.get(8)) {
+				if (actionInfo == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, actionInfo);
+			}
+			if (dirty.get(9)) {
+				if (actionComment == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, actionComment);
+			}
+			if (dirty.get(10))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(11))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(12))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(13))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "AuditTrail: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -208,23 +208,23 @@ public class SDMSAuditTrailTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			userId = new Long (r.getLong(2));
-			ts = new Long (r.getLong(3));
-			txId = new Long (r.getLong(4));
-			action = new Integer (r.getInt(5));
-			objectType = new Integer (r.getInt(6));
-			objectId = new Long (r.getLong(7));
-			originId = new Long (r.getLong(8));
-			isSetWarning = new Boolean ((r.getInt(9) == 0 ? false : true));
+			id     = Long.valueOf (r.getLong(1));
+			userId = Long.valueOf (r.getLong(2));
+			ts = Long.valueOf (r.getLong(3));
+			txId = Long.valueOf (r.getLong(4));
+			action = Integer.valueOf (r.getInt(5));
+			objectType = Integer.valueOf (r.getInt(6));
+			objectId = Long.valueOf (r.getLong(7));
+			originId = Long.valueOf (r.getLong(8));
+			isSetWarning = Boolean.valueOf ((r.getInt(9) == 0 ? false : true));
 			actionInfo = r.getString(10);
 			if (r.wasNull()) actionInfo = null;
 			actionComment = r.getString(11);
 			if (r.wasNull()) actionComment = null;
-			creatorUId = new Long (r.getLong(12));
-			createTs = new Long (r.getLong(13));
-			changerUId = new Long (r.getLong(14));
-			changeTs = new Long (r.getLong(15));
+			creatorUId = Long.valueOf (r.getLong(12));
+			createTs = Long.valueOf (r.getLong(13));
+			changerUId = Long.valueOf (r.getLong(14));
+			changeTs = Long.valueOf (r.getLong(15));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -253,39 +253,29 @@ public class SDMSAuditTrailTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "USER_ID" + equote +
-		                                   ", " + squote + "TS" + equote +
-		                                   ", " + squote + "TXID" + equote +
-		                                   ", " + squote + "ACTION" + equote +
-		                                   ", " + squote + "OBJECT_TYPE" + equote +
-		                                   ", " + squote + "OBJECT_ID" + equote +
-		                                   ", " + squote + "ORIGIN_ID" + equote +
-		                                   ", " + squote + "IS_SET_WARNING" + equote +
-		                                   ", " + squote + "ACTION_INFO" + equote +
-		                                   ", " + squote + "ACTION_COMMENT" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   " FROM " + tableName() + ", " +
-		                                   "       SME2LOAD " +
-		                                   " WHERE " + tableName() + ".OBJECT_ID = SME2LOAD.ID"
-		                                  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "USER_ID" + equote +
+		               ", " + squote + "TS" + equote +
+		               ", " + squote + "TXID" + equote +
+		               ", " + squote + "ACTION" + equote +
+		               ", " + squote + "OBJECT_TYPE" + equote +
+		               ", " + squote + "OBJECT_ID" + equote +
+		               ", " + squote + "ORIGIN_ID" + equote +
+		               ", " + squote + "IS_SET_WARNING" + equote +
+		               ", " + squote + "ACTION_INFO" + equote +
+		               ", " + squote + "ACTION_COMMENT" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               " FROM " + tableName() + ", " +
+		               "       SME2LOAD " +
+		               " WHERE " + tableName() + ".OBJECT_ID = SME2LOAD.ID"
+		              );
 	}
 
 	public String checkIndex(SDMSObject o)
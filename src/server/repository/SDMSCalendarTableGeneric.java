@@ -155,13 +155,13 @@ public class SDMSCalendarTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			scevId = new Long (r.getLong(2));
-			starttime = new Long (r.getLong(3));
-			creatorUId = new Long (r.getLong(4));
-			createTs = new Long (r.getLong(5));
-			changerUId = new Long (r.getLong(6));
-			changeTs = new Long (r.getLong(7));
+			id     = Long.valueOf (r.getLong(1));
+			scevId = Long.valueOf (r.getLong(2));
+			starttime = Long.valueOf (r.getLong(3));
+			creatorUId = Long.valueOf (r.getLong(4));
+			createTs = Long.valueOf (r.getLong(5));
+			changerUId = Long.valueOf (r.getLong(6));
+			changeTs = Long.valueOf (r.getLong(7));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -182,29 +182,19 @@ public class SDMSCalendarTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "SCEV_ID" + equote +
-		                                   ", " + squote + "STARTTIME" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "SCEV_ID" + equote +
+		               ", " + squote + "STARTTIME" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
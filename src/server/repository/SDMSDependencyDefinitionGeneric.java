@@ -600,7 +600,7 @@ public class SDMSDependencyDefinitionGeneric extends SDMSObject
 			myInsert.setLong (12, changeTs.longValue());
 			myInsert.setLong(13, env.tx.versionId);
 			myInsert.setLong(14, Long.MAX_VALUE);
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "DependencyDefinition: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -650,7 +650,7 @@ public class SDMSDependencyDefinitionGeneric extends SDMSObject
 			myUpdate.setLong(2, changeTs.longValue());
 			myUpdate.setLong(3, changerUId.longValue());
 			myUpdate.setLong(4, id.longValue());
-			myUpdate.executeUpdate();
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181956", "DependencyDefinition: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -194,20 +194,20 @@ public class SDMSDependencyDefinitionTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			seDependentId = new Long (r.getLong(2));
-			seRequiredId = new Long (r.getLong(3));
+			id     = Long.valueOf (r.getLong(1));
+			seDependentId = Long.valueOf (r.getLong(2));
+			seRequiredId = Long.valueOf (r.getLong(3));
 			name = r.getString(4);
 			if (r.wasNull()) name = null;
-			unresolvedHandling = new Integer (r.getInt(5));
-			mode = new Integer (r.getInt(6));
-			stateSelection = new Integer (r.getInt(7));
+			unresolvedHandling = Integer.valueOf (r.getInt(5));
+			mode = Integer.valueOf (r.getInt(6));
+			stateSelection = Integer.valueOf (r.getInt(7));
 			condition = r.getString(8);
 			if (r.wasNull()) condition = null;
-			creatorUId = new Long (r.getLong(9));
-			createTs = new Long (r.getLong(10));
-			changerUId = new Long (r.getLong(11));
-			changeTs = new Long (r.getLong(12));
+			creatorUId = Long.valueOf (r.getLong(9));
+			createTs = Long.valueOf (r.getLong(10));
+			changerUId = Long.valueOf (r.getLong(11));
+			changeTs = Long.valueOf (r.getLong(12));
 			validFrom = r.getLong(13);
 			validTo = r.getLong(14);
 		} catch(SQLException sqle) {
@@ -233,38 +233,28 @@ public class SDMSDependencyDefinitionTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "SE_DEPENDENT_ID" + equote +
-		                                   ", " + squote + "SE_REQUIRED_ID" + equote +
-		                                   ", " + squote + "NAME" + equote +
-		                                   ", " + squote + "UNRESOLVED_HANDLING" + equote +
-		                                   ", " + squote + "DMODE" + equote +
-		                                   ", " + squote + "STATE_SELECTION" + equote +
-		                                   ", " + squote + "CONDITION" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", VALID_FROM, VALID_TO " +
-		                                   " FROM " + tableName() +
-		                                   " WHERE VALID_TO >= " + (postgres ?
-		                                                   "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
-		                                                   "" + env.lowestActiveVersion) +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "SE_DEPENDENT_ID" + equote +
+		               ", " + squote + "SE_REQUIRED_ID" + equote +
+		               ", " + squote + "NAME" + equote +
+		               ", " + squote + "UNRESOLVED_HANDLING" + equote +
+		               ", " + squote + "DMODE" + equote +
+		               ", " + squote + "STATE_SELECTION" + equote +
+		               ", " + squote + "CONDITION" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", VALID_FROM, VALID_TO " +
+		               " FROM " + tableName() +
+		               " WHERE VALID_TO >= " + (postgres ?
+		                               "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
+		                               "" + env.lowestActiveVersion) +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
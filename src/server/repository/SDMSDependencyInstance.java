@@ -77,7 +77,7 @@ public class SDMSDependencyInstance extends SDMSDependencyInstanceProxyGeneric
 		if (!(idOrig.equals(getId(sysEnv)))) {
 			SDMSDependencyInstance diOrig = SDMSDependencyInstanceTable.getObject(sysEnv, idOrig);
 			int checkResult = diOrig.check(sysEnv, checkCache);
-			setState(sysEnv, new Integer(checkResult));
+			setState(sysEnv, Integer.valueOf(checkResult));
 			return checkResult;
 		}
 
@@ -160,11 +160,11 @@ public class SDMSDependencyInstance extends SDMSDependencyInstanceProxyGeneric
 				break;
 		}
 		if (diState != SDMSDependencyInstance.OPEN || dsme.getState(sysEnv).intValue() == SDMSSubmittedEntity.UNREACHABLE) {
-			setState(sysEnv, new Integer(diState));
+			setState(sysEnv, Integer.valueOf(diState));
 		}
 
 		if (checkCache != null)
-			checkCache.put(getId(sysEnv), new Integer(diState));
+			checkCache.put(getId(sysEnv), Integer.valueOf(diState));
 
 		return diState;
 	}
@@ -178,7 +178,7 @@ public class SDMSDependencyInstance extends SDMSDependencyInstanceProxyGeneric
 		Long ts = new Long (dts.getTime());
 
 		if(mode == SDMSDependencyInstance.RECURSIVE) {
-			setIgnore(sysEnv, new Integer(mode));
+			setIgnore(sysEnv, Integer.valueOf(mode));
 			Long diIdOrig = getDiIdOrig(sysEnv);
 			Vector vdi = SDMSDependencyInstanceTable.idx_diIdOrig.getVector(sysEnv, diIdOrig);
 			for(int j = 0; j < vdi.size(); j++) {
@@ -192,7 +192,7 @@ public class SDMSDependencyInstance extends SDMSDependencyInstanceProxyGeneric
 		} else {
 			int ign = getIgnore(sysEnv).intValue();
 			if(ign != SDMSDependencyInstance.RECURSIVE)
-				setIgnore(sysEnv, new Integer(mode));
+				setIgnore(sysEnv, Integer.valueOf(mode));
 		}
 		sme.checkDependencies(sysEnv);
 	}
@@ -82,7 +82,22 @@ public class SDMSDependencyInstanceGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"DD_ID",
+		"DEPENDENT_ID",
+		"DEPENDENT_ID_ORIG",
+		"DEPENDENCY_OPERATION",
+		"REQUIRED_ID",
+		"STATE",
+		"IGNORE",
+		"DI_ID_ORIG",
+		"SE_VERSION",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("DEPENDENCY_INSTANCE", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -672,7 +687,7 @@ public class SDMSDependencyInstanceGeneric extends SDMSObject
 			myInsert.setLong (12, createTs.longValue());
 			myInsert.setLong (13, changerUId.longValue());
 			myInsert.setLong (14, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "DependencyInstance: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -696,7 +711,7 @@ public class SDMSDependencyInstanceGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "DependencyInstance: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -705,51 +720,60 @@ public class SDMSDependencyInstanceGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSDependencyInstanceGeneric o = (SDMSDependencyInstanceGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(ddId, o.ddId)) dirty.set(0);
+		if (changed(dependentId, o.dependentId)) dirty.set(1);
+		if (changed(dependentIdOrig, o.dependentIdOrig)) dirty.set(2);
+		if (changed(dependencyOperation, o.dependencyOperation)) dirty.set(3);
+		if (changed(requiredId, o.requiredId)) dirty.set(4);
+		if (changed(state, o.state)) dirty.set(5);
+		if (changed(ignore, o.ignore)) dirty.set(6);
+		if (changed(diIdOrig, o.diIdOrig)) dirty.set(7);
+		if (changed(seVersion, o.seVersion)) dirty.set(8);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(9);
+		if (changed(createTs, o.createTs)) dirty.set(10);
+		if (changed(changerUId, o.changerUId)) dirty.set(11);
+		if (changed(changeTs, o.changeTs)) dirty.set(12);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE DEPENDENCY_INSTANCE SET " +
-				        "" + squote + "DD_ID" + equote + " = ? " +
-				        ", " + squote + "DEPENDENT_ID" + equote + " = ? " +
-				        ", " + squote + "DEPENDENT_ID_ORIG" + equote + " = ? " +
-				        ", " + squote + "DEPENDENCY_OPERATION" + equote + " = ? " +
-				        ", " + squote + "REQUIRED_ID" + equote + " = ? " +
-				        ", " + squote + "STATE" + equote + " = ? " +
-				        ", " + squote + "IGNORE" + equote + " = ? " +
-				        ", " + squote + "DI_ID_ORIG" + equote + " = ? " +
-				        ", " + squote + "SE_VERSION" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "DependencyInstance: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "DependencyInstance: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, ddId.longValue());
-			myUpdate.setLong (2, dependentId.longValue());
-			myUpdate.setLong (3, dependentIdOrig.longValue());
-			myUpdate.setInt(4, dependencyOperation.intValue());
-			myUpdate.setLong (5, requiredId.longValue());
-			myUpdate.setInt(6, state.intValue());
-			myUpdate.setInt(7, ignore.intValue());
-			myUpdate.setLong (8, diIdOrig.longValue());
-			myUpdate.setLong (9, seVersion.longValue());
-			myUpdate.setLong (10, creatorUId.longValue());
-			myUpdate.setLong (11, createTs.longValue());
-			myUpdate.setLong (12, changerUId.longValue());
-			myUpdate.setLong (13, changeTs.longValue());
-			myUpdate.setLong(14, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, ddId.longValue());
+			if (dirty.get(1))
+				myUpdate.setLong (p++, dependentId.longValue());
+			if (dirty.get(2))
+				myUpdate.setLong (p++, dependentIdOrig.longValue());
+			if (dirty.get(3))
+				myUpdate.setInt(p++, dependencyOperation.intValue());
+			if (dirty.get(4))
+				myUpdate.setLong (p++, requiredId.longValue());
+			if (dirty.get(5))
+				myUpdate.setInt(p++, state.intValue());
+			if (dirty.get(6))
+				myUpdate.setInt(p++, ignore.intValue());
+			if (dirty.get(7))
+				myUpdate.setLong (p++, diIdOrig.longValue());
+			if (dirty.get(8))
+				myUpdate.setLong (p++, seVersion.longValue());
+			if (dirty.get(9))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(10))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(11))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(12))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "DependencyInstance: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -210,20 +210,20 @@ public class SDMSDependencyInstanceTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			ddId = new Long (r.getLong(2));
-			dependentId = new Long (r.getLong(3));
-			dependentIdOrig = new Long (r.getLong(4));
-			dependencyOperation = new Integer (r.getInt(5));
-			requiredId = new Long (r.getLong(6));
-			state = new Integer (r.getInt(7));
-			ignore = new Integer (r.getInt(8));
-			diIdOrig = new Long (r.getLong(9));
-			seVersion = new Long (r.getLong(10));
-			creatorUId = new Long (r.getLong(11));
-			createTs = new Long (r.getLong(12));
-			changerUId = new Long (r.getLong(13));
-			changeTs = new Long (r.getLong(14));
+			id     = Long.valueOf (r.getLong(1));
+			ddId = Long.valueOf (r.getLong(2));
+			dependentId = Long.valueOf (r.getLong(3));
+			dependentIdOrig = Long.valueOf (r.getLong(4));
+			dependencyOperation = Integer.valueOf (r.getInt(5));
+			requiredId = Long.valueOf (r.getLong(6));
+			state = Integer.valueOf (r.getInt(7));
+			ignore = Integer.valueOf (r.getInt(8));
+			diIdOrig = Long.valueOf (r.getLong(9));
+			seVersion = Long.valueOf (r.getLong(10));
+			creatorUId = Long.valueOf (r.getLong(11));
+			createTs = Long.valueOf (r.getLong(12));
+			changerUId = Long.valueOf (r.getLong(13));
+			changeTs = Long.valueOf (r.getLong(14));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -251,38 +251,28 @@ public class SDMSDependencyInstanceTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "DD_ID" + equote +
-		                                   ", " + squote + "DEPENDENT_ID" + equote +
-		                                   ", " + squote + "DEPENDENT_ID_ORIG" + equote +
-		                                   ", " + squote + "DEPENDENCY_OPERATION" + equote +
-		                                   ", " + squote + "REQUIRED_ID" + equote +
-		                                   ", " + squote + "STATE" + equote +
-		                                   ", " + squote + "IGNORE" + equote +
-		                                   ", " + squote + "DI_ID_ORIG" + equote +
-		                                   ", " + squote + "SE_VERSION" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   "  FROM " + tableName() + ", " +
-		                                   "       SME2LOAD " +
-		                                   " WHERE " + tableName() + ".DEPENDENT_ID = SME2LOAD.ID"
-		                                  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "DD_ID" + equote +
+		               ", " + squote + "DEPENDENT_ID" + equote +
+		               ", " + squote + "DEPENDENT_ID_ORIG" + equote +
+		               ", " + squote + "DEPENDENCY_OPERATION" + equote +
+		               ", " + squote + "REQUIRED_ID" + equote +
+		               ", " + squote + "STATE" + equote +
+		               ", " + squote + "IGNORE" + equote +
+		               ", " + squote + "DI_ID_ORIG" + equote +
+		               ", " + squote + "SE_VERSION" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               "  FROM " + tableName() + ", " +
+		               "       SME2LOAD " +
+		               " WHERE " + tableName() + ".DEPENDENT_ID = SME2LOAD.ID"
+		              );
 	}
 
 	public String checkIndex(SDMSObject o)
@@ -160,15 +160,15 @@ public class SDMSDependencyStateTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			ddId = new Long (r.getLong(2));
-			esdId = new Long (r.getLong(3));
+			id     = Long.valueOf (r.getLong(1));
+			ddId = Long.valueOf (r.getLong(2));
+			esdId = Long.valueOf (r.getLong(3));
 			condition = r.getString(4);
 			if (r.wasNull()) condition = null;
-			creatorUId = new Long (r.getLong(5));
-			createTs = new Long (r.getLong(6));
-			changerUId = new Long (r.getLong(7));
-			changeTs = new Long (r.getLong(8));
+			creatorUId = Long.valueOf (r.getLong(5));
+			createTs = Long.valueOf (r.getLong(6));
+			changerUId = Long.valueOf (r.getLong(7));
+			changeTs = Long.valueOf (r.getLong(8));
 			validFrom = r.getLong(9);
 			validTo = r.getLong(10);
 		} catch(SQLException sqle) {
@@ -190,34 +190,24 @@ public class SDMSDependencyStateTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "DD_ID" + equote +
-		                                   ", " + squote + "ESD_ID" + equote +
-		                                   ", " + squote + "CONDITION" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", VALID_FROM, VALID_TO " +
-		                                   " FROM " + tableName() +
-		                                   " WHERE VALID_TO >= " + (postgres ?
-		                                                   "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
-		                                                   "" + env.lowestActiveVersion) +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "DD_ID" + equote +
+		               ", " + squote + "ESD_ID" + equote +
+		               ", " + squote + "CONDITION" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", VALID_FROM, VALID_TO " +
+		               " FROM " + tableName() +
+		               " WHERE VALID_TO >= " + (postgres ?
+		                               "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
+		                               "" + env.lowestActiveVersion) +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
@@ -62,7 +62,18 @@ public class SDMSEntityVariableGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"SME_ID",
+		"NAME",
+		"VALUE",
+		"IS_LOCAL",
+		"EV_LINK",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("ENTITY_VARIABLE", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -459,7 +470,7 @@ public class SDMSEntityVariableGeneric extends SDMSObject
 			myInsert.setLong (8, createTs.longValue());
 			myInsert.setLong (9, changerUId.longValue());
 			myInsert.setLong (10, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "EntityVariable: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -483,7 +494,7 @@ public class SDMSEntityVariableGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "EntityVariable: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -492,49 +503,56 @@ public class SDMSEntityVariableGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSEntityVariableGeneric o = (SDMSEntityVariableGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(smeId, o.smeId)) dirty.set(0);
+		if (changed(name, o.name)) dirty.set(1);
+		if (changed(value, o.value)) dirty.set(2);
+		if (changed(isLocal, o.isLocal)) dirty.set(3);
+		if (changed(evLink, o.evLink)) dirty.set(4);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(5);
+		if (changed(createTs, o.createTs)) dirty.set(6);
+		if (changed(changerUId, o.changerUId)) dirty.set(7);
+		if (changed(changeTs, o.changeTs)) dirty.set(8);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE ENTITY_VARIABLE SET " +
-				        "" + squote + "SME_ID" + equote + " = ? " +
-				        ", " + squote + "NAME" + equote + " = ? " +
-				        ", " + squote + "VALUE" + equote + " = ? " +
-				        ", " + squote + "IS_LOCAL" + equote + " = ? " +
-				        ", " + squote + "EV_LINK" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "EntityVariable: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "EntityVariable: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, smeId.longValue());
-			myUpdate.setString(2, name);
-			if (value == null)
-				myUpdate.setNull(3, Types.VARCHAR);
-			else
-				myUpdate.setString(3, value);
-			myUpdate.setInt (4, isLocal.booleanValue() ? 1 : 0);
-			if (evLink == null)
-				myUpdate.setNull(5, Types.INTEGER);
-			else
-				myUpdate.setLong (5, evLink.longValue());
-			myUpdate.setLong (6, creatorUId.longValue());
-			myUpdate.setLong (7, createTs.longValue());
-			myUpdate.setLong (8, changerUId.longValue());
-			myUpdate.setLong (9, changeTs.longValue());
-			myUpdate.setLong(10, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, smeId.longValue());
+			if (dirty.get(1))
+				myUpdate.setString(p++, name);
+			if (dirty.get(2)) {
+				if (value == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, value);
+			}
+			if (dirty.get(3))
+				myUpdate.setInt (p++, isLocal.booleanValue() ? 1 : 0);
+			if (dirty.get(4)) {
+				if (evLink == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, evLink.longValue());
+			}
+			if (dirty.get(5))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(6))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(7))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(8))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "EntityVariable: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -172,18 +172,18 @@ public class SDMSEntityVariableTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			smeId = new Long (r.getLong(2));
+			id     = Long.valueOf (r.getLong(1));
+			smeId = Long.valueOf (r.getLong(2));
 			name = r.getString(3);
 			value = r.getString(4);
 			if (r.wasNull()) value = null;
-			isLocal = new Boolean ((r.getInt(5) == 0 ? false : true));
-			evLink = new Long (r.getLong(6));
+			isLocal = Boolean.valueOf ((r.getInt(5) == 0 ? false : true));
+			evLink = Long.valueOf (r.getLong(6));
 			if (r.wasNull()) evLink = null;
-			creatorUId = new Long (r.getLong(7));
-			createTs = new Long (r.getLong(8));
-			changerUId = new Long (r.getLong(9));
-			changeTs = new Long (r.getLong(10));
+			creatorUId = Long.valueOf (r.getLong(7));
+			createTs = Long.valueOf (r.getLong(8));
+			changerUId = Long.valueOf (r.getLong(9));
+			changeTs = Long.valueOf (r.getLong(10));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -207,34 +207,24 @@ public class SDMSEntityVariableTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "SME_ID" + equote +
-		                                   ", " + squote + "NAME" + equote +
-		                                   ", " + squote + "VALUE" + equote +
-		                                   ", " + squote + "IS_LOCAL" + equote +
-		                                   ", " + squote + "EV_LINK" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   " FROM " + tableName() + ", " +
-		                                   "       SME2LOAD " +
-		                                   " WHERE " + tableName() + ".SME_ID = SME2LOAD.ID"
-		                                  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "SME_ID" + equote +
+		               ", " + squote + "NAME" + equote +
+		               ", " + squote + "VALUE" + equote +
+		               ", " + squote + "IS_LOCAL" + equote +
+		               ", " + squote + "EV_LINK" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               " FROM " + tableName() + ", " +
+		               "       SME2LOAD " +
+		               " WHERE " + tableName() + ".SME_ID = SME2LOAD.ID"
+		              );
 	}
 
 	public String checkIndex(SDMSObject o)
@@ -58,7 +58,16 @@ public class SDMSEventGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"NAME",
+		"OWNER_ID",
+		"SE_ID",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("EVENT", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -352,7 +361,7 @@ public class SDMSEventGeneric extends SDMSObject
 			myInsert.setLong (6, createTs.longValue());
 			myInsert.setLong (7, changerUId.longValue());
 			myInsert.setLong (8, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "Event: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -376,7 +385,7 @@ public class SDMSEventGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "Event: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -385,42 +394,46 @@ public class SDMSEventGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSEventGeneric o = (SDMSEventGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(name, o.name)) dirty.set(0);
+		if (changed(ownerId, o.ownerId)) dirty.set(1);
+		if (changed(seId, o.seId)) dirty.set(2);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(3);
+		if (changed(createTs, o.createTs)) dirty.set(4);
+		if (changed(changerUId, o.changerUId)) dirty.set(5);
+		if (changed(changeTs, o.changeTs)) dirty.set(6);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE EVENT SET " +
-				        "" + squote + "NAME" + equote + " = ? " +
-				        ", " + squote + "OWNER_ID" + equote + " = ? " +
-				        ", " + squote + "SE_ID" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "Event: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "Event: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setString(1, name);
-			myUpdate.setLong (2, ownerId.longValue());
-			if (seId == null)
-				myUpdate.setNull(3, Types.INTEGER);
-			else
-				myUpdate.setLong (3, seId.longValue());
-			myUpdate.setLong (4, creatorUId.longValue());
-			myUpdate.setLong (5, createTs.longValue());
-			myUpdate.setLong (6, changerUId.longValue());
-			myUpdate.setLong (7, changeTs.longValue());
-			myUpdate.setLong(8, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setString(p++, name);
+			if (dirty.get(1))
+				myUpdate.setLong (p++, ownerId.longValue());
+			if (dirty.get(2)) {
+				if (seId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, seId.longValue());
+			}
+			if (dirty.get(3))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(4))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(5))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(6))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "Event: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
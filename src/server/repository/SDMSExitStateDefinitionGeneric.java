@@ -274,7 +274,7 @@ public class SDMSExitStateDefinitionGeneric extends SDMSObject
 			myInsert.setLong (6, changeTs.longValue());
 			myInsert.setLong(7, env.tx.versionId);
 			myInsert.setLong(8, Long.MAX_VALUE);
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "ExitStateDefinition: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -324,7 +324,7 @@ public class SDMSExitStateDefinitionGeneric extends SDMSObject
 			myUpdate.setLong(2, changeTs.longValue());
 			myUpdate.setLong(3, changerUId.longValue());
 			myUpdate.setLong(4, id.longValue());
-			myUpdate.executeUpdate();
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181956", "ExitStateDefinition: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
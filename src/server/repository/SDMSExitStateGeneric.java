@@ -562,7 +562,7 @@ public class SDMSExitStateGeneric extends SDMSObject
 			myInsert.setLong (14, changeTs.longValue());
 			myInsert.setLong(15, env.tx.versionId);
 			myInsert.setLong(16, Long.MAX_VALUE);
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "ExitState: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -612,7 +612,7 @@ public class SDMSExitStateGeneric extends SDMSObject
 			myUpdate.setLong(2, changeTs.longValue());
 			myUpdate.setLong(3, changerUId.longValue());
 			myUpdate.setLong(4, id.longValue());
-			myUpdate.executeUpdate();
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181956", "ExitState: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
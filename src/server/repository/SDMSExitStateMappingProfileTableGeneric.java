@@ -145,12 +145,12 @@ public class SDMSExitStateMappingProfileTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
+			id     = Long.valueOf (r.getLong(1));
 			name = r.getString(2);
-			creatorUId = new Long (r.getLong(3));
-			createTs = new Long (r.getLong(4));
-			changerUId = new Long (r.getLong(5));
-			changeTs = new Long (r.getLong(6));
+			creatorUId = Long.valueOf (r.getLong(3));
+			createTs = Long.valueOf (r.getLong(4));
+			changerUId = Long.valueOf (r.getLong(5));
+			changeTs = Long.valueOf (r.getLong(6));
 			validFrom = r.getLong(7);
 			validTo = r.getLong(8);
 		} catch(SQLException sqle) {
@@ -170,32 +170,22 @@ public class SDMSExitStateMappingProfileTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "NAME" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", VALID_FROM, VALID_TO " +
-		                                   " FROM " + tableName() +
-		                                   " WHERE VALID_TO >= " + (postgres ?
-		                                                   "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
-		                                                   "" + env.lowestActiveVersion) +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "NAME" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", VALID_FROM, VALID_TO " +
+		               " FROM " + tableName() +
+		               " WHERE VALID_TO >= " + (postgres ?
+		                               "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
+		                               "" + env.lowestActiveVersion) +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
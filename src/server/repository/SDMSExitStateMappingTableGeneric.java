@@ -168,17 +168,17 @@ public class SDMSExitStateMappingTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			esmpId = new Long (r.getLong(2));
-			esdId = new Long (r.getLong(3));
-			ecrStart = new Integer (r.getInt(4));
+			id     = Long.valueOf (r.getLong(1));
+			esmpId = Long.valueOf (r.getLong(2));
+			esdId = Long.valueOf (r.getLong(3));
+			ecrStart = Integer.valueOf (r.getInt(4));
 			if (r.wasNull()) ecrStart = null;
-			ecrEnd = new Integer (r.getInt(5));
+			ecrEnd = Integer.valueOf (r.getInt(5));
 			if (r.wasNull()) ecrEnd = null;
-			creatorUId = new Long (r.getLong(6));
-			createTs = new Long (r.getLong(7));
-			changerUId = new Long (r.getLong(8));
-			changeTs = new Long (r.getLong(9));
+			creatorUId = Long.valueOf (r.getLong(6));
+			createTs = Long.valueOf (r.getLong(7));
+			changerUId = Long.valueOf (r.getLong(8));
+			changeTs = Long.valueOf (r.getLong(9));
 			validFrom = r.getLong(10);
 			validTo = r.getLong(11);
 		} catch(SQLException sqle) {
@@ -201,35 +201,25 @@ public class SDMSExitStateMappingTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "ESMP_ID" + equote +
-		                                   ", " + squote + "ESD_ID" + equote +
-		                                   ", " + squote + "ECR_START" + equote +
-		                                   ", " + squote + "ECR_END" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", VALID_FROM, VALID_TO " +
-		                                   " FROM " + tableName() +
-		                                   " WHERE VALID_TO >= " + (postgres ?
-		                                                   "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
-		                                                   "" + env.lowestActiveVersion) +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "ESMP_ID" + equote +
+		               ", " + squote + "ESD_ID" + equote +
+		               ", " + squote + "ECR_START" + equote +
+		               ", " + squote + "ECR_END" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", VALID_FROM, VALID_TO " +
+		               " FROM " + tableName() +
+		               " WHERE VALID_TO >= " + (postgres ?
+		                               "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
+		                               "" + env.lowestActiveVersion) +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
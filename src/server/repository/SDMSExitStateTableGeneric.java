@@ -198,20 +198,20 @@ public class SDMSExitStateTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			preference = new Integer (r.getInt(2));
-			isFinal = new Boolean ((r.getInt(3) == 0 ? false : true));
-			isRestartable = new Boolean ((r.getInt(4) == 0 ? false : true));
-			isUnreachable = new Boolean ((r.getInt(5) == 0 ? false : true));
-			isBroken = new Boolean ((r.getInt(6) == 0 ? false : true));
-			isBatchDefault = new Boolean ((r.getInt(7) == 0 ? false : true));
-			isDependencyDefault = new Boolean ((r.getInt(8) == 0 ? false : true));
-			espId = new Long (r.getLong(9));
-			esdId = new Long (r.getLong(10));
-			creatorUId = new Long (r.getLong(11));
-			createTs = new Long (r.getLong(12));
-			changerUId = new Long (r.getLong(13));
-			changeTs = new Long (r.getLong(14));
+			id     = Long.valueOf (r.getLong(1));
+			preference = Integer.valueOf (r.getInt(2));
+			isFinal = Boolean.valueOf ((r.getInt(3) == 0 ? false : true));
+			isRestartable = Boolean.valueOf ((r.getInt(4) == 0 ? false : true));
+			isUnreachable = Boolean.valueOf ((r.getInt(5) == 0 ? false : true));
+			isBroken = Boolean.valueOf ((r.getInt(6) == 0 ? false : true));
+			isBatchDefault = Boolean.valueOf ((r.getInt(7) == 0 ? false : true));
+			isDependencyDefault = Boolean.valueOf ((r.getInt(8) == 0 ? false : true));
+			espId = Long.valueOf (r.getLong(9));
+			esdId = Long.valueOf (r.getLong(10));
+			creatorUId = Long.valueOf (r.getLong(11));
+			createTs = Long.valueOf (r.getLong(12));
+			changerUId = Long.valueOf (r.getLong(13));
+			changeTs = Long.valueOf (r.getLong(14));
 			validFrom = r.getLong(15);
 			validTo = r.getLong(16);
 		} catch(SQLException sqle) {
@@ -239,40 +239,30 @@ public class SDMSExitStateTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "PREFERENCE" + equote +
-		                                   ", " + squote + "IS_FINAL" + equote +
-		                                   ", " + squote + "IS_RESTARTABLE" + equote +
-		                                   ", " + squote + "IS_UNREACHABLE" + equote +
-		                                   ", " + squote + "IS_BROKEN" + equote +
-		                                   ", " + squote + "IS_BATCH_DEFAULT" + equote +
-		                                   ", " + squote + "IS_DEPENDENCY_DEFAULT" + equote +
-		                                   ", " + squote + "ESP_ID" + equote +
-		                                   ", " + squote + "ESD_ID" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", VALID_FROM, VALID_TO " +
-		                                   " FROM " + tableName() +
-		                                   " WHERE VALID_TO >= " + (postgres ?
-		                                                   "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
-		                                                   "" + env.lowestActiveVersion) +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "PREFERENCE" + equote +
+		               ", " + squote + "IS_FINAL" + equote +
+		               ", " + squote + "IS_RESTARTABLE" + equote +
+		               ", " + squote + "IS_UNREACHABLE" + equote +
+		               ", " + squote + "IS_BROKEN" + equote +
+		               ", " + squote + "IS_BATCH_DEFAULT" + equote +
+		               ", " + squote + "IS_DEPENDENCY_DEFAULT" + equote +
+		               ", " + squote + "ESP_ID" + equote +
+		               ", " + squote + "ESD_ID" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", VALID_FROM, VALID_TO " +
+		               " FROM " + tableName() +
+		               " WHERE VALID_TO >= " + (postgres ?
+		                               "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
+		                               "" + env.lowestActiveVersion) +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
@@ -366,7 +366,7 @@ public class SDMSExitStateTranslationGeneric extends SDMSObject
 			myInsert.setLong (8, changeTs.longValue());
 			myInsert.setLong(9, env.tx.versionId);
 			myInsert.setLong(10, Long.MAX_VALUE);
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "ExitStateTranslation: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -416,7 +416,7 @@ public class SDMSExitStateTranslationGeneric extends SDMSObject
 			myUpdate.setLong(2, changeTs.longValue());
 			myUpdate.setLong(3, changerUId.longValue());
 			myUpdate.setLong(4, id.longValue());
-			myUpdate.executeUpdate();
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181956", "ExitStateTranslation: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -460,7 +460,7 @@ public class SDMSFolderGeneric extends SDMSObject
 			myInsert.setLong (10, inheritPrivs.longValue());
 			myInsert.setLong(11, env.tx.versionId);
 			myInsert.setLong(12, Long.MAX_VALUE);
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "Folder: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -510,7 +510,7 @@ public class SDMSFolderGeneric extends SDMSObject
 			myUpdate.setLong(2, changeTs.longValue());
 			myUpdate.setLong(3, changerUId.longValue());
 			myUpdate.setLong(4, id.longValue());
-			myUpdate.executeUpdate();
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181956", "Folder: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -90,7 +90,18 @@ public class SDMSGrantGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"OBJECT_ID",
+		"G_ID",
+		"OBJECT_TYPE",
+		"PRIVS",
+		"DELETE_VERSION",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("GRANTS", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -511,7 +522,7 @@ public class SDMSGrantGeneric extends SDMSObject
 			myInsert.setLong (8, createTs.longValue());
 			myInsert.setLong (9, changerUId.longValue());
 			myInsert.setLong (10, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "Grant: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -535,7 +546,7 @@ public class SDMSGrantGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "Grant: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -544,46 +555,52 @@ public class SDMSGrantGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSGrantGeneric o = (SDMSGrantGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(objectId, o.objectId)) dirty.set(0);
+		if (changed(gId, o.gId)) dirty.set(1);
+		if (changed(objectType, o.objectType)) dirty.set(2);
+		if (changed(privs, o.privs)) dirty.set(3);
+		if (changed(deleteVersion, o.deleteVersion)) dirty.set(4);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(5);
+		if (changed(createTs, o.createTs)) dirty.set(6);
+		if (changed(changerUId, o.changerUId)) dirty.set(7);
+		if (changed(changeTs, o.changeTs)) dirty.set(8);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE GRANTS SET " +
-				        "" + squote + "OBJECT_ID" + equote + " = ? " +
-				        ", " + squote + "G_ID" + equote + " = ? " +
-				        ", " + squote + "OBJECT_TYPE" + equote + " = ? " +
-				        ", " + squote + "PRIVS" + equote + " = ? " +
-				        ", " + squote + "DELETE_VERSION" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "Grant: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "Grant: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, objectId.longValue());
-			myUpdate.setLong (2, gId.longValue());
-			myUpdate.setInt(3, objectType.intValue());
-			myUpdate.setLong (4, privs.longValue());
-			if (deleteVersion == null)
-				myUpdate.setNull(5, Types.INTEGER);
-			else
-				myUpdate.setLong (5, deleteVersion.longValue());
-			myUpdate.setLong (6, creatorUId.longValue());
-			myUpdate.setLong (7, createTs.longValue());
-			myUpdate.setLong (8, changerUId.longValue());
-			myUpdate.setLong (9, changeTs.longValue());
-			myUpdate.setLong(10, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, objectId.longValue());
+			if (dirty.get(1))
+				myUpdate.setLong (p++, gId.longValue());
+			if (dirty.get(2))
+				myUpdate.setInt(p++, objectType.intValue());
+			if (dirty.get(3))
+				myUpdate.setLong (p++, privs.longValue());
+			if (dirty.get(4)) {
+				if (deleteVersion == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, deleteVersion.longValue());
+			}
+			if (dirty.get(5))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(6))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(7))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(8))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "Grant: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
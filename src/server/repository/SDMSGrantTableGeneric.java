@@ -176,17 +176,17 @@ public class SDMSGrantTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			objectId = new Long (r.getLong(2));
-			gId = new Long (r.getLong(3));
-			objectType = new Integer (r.getInt(4));
-			privs = new Long (r.getLong(5));
-			deleteVersion = new Long (r.getLong(6));
+			id     = Long.valueOf (r.getLong(1));
+			objectId = Long.valueOf (r.getLong(2));
+			gId = Long.valueOf (r.getLong(3));
+			objectType = Integer.valueOf (r.getInt(4));
+			privs = Long.valueOf (r.getLong(5));
+			deleteVersion = Long.valueOf (r.getLong(6));
 			if (r.wasNull()) deleteVersion = null;
-			creatorUId = new Long (r.getLong(7));
-			createTs = new Long (r.getLong(8));
-			changerUId = new Long (r.getLong(9));
-			changeTs = new Long (r.getLong(10));
+			creatorUId = Long.valueOf (r.getLong(7));
+			createTs = Long.valueOf (r.getLong(8));
+			changerUId = Long.valueOf (r.getLong(9));
+			changeTs = Long.valueOf (r.getLong(10));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -210,32 +210,22 @@ public class SDMSGrantTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "OBJECT_ID" + equote +
-		                                   ", " + squote + "G_ID" + equote +
-		                                   ", " + squote + "OBJECT_TYPE" + equote +
-		                                   ", " + squote + "PRIVS" + equote +
-		                                   ", " + squote + "DELETE_VERSION" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "OBJECT_ID" + equote +
+		               ", " + squote + "G_ID" + equote +
+		               ", " + squote + "OBJECT_TYPE" + equote +
+		               ", " + squote + "PRIVS" + equote +
+		               ", " + squote + "DELETE_VERSION" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
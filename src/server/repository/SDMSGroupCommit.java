@@ -0,0 +1,169 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software:
+you can redistribute it and/or modify it under the terms of the
+GNU Affero General Public License as published by the
+Free Software Foundation, either version 3 of the License,
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+package de.independit.scheduler.server.repository;
+
+import java.lang.*;
+import java.util.*;
+
+import de.independit.scheduler.server.*;
+import de.independit.scheduler.server.exception.*;
+import de.independit.scheduler.server.util.*;
+
+public class SDMSGroupCommit
+{
+	// Writers reaching their commit point within GroupCommitWindow ms form a group.
+	// The first one (the leader) flushes the changes of all members on its own connection
+	// and commits them with one database commit. Afterwards the members apply their changes
+	// to the repository in the order of their versionIds.
+	// If the group commit fails, every member commits on its own as before.
+
+	public static long groups = 0;
+	public static long groupedTx = 0;
+
+	private static Group current = null;
+
+	protected static class Group
+	{
+		private final Vector<SDMSTransaction> members = new Vector<SDMSTransaction>();
+		private boolean sealed = false;
+		private boolean done = false;
+		private boolean failed = false;
+		private SDMSTransaction[] order = null;
+		private int applied = 0;
+
+		private synchronized void finish(boolean success)
+		{
+			failed = !success;
+			done = true;
+			if (success) {
+				order = members.toArray(new SDMSTransaction[members.size()]);
+				Arrays.sort(order, new Comparator<SDMSTransaction>() {
+					public int compare(SDMSTransaction t1, SDMSTransaction t2)
+					{
+						if (t1.versionId < t2.versionId) return -1;
+						if (t1.versionId > t2.versionId) return 1;
+						return 0;
+					}
+				});
+			}
+			notifyAll();
+		}
+
+		private synchronized void awaitDone()
+		{
+			boolean interrupted = false;
+			while (!done) {
+				try {
+					wait();
+				} catch (InterruptedException ie) {
+					interrupted = true;
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+
+		protected synchronized void awaitTurn(SDMSTransaction tx)
+		{
+			boolean interrupted = false;
+			while (order[applied] != tx) {
+				try {
+					wait();
+				} catch (InterruptedException ie) {
+					interrupted = true;
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+
+		protected synchronized void turnDone()
+		{
+			applied ++;
+			notifyAll();
+		}
+	}
+
+	// returns the group the transaction has been committed with, or null if it has to commit on its own
+	protected static Group commit(SystemEnvironment env, SDMSTransaction tx)
+		throws SDMSException
+	{
+		Group g;
+		boolean leader = false;
+		synchronized (SDMSGroupCommit.class) {
+			g = current;
+			if (g == null || g.sealed) {
+				g = new Group();
+				current = g;
+				leader = true;
+			}
+			g.members.add(tx);
+			if (g.members.size() >= SystemEnvironment.groupCommitSize) {
+				g.sealed = true;
+				SDMSGroupCommit.class.notifyAll();
+			}
+			if (leader) {
+				long end = System.currentTimeMillis() + SystemEnvironment.groupCommitWindow;
+				long w;
+				while (!g.sealed && (w = end - System.currentTimeMillis()) > 0) {
+					try {
+						SDMSGroupCommit.class.wait(w);
+					} catch (InterruptedException ie) {
+						break;
+					}
+				}
+				g.sealed = true;
+				if (current == g)
+					current = null;
+			}
+		}
+
+		if (!leader) {
+			g.awaitDone();
+			return (g.failed ? null : g);
+		}
+
+		if (g.members.size() == 1) {
+			g.finish(false);
+			return null;
+		}
+
+		boolean success = false;
+		try {
+			success = tx.commitGroup(env, g.members);
+		} finally {
+			g.finish(success);
+		}
+		if (!success)
+			return null;
+		synchronized (SDMSGroupCommit.class) {
+			groups ++;
+			groupedTx += g.members.size();
+		}
+		SDMSThread.doTrace(null, "Group commit of " + g.members.size() + " transactions", SDMSThread.SEVERITY_DEBUG);
+		return g;
+	}
+}
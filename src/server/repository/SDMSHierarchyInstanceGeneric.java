@@ -66,7 +66,20 @@ public class SDMSHierarchyInstanceGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"PARENT_ID",
+		"CHILD_ID",
+		"SH_ID",
+		"NICE",
+		"CHILD_ESD_ID",
+		"CHILD_ES_PREFERENCE",
+		"SE_VERSION",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("HIERARCHY_INSTANCE", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -495,7 +508,7 @@ public class SDMSHierarchyInstanceGeneric extends SDMSObject
 			myInsert.setLong (10, createTs.longValue());
 			myInsert.setLong (11, changerUId.longValue());
 			myInsert.setLong (12, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "HierarchyInstance: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -519,7 +532,7 @@ public class SDMSHierarchyInstanceGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "HierarchyInstance: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -528,53 +541,62 @@ public class SDMSHierarchyInstanceGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSHierarchyInstanceGeneric o = (SDMSHierarchyInstanceGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(parentId, o.parentId)) dirty.set(0);
+		if (changed(childId, o.childId)) dirty.set(1);
+		if (changed(shId, o.shId)) dirty.set(2);
+		if (changed(nice, o.nice)) dirty.set(3);
+		if (changed(childEsdId, o.childEsdId)) dirty.set(4);
+		if (changed(childEsPreference, o.childEsPreference)) dirty.set(5);
+		if (changed(seVersionHi, o.seVersionHi)) dirty.set(6);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(7);
+		if (changed(createTs, o.createTs)) dirty.set(8);
+		if (changed(changerUId, o.changerUId)) dirty.set(9);
+		if (changed(changeTs, o.changeTs)) dirty.set(10);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE HIERARCHY_INSTANCE SET " +
-				        "" + squote + "PARENT_ID" + equote + " = ? " +
-				        ", " + squote + "CHILD_ID" + equote + " = ? " +
-				        ", " + squote + "SH_ID" + equote + " = ? " +
-				        ", " + squote + "NICE" + equote + " = ? " +
-				        ", " + squote + "CHILD_ESD_ID" + equote + " = ? " +
-				        ", " + squote + "CHILD_ES_PREFERENCE" + equote + " = ? " +
-				        ", " + squote + "SE_VERSION" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "HierarchyInstance: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "HierarchyInstance: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, parentId.longValue());
-			myUpdate.setLong (2, childId.longValue());
-			myUpdate.setLong (3, shId.longValue());
-			myUpdate.setInt(4, nice.intValue());
-			if (childEsdId == null)
-				myUpdate.setNull(5, Types.INTEGER);
-			else
-				myUpdate.setLong (5, childEsdId.longValue());
-			if (childEsPreference == null)
-				myUpdate.setNull(6, Types.INTEGER);
-			else
-				myUpdate.setInt(6, childEsPreference.intValue());
-			myUpdate.setLong (7, seVersionHi.longValue());
-			myUpdate.setLong (8, creatorUId.longValue());
-			myUpdate.setLong (9, createTs.longValue());
-			myUpdate.setLong (10, changerUId.longValue());
-			myUpdate.setLong (11, changeTs.longValue());
-			myUpdate.setLong(12, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, parentId.longValue());
+			if (dirty.get(1))
+				myUpdate.setLong (p++, childId.longValue());
+			if (dirty.get(2))
+				myUpdate.setLong (p++, shId.longValue());
+			if (dirty.get(3))
+				myUpdate.setInt(p++, nice.intValue());
+			if (dirty.get(4)) {
+				if (childEsdId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, childEsdId.longValue());
+			}
+			if (dirty.get(5)) {
+				if (childEsPreference == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, childEsPreference.intValue());
+			}
+			if (dirty.get(6))
+				myUpdate.setLong (p++, seVersionHi.longValue());
+			if (dirty.get(7))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(8))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(9))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(10))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "HierarchyInstance: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
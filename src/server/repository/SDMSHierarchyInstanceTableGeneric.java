@@ -186,20 +186,20 @@ public class SDMSHierarchyInstanceTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			parentId = new Long (r.getLong(2));
-			childId = new Long (r.getLong(3));
-			shId = new Long (r.getLong(4));
-			nice = new Integer (r.getInt(5));
-			childEsdId = new Long (r.getLong(6));
+			id     = Long.valueOf (r.getLong(1));
+			parentId = Long.valueOf (r.getLong(2));
+			childId = Long.valueOf (r.getLong(3));
+			shId = Long.valueOf (r.getLong(4));
+			nice = Integer.valueOf (r.getInt(5));
+			childEsdId = Long.valueOf (r.getLong(6));
 			if (r.wasNull()) childEsdId = null;
-			childEsPreference = new Integer (r.getInt(7));
+			childEsPreference = Integer.valueOf (r.getInt(7));
 			if (r.wasNull()) childEsPreference = null;
-			seVersionHi = new Long (r.getLong(8));
-			creatorUId = new Long (r.getLong(9));
-			createTs = new Long (r.getLong(10));
-			changerUId = new Long (r.getLong(11));
-			changeTs = new Long (r.getLong(12));
+			seVersionHi = Long.valueOf (r.getLong(8));
+			creatorUId = Long.valueOf (r.getLong(9));
+			createTs = Long.valueOf (r.getLong(10));
+			changerUId = Long.valueOf (r.getLong(11));
+			changeTs = Long.valueOf (r.getLong(12));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -225,36 +225,26 @@ public class SDMSHierarchyInstanceTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "PARENT_ID" + equote +
-		                                   ", " + squote + "CHILD_ID" + equote +
-		                                   ", " + squote + "SH_ID" + equote +
-		                                   ", " + squote + "NICE" + equote +
-		                                   ", " + squote + "CHILD_ESD_ID" + equote +
-		                                   ", " + squote + "CHILD_ES_PREFERENCE" + equote +
-		                                   ", " + squote + "SE_VERSION" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   "  FROM " + tableName() + ", " +
-		                                   "       SME2LOAD " +
-		                                   " WHERE " + tableName() + ".PARENT_ID = SME2LOAD.ID"
-		                                  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "PARENT_ID" + equote +
+		               ", " + squote + "CHILD_ID" + equote +
+		               ", " + squote + "SH_ID" + equote +
+		               ", " + squote + "NICE" + equote +
+		               ", " + squote + "CHILD_ESD_ID" + equote +
+		               ", " + squote + "CHILD_ES_PREFERENCE" + equote +
+		               ", " + squote + "SE_VERSION" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               "  FROM " + tableName() + ", " +
+		               "       SME2LOAD " +
+		               " WHERE " + tableName() + ".PARENT_ID = SME2LOAD.ID"
+		              );
 	}
 
 	public String checkIndex(SDMSObject o)
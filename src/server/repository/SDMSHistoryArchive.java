@@ -0,0 +1,492 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software: 
+you can redistribute it and/or modify it under the terms of the 
+GNU Affero General Public License as published by the 
+Free Software Foundation, either version 3 of the License, 
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+
+
+package de.independit.scheduler.server.repository;
+
+import java.lang.*;
+import java.lang.reflect.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import de.independit.scheduler.server.*;
+import de.independit.scheduler.server.exception.*;
+import de.independit.scheduler.server.util.*;
+
+public class SDMSHistoryArchive
+{
+	// Final masters released by the GarbageThread are kept here for HistoryArchive minutes.
+	// The tree of a master (submitted entities, hierarchy and dependency instances, entity
+	// variables and kill jobs) is encoded into direct buffers outside the Java heap.
+	// If a job of an archived master is accessed by its id, the whole tree is faulted back
+	// into the tables and stays there until the next garbage collection releases it again.
+	// Every archived master keeps its seVersion in the seVersionList, hence the definitions
+	// a faulted in tree refers to are still in memory.
+
+	public static SDMSHistoryArchive archive = null;
+
+	private final static int SEGMENT_SIZE = 4 * 1024 * 1024;
+
+	private final static int SME = 0;
+	private final static int HI  = 1;
+	private final static int DI  = 2;
+	private final static int EV  = 3;
+	private final static int KJ  = 4;
+
+	private final ArchiveCodec codecs[] = new ArchiveCodec[5];
+
+	private final HashMap<Long,Entry> masters = new HashMap<Long,Entry>();
+	// all jobs of the archived trees, the masters included
+	private final HashMap<Long,Entry> jobs = new HashMap<Long,Entry>();
+	private final LinkedList<Segment> segments = new LinkedList<Segment>();
+	private long size = 0;
+	private long faults = 0;
+
+	private static class Segment
+	{
+		private final ByteBuffer buffer;
+		private final Vector<Entry> entries = new Vector<Entry>();
+		private int live = 0;
+
+		private Segment(int capacity)
+		{
+			buffer = ByteBuffer.allocateDirect(capacity);
+		}
+	}
+
+	private static class Entry
+	{
+		private Long masterId;
+		private long seVersion;
+		private long finalTs;
+		private Long jobIds[];
+		private Segment segment;
+		private int offset;
+		private int length;
+	}
+
+	public SDMSHistoryArchive(SystemEnvironment env)
+		throws SDMSException
+	{
+		codecs[SME] = new ArchiveCodec(env, SDMSSubmittedEntityTable.table, SDMSSubmittedEntityGeneric.class);
+		codecs[HI]  = new ArchiveCodec(env, SDMSHierarchyInstanceTable.table, SDMSHierarchyInstanceGeneric.class);
+		codecs[DI]  = new ArchiveCodec(env, SDMSDependencyInstanceTable.table, SDMSDependencyInstanceGeneric.class);
+		codecs[EV]  = new ArchiveCodec(env, SDMSEntityVariableTable.table, SDMSEntityVariableGeneric.class);
+		codecs[KJ]  = new ArchiveCodec(env, SDMSKillJobTable.table, SDMSKillJobGeneric.class);
+		SDMSThread.doTrace(null, "History archive enabled, size limit " + SystemEnvironment.historyArchiveSize + " bytes", SDMSThread.SEVERITY_INFO);
+	}
+
+	// Archives the tree of a final master, the caller releases it afterwards.
+	// The tree is encoded without holding the monitor, as the index lookups might have to wait for locks.
+	public boolean add(SystemEnvironment sysEnv, SDMSSubmittedEntity sme)
+		throws SDMSException
+	{
+		ArchiveWriter w = new ArchiveWriter();
+		Vector<Long> jobIds = new Vector<Long>();
+		encodeTree(sysEnv, sme, w, jobIds, new HashSet<Long>());
+
+		Entry e = new Entry();
+		e.masterId = sme.getId(sysEnv);
+		e.seVersion = sme.getSeVersion(sysEnv).longValue();
+		e.finalTs = sme.getFinalTs(sysEnv).longValue();
+		e.jobIds = jobIds.toArray(new Long[jobIds.size()]);
+		return store(sysEnv, e, w);
+	}
+
+	private synchronized boolean store(SystemEnvironment sysEnv, Entry e, ArchiveWriter w)
+		throws SDMSException
+	{
+		// a master which has been archived before might be released again after a rollback or a fault in
+		remove(sysEnv, masters.get(e.masterId), true);
+
+		Segment s = (segments.isEmpty() ? null : segments.getLast());
+		if (s == null || s.buffer.remaining() < w.length) {
+			int capacity = Math.max(SEGMENT_SIZE, w.length);
+			if (capacity > SystemEnvironment.historyArchiveSize)
+				return false;
+			while (!segments.isEmpty() && size + capacity > SystemEnvironment.historyArchiveSize)
+				evict(sysEnv, segments.getFirst());
+			try {
+				s = new Segment(capacity);
+			} catch (OutOfMemoryError oom) {
+				SDMSThread.doTrace(null, "Cannot allocate " + capacity + " bytes for the history archive : " + oom.getMessage(), SDMSThread.SEVERITY_WARNING);
+				return false;
+			}
+			segments.add(s);
+			size += capacity;
+		}
+		e.segment = s;
+		e.offset = s.buffer.position();
+		e.length = w.length;
+		s.buffer.put(w.buffer, 0, w.length);
+		s.entries.add(e);
+		s.live++;
+
+		sysEnv.seVersionList.add(sysEnv, e.seVersion);
+		masters.put(e.masterId, e);
+		for (int i = 0; i < e.jobIds.length; ++i)
+			jobs.put(e.jobIds[i], e);
+		return true;
+	}
+
+	// Puts the tree containing the job with the given id back into the tables.
+	// Returns false if the job isn't archived or its tree hasn't been purged from the tables yet.
+	public synchronized boolean faultIn(SystemEnvironment sysEnv, Long id)
+		throws SDMSException
+	{
+		Entry e = jobs.get(id);
+		if (e == null)
+			return false;
+
+		byte b[] = new byte[e.length];
+		ByteBuffer buf = e.segment.buffer.duplicate();
+		buf.position(e.offset);
+		buf.get(b);
+		ArchiveReader r = new ArchiveReader(b);
+
+		Vector<SDMSObject> objects = new Vector<SDMSObject>();
+		Vector<SDMSTable> tables = new Vector<SDMSTable>();
+		while (r.pos < b.length) {
+			int t = r.getByte();
+			SDMSObject o = codecs[t].decode(sysEnv, r);
+			if (codecs[t].table.contains(o.id)) {
+				// a dependency is shared with the tree of another master, which has been faulted in before
+				if (t == DI)
+					continue;
+				return false;
+			}
+			objects.add(o);
+			tables.add(codecs[t].table);
+		}
+		for (int i = 0; i < objects.size(); ++i)
+			tables.get(i).addArchivedObject(sysEnv, objects.get(i));
+
+		// the master is in memory again and takes over the seVersion
+		remove(sysEnv, e, false);
+		++faults;
+		SDMSThread.doTrace(null, "Faulted in master " + e.masterId + " (" + objects.size() + " objects) from the history archive", SDMSThread.SEVERITY_DEBUG);
+		return true;
+	}
+
+	// Drops the masters which are final for longer than HistoryArchive minutes
+	public synchronized void expire(SystemEnvironment sysEnv, long now)
+		throws SDMSException
+	{
+		Entry ea[] = masters.values().toArray(new Entry[masters.size()]);
+		for (int i = 0; i < ea.length; ++i) {
+			if (now - ea[i].finalTs > SystemEnvironment.historyArchiveTime)
+				remove(sysEnv, ea[i], true);
+		}
+		SDMSThread.doTrace(null, "History archive holds " + masters.size() + " masters with " + jobs.size() + " jobs in " +
+		                   segments.size() + " segments (" + size + " bytes), " + faults + " faults", SDMSThread.SEVERITY_INFO);
+	}
+
+	private void evict(SystemEnvironment sysEnv, Segment s)
+		throws SDMSException
+	{
+		for (int i = 0; i < s.entries.size(); ++i) {
+			Entry e = s.entries.get(i);
+			if (e.segment == s)
+				remove(sysEnv, e, true);
+		}
+		if (segments.remove(s))
+			size -= s.buffer.capacity();
+	}
+
+	private void remove(SystemEnvironment sysEnv, Entry e, boolean release)
+		throws SDMSException
+	{
+		if (e == null || e.segment == null)
+			return;
+		masters.remove(e.masterId);
+		for (int i = 0; i < e.jobIds.length; ++i)
+			jobs.remove(e.jobIds[i]);
+		if (release)
+			sysEnv.seVersionList.remove(sysEnv, e.seVersion);
+
+		Segment s = e.segment;
+		e.segment = null;
+		// the direct memory is freed as soon as the buffer is garbage collected
+		if (--s.live == 0) {
+			segments.remove(s);
+			size -= s.buffer.capacity();
+		}
+	}
+
+	// the same objects as released by SDMSSubmittedEntity.release()
+	private void encodeTree(SystemEnvironment sysEnv, SDMSSubmittedEntity sme, ArchiveWriter w, Vector<Long> jobIds, HashSet<Long> diIds)
+		throws SDMSException
+	{
+		Long id = sme.getId(sysEnv);
+		int i;
+
+		jobIds.add(id);
+		encode(sysEnv, w, SME, sme);
+
+		Vector v = SDMSSubmittedEntityTable.idx_parentId.getVector(sysEnv, id);
+		for (i = 0; i < v.size(); i++)
+			encodeTree(sysEnv, (SDMSSubmittedEntity) v.get(i), w, jobIds, diIds);
+
+		v = SDMSHierarchyInstanceTable.idx_childId.getVector(sysEnv, id);
+		for (i = 0; i < v.size(); i++)
+			encode(sysEnv, w, HI, (SDMSProxy) v.get(i));
+
+		v = SDMSDependencyInstanceTable.idx_dependentId.getVector(sysEnv, id);
+		v.addAll(SDMSDependencyInstanceTable.idx_requiredId.getVector(sysEnv, id));
+		for (i = 0; i < v.size(); i++) {
+			SDMSProxy p = (SDMSProxy) v.get(i);
+			if (diIds.add(p.getId(sysEnv)))
+				encode(sysEnv, w, DI, p);
+		}
+
+		v = SDMSEntityVariableTable.idx_smeId.getVector(sysEnv, id);
+		for (i = 0; i < v.size(); i++)
+			encode(sysEnv, w, EV, (SDMSProxy) v.get(i));
+
+		v = SDMSKillJobTable.idx_smeId.getVector(sysEnv, id);
+		for (i = 0; i < v.size(); i++)
+			encode(sysEnv, w, KJ, (SDMSProxy) v.get(i));
+	}
+
+	private void encode(SystemEnvironment sysEnv, ArchiveWriter w, int t, SDMSProxy p)
+		throws SDMSException
+	{
+		w.putByte(t);
+		codecs[t].encode(sysEnv, w, p.object);
+	}
+
+	public synchronized int getMasterCount()
+	{
+		return masters.size();
+	}
+
+	public synchronized int getJobCount()
+	{
+		return jobs.size();
+	}
+
+	public synchronized long getSize()
+	{
+		return size;
+	}
+
+	public synchronized long getFaultCount()
+	{
+		return faults;
+	}
+}
+
+// Encodes the objects of a table. The columns are the instance fields declared by the generated
+// object class; nulls are flagged in a bitmap, numbers are stored as zigzag varints.
+class ArchiveCodec
+{
+	private final static int LONG    = 0;
+	private final static int INTEGER = 1;
+	private final static int STRING  = 2;
+	private final static int BOOLEAN = 3;
+
+	final SDMSTable table;
+	private final Field fields[];
+	private final int types[];
+	private final Constructor constructor;
+
+	ArchiveCodec(SystemEnvironment env, SDMSTable table, Class c)
+		throws SDMSException
+	{
+		this.table = table;
+
+		Vector<Field> v = new Vector<Field>();
+		Field fa[] = c.getDeclaredFields();
+		for (int i = 0; i < fa.length; ++i) {
+			if (!Modifier.isStatic(fa[i].getModifiers()))
+				v.add(fa[i]);
+		}
+		Collections.sort(v, new Comparator<Field>() {
+			public int compare(Field f1, Field f2)
+			{
+				return f1.getName().compareTo(f2.getName());
+			}
+		});
+		fields = v.toArray(new Field[v.size()]);
+		types = new int[fields.length];
+		for (int i = 0; i < fields.length; ++i) {
+			Class t = fields[i].getType();
+			if (t == Long.class)		types[i] = LONG;
+			else if (t == Integer.class)	types[i] = INTEGER;
+			else if (t == String.class)	types[i] = STRING;
+			else if (t == Boolean.class)	types[i] = BOOLEAN;
+			else
+				throw new FatalException(new SDMSMessage(env, "03610181701", "Cannot archive column $1 of $2",
+				                         fields[i].getName(), table.tableName()));
+		}
+
+		// the constructor used by the load takes the id, all columns and the validity
+		Constructor ctor = null;
+		Constructor ca[] = c.getDeclaredConstructors();
+		for (int i = 0; i < ca.length; ++i) {
+			Class p[] = ca[i].getParameterTypes();
+			if (p.length == fields.length + 3 && p[0] == Long.class)
+				ctor = ca[i];
+		}
+		if (ctor == null)
+			throw new FatalException(new SDMSMessage(env, "03610181702", "No load constructor for $1", table.tableName()));
+		constructor = ctor;
+	}
+
+	void encode(SystemEnvironment env, ArchiveWriter w, SDMSObject o)
+		throws SDMSException
+	{
+		Object values[] = new Object[fields.length];
+		byte nulls[] = new byte[(fields.length + 7) / 8];
+		try {
+			for (int i = 0; i < fields.length; ++i) {
+				values[i] = fields[i].get(o);
+				if (values[i] == null)
+					nulls[i >> 3] |= (1 << (i & 7));
+			}
+		} catch (IllegalAccessException iae) {
+			throw new FatalException(new SDMSMessage(env, "03610181703", "Cannot archive $1 : $2", table.tableName(), iae.toString()));
+		}
+		w.putLong(o.id.longValue());
+		for (int i = 0; i < nulls.length; ++i)
+			w.putByte(nulls[i]);
+		for (int i = 0; i < fields.length; ++i) {
+			if (values[i] == null)
+				continue;
+			switch (types[i]) {
+				case LONG:	w.putLong(((Long) values[i]).longValue());		break;
+				case INTEGER:	w.putLong(((Integer) values[i]).intValue());		break;
+				case STRING:	w.putString((String) values[i]);			break;
+				case BOOLEAN:	w.putByte(((Boolean) values[i]).booleanValue() ? 1 : 0);	break;
+			}
+		}
+	}
+
+	SDMSObject decode(SystemEnvironment env, ArchiveReader r)
+		throws SDMSException
+	{
+		Object args[] = new Object[fields.length + 3];
+		args[0] = Long.valueOf(r.getLong());
+		args[fields.length + 1] = Long.valueOf(0);
+		args[fields.length + 2] = Long.valueOf(Long.MAX_VALUE);
+		byte nulls[] = new byte[(fields.length + 7) / 8];
+		for (int i = 0; i < nulls.length; ++i)
+			nulls[i] = (byte) r.getByte();
+		try {
+			SDMSObject o = (SDMSObject) constructor.newInstance(args);
+			for (int i = 0; i < fields.length; ++i) {
+				if ((nulls[i >> 3] & (1 << (i & 7))) != 0)
+					continue;
+				switch (types[i]) {
+					case LONG:	fields[i].set(o, Long.valueOf(r.getLong()));		break;
+					case INTEGER:	fields[i].set(o, Integer.valueOf((int) r.getLong()));	break;
+					case STRING:	fields[i].set(o, r.getString());			break;
+					case BOOLEAN:	fields[i].set(o, Boolean.valueOf(r.getByte() != 0));	break;
+				}
+			}
+			return o;
+		} catch (InvocationTargetException ite) {
+			throw new FatalException(new SDMSMessage(env, "03610181704", "Cannot fault in $1 : $2", table.tableName(), ite.getCause().toString()));
+		} catch (ReflectiveOperationException roe) {
+			throw new FatalException(new SDMSMessage(env, "03610181704", "Cannot fault in $1 : $2", table.tableName(), roe.toString()));
+		}
+	}
+}
+
+class ArchiveWriter
+{
+	byte buffer[] = new byte[1024];
+	int length = 0;
+
+	private void ensure(int n)
+	{
+		if (length + n > buffer.length)
+			buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, length + n));
+	}
+
+	void putByte(int b)
+	{
+		ensure(1);
+		buffer[length++] = (byte) b;
+	}
+
+	void putLong(long v)
+	{
+		long z = (v << 1) ^ (v >> 63);
+		while ((z & ~0x7FL) != 0) {
+			putByte((int) ((z & 0x7F) | 0x80));
+			z >>>= 7;
+		}
+		putByte((int) z);
+	}
+
+	void putString(String s)
+	{
+		byte b[] = s.getBytes(StandardCharsets.UTF_8);
+		putLong(b.length);
+		ensure(b.length);
+		System.arraycopy(b, 0, buffer, length, b.length);
+		length += b.length;
+	}
+}
+
+class ArchiveReader
+{
+	final byte buffer[];
+	int pos = 0;
+
+	ArchiveReader(byte b[])
+	{
+		buffer = b;
+	}
+
+	int getByte()
+	{
+		return buffer[pos++] & 0xFF;
+	}
+
+	long getLong()
+	{
+		long z = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = getByte();
+			z |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return (z >>> 1) ^ -(z & 1);
+	}
+
+	String getString()
+	{
+		int l = (int) getLong();
+		String s = new String(buffer, pos, l, StandardCharsets.UTF_8);
+		pos += l;
+		return s;
+	}
+}
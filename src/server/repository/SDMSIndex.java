@@ -82,18 +82,14 @@ public class SDMSIndex
 		throws SDMSException
 	{
 		SDMSIndexBucket v = null;
-		synchronized(hashMap) {
-			v = (SDMSIndexBucket) hashMap.get(key);
-			if(v == null) {
-				v = new SDMSIndexBucket(this, key);
-				synchronized(v) {
-					v.modCnt ++;
-				}
-				hashMap.put(key, v);
-			} else
-				synchronized(v) {
+		while (true) {
+			v = getOrAddBucket(key);
+			synchronized(v) {
+				if (!v.detached) {
 					v.modCnt ++;
+					break;
 				}
+			}
 		}
 		if (env.maxWriter > 1 && doLockBucket) {
 			try {
@@ -131,10 +127,7 @@ public class SDMSIndex
 			SDMSObject old;
 			long checkPoint = env.newLockCp();
 
-			Object va[];
-			synchronized(v) {
-				va = v.toArray();
-			}
+			Object va[] = v.toArray();
 
 			HashSet versionsChecked = new HashSet();
 			for (int i = 0; i < va.length; ++i) {
@@ -148,12 +141,8 @@ public class SDMSIndex
 				if (!old.isCurrent) {
 					if (env.maxWriter > 1) {
 						old = ov.getRaw(env, true);
-						if (old != null) {
-							synchronized(v) {
-								if (! v.contains(old))
-									old = null;
-							}
-						}
+						if (old != null && ! v.contains(old))
+							old = null;
 					}
 				}
 
@@ -178,7 +167,9 @@ public class SDMSIndex
 					p[4] = o.id;
 					p[5] = new Long(o.validFrom);
 					p[6] = new Long(o.validTo);
-					v.modCnt --;
+					synchronized (v) {
+						v.modCnt --;
+					}
 					throw new FatalException(new SDMSMessage(env, "03110181529",
 						"Duplicate Key $1: Overlapping versionrange with same id: o[$2:$3,$4], old[$5:$6,$7]", p));
 				}
@@ -196,15 +187,14 @@ public class SDMSIndex
 		throws SDMSException
 	{
 		boolean rc = false;
-		synchronized(hashMap) {
-			SDMSIndexBucket v = (SDMSIndexBucket) hashMap.get(key);
-			if(v == null) return false;
+		SDMSIndexBucket v = (SDMSIndexBucket) hashMap.get(key);
+		if(v == null) return false;
 
-			synchronized(v) {
-				rc = v.remove(o);
-				if(v.size() == 0 && v.modCnt == 0) {
-					hashMap.remove(key);
-				}
+		synchronized(v) {
+			rc = v.remove(o);
+			if(v.size() == 0 && v.modCnt == 0 && !v.detached) {
+				v.detached = true;
+				hashMap.remove(key, v);
 			}
 		}
 
@@ -216,25 +206,33 @@ public class SDMSIndex
 		SDMSIndexBucket v = (SDMSIndexBucket) hashMap.get(key);
 		if(v == null) return false;
 
-		boolean rc;
-		synchronized(v) {
-			return v.contains(o);
+		return v.contains(o);
+	}
+
+	private SDMSIndexBucket getOrAddBucket(Object key)
+	{
+		SDMSIndexBucket v = (SDMSIndexBucket) hashMap.get(key);
+		if (v == null) {
+			SDMSIndexBucket nv = new SDMSIndexBucket(this, key);
+			v = (SDMSIndexBucket) hashMap.putIfAbsent(key, nv);
+			if (v == null)
+				v = nv;
 		}
+		return v;
 	}
 
 	private SDMSIndexBucket getOrCreateBucket(SystemEnvironment env, Object key, int lockMode)
 		throws SerializationException
 	{
 		SDMSIndexBucket v;
-		synchronized(hashMap) {
-			v = (SDMSIndexBucket) hashMap.get(key);
-			if (env.maxWriter > 1 && env.tx.mode == SDMSTransaction.READWRITE) {
-				if(v == null) {
-					v = new SDMSIndexBucket(this, key);
-					hashMap.put(key, v);
-				}
+		if (env.maxWriter > 1 && env.tx.mode == SDMSTransaction.READWRITE) {
+			while (true) {
+				v = getOrAddBucket(key);
+				// a bucket dropped concurrently by remove() isn't visible to other writers anymore
+				if (!v.detached) break;
 			}
-		}
+		} else
+			v = (SDMSIndexBucket) hashMap.get(key);
 		if (v != null && env.maxWriter > 1 && env.tx.mode == SDMSTransaction.READWRITE)
 			LockingSystem.lock(env, v, lockMode);
 		return v;
@@ -262,11 +260,7 @@ public class SDMSIndex
 
 			SDMSObject o;
 			long checkPoint = env.newLockCp();
-			Object va[];
-
-			synchronized(v) {
-				va = v.toArray();
-			}
+			Object va[] = v.toArray();
 
 			HashSet versionsChecked = new HashSet();
 			for (int i = 0; i < va.length; ++i) {
@@ -283,12 +277,8 @@ public class SDMSIndex
 
 				if (!o.isCurrent) {
 					o = ov.getRaw(env, true);
-					if (o != null) {
-						synchronized(v) {
-							if (! v.contains(o))
-								o = null;
-						}
-					}
+					if (o != null && ! v.contains(o))
+						o = null;
 				}
 
 				if (o == null)  {
@@ -307,30 +297,25 @@ public class SDMSIndex
 
 	public boolean containsKey(SystemEnvironment env, Object key, long version)
 	{
-		SDMSIndexBucket v;
-		synchronized(hashMap) {
-			v = (SDMSIndexBucket) hashMap.get(key);
-		}
+		SDMSIndexBucket v = (SDMSIndexBucket) hashMap.get(key);
 		if(v == null)
 			return false;
-		synchronized(v) {
-			Iterator i = v.iterator();
-			SDMSObject o;
-			while (i.hasNext()) {
-				o = (SDMSObject) i.next();
-				if(o.validFrom <= version && version < o.validTo) {
-					if (SystemEnvironment.maxWriter > 1 && env.tx.mode == SDMSTransaction.READONLY) {
-						int cti;
-						for (cti = 0; cti < env.tx.commitingTx.length; ++cti) {
-							if (env.tx.commitingTx[cti] > o.validFrom)
-								return true;
-							if (env.tx.commitingTx[cti] == o.validFrom) {
-								break;
-							}
+		Iterator i = v.iterator();
+		SDMSObject o;
+		while (i.hasNext()) {
+			o = (SDMSObject) i.next();
+			if(o.validFrom <= version && version < o.validTo) {
+				if (SystemEnvironment.maxWriter > 1 && env.tx.mode == SDMSTransaction.READONLY) {
+					int cti;
+					for (cti = 0; cti < env.tx.commitingTx.length; ++cti) {
+						if (env.tx.commitingTx[cti] > o.validFrom)
+							return true;
+						if (env.tx.commitingTx[cti] == o.validFrom) {
+							break;
 						}
-					} else
-						return true;
-				}
+					}
+				} else
+					return true;
 			}
 		}
 		return false;
@@ -395,9 +380,7 @@ public class SDMSIndex
 
 			v = getOrCreateBucket(env, key, readLock);
 			if (v == null || v.size() == 0) return r;
-			synchronized(v) {
-				va = v.toArray();
-			}
+			va = v.toArray();
 			if (env.maxWriter > 1) {
 				Arrays.sort(va, objectIdComparator);
 			}
@@ -419,12 +402,8 @@ public class SDMSIndex
 
 				if (!o.isCurrent) {
 					o = ov.getRaw(env, true);
-					if (o != null) {
-						synchronized(v) {
-							if (! v.contains(o))
-								o = null;
-						}
-					}
+					if (o != null && ! v.contains(o))
+						o = null;
 				}
 
 				if (o != null)  {
@@ -481,14 +460,9 @@ public class SDMSIndex
 		Vector r = new Vector();
 
 		Object va[];
-		SDMSIndexBucket v;
-		synchronized(hashMap) {
-			v = (SDMSIndexBucket) hashMap.get(key);
-		}
+		SDMSIndexBucket v = (SDMSIndexBucket) hashMap.get(key);
 		if (v != null) {
-			synchronized(v) {
-				va = v.toArray();
-			}
+			va = v.toArray();
 		} else {
 			return r;
 		}
@@ -560,10 +534,7 @@ public class SDMSIndex
 			SDMSProxy p;
 			SDMSObject o;
 			ObjectLock versionsLock = null;
-			Object va[];
-			synchronized(v) {
-				va = v.toArray();
-			}
+			Object va[] = v.toArray();
 			for (int i = 0; i < va.length; ++i) {
 				o = (SDMSObject) va[i];
 				SDMSVersions ov = o.versions;
@@ -575,12 +546,8 @@ public class SDMSIndex
 				if (!o.isCurrent) {
 					if (env.maxWriter > 1) {
 						o = ov.getRaw(env, true);
-						if (o != null) {
-							synchronized(v) {
-								if (! v.contains(o))
-									o = null;
-							}
-						}
+						if (o != null && ! v.contains(o))
+							o = null;
 					} else
 						o = null;
 				}
@@ -607,34 +574,29 @@ public class SDMSIndex
 			throw new FatalException(new SDMSMessage(env, "03110181531",
 				"Attempt to retrieve unique value from nonunique index"));
 
-		SDMSIndexBucket v;
-		synchronized(hashMap) {
-			v = (SDMSIndexBucket) hashMap.get(key);
-		}
+		SDMSIndexBucket v = (SDMSIndexBucket) hashMap.get(key);
 		if (v == null) {
 			throw new NotFoundException(new SDMSMessage(env, "03201292040", "$1 not found", key));
 		}
 
-		synchronized(v) {
-			Iterator i = v.iterator();
-			SDMSObject o;
-			while (i.hasNext()) {
-				o = (SDMSObject) i.next();
-				if(o.validFrom <= version && version < o.validTo) {
-					if (SystemEnvironment.maxWriter > 1 && env.tx.mode == SDMSTransaction.READONLY) {
-						int cti;
-						for (cti = 0; cti < env.tx.commitingTx.length; ++cti) {
-							if (env.tx.commitingTx[cti] > o.validFrom)
-								break;
-							if (env.tx.commitingTx[cti] == o.validFrom) {
-								o = null;
-								break;
-							}
+		Iterator i = v.iterator();
+		SDMSObject o;
+		while (i.hasNext()) {
+			o = (SDMSObject) i.next();
+			if(o.validFrom <= version && version < o.validTo) {
+				if (SystemEnvironment.maxWriter > 1 && env.tx.mode == SDMSTransaction.READONLY) {
+					int cti;
+					for (cti = 0; cti < env.tx.commitingTx.length; ++cti) {
+						if (env.tx.commitingTx[cti] > o.validFrom)
+							break;
+						if (env.tx.commitingTx[cti] == o.validFrom) {
+							o = null;
+							break;
 						}
 					}
-					if (o != null)
-						return o.toProxy(env);
 				}
+				if (o != null)
+					return o.toProxy(env);
 			}
 		}
 		throw new NotFoundException(new SDMSMessage(env, "03201292041", "$1 not found", key));
@@ -642,35 +604,23 @@ public class SDMSIndex
 
 	public void dumpIndex(SystemEnvironment env)
 	{
-		Set keys;
-		synchronized(hashMap) {
-			keys = hashMap.keySet();
-		}
+		Object keys[] = hashMap.keySet().toArray();
 		String[] s;
 		SDMSObject o;
 		int k;
-		Iterator i,j;
+		Iterator j;
 		String msg = "";
-		synchronized(keys) {
-			i = keys.iterator();
-			s = new String[keys.size()];
-			k = 0;
-			while(i.hasNext()) {
-				Object key = i.next();
-				SDMSIndexBucket v;
-				synchronized(hashMap) {
-					v = (SDMSIndexBucket) hashMap.get(key);
-				}
-				s[k] = key.toString() + ": ";
-				msg = msg + "$" + (k+1) + "\n";
-				synchronized(v) {
-					j = v.iterator();
-					while(j.hasNext()) {
-						o = (SDMSObject) j.next();
-						s[k] = s[k] + o.id.toString() + "[" + o.validFrom + "," + o.validTo + "] ";
-					}
-				}
-				k++;
+		s = new String[keys.length];
+		for (k = 0; k < keys.length; ++k) {
+			Object key = keys[k];
+			SDMSIndexBucket v = (SDMSIndexBucket) hashMap.get(key);
+			s[k] = key.toString() + ": ";
+			msg = msg + "$" + (k+1) + "\n";
+			if (v == null) continue;
+			j = v.iterator();
+			while(j.hasNext()) {
+				o = (SDMSObject) j.next();
+				s[k] = s[k] + o.id.toString() + "[" + o.validFrom + "," + o.validTo + "] ";
 			}
 		}
 		SDMSThread.doTrace(env.cEnv, "----------- Index Dump ------------", s, SDMSThread.SEVERITY_DEBUG);
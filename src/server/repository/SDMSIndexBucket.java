@@ -26,49 +26,112 @@ along with this program. If not, see <http://www.gnu.org/licenses/>.
 package de.independit.scheduler.server.repository;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 public class SDMSIndexBucket
 {
+	// buckets with more entries switch from an array to a concurrent set
+	public static final int MAX_ARRAY = 16;
+	private static final Object[] EMPTY = new Object[0];
+
 	protected int modCnt;
-	HashSet set;
+	// readers access the entries without locking the bucket; modifications
+	// are done while holding the bucket monitor (see SDMSIndex).
+	// Most buckets hold one or a few objects, they are kept in an array that
+	// is replaced on every change. Large buckets use a concurrent set.
+	private volatile Object[] elems;
+	private volatile Set set;
 	public SDMSIndex index;
 	Object key;
+	// set once the bucket was dropped from the index map; a bucket in this state
+	// must not be used for new entries
+	protected volatile boolean detached;
 
 	SDMSIndexBucket (SDMSIndex index, Object key)
 	{
-		set = new HashSet();
+		elems = EMPTY;
+		set = null;
 		this.index = index;
 		this.key = key;
 		modCnt = 0;
+		detached = false;
 	}
 
-	public boolean add (Object o)
+	public synchronized boolean add (Object o)
 	{
-		return set.add(o);
+		if (set != null)
+			return set.add(o);
+		Object[] e = elems;
+		for (int i = 0; i < e.length; ++i)
+			if (e[i] == o) return false;
+		if (e.length < MAX_ARRAY) {
+			Object[] n = new Object[e.length + 1];
+			System.arraycopy(e, 0, n, 0, e.length);
+			n[e.length] = o;
+			elems = n;
+		} else {
+			Set n = Collections.newSetFromMap(new ConcurrentHashMap<Object, Boolean>());
+			for (int i = 0; i < e.length; ++i)
+				n.add(e[i]);
+			n.add(o);
+			set = n;
+			elems = null;
+		}
+		return true;
 	}
 
-	public boolean remove(Object o)
+	public synchronized boolean remove(Object o)
 	{
-		return set.remove(o);
+		if (set != null)
+			return set.remove(o);
+		Object[] e = elems;
+		for (int i = 0; i < e.length; ++i) {
+			if (e[i] == o) {
+				if (e.length == 1) {
+					elems = EMPTY;
+				} else {
+					Object[] n = new Object[e.length - 1];
+					System.arraycopy(e, 0, n, 0, i);
+					System.arraycopy(e, i + 1, n, i, e.length - i - 1);
+					elems = n;
+				}
+				return true;
+			}
+		}
+		return false;
 	}
 
+	// set is assigned before elems is cleared, so a reader which finds no
+	// array is guaranteed to see the set
 	public int size()
 	{
+		Object[] e = elems;
+		if (e != null) return e.length;
 		return set.size();
 	}
 
 	public Iterator iterator()
 	{
+		Object[] e = elems;
+		if (e != null) return Collections.unmodifiableList(Arrays.asList(e)).iterator();
 		return set.iterator();
 	}
 
 	public Object[] toArray()
 	{
+		Object[] e = elems;
+		if (e != null) return e.clone();
 		return set.toArray();
 	}
 
 	public boolean contains(Object o)
 	{
+		Object[] e = elems;
+		if (e != null) {
+			for (int i = 0; i < e.length; ++i)
+				if (e[i] == o) return true;
+			return false;
+		}
 		return set.contains(o);
 	}
 
@@ -78,4 +141,3 @@ public class SDMSIndexBucket
 		return "SDMSIndexBucket(" + index.table.tableName() + ", " + index.indexName + ", " + key.toString() + ")";
 	}
 }
-
@@ -26,31 +26,52 @@ along with this program. If not, see <http://www.gnu.org/licenses/>.
 package de.independit.scheduler.server.repository;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 public class SDMSIndexMap
 {
-	HashMap map;
+	ConcurrentHashMap map;
 	public SDMSIndex index;
 
+	// a ConcurrentHashMap doesn't accept null keys, but nullable columns are indexed too
+	private static final Object NULL_KEY = new Object() {
+		public String toString() { return "null"; }
+	};
+
 	SDMSIndexMap (SDMSIndex index)
 	{
-		map = new HashMap();
+		map = new ConcurrentHashMap();
 		this.index = index;
 	}
 
 	public Object put (Object key, Object value)
 	{
-		return map.put(key, value);
+		return map.put(mask(key), value);
+	}
+
+	public Object putIfAbsent (Object key, Object value)
+	{
+		return map.putIfAbsent(mask(key), value);
 	}
 
 	public Object get (Object key)
 	{
-		return map.get(key);
+		return map.get(mask(key));
 	}
 
 	public Object remove(Object key)
 	{
-		return map.remove(key);
+		return map.remove(mask(key));
+	}
+
+	public boolean remove(Object key, Object value)
+	{
+		return map.remove(mask(key), value);
+	}
+
+	private static Object mask(Object key)
+	{
+		return (key == null ? NULL_KEY : key);
 	}
 
 	public Set keySet()
@@ -63,4 +84,3 @@ public class SDMSIndexMap
 		return "SDMSIndexMap(" + index.table.tableName() + ", " + index.indexName + ")";
 	}
 }
-
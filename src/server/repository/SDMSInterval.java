@@ -30,6 +30,7 @@ import java.io.*;
 import java.util.*;
 import java.lang.*;
 import java.sql.*;
+import java.util.concurrent.atomic.*;
 
 import de.independit.scheduler.server.*;
 import de.independit.scheduler.server.util.*;
@@ -207,6 +208,100 @@ public class SDMSInterval extends SDMSIntervalProxyGeneric
 		return new Long(blockState.blockStart);
 	}
 
+	// Precomputed trigger dates per interval and time zone.
+	// The entries are only valid as long as the definition of the interval hierarchy matches
+	// the signature they were computed for; TimerThread.notifyChange() drops them early.
+	private static final HashMap<Long, HashMap<String, IntervalOccurrences>> occurrenceCache = new HashMap<Long, HashMap<String, IntervalOccurrences>>();
+	public static final AtomicLong cacheHits = new AtomicLong(0);
+	public static final AtomicLong cacheMisses = new AtomicLong(0);
+
+	public static void invalidateOccurrences(Long ivalId)
+	{
+		synchronized (occurrenceCache) {
+			occurrenceCache.remove(ivalId);
+		}
+	}
+
+	public Long getCachedNextTriggerDate(SystemEnvironment sysEnv, Long minDate, TimeZone tz)
+		throws SDMSException
+	{
+		if (minDate == null) return null;
+		if (SystemEnvironment.intervalCacheSize == 0)
+			return getNextTriggerDate(sysEnv, minDate, 0, tz);
+
+		// the signature is computed from the definition visible to this transaction,
+		// so changes that aren't committed yet or are rolled back never produce wrong hits
+		String signature = getSignature(sysEnv);
+		Long id = getId(sysEnv);
+		IntervalOccurrences occ;
+		synchronized (occurrenceCache) {
+			HashMap<String, IntervalOccurrences> tzMap = occurrenceCache.get(id);
+			if (tzMap == null) {
+				tzMap = new HashMap<String, IntervalOccurrences>();
+				occurrenceCache.put(id, tzMap);
+			}
+			occ = tzMap.get(tz.getID());
+			if (occ == null || !occ.signature.equals(signature)) {
+				occ = new IntervalOccurrences(signature);
+				tzMap.put(tz.getID(), occ);
+			}
+		}
+		synchronized (occ) {
+			return occ.next(sysEnv, this, minDate.longValue(), getHorizon(sysEnv, tz), tz);
+		}
+	}
+
+	private String getSignature(SystemEnvironment sysEnv)
+		throws SDMSException
+	{
+		StringBuffer sb = new StringBuffer();
+		appendSignature(sysEnv, sb);
+		return sb.toString();
+	}
+
+	private void appendSignature(SystemEnvironment sysEnv, StringBuffer sb)
+		throws SDMSException
+	{
+		Long id = getId(sysEnv);
+		sb.append(id);
+		sb.append('(');
+		sb.append(getStartTime(sysEnv)).append(',');
+		sb.append(getEndTime(sysEnv)).append(',');
+		sb.append(getDelay(sysEnv)).append(',');
+		sb.append(getBaseInterval(sysEnv)).append(',');
+		sb.append(getBaseIntervalMultiplier(sysEnv)).append(',');
+		sb.append(getDuration(sysEnv)).append(',');
+		sb.append(getDurationMultiplier(sysEnv)).append(',');
+		sb.append(getSyncTime(sysEnv)).append(',');
+		sb.append(getIsInverse(sysEnv)).append(',');
+		sb.append(getIsMerge(sysEnv));
+
+		// the order of the index vectors isn't defined, so the parts are sorted
+		Vector parts = new Vector();
+		Vector v = SDMSIntervalSelectionTable.idx_intId.getVector(sysEnv, id);
+		for (int i = 0; i < v.size(); ++i) {
+			SDMSIntervalSelection isel = (SDMSIntervalSelection) v.get(i);
+			parts.add("s" + isel.getValue(sysEnv) + ":" + isel.getPeriodFrom(sysEnv) + ":" + isel.getPeriodTo(sysEnv));
+		}
+		v = SDMSIntervalHierarchyTable.idx_parentId.getVector(sysEnv, id);
+		for (int i = 0; i < v.size(); ++i) {
+			SDMSIntervalHierarchy ih = (SDMSIntervalHierarchy) v.get(i);
+			StringBuffer fsb = new StringBuffer("f");
+			SDMSIntervalTable.getObject(sysEnv, ih.getChildId(sysEnv)).appendSignature(sysEnv, fsb);
+			parts.add(fsb.toString());
+		}
+		Collections.sort(parts);
+		for (int i = 0; i < parts.size(); ++i)
+			sb.append(',').append((String) parts.get(i));
+
+		Long embeddedIntervalId = getEmbeddedIntervalId(sysEnv);
+		if (embeddedIntervalId != null) {
+			sb.append(",e");
+			SDMSIntervalTable.getObject(sysEnv, embeddedIntervalId).appendSignature(sysEnv, sb);
+		}
+		sb.append(')');
+	}
+
 	private boolean advanceBlock(SystemEnvironment sysEnv, long horizon, TimeZone tz)
 		throws SDMSException
 	{
@@ -1287,6 +1382,76 @@ public class SDMSInterval extends SDMSIntervalProxyGeneric
 	}
 }
 
+class IntervalOccurrences
+{
+	// dates[0..count-1] is a chain of successive results of getNextTriggerDate(), starting at
+	// from. Since the next trigger date is the first block start not before minDate, any
+	// minDate between from and the last element is answered by a binary search.
+	// If the chain ended without a further trigger date, exhaustedHorizon is the horizon used.
+	final String signature;
+	long[] dates = null;
+	int count = 0;
+	long from = Long.MAX_VALUE;
+	long exhaustedHorizon = Long.MIN_VALUE;
+
+	IntervalOccurrences(String signature)
+	{
+		this.signature = signature;
+	}
+
+	Long next(SystemEnvironment sysEnv, SDMSInterval ival, long minDate, long horizon, TimeZone tz)
+		throws SDMSException
+	{
+		if (minDate >= from) {
+			if (count > 0 && minDate <= dates[count - 1]) {
+				int idx = Arrays.binarySearch(dates, 0, count, minDate);
+				if (idx < 0) idx = -idx - 1;
+				if (dates[idx] < horizon) {
+					SDMSInterval.cacheHits.incrementAndGet();
+					return new Long(dates[idx]);
+				}
+				SDMSInterval.cacheMisses.incrementAndGet();
+				return ival.getNextTriggerDate(sysEnv, new Long(minDate), horizon, tz);
+			}
+			if (exhaustedHorizon >= horizon) {
+				SDMSInterval.cacheHits.incrementAndGet();
+				return null;
+			}
+		}
+		SDMSInterval.cacheMisses.incrementAndGet();
+
+		int size = SystemEnvironment.intervalCacheSize;
+		if (dates == null || dates.length != size)
+			dates = new long[size];
+		from = minDate;
+		count = 0;
+		exhaustedHorizon = Long.MIN_VALUE;
+
+		// the calculation runs within the timer timeout; once the requested date is known,
+		// precomputing stops after a quarter of it
+		long budgetEnd = System.currentTimeMillis() + SystemEnvironment.timerTimeout * 250L;
+		long start = minDate;
+		while (count < size) {
+			if (count > 0 && System.currentTimeMillis() > budgetEnd) break;
+			Long next = ival.getNextTriggerDate(sysEnv, new Long(start), horizon, tz);
+			if (next == null) {
+				exhaustedHorizon = horizon;
+				break;
+			}
+			long l = next.longValue();
+			if (l < start) break;
+			dates[count++] = l;
+			if (l == Long.MAX_VALUE) break;
+			start = l + 1;
+		}
+		if (count == 0) {
+			if (exhaustedHorizon == horizon) return null;
+			return ival.getNextTriggerDate(sysEnv, new Long(minDate), horizon, tz);
+		}
+		return new Long(dates[0]);
+	}
+}
+
 class BlockState implements Cloneable
 {
 	public long baseStart;
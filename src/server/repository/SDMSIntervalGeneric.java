@@ -105,7 +105,27 @@ public class SDMSIntervalGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"NAME",
+		"OWNER_ID",
+		"START_TIME",
+		"END_TIME",
+		"DELAY",
+		"BASE_INTERVAL",
+		"BASE_INTERVAL_MULTIPLIER",
+		"DURATION",
+		"DURATION_MULTIPLIER",
+		"SYNC_TIME",
+		"IS_INVERSE",
+		"IS_MERGE",
+		"EMBEDDED_INT_ID",
+		"SE_ID",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("INTERVALL", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -831,7 +851,7 @@ public class SDMSIntervalGeneric extends SDMSObject
 			myInsert.setLong (17, createTs.longValue());
 			myInsert.setLong (18, changerUId.longValue());
 			myInsert.setLong (19, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "Interval: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -855,7 +875,7 @@ public class SDMSIntervalGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "Interval: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -864,88 +884,111 @@ public class SDMSIntervalGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSIntervalGeneric o = (SDMSIntervalGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(name, o.name)) dirty.set(0);
+		if (changed(ownerId, o.ownerId)) dirty.set(1);
+		if (changed(startTime, o.startTime)) dirty.set(2);
+		if (changed(endTime, o.endTime)) dirty.set(3);
+		if (changed(delay, o.delay)) dirty.set(4);
+		if (changed(baseInterval, o.baseInterval)) dirty.set(5);
+		if (changed(baseIntervalMultiplier, o.baseIntervalMultiplier)) dirty.set(6);
+		if (changed(duration, o.duration)) dirty.set(7);
+		if (changed(durationMultiplier, o.durationMultiplier)) dirty.set(8);
+		if (changed(syncTime, o.syncTime)) dirty.set(9);
+		if (changed(isInverse, o.isInverse)) dirty.set(10);
+		if (changed(isMerge, o.isMerge)) dirty.set(11);
+		if (changed(embeddedIntervalId, o.embeddedIntervalId)) dirty.set(12);
+		if (changed(seId, o.seId)) dirty.set(13);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(14);
+		if (changed(createTs, o.createTs)) dirty.set(15);
+		if (changed(changerUId, o.changerUId)) dirty.set(16);
+		if (changed(changeTs, o.changeTs)) dirty.set(17);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE INTERVALL SET " +
-				        "" + squote + "NAME" + equote + " = ? " +
-				        ", " + squote + "OWNER_ID" + equote + " = ? " +
-				        ", " + squote + "START_TIME" + equote + " = ? " +
-				        ", " + squote + "END_TIME" + equote + " = ? " +
-				        ", " + squote + "DELAY" + equote + " = ? " +
-				        ", " + squote + "BASE_INTERVAL" + equote + " = ? " +
-				        ", " + squote + "BASE_INTERVAL_MULTIPLIER" + equote + " = ? " +
-				        ", " + squote + "DURATION" + equote + " = ? " +
-				        ", " + squote + "DURATION_MULTIPLIER" + equote + " = ? " +
-				        ", " + squote + "SYNC_TIME" + equote + " = ? " +
-				        ", " + squote + "IS_INVERSE" + equote + " = ? " +
-				        ", " + squote + "IS_MERGE" + equote + " = ? " +
-				        ", " + squote + "EMBEDDED_INT_ID" + equote + " = ? " +
-				        ", " + squote + "SE_ID" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "Interval: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "Interval: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setString(1, name);
-			myUpdate.setLong (2, ownerId.longValue());
-			if (startTime == null)
-				myUpdate.setNull(3, Types.INTEGER);
-			else
-				myUpdate.setLong (3, startTime.longValue());
-			if (endTime == null)
-				myUpdate.setNull(4, Types.INTEGER);
-			else
-				myUpdate.setLong (4, endTime.longValue());
-			if (delay == null)
-				myUpdate.setNull(5, Types.INTEGER);
-			else
-				myUpdate.setLong (5, delay.longValue());
-			if (baseInterval == null)
-				myUpdate.setNull(6, Types.INTEGER);
-			else
-				myUpdate.setInt(6, baseInterval.intValue());
-			if (baseIntervalMultiplier == null)
-				myUpdate.setNull(7, Types.INTEGER);
-			else
-				myUpdate.setInt(7, baseIntervalMultiplier.intValue());
-			if (duration == null)
-				myUpdate.setNull(8, Types.INTEGER);
-			else
-				myUpdate.setInt(8, duration.intValue());
-			if (durationMultiplier == null)
-				myUpdate.setNull(9, Types.INTEGER);
-			else
-				myUpdate.setInt(9, durationMultiplier.intValue());
-			myUpdate.setLong (10, syncTime.longValue());
-			myUpdate.setInt (11, isInverse.booleanValue() ? 1 : 0);
-			myUpdate.setInt (12, isMerge.booleanValue() ? 1 : 0);
-			if (embeddedIntervalId == null)
-				myUpdate.setNull(13, Types.INTEGER);
-			else
-				myUpdate.setLong (13, embeddedIntervalId.longValue());
-			if (seId == null)
-				myUpdate.setNull(14, Types.INTEGER);
-			else
-				myUpdate.setLong (14, seId.longValue());
-			myUpdate.setLong (15, creatorUId.longValue());
-			myUpdate.setLong (16, createTs.longValue());
-			myUpdate.setLong (17, changerUId.longValue());
-			myUpdate.setLong (18, changeTs.longValue());
-			myUpdate.setLong(19, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setString(p++, name);
+			if (dirty.get(1))
+				myUpdate.setLong (p++, ownerId.longValue());
+			if (dirty.get(2)) {
+				if (startTime == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, startTime.longValue());
+			}
+			if (dirty.get(3)) {
+				if (endTime == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, endTime.longValue());
+			}
+			if (dirty.get(4)) {
+				if (delay == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, delay.longValue());
+			}
+			if (dirty.get(5)) {
+				if (baseInterval == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, baseInterval.intValue());
+			}
+			if (dirty.get(6)) {
+				if (baseIntervalMultiplier == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, baseIntervalMultiplier.intValue());
+			}
+			if (dirty.get(7)) {
+				if (duration == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, duration.intValue());
+			}
+			if (dirty.get(8)) {
+				if (durationMultiplier == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, durationMultiplier.intValue());
+			}
+			if (dirty.get(9))
+				myUpdate.setLong (p++, syncTime.longValue());
+			if (dirty.get(10))
+				myUpdate.setInt (p++, isInverse.booleanValue() ? 1 : 0);
+			if (dirty.get(11))
+				myUpdate.setInt (p++, isMerge.booleanValue() ? 1 : 0);
+			if (dirty.get(12)) {
+				if (embeddedIntervalId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, embeddedIntervalId.longValue());
+			}
+			if (dirty.get(13)) {
+				if (seId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, seId.longValue());
+			}
+			if (dirty.get(14))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(15))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(16))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(17))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "Interval: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
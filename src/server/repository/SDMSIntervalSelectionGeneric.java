@@ -60,7 +60,17 @@ public class SDMSIntervalSelectionGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"INT_ID",
+		"VALUE",
+		"PERIOD_FROM",
+		"PERIOD_TO",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("INTERVAL_SELECTION", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -367,7 +377,7 @@ public class SDMSIntervalSelectionGeneric extends SDMSObject
 			myInsert.setLong (7, createTs.longValue());
 			myInsert.setLong (8, changerUId.longValue());
 			myInsert.setLong (9, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "IntervalSelection: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -391,7 +401,7 @@ public class SDMSIntervalSelectionGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "IntervalSelection: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -400,50 +410,57 @@ public class SDMSIntervalSelectionGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSIntervalSelectionGeneric o = (SDMSIntervalSelectionGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(intId, o.intId)) dirty.set(0);
+		if (changed(value, o.value)) dirty.set(1);
+		if (changed(periodFrom, o.periodFrom)) dirty.set(2);
+		if (changed(periodTo, o.periodTo)) dirty.set(3);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(4);
+		if (changed(createTs, o.createTs)) dirty.set(5);
+		if (changed(changerUId, o.changerUId)) dirty.set(6);
+		if (changed(changeTs, o.changeTs)) dirty.set(7);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE INTERVAL_SELECTION SET " +
-				        "" + squote + "INT_ID" + equote + " = ? " +
-				        ", " + squote + "VALUE" + equote + " = ? " +
-				        ", " + squote + "PERIOD_FROM" + equote + " = ? " +
-				        ", " + squote + "PERIOD_TO" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "IntervalSelection: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "IntervalSelection: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, intId.longValue());
-			if (value == null)
-				myUpdate.setNull(2, Types.INTEGER);
-			else
-				myUpdate.setInt(2, value.intValue());
-			if (periodFrom == null)
-				myUpdate.setNull(3, Types.INTEGER);
-			else
-				myUpdate.setLong (3, periodFrom.longValue());
-			if (periodTo == null)
-				myUpdate.setNull(4, Types.INTEGER);
-			else
-				myUpdate.setLong (4, periodTo.longValue());
-			myUpdate.setLong (5, creatorUId.longValue());
-			myUpdate.setLong (6, createTs.longValue());
-			myUpdate.setLong (7, changerUId.longValue());
-			myUpdate.setLong (8, changeTs.longValue());
-			myUpdate.setLong(9, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, intId.longValue());
+			if (dirty.get(1)) {
+				if (value == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, value.intValue());
+			}
+			if (dirty.get(2)) {
+				if (periodFrom == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, periodFrom.longValue());
+			}
+			if (dirty.get(3)) {
+				if (periodTo == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, periodTo.longValue());
+			}
+			if (dirty.get(4))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(5))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(6))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(7))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "IntervalSelection: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -164,18 +164,18 @@ public class SDMSIntervalSelectionTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			intId = new Long (r.getLong(2));
-			value = new Integer (r.getInt(3));
+			id     = Long.valueOf (r.getLong(1));
+			intId = Long.valueOf (r.getLong(2));
+			value = Integer.valueOf (r.getInt(3));
 			if (r.wasNull()) value = null;
-			periodFrom = new Long (r.getLong(4));
+			periodFrom = Long.valueOf (r.getLong(4));
 			if (r.wasNull()) periodFrom = null;
-			periodTo = new Long (r.getLong(5));
+			periodTo = Long.valueOf (r.getLong(5));
 			if (r.wasNull()) periodTo = null;
-			creatorUId = new Long (r.getLong(6));
-			createTs = new Long (r.getLong(7));
-			changerUId = new Long (r.getLong(8));
-			changeTs = new Long (r.getLong(9));
+			creatorUId = Long.valueOf (r.getLong(6));
+			createTs = Long.valueOf (r.getLong(7));
+			changerUId = Long.valueOf (r.getLong(8));
+			changeTs = Long.valueOf (r.getLong(9));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -198,31 +198,21 @@ public class SDMSIntervalSelectionTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "INT_ID" + equote +
-		                                   ", " + squote + "VALUE" + equote +
-		                                   ", " + squote + "PERIOD_FROM" + equote +
-		                                   ", " + squote + "PERIOD_TO" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "INT_ID" + equote +
+		               ", " + squote + "VALUE" + equote +
+		               ", " + squote + "PERIOD_FROM" + equote +
+		               ", " + squote + "PERIOD_TO" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
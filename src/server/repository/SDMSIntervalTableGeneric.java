@@ -230,34 +230,34 @@ public class SDMSIntervalTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
+			id     = Long.valueOf (r.getLong(1));
 			name = r.getString(2);
-			ownerId = new Long (r.getLong(3));
-			startTime = new Long (r.getLong(4));
+			ownerId = Long.valueOf (r.getLong(3));
+			startTime = Long.valueOf (r.getLong(4));
 			if (r.wasNull()) startTime = null;
-			endTime = new Long (r.getLong(5));
+			endTime = Long.valueOf (r.getLong(5));
 			if (r.wasNull()) endTime = null;
-			delay = new Long (r.getLong(6));
+			delay = Long.valueOf (r.getLong(6));
 			if (r.wasNull()) delay = null;
-			baseInterval = new Integer (r.getInt(7));
+			baseInterval = Integer.valueOf (r.getInt(7));
 			if (r.wasNull()) baseInterval = null;
-			baseIntervalMultiplier = new Integer (r.getInt(8));
+			baseIntervalMultiplier = Integer.valueOf (r.getInt(8));
 			if (r.wasNull()) baseIntervalMultiplier = null;
-			duration = new Integer (r.getInt(9));
+			duration = Integer.valueOf (r.getInt(9));
 			if (r.wasNull()) duration = null;
-			durationMultiplier = new Integer (r.getInt(10));
+			durationMultiplier = Integer.valueOf (r.getInt(10));
 			if (r.wasNull()) durationMultiplier = null;
-			syncTime = new Long (r.getLong(11));
-			isInverse = new Boolean ((r.getInt(12) == 0 ? false : true));
-			isMerge = new Boolean ((r.getInt(13) == 0 ? false : true));
-			embeddedIntervalId = new Long (r.getLong(14));
+			syncTime = Long.valueOf (r.getLong(11));
+			isInverse = Boolean.valueOf ((r.getInt(12) == 0 ? false : true));
+			isMerge = Boolean.valueOf ((r.getInt(13) == 0 ? false : true));
+			embeddedIntervalId = Long.valueOf (r.getLong(14));
 			if (r.wasNull()) embeddedIntervalId = null;
-			seId = new Long (r.getLong(15));
+			seId = Long.valueOf (r.getLong(15));
 			if (r.wasNull()) seId = null;
-			creatorUId = new Long (r.getLong(16));
-			createTs = new Long (r.getLong(17));
-			changerUId = new Long (r.getLong(18));
-			changeTs = new Long (r.getLong(19));
+			creatorUId = Long.valueOf (r.getLong(16));
+			createTs = Long.valueOf (r.getLong(17));
+			changerUId = Long.valueOf (r.getLong(18));
+			changeTs = Long.valueOf (r.getLong(19));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -290,41 +290,31 @@ public class SDMSIntervalTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "NAME" + equote +
-		                                   ", " + squote + "OWNER_ID" + equote +
-		                                   ", " + squote + "START_TIME" + equote +
-		                                   ", " + squote + "END_TIME" + equote +
-		                                   ", " + squote + "DELAY" + equote +
-		                                   ", " + squote + "BASE_INTERVAL" + equote +
-		                                   ", " + squote + "BASE_INTERVAL_MULTIPLIER" + equote +
-		                                   ", " + squote + "DURATION" + equote +
-		                                   ", " + squote + "DURATION_MULTIPLIER" + equote +
-		                                   ", " + squote + "SYNC_TIME" + equote +
-		                                   ", " + squote + "IS_INVERSE" + equote +
-		                                   ", " + squote + "IS_MERGE" + equote +
-		                                   ", " + squote + "EMBEDDED_INT_ID" + equote +
-		                                   ", " + squote + "SE_ID" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "NAME" + equote +
+		               ", " + squote + "OWNER_ID" + equote +
+		               ", " + squote + "START_TIME" + equote +
+		               ", " + squote + "END_TIME" + equote +
+		               ", " + squote + "DELAY" + equote +
+		               ", " + squote + "BASE_INTERVAL" + equote +
+		               ", " + squote + "BASE_INTERVAL_MULTIPLIER" + equote +
+		               ", " + squote + "DURATION" + equote +
+		               ", " + squote + "DURATION_MULTIPLIER" + equote +
+		               ", " + squote + "SYNC_TIME" + equote +
+		               ", " + squote + "IS_INVERSE" + equote +
+		               ", " + squote + "IS_MERGE" + equote +
+		               ", " + squote + "EMBEDDED_INT_ID" + equote +
+		               ", " + squote + "SE_ID" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
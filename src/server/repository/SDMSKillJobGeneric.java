@@ -91,7 +91,28 @@ public class SDMSKillJobGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"SE_ID",
+		"SE_VERSION",
+		"SME_ID",
+		"SCOPE_ID",
+		"STATE",
+		"EXIT_CODE",
+		"COMMANDLINE",
+		"LOGFILE",
+		"ERRLOGFILE",
+		"PID",
+		"EXTPID",
+		"ERROR_MSG",
+		"RUNNABLE_TS",
+		"START_TS",
+		"FINSH_TS",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("KILL_JOB", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -864,7 +885,7 @@ public class SDMSKillJobGeneric extends SDMSObject
 			myInsert.setLong (18, createTs.longValue());
 			myInsert.setLong (19, changerUId.longValue());
 			myInsert.setLong (20, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "KillJob: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -888,7 +909,7 @@ public class SDMSKillJobGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "KillJob: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -897,93 +918,118 @@ public class SDMSKillJobGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSKillJobGeneric o = (SDMSKillJobGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(seId, o.seId)) dirty.set(0);
+		if (changed(seVersion, o.seVersion)) dirty.set(1);
+		if (changed(smeId, o.smeId)) dirty.set(2);
+		if (changed(scopeId, o.scopeId)) dirty.set(3);
+		if (changed(state, o.state)) dirty.set(4);
+		if (changed(exitCode, o.exitCode)) dirty.set(5);
+		if (changed(commandline, o.commandline)) dirty.set(6);
+		if (changed(logfile, o.logfile)) dirty.set(7);
+		if (changed(errlogfile, o.errlogfile)) dirty.set(8);
+		if (changed(pid, o.pid)) dirty.set(9);
+		if (changed(extPid, o.extPid)) dirty.set(10);
+		if (changed(errorMsg, o.errorMsg)) dirty.set(11);
+		if (changed(runnableTs, o.runnableTs)) dirty.set(12);
+		if (changed(startTs, o.startTs)) dirty.set(13);
+		if (changed(finishTs, o.finishTs)) dirty.set(14);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(15);
+		if (changed(createTs, o.createTs)) dirty.set(16);
+		if (changed(changerUId, o.changerUId)) dirty.set(17);
+		if (changed(changeTs, o.changeTs)) dirty.set(18);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE KILL_JOB SET " +
-				        "" + squote + "SE_ID" + equote + " = ? " +
-				        ", " + squote + "SE_VERSION" + equote + " = ? " +
-				        ", " + squote + "SME_ID" + equote + " = ? " +
-				        ", " + squote + "SCOPE_ID" + equote + " = ? " +
-				        ", " + squote + "STATE" + equote + " = ? " +
-				        ", " + squote + "EXIT_CODE" + equote + " = ? " +
-				        ", " + squote + "COMMANDLINE" + equote + " = ? " +
-				        ", " + squote + "LOGFILE" + equote + " = ? " +
-				        ", " + squote + "ERRLOGFILE" + equote + " = ? " +
-				        ", " + squote + "PID" + equote + " = ? " +
-				        ", " + squote + "EXTPID" + equote + " = ? " +
-				        ", " + squote + "ERROR_MSG" + equote + " = ? " +
-				        ", " + squote + "RUNNABLE_TS" + equote + " = ? " +
-				        ", " + squote + "START_TS" + equote + " = ? " +
-				        ", " + squote + "FINSH_TS" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "KillJob: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "KillJob: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, seId.longValue());
-			myUpdate.setLong (2, seVersion.longValue());
-			myUpdate.setLong (3, smeId.longValue());
-			myUpdate.setLong (4, scopeId.longValue());
-			myUpdate.setInt(5, state.intValue());
-			if (exitCode == null)
-				myUpdate.setNull(6, Types.INTEGER);
-			else
-				myUpdate.setInt(6, exitCode.intValue());
-			if (commandline == null)
-				myUpdate.setNull(7, Types.VARCHAR);
-			else
-				myUpdate.setString(7, commandline);
-			if (logfile == null)
-				myUpdate.setNull(8, Types.VARCHAR);
-			else
-				myUpdate.setString(8, logfile);
-			if (errlogfile == null)
-				myUpdate.setNull(9, Types.VARCHAR);
-			else
-				myUpdate.setString(9, errlogfile);
-			if (pid == null)
-				myUpdate.setNull(10, Types.VARCHAR);
-			else
-				myUpdate.setString(10, pid);
-			if (extPid == null)
-				myUpdate.setNull(11, Types.VARCHAR);
-			else
-				myUpdate.setString(11, extPid);
-			if (errorMsg == null)
-				myUpdate.setNull(12, Types.VARCHAR);
-			else
-				myUpdate.setString(12, errorMsg);
-			if (runnableTs == null)
-				myUpdate.setNull(13, Types.INTEGER);
-			else
-				myUpdate.setLong (13, runnableTs.longValue());
-			if (startTs == null)
-				myUpdate.setNull(14, Types.INTEGER);
-			else
-				myUpdate.setLong (14, startTs.longValue());
-			if (finishTs == null)
-				myUpdate.setNull(15, Types.INTEGER);
-			else
-				myUpdate.setLong (15, finishTs.longValue());
-			myUpdate.setLong (16, creatorUId.longValue());
-			myUpdate.setLong (17, createTs.longValue());
-			myUpdate.setLong (18, changerUId.longValue());
-			myUpdate.setLong (19, changeTs.longValue());
-			myUpdate.setLong(20, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, seId.longValue());
+			if (dirty.get(1))
+				myUpdate.setLong (p++, seVersion.longValue());
+			if (dirty.get(2))
+				myUpdate.setLong (p++, smeId.longValue());
+			if (dirty.get(3))
+				myUpdate.setLong (p++, scopeId.longValue());
+			if (dirty.get(4))
+				myUpdate.setInt(p++, state.intValue());
+			if (dirty.get(5)) {
+				if (exitCode == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, exitCode.intValue());
+			}
+			if (dirty.get(6)) {
+				if (commandline == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, commandline);
+			}
+			if (dirty.get(7)) {
+				if (logfile == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, logfile);
+			}
+			if (dirty.get(8)) {
+				if (errlogfile == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, errlogfile);
+			}
+			if (dirty.get(9)) {
+				if (pid == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, pid);
+			}
+			if (dirty.get(10)) {
+				if (extPid == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, extPid);
+			}
+			if (dirty.get(11)) {
+				if (errorMsg == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, errorMsg);
+			}
+			if (dirty.get(12)) {
+				if (runnableTs == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, runnableTs.longValue());
+			}
+			if (dirty.get(13)) {
+				if (startTs == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, startTs.longValue());
+			}
+			if (dirty.get(14)) {
+				if (finishTs == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, finishTs.longValue());
+			}
+			if (dirty.get(15))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(16))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(17))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(18))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "KillJob: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
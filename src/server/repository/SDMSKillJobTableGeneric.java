@@ -238,13 +238,13 @@ public class SDMSKillJobTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			seId = new Long (r.getLong(2));
-			seVersion = new Long (r.getLong(3));
-			smeId = new Long (r.getLong(4));
-			scopeId = new Long (r.getLong(5));
-			state = new Integer (r.getInt(6));
-			exitCode = new Integer (r.getInt(7));
+			id     = Long.valueOf (r.getLong(1));
+			seId = Long.valueOf (r.getLong(2));
+			seVersion = Long.valueOf (r.getLong(3));
+			smeId = Long.valueOf (r.getLong(4));
+			scopeId = Long.valueOf (r.getLong(5));
+			state = Integer.valueOf (r.getInt(6));
+			exitCode = Integer.valueOf (r.getInt(7));
 			if (r.wasNull()) exitCode = null;
 			commandline = r.getString(8);
 			if (r.wasNull()) commandline = null;
@@ -258,16 +258,16 @@ public class SDMSKillJobTableGeneric extends SDMSTable
 			if (r.wasNull()) extPid = null;
 			errorMsg = r.getString(13);
 			if (r.wasNull()) errorMsg = null;
-			runnableTs = new Long (r.getLong(14));
+			runnableTs = Long.valueOf (r.getLong(14));
 			if (r.wasNull()) runnableTs = null;
-			startTs = new Long (r.getLong(15));
+			startTs = Long.valueOf (r.getLong(15));
 			if (r.wasNull()) startTs = null;
-			finishTs = new Long (r.getLong(16));
+			finishTs = Long.valueOf (r.getLong(16));
 			if (r.wasNull()) finishTs = null;
-			creatorUId = new Long (r.getLong(17));
-			createTs = new Long (r.getLong(18));
-			changerUId = new Long (r.getLong(19));
-			changeTs = new Long (r.getLong(20));
+			creatorUId = Long.valueOf (r.getLong(17));
+			createTs = Long.valueOf (r.getLong(18));
+			changerUId = Long.valueOf (r.getLong(19));
+			changeTs = Long.valueOf (r.getLong(20));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -301,45 +301,35 @@ public class SDMSKillJobTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "SE_ID" + equote +
-		                                   ", " + squote + "SE_VERSION" + equote +
-		                                   ", " + squote + "SME_ID" + equote +
-		                                   ", " + squote + "SCOPE_ID" + equote +
-		                                   ", " + squote + "STATE" + equote +
-		                                   ", " + squote + "EXIT_CODE" + equote +
-		                                   ", " + squote + "COMMANDLINE" + equote +
-		                                   ", " + squote + "LOGFILE" + equote +
-		                                   ", " + squote + "ERRLOGFILE" + equote +
-		                                   ", " + squote + "PID" + equote +
-		                                   ", " + squote + "EXTPID" + equote +
-		                                   ", " + squote + "ERROR_MSG" + equote +
-		                                   ", " + squote + "RUNNABLE_TS" + equote +
-		                                   ", " + squote + "START_TS" + equote +
-		                                   ", " + squote + "FINSH_TS" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   "  FROM " + tableName() +
-		                                   " WHERE SE_VERSION >= " + (postgres ?
-		                                                   "CAST (\'" + env.lowestActiveVersion + "\' as DECIMAL)" :
-		                                                   "" + env.lowestActiveVersion) +
-		                                   ""		);
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "SE_ID" + equote +
+		               ", " + squote + "SE_VERSION" + equote +
+		               ", " + squote + "SME_ID" + equote +
+		               ", " + squote + "SCOPE_ID" + equote +
+		               ", " + squote + "STATE" + equote +
+		               ", " + squote + "EXIT_CODE" + equote +
+		               ", " + squote + "COMMANDLINE" + equote +
+		               ", " + squote + "LOGFILE" + equote +
+		               ", " + squote + "ERRLOGFILE" + equote +
+		               ", " + squote + "PID" + equote +
+		               ", " + squote + "EXTPID" + equote +
+		               ", " + squote + "ERROR_MSG" + equote +
+		               ", " + squote + "RUNNABLE_TS" + equote +
+		               ", " + squote + "START_TS" + equote +
+		               ", " + squote + "FINSH_TS" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               "  FROM " + tableName() +
+		               " WHERE SE_VERSION >= " + (postgres ?
+		                               "CAST (\'" + env.lowestActiveVersion + "\' as DECIMAL)" :
+		                               "" + env.lowestActiveVersion) +
+		               ""		);
 	}
 
 	public String checkIndex(SDMSObject o)
@@ -72,7 +72,20 @@ public class SDMSNamedResourceGeneric extends SDMSObject
 	protected Long changeTs;
 	protected Long inheritPrivs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"NAME",
+		"OWNER_ID",
+		"PARENT_ID",
+		"USAGE",
+		"RSP_ID",
+		"FACTOR",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS",
+		"INHERIT_PRIVS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("NAMED_RESOURCE", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -559,7 +572,7 @@ public class SDMSNamedResourceGeneric extends SDMSObject
 			myInsert.setLong (10, changerUId.longValue());
 			myInsert.setLong (11, changeTs.longValue());
 			myInsert.setLong (12, inheritPrivs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "NamedResource: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -583,7 +596,7 @@ public class SDMSNamedResourceGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "NamedResource: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -592,56 +605,66 @@ public class SDMSNamedResourceGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSNamedResourceGeneric o = (SDMSNamedResourceGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(name, o.name)) dirty.set(0);
+		if (changed(ownerId, o.ownerId)) dirty.set(1);
+		if (changed(parentId, o.parentId)) dirty.set(2);
+		if (changed(usage, o.usage)) dirty.set(3);
+		if (changed(rspId, o.rspId)) dirty.set(4);
+		if (changed(factor, o.factor)) dirty.set(5);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(6);
+		if (changed(createTs, o.createTs)) dirty.set(7);
+		if (changed(changerUId, o.changerUId)) dirty.set(8);
+		if (changed(changeTs, o.changeTs)) dirty.set(9);
+		if (changed(inheritPrivs, o.inheritPrivs)) dirty.set(10);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE NAMED_RESOURCE SET " +
-				        "" + squote + "NAME" + equote + " = ? " +
-				        ", " + squote + "OWNER_ID" + equote + " = ? " +
-				        ", " + squote + "PARENT_ID" + equote + " = ? " +
-				        ", " + squote + "USAGE" + equote + " = ? " +
-				        ", " + squote + "RSP_ID" + equote + " = ? " +
-				        ", " + squote + "FACTOR" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        ", " + squote + "INHERIT_PRIVS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "NamedResource: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "NamedResource: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setString(1, name);
-			myUpdate.setLong (2, ownerId.longValue());
-			if (parentId == null)
-				myUpdate.setNull(3, Types.INTEGER);
-			else
-				myUpdate.setLong (3, parentId.longValue());
-			myUpdate.setInt(4, usage.intValue());
-			if (rspId == null)
-				myUpdate.setNull(5, Types.INTEGER);
-			else
-				myUpdate.setLong (5, rspId.longValue());
-			if (factor == null)
-				myUpdate.setNull(6, Types.FLOAT);
-			else
-				myUpdate.setFloat(6, factor.floatValue());
-			myUpdate.setLong (7, creatorUId.longValue());
-			myUpdate.setLong (8, createTs.longValue());
-			myUpdate.setLong (9, changerUId.longValue());
-			myUpdate.setLong (10, changeTs.longValue());
-			myUpdate.setLong (11, inheritPrivs.longValue());
-			myUpdate.setLong(12, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setString(p++, name);
+			if (dirty.get(1))
+				myUpdate.setLong (p++, ownerId.longValue());
+			if (dirty.get(2)) {
+				if (parentId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, parentId.longValue());
+			}
+			if (dirty.get(3))
+				myUpdate.setInt(p++, usage.intValue());
+			if (dirty.get(4)) {
+				if (rspId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, rspId.longValue());
+			}
+			if (dirty.get(5)) {
+				if (factor == null)
+					myUpdate.setNull(p++, Types.FLOAT);
+				else
+					myUpdate.setFloat(p++, factor.floatValue());
+			}
+			if (dirty.get(6))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(7))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(8))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(9))
+				myUpdate.setLong (p++, changeTs.longValue());
+			if (dirty.get(10))
+				myUpdate.setLong (p++, inheritPrivs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "NamedResource: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
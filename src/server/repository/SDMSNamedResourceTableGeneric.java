@@ -192,21 +192,21 @@ public class SDMSNamedResourceTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
+			id     = Long.valueOf (r.getLong(1));
 			name = r.getString(2);
-			ownerId = new Long (r.getLong(3));
-			parentId = new Long (r.getLong(4));
+			ownerId = Long.valueOf (r.getLong(3));
+			parentId = Long.valueOf (r.getLong(4));
 			if (r.wasNull()) parentId = null;
-			usage = new Integer (r.getInt(5));
-			rspId = new Long (r.getLong(6));
+			usage = Integer.valueOf (r.getInt(5));
+			rspId = Long.valueOf (r.getLong(6));
 			if (r.wasNull()) rspId = null;
 			factor = new Float (r.getFloat(7));
 			if (r.wasNull()) factor = null;
-			creatorUId = new Long (r.getLong(8));
-			createTs = new Long (r.getLong(9));
-			changerUId = new Long (r.getLong(10));
-			changeTs = new Long (r.getLong(11));
-			inheritPrivs = new Long (r.getLong(12));
+			creatorUId = Long.valueOf (r.getLong(8));
+			createTs = Long.valueOf (r.getLong(9));
+			changerUId = Long.valueOf (r.getLong(10));
+			changeTs = Long.valueOf (r.getLong(11));
+			inheritPrivs = Long.valueOf (r.getLong(12));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -232,34 +232,24 @@ public class SDMSNamedResourceTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "NAME" + equote +
-		                                   ", " + squote + "OWNER_ID" + equote +
-		                                   ", " + squote + "PARENT_ID" + equote +
-		                                   ", " + squote + "USAGE" + equote +
-		                                   ", " + squote + "RSP_ID" + equote +
-		                                   ", " + squote + "FACTOR" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", " + squote + "INHERIT_PRIVS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "NAME" + equote +
+		               ", " + squote + "OWNER_ID" + equote +
+		               ", " + squote + "PARENT_ID" + equote +
+		               ", " + squote + "USAGE" + equote +
+		               ", " + squote + "RSP_ID" + equote +
+		               ", " + squote + "FACTOR" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", " + squote + "INHERIT_PRIVS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
@@ -68,7 +68,19 @@ public class SDMSNiceProfileEntryGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"NP_ID",
+		"PREFERENCE",
+		"FOLDER_ID",
+		"IS_SUSPENDED",
+		"RENICE",
+		"IS_ACTIVE",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("NICE_PROFILE_ENTRY", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -454,7 +466,7 @@ public class SDMSNiceProfileEntryGeneric extends SDMSObject
 			myInsert.setLong (9, createTs.longValue());
 			myInsert.setLong (10, changerUId.longValue());
 			myInsert.setLong (11, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "NiceProfileEntry: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -478,7 +490,7 @@ public class SDMSNiceProfileEntryGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "NiceProfileEntry: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -487,48 +499,55 @@ public class SDMSNiceProfileEntryGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSNiceProfileEntryGeneric o = (SDMSNiceProfileEntryGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(npId, o.npId)) dirty.set(0);
+		if (changed(preference, o.preference)) dirty.set(1);
+		if (changed(folderId, o.folderId)) dirty.set(2);
+		if (changed(isSuspended, o.isSuspended)) dirty.set(3);
+		if (changed(renice, o.renice)) dirty.set(4);
+		if (changed(isActive, o.isActive)) dirty.set(5);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(6);
+		if (changed(createTs, o.createTs)) dirty.set(7);
+		if (changed(changerUId, o.changerUId)) dirty.set(8);
+		if (changed(changeTs, o.changeTs)) dirty.set(9);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE NICE_PROFILE_ENTRY SET " +
-				        "" + squote + "NP_ID" + equote + " = ? " +
-				        ", " + squote + "PREFERENCE" + equote + " = ? " +
-				        ", " + squote + "FOLDER_ID" + equote + " = ? " +
-				        ", " + squote + "IS_SUSPENDED" + equote + " = ? " +
-				        ", " + squote + "RENICE" + equote + " = ? " +
-				        ", " + squote + "IS_ACTIVE" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "NiceProfileEntry: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "NiceProfileEntry: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, npId.longValue());
-			myUpdate.setInt(2, preference.intValue());
-			if (folderId == null)
-				myUpdate.setNull(3, Types.INTEGER);
-			else
-				myUpdate.setLong (3, folderId.longValue());
-			myUpdate.setInt(4, isSuspended.intValue());
-			myUpdate.setInt(5, renice.intValue());
-			myUpdate.setInt (6, isActive.booleanValue() ? 1 : 0);
-			myUpdate.setLong (7, creatorUId.longValue());
-			myUpdate.setLong (8, createTs.longValue());
-			myUpdate.setLong (9, changerUId.longValue());
-			myUpdate.setLong (10, changeTs.longValue());
-			myUpdate.setLong(11, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, npId.longValue());
+			if (dirty.get(1))
+				myUpdate.setInt(p++, preference.intValue());
+			if (dirty.get(2)) {
+				if (folderId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, folderId.longValue());
+			}
+			if (dirty.get(3))
+				myUpdate.setInt(p++, isSuspended.intValue());
+			if (dirty.get(4))
+				myUpdate.setInt(p++, renice.intValue());
+			if (dirty.get(5))
+				myUpdate.setInt (p++, isActive.booleanValue() ? 1 : 0);
+			if (dirty.get(6))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(7))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(8))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(9))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "NiceProfileEntry: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -180,18 +180,18 @@ public class SDMSNiceProfileEntryTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			npId = new Long (r.getLong(2));
-			preference = new Integer (r.getInt(3));
-			folderId = new Long (r.getLong(4));
+			id     = Long.valueOf (r.getLong(1));
+			npId = Long.valueOf (r.getLong(2));
+			preference = Integer.valueOf (r.getInt(3));
+			folderId = Long.valueOf (r.getLong(4));
 			if (r.wasNull()) folderId = null;
-			isSuspended = new Integer (r.getInt(5));
-			renice = new Integer (r.getInt(6));
-			isActive = new Boolean ((r.getInt(7) == 0 ? false : true));
-			creatorUId = new Long (r.getLong(8));
-			createTs = new Long (r.getLong(9));
-			changerUId = new Long (r.getLong(10));
-			changeTs = new Long (r.getLong(11));
+			isSuspended = Integer.valueOf (r.getInt(5));
+			renice = Integer.valueOf (r.getInt(6));
+			isActive = Boolean.valueOf ((r.getInt(7) == 0 ? false : true));
+			creatorUId = Long.valueOf (r.getLong(8));
+			createTs = Long.valueOf (r.getLong(9));
+			changerUId = Long.valueOf (r.getLong(10));
+			changeTs = Long.valueOf (r.getLong(11));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -216,33 +216,23 @@ public class SDMSNiceProfileEntryTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "NP_ID" + equote +
-		                                   ", " + squote + "PREFERENCE" + equote +
-		                                   ", " + squote + "FOLDER_ID" + equote +
-		                                   ", " + squote + "IS_SUSPENDED" + equote +
-		                                   ", " + squote + "RENICE" + equote +
-		                                   ", " + squote + "IS_ACTIVE" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "NP_ID" + equote +
+		               ", " + squote + "PREFERENCE" + equote +
+		               ", " + squote + "FOLDER_ID" + equote +
+		               ", " + squote + "IS_SUSPENDED" + equote +
+		               ", " + squote + "RENICE" + equote +
+		               ", " + squote + "IS_ACTIVE" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
@@ -223,6 +223,13 @@ public abstract class SDMSObject implements Cloneable, Comparable
 		return id;
 	}
 
+	// used to determine the columns to update, p and q are the values of the new and the last committed version
+	protected static boolean changed(Object p, Object q)
+	{
+		if (p == null) return (q != null);
+		return !p.equals(q);
+	}
+
 	public abstract void print();
 	public abstract String toString(int indent);
 
@@ -182,18 +182,18 @@ public class SDMSObjectCommentTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			objectId = new Long (r.getLong(2));
-			objectType = new Integer (r.getInt(3));
-			infoType = new Integer (r.getInt(4));
-			sequenceNumber = new Integer (r.getInt(5));
+			id     = Long.valueOf (r.getLong(1));
+			objectId = Long.valueOf (r.getLong(2));
+			objectType = Integer.valueOf (r.getInt(3));
+			infoType = Integer.valueOf (r.getInt(4));
+			sequenceNumber = Integer.valueOf (r.getInt(5));
 			tag = r.getString(6);
 			if (r.wasNull()) tag = null;
 			description = r.getString(7);
-			creatorUId = new Long (r.getLong(8));
-			createTs = new Long (r.getLong(9));
-			changerUId = new Long (r.getLong(10));
-			changeTs = new Long (r.getLong(11));
+			creatorUId = Long.valueOf (r.getLong(8));
+			createTs = Long.valueOf (r.getLong(9));
+			changerUId = Long.valueOf (r.getLong(10));
+			changeTs = Long.valueOf (r.getLong(11));
 			validFrom = r.getLong(12);
 			validTo = r.getLong(13);
 		} catch(SQLException sqle) {
@@ -218,37 +218,27 @@ public class SDMSObjectCommentTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "OBJECT_ID" + equote +
-		                                   ", " + squote + "OBJECT_TYPE" + equote +
-		                                   ", " + squote + "INFO_TYPE" + equote +
-		                                   ", " + squote + "SEQUENCE_NUMBER" + equote +
-		                                   ", " + squote + "TAG" + equote +
-		                                   ", " + squote + "DESCRIPTION" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", VALID_FROM, VALID_TO " +
-		                                   " FROM " + tableName() +
-		                                   " WHERE VALID_TO >= " + (postgres ?
-		                                                   "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
-		                                                   "" + env.lowestActiveVersion) +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "OBJECT_ID" + equote +
+		               ", " + squote + "OBJECT_TYPE" + equote +
+		               ", " + squote + "INFO_TYPE" + equote +
+		               ", " + squote + "SEQUENCE_NUMBER" + equote +
+		               ", " + squote + "TAG" + equote +
+		               ", " + squote + "DESCRIPTION" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", VALID_FROM, VALID_TO " +
+		               " FROM " + tableName() +
+		               " WHERE VALID_TO >= " + (postgres ?
+		                               "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
+		                               "" + env.lowestActiveVersion) +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
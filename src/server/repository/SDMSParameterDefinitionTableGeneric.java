@@ -196,22 +196,22 @@ public class SDMSParameterDefinitionTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			seId = new Long (r.getLong(2));
+			id     = Long.valueOf (r.getLong(1));
+			seId = Long.valueOf (r.getLong(2));
 			name = r.getString(3);
-			type = new Integer (r.getInt(4));
-			aggFunction = new Integer (r.getInt(5));
+			type = Integer.valueOf (r.getInt(4));
+			aggFunction = Integer.valueOf (r.getInt(5));
 			defaultValue = r.getString(6);
 			if (r.wasNull()) defaultValue = null;
-			isLocal = new Boolean ((r.getInt(7) == 0 ? false : true));
-			linkPdId = new Long (r.getLong(8));
+			isLocal = Boolean.valueOf ((r.getInt(7) == 0 ? false : true));
+			linkPdId = Long.valueOf (r.getLong(8));
 			if (r.wasNull()) linkPdId = null;
 			exportName = r.getString(9);
 			if (r.wasNull()) exportName = null;
-			creatorUId = new Long (r.getLong(10));
-			createTs = new Long (r.getLong(11));
-			changerUId = new Long (r.getLong(12));
-			changeTs = new Long (r.getLong(13));
+			creatorUId = Long.valueOf (r.getLong(10));
+			createTs = Long.valueOf (r.getLong(11));
+			changerUId = Long.valueOf (r.getLong(12));
+			changeTs = Long.valueOf (r.getLong(13));
 			validFrom = r.getLong(14);
 			validTo = r.getLong(15);
 		} catch(SQLException sqle) {
@@ -238,39 +238,29 @@ public class SDMSParameterDefinitionTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "SE_ID" + equote +
-		                                   ", " + squote + "NAME" + equote +
-		                                   ", " + squote + "TYPE" + equote +
-		                                   ", " + squote + "AGG_FUNCTION" + equote +
-		                                   ", " + squote + "DEFAULTVALUE" + equote +
-		                                   ", " + squote + "IS_LOCAL" + equote +
-		                                   ", " + squote + "LINK_PD_ID" + equote +
-		                                   ", " + squote + "EXPORT_NAME" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", VALID_FROM, VALID_TO " +
-		                                   " FROM " + tableName() +
-		                                   " WHERE VALID_TO >= " + (postgres ?
-		                                                   "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
-		                                                   "" + env.lowestActiveVersion) +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "SE_ID" + equote +
+		               ", " + squote + "NAME" + equote +
+		               ", " + squote + "TYPE" + equote +
+		               ", " + squote + "AGG_FUNCTION" + equote +
+		               ", " + squote + "DEFAULTVALUE" + equote +
+		               ", " + squote + "IS_LOCAL" + equote +
+		               ", " + squote + "LINK_PD_ID" + equote +
+		               ", " + squote + "EXPORT_NAME" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", VALID_FROM, VALID_TO " +
+		               " FROM " + tableName() +
+		               " WHERE VALID_TO >= " + (postgres ?
+		                               "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
+		                               "" + env.lowestActiveVersion) +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
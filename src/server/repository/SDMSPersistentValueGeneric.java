@@ -56,7 +56,15 @@ public class SDMSPersistentValueGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"NAME",
+		"INT_VALUE",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("PERSISTENT_VALUE", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -305,7 +313,7 @@ public class SDMSPersistentValueGeneric extends SDMSObject
 			myInsert.setLong (5, createTs.longValue());
 			myInsert.setLong (6, changerUId.longValue());
 			myInsert.setLong (7, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "PersistentValue: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -329,7 +337,7 @@ public class SDMSPersistentValueGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "PersistentValue: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -338,40 +346,43 @@ public class SDMSPersistentValueGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSPersistentValueGeneric o = (SDMSPersistentValueGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(name, o.name)) dirty.set(0);
+		if (changed(intValue, o.intValue)) dirty.set(1);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(2);
+		if (changed(createTs, o.createTs)) dirty.set(3);
+		if (changed(changerUId, o.changerUId)) dirty.set(4);
+		if (changed(changeTs, o.changeTs)) dirty.set(5);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE PERSISTENT_VALUE SET " +
-				        "" + squote + "NAME" + equote + " = ? " +
-				        ", " + squote + "INT_VALUE" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "PersistentValue: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "PersistentValue: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setString(1, name);
-			if (intValue == null)
-				myUpdate.setNull(2, Types.INTEGER);
-			else
-				myUpdate.setInt(2, intValue.intValue());
-			myUpdate.setLong (3, creatorUId.longValue());
-			myUpdate.setLong (4, createTs.longValue());
-			myUpdate.setLong (5, changerUId.longValue());
-			myUpdate.setLong (6, changeTs.longValue());
-			myUpdate.setLong(7, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setString(p++, name);
+			if (dirty.get(1)) {
+				if (intValue == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, intValue.intValue());
+			}
+			if (dirty.get(2))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(3))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(4))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(5))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "PersistentValue: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
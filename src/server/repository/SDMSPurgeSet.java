@@ -59,6 +59,13 @@ public class SDMSPurgeSet
 		}
 	}
 
+	public void remove(SystemEnvironment sysEnv, SDMSVersions v)
+	{
+		synchronized (s) {
+			s.remove(v);
+		}
+	}
+
 	public void purge(SystemEnvironment sysEnv, long purgeLow)
 		throws SDMSException
 	{
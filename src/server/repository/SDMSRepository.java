@@ -40,6 +40,10 @@ public class SDMSRepository
 
 	private HashMap tables;
 	private Iterator tableIterator = null;
+	// ID ranges of large tables, loaded by any free TableLoader
+	private LinkedList<LoadUnit> loadUnits = new LinkedList<LoadUnit>();
+	// number of tables which may still be split into ID ranges
+	private int tablesSplitting = 0;
 	private SDMSException loaderException = null;
 	private Integer lockObject = new Integer(0);
 	private long lowestActiveVersion = Long.MAX_VALUE;
@@ -58,6 +62,8 @@ public class SDMSRepository
 
 		initMap(env);
 		loadTables(env);
+		if (SystemEnvironment.historyArchiveTime > 0)
+			SDMSHistoryArchive.archive = new SDMSHistoryArchive(env);
 
 		try {
 			env.dbConnection.close();
@@ -306,19 +312,41 @@ public class SDMSRepository
 		if(loaderException != null) throw loaderException;
 	}
 
-	protected SDMSTable getNextTable()
+	protected LoadUnit getNextLoadUnit()
 	{
 		synchronized(lockObject) {
-			if(tableIterator.hasNext())
-				return (SDMSTable) tableIterator.next();
+			while (true) {
+				if (!loadUnits.isEmpty())
+					return loadUnits.removeFirst();
+				if(tableIterator.hasNext()) {
+					tablesSplitting ++;
+					return new LoadUnit((SDMSTable) tableIterator.next(), null);
+				}
+				if (tablesSplitting == 0 || loaderException != null)
+					return null;
+				try {
+					lockObject.wait();
+				} catch (InterruptedException ie) {  }
+			}
+		}
+	}
+
+	// called once for every table handed out by getNextLoadUnit(), units may be null
+	protected void addLoadUnits(Vector<LoadUnit> units)
+	{
+		synchronized(lockObject) {
+			if (units != null)
+				loadUnits.addAll(units);
+			tablesSplitting --;
+			lockObject.notifyAll();
 		}
-		return null;
 	}
 
 	protected void notify(SDMSException e)
 	{
 		synchronized(lockObject) {
 			loaderException = e;
+			lockObject.notifyAll();
 		}
 	}
 
@@ -438,13 +466,16 @@ class TableLoader extends SDMSThread
 
 	public void SDMSrun()
 	{
-		SDMSTable t;
+		LoadUnit u;
 
 		doTrace(null, "TableLoader " + id + " started", SEVERITY_INFO);
 		try {
 			try {
-				while((t = SystemEnvironment.repository.getNextTable()) != null) {
-					t.loadTable(sysEnv);
+				while((u = SystemEnvironment.repository.getNextLoadUnit()) != null) {
+					if (u.query == null)
+						u.table.loadTable(sysEnv);
+					else
+						u.table.loadRange(sysEnv, u.query);
 					sysEnv.dbConnection.commit();
 				}
 			} catch (SQLException sqle) {
@@ -464,3 +495,15 @@ class TableLoader extends SDMSThread
 	}
 }
 
+class LoadUnit
+{
+	// a whole table if query is null, else the ID range of a table selected by query
+	final SDMSTable table;
+	final String query;
+
+	LoadUnit(SDMSTable table, String query)
+	{
+		this.table = table;
+		this.query = query;
+	}
+}
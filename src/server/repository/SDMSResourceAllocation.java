@@ -39,7 +39,7 @@ public class SDMSResourceAllocation extends SDMSResourceAllocationProxyGeneric
 {
 
 	public final static String __version = "@(#) $Id: SDMSResourceAllocation.java,v 2.3.14.1 2013/03/14 10:25:23 ronald Exp $";
-	static final Integer ONE = new Integer(1);
+	static final Integer ONE = Integer.valueOf(1);
 
 	protected SDMSResourceAllocation(SDMSObject p_object)
 	{
@@ -58,7 +58,7 @@ public class SDMSResourceAllocation extends SDMSResourceAllocationProxyGeneric
 	{
 		int refcount = getRefcount(sysEnv).intValue();
 		if (refcount > 1 && !deleteAll) {
-			setRefcount(sysEnv, new Integer(refcount -1));
+			setRefcount(sysEnv, Integer.valueOf(refcount -1));
 			return;
 		}
 
@@ -80,6 +80,8 @@ public class SDMSResourceAllocation extends SDMSResourceAllocationProxyGeneric
 		}
 
 		if (allocType == ALLOCATION || allocType == RESERVATION || allocType == MASTER_RESERVATION) {
+			if (SystemEnvironment.sched != null)
+				SystemEnvironment.sched.notifyRelease();
 			Integer raAmount = getAmount(sysEnv);
 			int iraAmount = raAmount.intValue();
 			if (iraAmount != 0) {
@@ -94,11 +96,11 @@ public class SDMSResourceAllocation extends SDMSResourceAllocationProxyGeneric
 							int diff = mra.getOrigAmount(sysEnv).intValue() - mraAmount;
 							if (diff > 0) {
 								if (diff >= iraAmount) {
-									mra.setMyAmount(sysEnv, new Integer(mraAmount + iraAmount));
+									mra.setMyAmount(sysEnv, Integer.valueOf(mraAmount + iraAmount));
 									iraAmount = 0;
 								} else {
 									iraAmount = iraAmount - diff;
-									mra.setMyAmount(sysEnv, new Integer(mraAmount + diff));
+									mra.setMyAmount(sysEnv, Integer.valueOf(mraAmount + diff));
 								}
 							}
 						} catch (NotFoundException nfe) {
@@ -176,7 +178,7 @@ public class SDMSResourceAllocation extends SDMSResourceAllocationProxyGeneric
 	public SDMSResourceAllocation ignore (SystemEnvironment sysEnv)
 		throws SDMSException
 	{
-		setAllocationType(sysEnv, new Integer(IGNORE));
+		setAllocationType(sysEnv, Integer.valueOf(IGNORE));
 		return this;
 	}
 
@@ -199,7 +201,7 @@ public class SDMSResourceAllocation extends SDMSResourceAllocationProxyGeneric
 			   p_allocType == MASTER_RESERVATION) {
 				Integer rAmount = r.getFreeAmount(sysEnv);
 				if (rAmount != null ) {
-					rAmount = new Integer(rAmount.intValue() - Math.max (getAmount(sysEnv).intValue(), 0));
+					rAmount = Integer.valueOf(rAmount.intValue() - Math.max (getAmount(sysEnv).intValue(), 0));
 					r.setFreeAmount(sysEnv, rAmount);
 				}
 			}
@@ -207,11 +209,13 @@ public class SDMSResourceAllocation extends SDMSResourceAllocationProxyGeneric
 		super.setAllocationType(sysEnv, p_allocationType);
 		if(p_allocType == IGNORE) {
 			if(allocType == ALLOCATION || allocType == RESERVATION) {
+				if (SystemEnvironment.sched != null)
+					SystemEnvironment.sched.notifyRelease();
 				Integer raAmount = getAmount(sysEnv);
 				if (raAmount.intValue() > 0) {
 					Integer rAmount = r.getFreeAmount(sysEnv);
 					if (rAmount != null) {
-						rAmount = new Integer(rAmount.intValue() + raAmount.intValue());
+						rAmount = Integer.valueOf(rAmount.intValue() + raAmount.intValue());
 						r.setFreeAmount(sysEnv, rAmount);
 					}
 				}
@@ -229,6 +233,8 @@ public class SDMSResourceAllocation extends SDMSResourceAllocationProxyGeneric
 		}
 		if (allocType == ALLOCATION || allocType == RESERVATION) {
 			if (p_allocType == REQUEST) {
+				if (SystemEnvironment.sched != null)
+					SystemEnvironment.sched.notifyRelease();
 				Integer raAmount = getAmount(sysEnv);
 				int iraAmount = raAmount.intValue();
 				if (iraAmount != 0) {
@@ -243,11 +249,11 @@ public class SDMSResourceAllocation extends SDMSResourceAllocationProxyGeneric
 							int diff = mra.getOrigAmount(sysEnv).intValue() - mraAmount;
 							if (diff > 0) {
 								if (diff >= iraAmount) {
-									mra.setMyAmount(sysEnv, new Integer(mraAmount + iraAmount));
+									mra.setMyAmount(sysEnv, Integer.valueOf(mraAmount + iraAmount));
 									iraAmount = 0;
 								} else {
 									iraAmount = iraAmount - diff;
-									mra.setMyAmount(sysEnv, new Integer(mraAmount + diff));
+									mra.setMyAmount(sysEnv, Integer.valueOf(mraAmount + diff));
 								}
 							}
 						} catch (NotFoundException nfe) {
@@ -267,7 +273,7 @@ public class SDMSResourceAllocation extends SDMSResourceAllocationProxyGeneric
 	{
 		int allocationType = getAllocationType(sysEnv);
 		if (allocationType == REQUEST || allocationType == MASTER_REQUEST) {
-			super.setAmount(sysEnv, new Integer(Math.max(p_amount, 0)));
+			super.setAmount(sysEnv, Integer.valueOf(Math.max(p_amount, 0)));
 			return;
 		}
 
@@ -290,11 +296,11 @@ public class SDMSResourceAllocation extends SDMSResourceAllocationProxyGeneric
 					dAmount += oAmount;
 				}
 
-				r.setFreeAmount(sysEnv, new Integer(rAmount - dAmount));
+				r.setFreeAmount(sysEnv, Integer.valueOf(rAmount - dAmount));
 			}
 		}
 
-		super.setAmount(sysEnv, new Integer(Math.max(nAmount, 0)));
+		super.setAmount(sysEnv, Integer.valueOf(Math.max(nAmount, 0)));
 	}
 
 	protected void setMyAmount (SystemEnvironment sysEnv, Integer p_amount)
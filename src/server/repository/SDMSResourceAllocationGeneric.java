@@ -93,7 +93,26 @@ public class SDMSResourceAllocationGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"R_ID",
+		"SME_ID",
+		"NR_ID",
+		"AMOUNT",
+		"ORIG_AMOUNT",
+		"KEEP_MODE",
+		"IS_STICKY",
+		"STICKY_NAME",
+		"STICKY_PARENT",
+		"ALLOCATION_TYPE",
+		"RSMP_ID",
+		"LOCKMODE",
+		"REFCOUNT",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("RESOURCE_ALLOCATION", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -889,7 +908,7 @@ public class SDMSResourceAllocationGeneric extends SDMSObject
 			myInsert.setLong (16, createTs.longValue());
 			myInsert.setLong (17, changerUId.longValue());
 			myInsert.setLong (18, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "ResourceAllocation: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -913,7 +932,7 @@ public class SDMSResourceAllocationGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "ResourceAllocation: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -922,77 +941,96 @@ public class SDMSResourceAllocationGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSResourceAllocationGeneric o = (SDMSResourceAllocationGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(rId, o.rId)) dirty.set(0);
+		if (changed(smeId, o.smeId)) dirty.set(1);
+		if (changed(nrId, o.nrId)) dirty.set(2);
+		if (changed(amount, o.amount)) dirty.set(3);
+		if (changed(origAmount, o.origAmount)) dirty.set(4);
+		if (changed(keepMode, o.keepMode)) dirty.set(5);
+		if (changed(isSticky, o.isSticky)) dirty.set(6);
+		if (changed(stickyName, o.stickyName)) dirty.set(7);
+		if (changed(stickyParent, o.stickyParent)) dirty.set(8);
+		if (changed(allocationType, o.allocationType)) dirty.set(9);
+		if (changed(rsmpId, o.rsmpId)) dirty.set(10);
+		if (changed(lockmode, o.lockmode)) dirty.set(11);
+		if (changed(refcount, o.refcount)) dirty.set(12);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(13);
+		if (changed(createTs, o.createTs)) dirty.set(14);
+		if (changed(changerUId, o.changerUId)) dirty.set(15);
+		if (changed(changeTs, o.changeTs)) dirty.set(16);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE RESOURCE_ALLOCATION SET " +
-				        "" + squote + "R_ID" + equote + " = ? " +
-				        ", " + squote + "SME_ID" + equote + " = ? " +
-				        ", " + squote + "NR_ID" + equote + " = ? " +
-				        ", " + squote + "AMOUNT" + equote + " = ? " +
-				        ", " + squote + "ORIG_AMOUNT" + equote + " = ? " +
-				        ", " + squote + "KEEP_MODE" + equote + " = ? " +
-				        ", " + squote + "IS_STICKY" + equote + " = ? " +
-				        ", " + squote + "STICKY_NAME" + equote + " = ? " +
-				        ", " + squote + "STICKY_PARENT" + equote + " = ? " +
-				        ", " + squote + "ALLOCATION_TYPE" + equote + " = ? " +
-				        ", " + squote + "RSMP_ID" + equote + " = ? " +
-				        ", " + squote + "LOCKMODE" + equote + " = ? " +
-				        ", " + squote + "REFCOUNT" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "ResourceAllocation: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "ResourceAllocation: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, rId.longValue());
-			myUpdate.setLong (2, smeId.longValue());
-			myUpdate.setLong (3, nrId.longValue());
-			if (amount == null)
-				myUpdate.setNull(4, Types.INTEGER);
-			else
-				myUpdate.setInt(4, amount.intValue());
-			if (origAmount == null)
-				myUpdate.setNull(5, Types.INTEGER);
-			else
-				myUpdate.setInt(5, origAmount.intValue());
-			myUpdate.setInt(6, keepMode.intValue());
-			myUpdate.setInt (7, isSticky.booleanValue() ? 1 : 0);
-			if (stickyName == null)
-				myUpdate.setNull(8, Types.VARCHAR);
-			else
-				myUpdate.setString(8, stickyName);
-			if (stickyParent == null)
-				myUpdate.setNull(9, Types.INTEGER);
-			else
-				myUpdate.setLong (9, stickyParent.longValue());
-			myUpdate.setInt(10, allocationType.intValue());
-			if (rsmpId == null)
-				myUpdate.setNull(11, Types.INTEGER);
-			else
-				myUpdate.setLong (11, rsmpId.longValue());
-			if (lockmode == null)
-				myUpdate.setNull(12, Types.INTEGER);
-			else
-				myUpdate.setInt(12, lockmode.intValue());
-			myUpdate.setInt(13, refcount.intValue());
-			myUpdate.setLong (14, creatorUId.longValue());
-			myUpdate.setLong (15, createTs.longValue());
-			myUpdate.setLong (16, changerUId.longValue());
-			myUpdate.setLong (17, changeTs.longValue());
-			myUpdate.setLong(18, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, rId.longValue());
+			if (dirty.get(1))
+				myUpdate.setLong (p++, smeId.longValue());
+			if (dirty.get(2))
+				myUpdate.setLong (p++, nrId.longValue());
+			if (dirty.get(3)) {
+				if (amount == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, amount.intValue());
+			}
+			if (dirty.get(4)) {
+				if (origAmount == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, origAmount.intValue());
+			}
+			if (dirty.get(5))
+				myUpdate.setInt(p++, keepMode.intValue());
+			if (dirty.get(6))
+				myUpdate.setInt (p++, isSticky.booleanValue() ? 1 : 0);
+			if (dirty.get(7)) {
+				if (stickyName == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, stickyName);
+			}
+			if (dirty.get(8)) {
+				if (stickyParent == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, stickyParent.longValue());
+			}
+			if (dirty.get(9))
+				myUpdate.setInt(p++, allocationType.intValue());
+			if (dirty.get(10)) {
+				if (rsmpId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, rsmpId.longValue());
+			}
+			if (dirty.get(11)) {
+				if (lockmode == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, lockmode.intValue());
+			}
+			if (dirty.get(12))
+				myUpdate.setInt(p++, refcount.intValue());
+			if (dirty.get(13))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(14))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(15))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(16))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "ResourceAllocation: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -234,30 +234,30 @@ public class SDMSResourceAllocationTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			rId = new Long (r.getLong(2));
-			smeId = new Long (r.getLong(3));
-			nrId = new Long (r.getLong(4));
-			amount = new Integer (r.getInt(5));
+			id     = Long.valueOf (r.getLong(1));
+			rId = Long.valueOf (r.getLong(2));
+			smeId = Long.valueOf (r.getLong(3));
+			nrId = Long.valueOf (r.getLong(4));
+			amount = Integer.valueOf (r.getInt(5));
 			if (r.wasNull()) amount = null;
-			origAmount = new Integer (r.getInt(6));
+			origAmount = Integer.valueOf (r.getInt(6));
 			if (r.wasNull()) origAmount = null;
-			keepMode = new Integer (r.getInt(7));
-			isSticky = new Boolean ((r.getInt(8) == 0 ? false : true));
+			keepMode = Integer.valueOf (r.getInt(7));
+			isSticky = Boolean.valueOf ((r.getInt(8) == 0 ? false : true));
 			stickyName = r.getString(9);
 			if (r.wasNull()) stickyName = null;
-			stickyParent = new Long (r.getLong(10));
+			stickyParent = Long.valueOf (r.getLong(10));
 			if (r.wasNull()) stickyParent = null;
-			allocationType = new Integer (r.getInt(11));
-			rsmpId = new Long (r.getLong(12));
+			allocationType = Integer.valueOf (r.getInt(11));
+			rsmpId = Long.valueOf (r.getLong(12));
 			if (r.wasNull()) rsmpId = null;
-			lockmode = new Integer (r.getInt(13));
+			lockmode = Integer.valueOf (r.getInt(13));
 			if (r.wasNull()) lockmode = null;
-			refcount = new Integer (r.getInt(14));
-			creatorUId = new Long (r.getLong(15));
-			createTs = new Long (r.getLong(16));
-			changerUId = new Long (r.getLong(17));
-			changeTs = new Long (r.getLong(18));
+			refcount = Integer.valueOf (r.getInt(14));
+			creatorUId = Long.valueOf (r.getLong(15));
+			createTs = Long.valueOf (r.getLong(16));
+			changerUId = Long.valueOf (r.getLong(17));
+			changeTs = Long.valueOf (r.getLong(18));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -289,40 +289,30 @@ public class SDMSResourceAllocationTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "R_ID" + equote +
-		                                   ", " + squote + "SME_ID" + equote +
-		                                   ", " + squote + "NR_ID" + equote +
-		                                   ", " + squote + "AMOUNT" + equote +
-		                                   ", " + squote + "ORIG_AMOUNT" + equote +
-		                                   ", " + squote + "KEEP_MODE" + equote +
-		                                   ", " + squote + "IS_STICKY" + equote +
-		                                   ", " + squote + "STICKY_NAME" + equote +
-		                                   ", " + squote + "STICKY_PARENT" + equote +
-		                                   ", " + squote + "ALLOCATION_TYPE" + equote +
-		                                   ", " + squote + "RSMP_ID" + equote +
-		                                   ", " + squote + "LOCKMODE" + equote +
-		                                   ", " + squote + "REFCOUNT" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "R_ID" + equote +
+		               ", " + squote + "SME_ID" + equote +
+		               ", " + squote + "NR_ID" + equote +
+		               ", " + squote + "AMOUNT" + equote +
+		               ", " + squote + "ORIG_AMOUNT" + equote +
+		               ", " + squote + "KEEP_MODE" + equote +
+		               ", " + squote + "IS_STICKY" + equote +
+		               ", " + squote + "STICKY_NAME" + equote +
+		               ", " + squote + "STICKY_PARENT" + equote +
+		               ", " + squote + "ALLOCATION_TYPE" + equote +
+		               ", " + squote + "RSMP_ID" + equote +
+		               ", " + squote + "LOCKMODE" + equote +
+		               ", " + squote + "REFCOUNT" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
@@ -107,7 +107,37 @@ public class SDMSResourceGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"NR_ID",
+		"SCOPE_ID",
+		"MASTER_ID",
+		"OWNER_ID",
+		"LINK_ID",
+		"MANAGER_ID",
+		"TAG",
+		"RSD_ID",
+		"RSD_TIME",
+		"DEFINED_AMOUNT",
+		"REQUESTABLE_AMOUNT",
+		"AMOUNT",
+		"FREE_AMOUNT",
+		"IS_ONLINE",
+		"FACTOR",
+		"TRACE_INTERVAL",
+		"TRACE_BASE",
+		"TRACE_BASE_MULTIPLIER",
+		"TD0_AVG",
+		"TD1_AVG",
+		"TD2_AVG",
+		"LW_AVG",
+		"LAST_EVAL",
+		"LAST_WRITE",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("RESSOURCE", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -1169,7 +1199,7 @@ public class SDMSResourceGeneric extends SDMSObject
 			myInsert.setLong (27, createTs.longValue());
 			myInsert.setLong (28, changerUId.longValue());
 			myInsert.setLong (29, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "Resource: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -1193,7 +1223,7 @@ public class SDMSResourceGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "Resource: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -1202,126 +1232,165 @@ public class SDMSResourceGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSResourceGeneric o = (SDMSResourceGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(nrId, o.nrId)) dirty.set(0);
+		if (changed(scopeId, o.scopeId)) dirty.set(1);
+		if (changed(masterId, o.masterId)) dirty.set(2);
+		if (changed(ownerId, o.ownerId)) dirty.set(3);
+		if (changed(linkId, o.linkId)) dirty.set(4);
+		if (changed(managerId, o.managerId)) dirty.set(5);
+		if (changed(tag, o.tag)) dirty.set(6);
+		if (changed(rsdId, o.rsdId)) dirty.set(7);
+		if (changed(rsdTime, o.rsdTime)) dirty.set(8);
+		if (changed(definedAmount, o.definedAmount)) dirty.set(9);
+		if (changed(requestableAmount, o.requestableAmount)) dirty.set(10);
+		if (changed(amount, o.amount)) dirty.set(11);
+		if (changed(freeAmount, o.freeAmount)) dirty.set(12);
+		if (changed(isOnline, o.isOnline)) dirty.set(13);
+		if (changed(factor, o.factor)) dirty.set(14);
+		if (changed(traceInterval, o.traceInterval)) dirty.set(15);
+		if (changed(traceBase, o.traceBase)) dirty.set(16);
+		if (changed(traceBaseMultiplier, o.traceBaseMultiplier)) dirty.set(17);
+		if (changed(td0Avg, o.td0Avg)) dirty.set(18);
+		if (changed(td1Avg, o.td1Avg)) dirty.set(19);
+		if (changed(td2Avg, o.td2Avg)) dirty.set(20);
+		if (changed(lwAvg, o.lwAvg)) dirty.set(21);
+		if (changed(lastEval, o.lastEval)) dirty.set(22);
+		if (changed(lastWrite, o.lastWrite)) dirty.set(23);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(24);
+		if (changed(createTs, o.createTs)) dirty.set(25);
+		if (changed(changerUId, o.changerUId)) dirty.set(26);
+		if (changed(changeTs, o.changeTs)) dirty.set(27);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE RESSOURCE SET " +
-				        "" + squote + "NR_ID" + equote + " = ? " +
-				        ", " + squote + "SCOPE_ID" + equote + " = ? " +
-				        ", " + squote + "MASTER_ID" + equote + " = ? " +
-				        ", " + squote + "OWNER_ID" + equote + " = ? " +
-				        ", " + squote + "LINK_ID" + equote + " = ? " +
-				        ", " + squote + "MANAGER_ID" + equote + " = ? " +
-				        ", " + squote + "TAG" + equote + " = ? " +
-				        ", " + squote + "RSD_ID" + equote + " = ? " +
-				        ", " + squote + "RSD_TIME" + equote + " = ? " +
-				        ", " + squote + "DEFINED_AMOUNT" + equote + " = ? " +
-				        ", " + squote + "REQUESTABLE_AMOUNT" + equote + " = ? " +
-				        ", " + squote + "AMOUNT" + equote + " = ? " +
-				        ", " + squote + "FREE_AMOUNT" + equote + " = ? " +
-				        ", " + squote + "IS_ONLINE" + equote + " = ? " +
-				        ", " + squote + "FACTOR" + equote + " = ? " +
-				        ", " + squote + "TRACE_INTERVAL" + equote + " = ? " +
-				        ", " + squote + "TRACE_BASE" + equote + " = ? " +
-				        ", " + squote + "TRACE_BASE_MULTIPLIER" + equote + " = ? " +
-				        ", " + squote + "TD0_AVG" + equote + " = ? " +
-				        ", " + squote + "TD1_AVG" + equote + " = ? " +
-				        ", " + squote + "TD2_AVG" + equote + " = ? " +
-				        ", " + squote + "LW_AVG" + equote + " = ? " +
-				        ", " + squote + "LAST_EVAL" + equote + " = ? " +
-				        ", " + squote + "LAST_WRITE" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "Resource: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "Resource: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, nrId.longValue());
-			if (scopeId == null)
-				myUpdate.setNull(2, Types.INTEGER);
-			else
-				myUpdate.setLong (2, scopeId.longValue());
-			if (masterId == null)
-				myUpdate.setNull(3, Types.INTEGER);
-			else
-				myUpdate.setLong (3, masterId.longValue());
-			myUpdate.setLong (4, ownerId.longValue());
-			if (linkId == null)
-				myUpdate.setNull(5, Types.INTEGER);
-			else
-				myUpdate.setLong (5, linkId.longValue());
-			if (managerId == null)
-				myUpdate.setNull(6, Types.INTEGER);
-			else
-				myUpdate.setLong (6, managerId.longValue());
-			if (tag == null)
-				myUpdate.setNull(7, Types.VARCHAR);
-			else
-				myUpdate.setString(7, tag);
-			if (rsdId == null)
-				myUpdate.setNull(8, Types.INTEGER);
-			else
-				myUpdate.setLong (8, rsdId.longValue());
-			if (rsdTime == null)
-				myUpdate.setNull(9, Types.INTEGER);
-			else
-				myUpdate.setLong (9, rsdTime.longValue());
-			if (definedAmount == null)
-				myUpdate.setNull(10, Types.INTEGER);
-			else
-				myUpdate.setInt(10, definedAmount.intValue());
-			if (requestableAmount == null)
-				myUpdate.setNull(11, Types.INTEGER);
-			else
-				myUpdate.setInt(11, requestableAmount.intValue());
-			if (amount == null)
-				myUpdate.setNull(12, Types.INTEGER);
-			else
-				myUpdate.setInt(12, amount.intValue());
-			if (freeAmount == null)
-				myUpdate.setNull(13, Types.INTEGER);
-			else
-				myUpdate.setInt(13, freeAmount.intValue());
-			if (isOnline == null)
-				myUpdate.setNull(14, Types.INTEGER);
-			else
-				myUpdate.setInt (14, isOnline.booleanValue() ? 1 : 0);
-			if (factor == null)
-				myUpdate.setNull(15, Types.FLOAT);
-			else
-				myUpdate.setFloat(15, factor.floatValue());
-			if (traceInterval == null)
-				myUpdate.setNull(16, Types.INTEGER);
-			else
-				myUpdate.setInt(16, traceInterval.intValue());
-			if (traceBase == null)
-				myUpdate.setNull(17, Types.INTEGER);
-			else
-				myUpdate.setInt(17, traceBase.intValue());
-			myUpdate.setInt(18, traceBaseMultiplier.intValue());
-			myUpdate.setFloat(19, td0Avg.floatValue());
-			myUpdate.setFloat(20, td1Avg.floatValue());
-			myUpdate.setFloat(21, td2Avg.floatValue());
-			myUpdate.setFloat(22, lwAvg.floatValue());
-			myUpdate.setLong (23, lastEval.longValue());
-			myUpdate.setLong (24, lastWrite.longValue());
-			myUpdate.setLong (25, creatorUId.longValue());
-			myUpdate.setLong (26, createTs.longValue());
-			myUpdate.setLong (27, changerUId.longValue());
-			myUpdate.setLong (28, changeTs.longValue());
-			myUpdate.setLong(29, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, nrId.longValue());
+			if (dirty.get(1)) {
+				if (scopeId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, scopeId.longValue());
+			}
+			if (dirty.get(2)) {
+				if (masterId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, masterId.longValue());
+			}
+			if (dirty.get(3))
+				myUpdate.setLong (p++, ownerId.longValue());
+			if (dirty.get(4)) {
+				if (linkId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, linkId.longValue());
+			}
+			if (dirty.get(5)) {
+				if (managerId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, managerId.longValue());
+			}
+			if (dirty.get(6)) {
+				if (tag == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, tag);
+			}
+			if (dirty.get(7)) {
+				if (rsdId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, rsdId.longValue());
+			}
+			if (dirty.get(8)) {
+				if (rsdTime == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, rsdTime.longValue());
+			}
+			if (dirty.get(9)) {
+				if (definedAmount == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, definedAmount.intValue());
+			}
+			if (dirty.get(10)) {
+				if (requestableAmount == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, requestableAmount.intValue());
+			}
+			if (dirty.get(11)) {
+				if (amount == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, amount.intValue());
+			}
+			if (dirty.get(12)) {
+				if (freeAmount == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, freeAmount.intValue());
+			}
+			if (dirty.get(13)) {
+				if (isOnline == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt (p++, isOnline.booleanValue() ? 1 : 0);
+			}
+			if (dirty.get(14)) {
+				if (factor == null)
+					myUpdate.setNull(p++, Types.FLOAT);
+				else
+					myUpdate.setFloat(p++, factor.floatValue());
+			}
+			if (dirty.get(15)) {
+				if (traceInterval == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, traceInterval.intValue());
+			}
+			if (dirty.get(16)) {
+				if (traceBase == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, traceBase.intValue());
+			}
+			if (dirty.get(17))
+				myUpdate.setInt(p++, traceBaseMultiplier.intValue());
+			if (dirty.get(18))
+				myUpdate.setFloat(p++, td0Avg.floatValue());
+			if (dirty.get(19))
+				myUpdate.setFloat(p++, td1Avg.floatValue());
+			if (dirty.get(20))
+				myUpdate.setFloat(p++, td2Avg.floatValue());
+			if (dirty.get(21))
+				myUpdate.setFloat(p++, lwAvg.floatValue());
+			if (dirty.get(22))
+				myUpdate.setLong (p++, lastEval.longValue());
+			if (dirty.get(23))
+				myUpdate.setLong (p++, lastWrite.longValue());
+			if (dirty.get(24))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(25))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(26))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(27))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "Resource: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
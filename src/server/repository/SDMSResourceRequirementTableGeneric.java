@@ -224,31 +224,31 @@ public class SDMSResourceRequirementTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			nrId = new Long (r.getLong(2));
-			seId = new Long (r.getLong(3));
-			amount = new Integer (r.getInt(4));
+			id     = Long.valueOf (r.getLong(1));
+			nrId = Long.valueOf (r.getLong(2));
+			seId = Long.valueOf (r.getLong(3));
+			amount = Integer.valueOf (r.getInt(4));
 			if (r.wasNull()) amount = null;
-			keepMode = new Integer (r.getInt(5));
-			isSticky = new Boolean ((r.getInt(6) == 0 ? false : true));
+			keepMode = Integer.valueOf (r.getInt(5));
+			isSticky = Boolean.valueOf ((r.getInt(6) == 0 ? false : true));
 			stickyName = r.getString(7);
 			if (r.wasNull()) stickyName = null;
-			stickyParent = new Long (r.getLong(8));
+			stickyParent = Long.valueOf (r.getLong(8));
 			if (r.wasNull()) stickyParent = null;
-			rsmpId = new Long (r.getLong(9));
+			rsmpId = Long.valueOf (r.getLong(9));
 			if (r.wasNull()) rsmpId = null;
-			expiredAmount = new Integer (r.getInt(10));
+			expiredAmount = Integer.valueOf (r.getInt(10));
 			if (r.wasNull()) expiredAmount = null;
-			expiredBase = new Integer (r.getInt(11));
+			expiredBase = Integer.valueOf (r.getInt(11));
 			if (r.wasNull()) expiredBase = null;
-			lockmode = new Integer (r.getInt(12));
+			lockmode = Integer.valueOf (r.getInt(12));
 			if (r.wasNull()) lockmode = null;
 			condition = r.getString(13);
 			if (r.wasNull()) condition = null;
-			creatorUId = new Long (r.getLong(14));
-			createTs = new Long (r.getLong(15));
-			changerUId = new Long (r.getLong(16));
-			changeTs = new Long (r.getLong(17));
+			creatorUId = Long.valueOf (r.getLong(14));
+			createTs = Long.valueOf (r.getLong(15));
+			changerUId = Long.valueOf (r.getLong(16));
+			changeTs = Long.valueOf (r.getLong(17));
 			validFrom = r.getLong(18);
 			validTo = r.getLong(19);
 		} catch(SQLException sqle) {
@@ -279,43 +279,33 @@ public class SDMSResourceRequirementTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "NR_ID" + equote +
-		                                   ", " + squote + "SE_ID" + equote +
-		                                   ", " + squote + "AMOUNT" + equote +
-		                                   ", " + squote + "KEEP_MODE" + equote +
-		                                   ", " + squote + "IS_STICKY" + equote +
-		                                   ", " + squote + "STICKY_NAME" + equote +
-		                                   ", " + squote + "STICKY_PARENT" + equote +
-		                                   ", " + squote + "RSMP_ID" + equote +
-		                                   ", " + squote + "EXPIRED_AMOUNT" + equote +
-		                                   ", " + squote + "EXPIRED_BASE" + equote +
-		                                   ", " + squote + "LOCKMODE" + equote +
-		                                   ", " + squote + "CONDITION" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", VALID_FROM, VALID_TO " +
-		                                   " FROM " + tableName() +
-		                                   " WHERE VALID_TO >= " + (postgres ?
-		                                                   "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
-		                                                   "" + env.lowestActiveVersion) +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "NR_ID" + equote +
+		               ", " + squote + "SE_ID" + equote +
+		               ", " + squote + "AMOUNT" + equote +
+		               ", " + squote + "KEEP_MODE" + equote +
+		               ", " + squote + "IS_STICKY" + equote +
+		               ", " + squote + "STICKY_NAME" + equote +
+		               ", " + squote + "STICKY_PARENT" + equote +
+		               ", " + squote + "RSMP_ID" + equote +
+		               ", " + squote + "EXPIRED_AMOUNT" + equote +
+		               ", " + squote + "EXPIRED_BASE" + equote +
+		               ", " + squote + "LOCKMODE" + equote +
+		               ", " + squote + "CONDITION" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", VALID_FROM, VALID_TO " +
+		               " FROM " + tableName() +
+		               " WHERE VALID_TO >= " + (postgres ?
+		                               "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
+		                               "" + env.lowestActiveVersion) +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
@@ -272,7 +272,7 @@ public class SDMSResourceStateMappingProfileGeneric extends SDMSObject
 			myInsert.setLong (6, changeTs.longValue());
 			myInsert.setLong(7, env.tx.versionId);
 			myInsert.setLong(8, Long.MAX_VALUE);
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "ResourceStateMappingProfile: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -322,7 +322,7 @@ public class SDMSResourceStateMappingProfileGeneric extends SDMSObject
 			myUpdate.setLong(2, changeTs.longValue());
 			myUpdate.setLong(3, changerUId.longValue());
 			myUpdate.setLong(4, id.longValue());
-			myUpdate.executeUpdate();
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181956", "ResourceStateMappingProfile: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -296,50 +296,50 @@ public class SDMSResourceTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			nrId = new Long (r.getLong(2));
-			scopeId = new Long (r.getLong(3));
+			id     = Long.valueOf (r.getLong(1));
+			nrId = Long.valueOf (r.getLong(2));
+			scopeId = Long.valueOf (r.getLong(3));
 			if (r.wasNull()) scopeId = null;
-			masterId = new Long (r.getLong(4));
+			masterId = Long.valueOf (r.getLong(4));
 			if (r.wasNull()) masterId = null;
-			ownerId = new Long (r.getLong(5));
-			linkId = new Long (r.getLong(6));
+			ownerId = Long.valueOf (r.getLong(5));
+			linkId = Long.valueOf (r.getLong(6));
 			if (r.wasNull()) linkId = null;
-			managerId = new Long (r.getLong(7));
+			managerId = Long.valueOf (r.getLong(7));
 			if (r.wasNull()) managerId = null;
 			tag = r.getString(8);
 			if (r.wasNull()) tag = null;
-			rsdId = new Long (r.getLong(9));
+			rsdId = Long.valueOf (r.getLong(9));
 			if (r.wasNull()) rsdId = null;
-			rsdTime = new Long (r.getLong(10));
+			rsdTime = Long.valueOf (r.getLong(10));
 			if (r.wasNull()) rsdTime = null;
-			definedAmount = new Integer (r.getInt(11));
+			definedAmount = Integer.valueOf (r.getInt(11));
 			if (r.wasNull()) definedAmount = null;
-			requestableAmount = new Integer (r.getInt(12));
+			requestableAmount = Integer.valueOf (r.getInt(12));
 			if (r.wasNull()) requestableAmount = null;
-			amount = new Integer (r.getInt(13));
+			amount = Integer.valueOf (r.getInt(13));
 			if (r.wasNull()) amount = null;
-			freeAmount = new Integer (r.getInt(14));
+			freeAmount = Integer.valueOf (r.getInt(14));
 			if (r.wasNull()) freeAmount = null;
-			isOnline = new Boolean ((r.getInt(15) == 0 ? false : true));
+			isOnline = Boolean.valueOf ((r.getInt(15) == 0 ? false : true));
 			if (r.wasNull()) isOnline = null;
 			factor = new Float (r.getFloat(16));
 			if (r.wasNull()) factor = null;
-			traceInterval = new Integer (r.getInt(17));
+			traceInterval = Integer.valueOf (r.getInt(17));
 			if (r.wasNull()) traceInterval = null;
-			traceBase = new Integer (r.getInt(18));
+			traceBase = Integer.valueOf (r.getInt(18));
 			if (r.wasNull()) traceBase = null;
-			traceBaseMultiplier = new Integer (r.getInt(19));
+			traceBaseMultiplier = Integer.valueOf (r.getInt(19));
 			td0Avg = new Float (r.getFloat(20));
 			td1Avg = new Float (r.getFloat(21));
 			td2Avg = new Float (r.getFloat(22));
 			lwAvg = new Float (r.getFloat(23));
-			lastEval = new Long (r.getLong(24));
-			lastWrite = new Long (r.getLong(25));
-			creatorUId = new Long (r.getLong(26));
-			createTs = new Long (r.getLong(27));
-			changerUId = new Long (r.getLong(28));
-			changeTs = new Long (r.getLong(29));
+			lastEval = Long.valueOf (r.getLong(24));
+			lastWrite = Long.valueOf (r.getLong(25));
+			creatorUId = Long.valueOf (r.getLong(26));
+			createTs = Long.valueOf (r.getLong(27));
+			changerUId = Long.valueOf (r.getLong(28));
+			changeTs = Long.valueOf (r.getLong(29));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -382,51 +382,41 @@ public class SDMSResourceTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "NR_ID" + equote +
-		                                   ", " + squote + "SCOPE_ID" + equote +
-		                                   ", " + squote + "MASTER_ID" + equote +
-		                                   ", " + squote + "OWNER_ID" + equote +
-		                                   ", " + squote + "LINK_ID" + equote +
-		                                   ", " + squote + "MANAGER_ID" + equote +
-		                                   ", " + squote + "TAG" + equote +
-		                                   ", " + squote + "RSD_ID" + equote +
-		                                   ", " + squote + "RSD_TIME" + equote +
-		                                   ", " + squote + "DEFINED_AMOUNT" + equote +
-		                                   ", " + squote + "REQUESTABLE_AMOUNT" + equote +
-		                                   ", " + squote + "AMOUNT" + equote +
-		                                   ", " + squote + "FREE_AMOUNT" + equote +
-		                                   ", " + squote + "IS_ONLINE" + equote +
-		                                   ", " + squote + "FACTOR" + equote +
-		                                   ", " + squote + "TRACE_INTERVAL" + equote +
-		                                   ", " + squote + "TRACE_BASE" + equote +
-		                                   ", " + squote + "TRACE_BASE_MULTIPLIER" + equote +
-		                                   ", " + squote + "TD0_AVG" + equote +
-		                                   ", " + squote + "TD1_AVG" + equote +
-		                                   ", " + squote + "TD2_AVG" + equote +
-		                                   ", " + squote + "LW_AVG" + equote +
-		                                   ", " + squote + "LAST_EVAL" + equote +
-		                                   ", " + squote + "LAST_WRITE" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "NR_ID" + equote +
+		               ", " + squote + "SCOPE_ID" + equote +
+		               ", " + squote + "MASTER_ID" + equote +
+		               ", " + squote + "OWNER_ID" + equote +
+		               ", " + squote + "LINK_ID" + equote +
+		               ", " + squote + "MANAGER_ID" + equote +
+		               ", " + squote + "TAG" + equote +
+		               ", " + squote + "RSD_ID" + equote +
+		               ", " + squote + "RSD_TIME" + equote +
+		               ", " + squote + "DEFINED_AMOUNT" + equote +
+		               ", " + squote + "REQUESTABLE_AMOUNT" + equote +
+		               ", " + squote + "AMOUNT" + equote +
+		               ", " + squote + "FREE_AMOUNT" + equote +
+		               ", " + squote + "IS_ONLINE" + equote +
+		               ", " + squote + "FACTOR" + equote +
+		               ", " + squote + "TRACE_INTERVAL" + equote +
+		               ", " + squote + "TRACE_BASE" + equote +
+		               ", " + squote + "TRACE_BASE_MULTIPLIER" + equote +
+		               ", " + squote + "TD0_AVG" + equote +
+		               ", " + squote + "TD1_AVG" + equote +
+		               ", " + squote + "TD2_AVG" + equote +
+		               ", " + squote + "LW_AVG" + equote +
+		               ", " + squote + "LAST_EVAL" + equote +
+		               ", " + squote + "LAST_WRITE" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
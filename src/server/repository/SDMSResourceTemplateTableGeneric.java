@@ -186,21 +186,21 @@ public class SDMSResourceTemplateTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			nrId = new Long (r.getLong(2));
-			seId = new Long (r.getLong(3));
-			ownerId = new Long (r.getLong(4));
-			rsdId = new Long (r.getLong(5));
+			id     = Long.valueOf (r.getLong(1));
+			nrId = Long.valueOf (r.getLong(2));
+			seId = Long.valueOf (r.getLong(3));
+			ownerId = Long.valueOf (r.getLong(4));
+			rsdId = Long.valueOf (r.getLong(5));
 			if (r.wasNull()) rsdId = null;
-			RequestableAmount = new Integer (r.getInt(6));
+			RequestableAmount = Integer.valueOf (r.getInt(6));
 			if (r.wasNull()) RequestableAmount = null;
-			amount = new Integer (r.getInt(7));
+			amount = Integer.valueOf (r.getInt(7));
 			if (r.wasNull()) amount = null;
-			isOnline = new Boolean ((r.getInt(8) == 0 ? false : true));
-			creatorUId = new Long (r.getLong(9));
-			createTs = new Long (r.getLong(10));
-			changerUId = new Long (r.getLong(11));
-			changeTs = new Long (r.getLong(12));
+			isOnline = Boolean.valueOf ((r.getInt(8) == 0 ? false : true));
+			creatorUId = Long.valueOf (r.getLong(9));
+			createTs = Long.valueOf (r.getLong(10));
+			changerUId = Long.valueOf (r.getLong(11));
+			changeTs = Long.valueOf (r.getLong(12));
 			validFrom = r.getLong(13);
 			validTo = r.getLong(14);
 		} catch(SQLException sqle) {
@@ -226,38 +226,28 @@ public class SDMSResourceTemplateTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "NR_ID" + equote +
-		                                   ", " + squote + "SE_ID" + equote +
-		                                   ", " + squote + "OWNER_ID" + equote +
-		                                   ", " + squote + "RSD_ID" + equote +
-		                                   ", " + squote + "REQUESTABLE_AMOUNT" + equote +
-		                                   ", " + squote + "AMOUNT" + equote +
-		                                   ", " + squote + "IS_ONLINE" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", VALID_FROM, VALID_TO " +
-		                                   " FROM " + tableName() +
-		                                   " WHERE VALID_TO >= " + (postgres ?
-		                                                   "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
-		                                                   "" + env.lowestActiveVersion) +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "NR_ID" + equote +
+		               ", " + squote + "SE_ID" + equote +
+		               ", " + squote + "OWNER_ID" + equote +
+		               ", " + squote + "RSD_ID" + equote +
+		               ", " + squote + "REQUESTABLE_AMOUNT" + equote +
+		               ", " + squote + "AMOUNT" + equote +
+		               ", " + squote + "IS_ONLINE" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", VALID_FROM, VALID_TO " +
+		               " FROM " + tableName() +
+		               " WHERE VALID_TO >= " + (postgres ?
+		                               "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
+		                               "" + env.lowestActiveVersion) +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
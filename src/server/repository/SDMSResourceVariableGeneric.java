@@ -58,7 +58,16 @@ public class SDMSResourceVariableGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"PD_ID",
+		"R_ID",
+		"VALUE",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("RESOURCE_VARIABLE", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -367,7 +376,7 @@ public class SDMSResourceVariableGeneric extends SDMSObject
 			myInsert.setLong (6, createTs.longValue());
 			myInsert.setLong (7, changerUId.longValue());
 			myInsert.setLong (8, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "ResourceVariable: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -391,7 +400,7 @@ public class SDMSResourceVariableGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "ResourceVariable: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -400,39 +409,42 @@ public class SDMSResourceVariableGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSResourceVariableGeneric o = (SDMSResourceVariableGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(pdId, o.pdId)) dirty.set(0);
+		if (changed(rId, o.rId)) dirty.set(1);
+		if (changed(value, o.value)) dirty.set(2);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(3);
+		if (changed(createTs, o.createTs)) dirty.set(4);
+		if (changed(changerUId, o.changerUId)) dirty.set(5);
+		if (changed(changeTs, o.changeTs)) dirty.set(6);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE RESOURCE_VARIABLE SET " +
-				        "" + squote + "PD_ID" + equote + " = ? " +
-				        ", " + squote + "R_ID" + equote + " = ? " +
-				        ", " + squote + "VALUE" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "ResourceVariable: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "ResourceVariable: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, pdId.longValue());
-			myUpdate.setLong (2, rId.longValue());
-			myUpdate.setString(3, value);
-			myUpdate.setLong (4, creatorUId.longValue());
-			myUpdate.setLong (5, createTs.longValue());
-			myUpdate.setLong (6, changerUId.longValue());
-			myUpdate.setLong (7, changeTs.longValue());
-			myUpdate.setLong(8, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, pdId.longValue());
+			if (dirty.get(1))
+				myUpdate.setLong (p++, rId.longValue());
+			if (dirty.get(2))
+				myUpdate.setString(p++, value);
+			if (dirty.get(3))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(4))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(5))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(6))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "ResourceVariable: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -79,7 +79,7 @@ public class SDMSSchedule
 					gc.setTimeZone(tz);
 					md = gc.getTimeInMillis();
 
-					Long next = interval.getNextTriggerDate(sysEnv, new Long(md), 0 , tz);
+					Long next = interval.getCachedNextTriggerDate(sysEnv, new Long(md), tz);
 
 					TimerDate result = new TimerDate();
 					if (next != null) {
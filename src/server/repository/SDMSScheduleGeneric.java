@@ -71,7 +71,21 @@ public class SDMSScheduleGeneric extends SDMSObject
 	protected Long changeTs;
 	protected Long inheritPrivs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"NAME",
+		"OWNER_ID",
+		"INT_ID",
+		"PARENT_ID",
+		"TIME_ZONE",
+		"SE_ID",
+		"ACTIVE",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS",
+		"INHERIT_PRIVS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("SCHEDULE", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -596,7 +610,7 @@ public class SDMSScheduleGeneric extends SDMSObject
 			myInsert.setLong (11, changerUId.longValue());
 			myInsert.setLong (12, changeTs.longValue());
 			myInsert.setLong (13, inheritPrivs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "Schedule: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -620,7 +634,7 @@ public class SDMSScheduleGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "Schedule: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -629,58 +643,69 @@ public class SDMSScheduleGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSScheduleGeneric o = (SDMSScheduleGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(name, o.name)) dirty.set(0);
+		if (changed(ownerId, o.ownerId)) dirty.set(1);
+		if (changed(intId, o.intId)) dirty.set(2);
+		if (changed(parentId, o.parentId)) dirty.set(3);
+		if (changed(timeZone, o.timeZone)) dirty.set(4);
+		if (changed(seId, o.seId)) dirty.set(5);
+		if (changed(isActive, o.isActive)) dirty.set(6);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(7);
+		if (changed(createTs, o.createTs)) dirty.set(8);
+		if (changed(changerUId, o.changerUId)) dirty.set(9);
+		if (changed(changeTs, o.changeTs)) dirty.set(10);
+		if (changed(inheritPrivs, o.inheritPrivs)) dirty.set(11);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE SCHEDULE SET " +
-				        "" + squote + "NAME" + equote + " = ? " +
-				        ", " + squote + "OWNER_ID" + equote + " = ? " +
-				        ", " + squote + "INT_ID" + equote + " = ? " +
-				        ", " + squote + "PARENT_ID" + equote + " = ? " +
-				        ", " + squote + "TIME_ZONE" + equote + " = ? " +
-				        ", " + squote + "SE_ID" + equote + " = ? " +
-				        ", " + squote + "ACTIVE" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        ", " + squote + "INHERIT_PRIVS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "Schedule: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "Schedule: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setString(1, name);
-			myUpdate.setLong (2, ownerId.longValue());
-			if (intId == null)
-				myUpdate.setNull(3, Types.INTEGER);
-			else
-				myUpdate.setLong (3, intId.longValue());
-			if (parentId == null)
-				myUpdate.setNull(4, Types.INTEGER);
-			else
-				myUpdate.setLong (4, parentId.longValue());
-			myUpdate.setString(5, timeZone);
-			if (seId == null)
-				myUpdate.setNull(6, Types.INTEGER);
-			else
-				myUpdate.setLong (6, seId.longValue());
-			myUpdate.setInt (7, isActive.booleanValue() ? 1 : 0);
-			myUpdate.setLong (8, creatorUId.longValue());
-			myUpdate.setLong (9, createTs.longValue());
-			myUpdate.setLong (10, changerUId.longValue());
-			myUpdate.setLong (11, changeTs.longValue());
-			myUpdate.setLong (12, inheritPrivs.longValue());
-			myUpdate.setLong(13, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setString(p++, name);
+			if (dirty.get(1))
+				myUpdate.setLong (p++, ownerId.longValue());
+			if (dirty.get(2)) {
+				if (intId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, intId.longValue());
+			}
+			if (dirty.get(3)) {
+				if (parentId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, parentId.longValue());
+			}
+			if (dirty.get(4))
+				myUpdate.setString(p++, timeZone);
+			if (dirty.get(5)) {
+				if (seId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, seId.longValue());
+			}
+			if (dirty.get(6))
+				myUpdate.setInt (p++, isActive.booleanValue() ? 1 : 0);
+			if (dirty.get(7))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(8))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(9))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(10))
+				myUpdate.setLong (p++, changeTs.longValue());
+			if (dirty.get(11))
+				myUpdate.setLong (p++, inheritPrivs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "Schedule: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -198,22 +198,22 @@ public class SDMSScheduleTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
+			id     = Long.valueOf (r.getLong(1));
 			name = r.getString(2);
-			ownerId = new Long (r.getLong(3));
-			intId = new Long (r.getLong(4));
+			ownerId = Long.valueOf (r.getLong(3));
+			intId = Long.valueOf (r.getLong(4));
 			if (r.wasNull()) intId = null;
-			parentId = new Long (r.getLong(5));
+			parentId = Long.valueOf (r.getLong(5));
 			if (r.wasNull()) parentId = null;
 			timeZone = r.getString(6);
-			seId = new Long (r.getLong(7));
+			seId = Long.valueOf (r.getLong(7));
 			if (r.wasNull()) seId = null;
-			isActive = new Boolean ((r.getInt(8) == 0 ? false : true));
-			creatorUId = new Long (r.getLong(9));
-			createTs = new Long (r.getLong(10));
-			changerUId = new Long (r.getLong(11));
-			changeTs = new Long (r.getLong(12));
-			inheritPrivs = new Long (r.getLong(13));
+			isActive = Boolean.valueOf ((r.getInt(8) == 0 ? false : true));
+			creatorUId = Long.valueOf (r.getLong(9));
+			createTs = Long.valueOf (r.getLong(10));
+			changerUId = Long.valueOf (r.getLong(11));
+			changeTs = Long.valueOf (r.getLong(12));
+			inheritPrivs = Long.valueOf (r.getLong(13));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -240,35 +240,25 @@ public class SDMSScheduleTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "NAME" + equote +
-		                                   ", " + squote + "OWNER_ID" + equote +
-		                                   ", " + squote + "INT_ID" + equote +
-		                                   ", " + squote + "PARENT_ID" + equote +
-		                                   ", " + squote + "TIME_ZONE" + equote +
-		                                   ", " + squote + "SE_ID" + equote +
-		                                   ", " + squote + "ACTIVE" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", " + squote + "INHERIT_PRIVS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "NAME" + equote +
+		               ", " + squote + "OWNER_ID" + equote +
+		               ", " + squote + "INT_ID" + equote +
+		               ", " + squote + "PARENT_ID" + equote +
+		               ", " + squote + "TIME_ZONE" + equote +
+		               ", " + squote + "SE_ID" + equote +
+		               ", " + squote + "ACTIVE" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", " + squote + "INHERIT_PRIVS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
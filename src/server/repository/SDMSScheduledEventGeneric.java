@@ -96,7 +96,28 @@ public class SDMSScheduledEventGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"OWNER_ID",
+		"SCE_ID",
+		"EVT_ID",
+		"ACTIVE",
+		"BROKEN",
+		"ERROR_CODE",
+		"ERROR_MSG",
+		"LAST_START_TIME",
+		"NEXT_START_TIME",
+		"NEXT_IS_TRIGGER",
+		"BACKLOG_HANDLING",
+		"SUSPEND_LIMIT",
+		"SUSPEND_LIMIT_MULTIPLIER",
+		"IS_CALENDAR",
+		"CALENDAR_HORIZON",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("SCHEDULED_EVENT", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -911,7 +932,7 @@ public class SDMSScheduledEventGeneric extends SDMSObject
 			myInsert.setLong (18, createTs.longValue());
 			myInsert.setLong (19, changerUId.longValue());
 			myInsert.setLong (20, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "ScheduledEvent: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -935,7 +956,7 @@ public class SDMSScheduledEventGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "ScheduledEvent: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -944,87 +965,110 @@ public class SDMSScheduledEventGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSScheduledEventGeneric o = (SDMSScheduledEventGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(ownerId, o.ownerId)) dirty.set(0);
+		if (changed(sceId, o.sceId)) dirty.set(1);
+		if (changed(evtId, o.evtId)) dirty.set(2);
+		if (changed(isActive, o.isActive)) dirty.set(3);
+		if (changed(isBroken, o.isBroken)) dirty.set(4);
+		if (changed(errorCode, o.errorCode)) dirty.set(5);
+		if (changed(errorMsg, o.errorMsg)) dirty.set(6);
+		if (changed(lastStartTime, o.lastStartTime)) dirty.set(7);
+		if (changed(nextActivityTime, o.nextActivityTime)) dirty.set(8);
+		if (changed(nextActivityIsTrigger, o.nextActivityIsTrigger)) dirty.set(9);
+		if (changed(backlogHandling, o.backlogHandling)) dirty.set(10);
+		if (changed(suspendLimit, o.suspendLimit)) dirty.set(11);
+		if (changed(suspendLimitMultiplier, o.suspendLimitMultiplier)) dirty.set(12);
+		if (changed(isCalendar, o.isCalendar)) dirty.set(13);
+		if (changed(calendarHorizon, o.calendarHorizon)) dirty.set(14);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(15);
+		if (changed(createTs, o.createTs)) dirty.set(16);
+		if (changed(changerUId, o.changerUId)) dirty.set(17);
+		if (changed(changeTs, o.changeTs)) dirty.set(18);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE SCHEDULED_EVENT SET " +
-				        "" + squote + "OWNER_ID" + equote + " = ? " +
-				        ", " + squote + "SCE_ID" + equote + " = ? " +
-				        ", " + squote + "EVT_ID" + equote + " = ? " +
-				        ", " + squote + "ACTIVE" + equote + " = ? " +
-				        ", " + squote + "BROKEN" + equote + " = ? " +
-				        ", " + squote + "ERROR_CODE" + equote + " = ? " +
-				        ", " + squote + "ERROR_MSG" + equote + " = ? " +
-				        ", " + squote + "LAST_START_TIME" + equote + " = ? " +
-				        ", " + squote + "NEXT_START_TIME" + equote + " = ? " +
-				        ", " + squote + "NEXT_IS_TRIGGER" + equote + " = ? " +
-				        ", " + squote + "BACKLOG_HANDLING" + equote + " = ? " +
-				        ", " + squote + "SUSPEND_LIMIT" + equote + " = ? " +
-				        ", " + squote + "SUSPEND_LIMIT_MULTIPLIER" + equote + " = ? " +
-				        ", " + squote + "IS_CALENDAR" + equote + " = ? " +
-				        ", " + squote + "CALENDAR_HORIZON" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "ScheduledEvent: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "ScheduledEvent: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, ownerId.longValue());
-			myUpdate.setLong (2, sceId.longValue());
-			myUpdate.setLong (3, evtId.longValue());
-			myUpdate.setInt (4, isActive.booleanValue() ? 1 : 0);
-			myUpdate.setInt (5, isBroken.booleanValue() ? 1 : 0);
-			if (errorCode == null)
-				myUpdate.setNull(6, Types.VARCHAR);
-			else
-				myUpdate.setString(6, errorCode);
-			if (errorMsg == null)
-				myUpdate.setNull(7, Types.VARCHAR);
-			else
-				myUpdate.setString(7, errorMsg);
-			if (lastStartTime == null)
-				myUpdate.setNull(8, Types.INTEGER);
-			else
-				myUpdate.setLong (8, lastStartTime.longValue());
-			if (nextActivityTime == null)
-				myUpdate.setNull(9, Types.INTEGER);
-			else
-				myUpdate.setLong (9, nextActivityTime.longValue());
-			if (nextActivityIsTrigger == null)
-				myUpdate.setNull(10, Types.INTEGER);
-			else
-				myUpdate.setInt (10, nextActivityIsTrigger.booleanValue() ? 1 : 0);
-			myUpdate.setInt(11, backlogHandling.intValue());
-			if (suspendLimit == null)
-				myUpdate.setNull(12, Types.INTEGER);
-			else
-				myUpdate.setInt(12, suspendLimit.intValue());
-			if (suspendLimitMultiplier == null)
-				myUpdate.setNull(13, Types.INTEGER);
-			else
-				myUpdate.setInt(13, suspendLimitMultiplier.intValue());
-			myUpdate.setInt (14, isCalendar.booleanValue() ? 1 : 0);
-			if (calendarHorizon == null)
-				myUpdate.setNull(15, Types.INTEGER);
-			else
-				myUpdate.setInt(15, calendarHorizon.intValue());
-			myUpdate.setLong (16, creatorUId.longValue());
-			myUpdate.setLong (17, createTs.longValue());
-			myUpdate.setLong (18, changerUId.longValue());
-			myUpdate.setLong (19, changeTs.longValue());
-			myUpdate.setLong(20, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, ownerId.longValue());
+			if (dirty.get(1))
+				myUpdate.setLong (p++, sceId.longValue());
+			if (dirty.get(2))
+				myUpdate.setLong (p++, evtId.longValue());
+			if (dirty.get(3))
+				myUpdate.setInt (p++, isActive.booleanValue() ? 1 : 0);
+			if (dirty.get(4))
+				myUpdate.setInt (p++, isBroken.booleanValue() ? 1 : 0);
+			if (dirty.get(5)) {
+				if (errorCode == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, errorCode);
+			}
+			if (dirty.get(6)) {
+				if (errorMsg == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, errorMsg);
+			}
+			if (dirty.get(7)) {
+				if (lastStartTime == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, lastStartTime.longValue());
+			}
+			if (dirty.get(8)) {
+				if (nextActivityTime == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, nextActivityTime.longValue());
+			}
+			if (dirty.get(9)) {
+				if (nextActivityIsTrigger == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt (p++, nextActivityIsTrigger.booleanValue() ? 1 : 0);
+			}
+			if (dirty.get(10))
+				myUpdate.setInt(p++, backlogHandling.intValue());
+			if (dirty.get(11)) {
+				if (suspendLimit == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, suspendLimit.intValue());
+			}
+			if (dirty.get(12)) {
+				if (suspendLimitMultiplier == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, suspendLimitMultiplier.intValue());
+			}
+			if (dirty.get(13))
+				myUpdate.setInt (p++, isCalendar.booleanValue() ? 1 : 0);
+			if (dirty.get(14)) {
+				if (calendarHorizon == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, calendarHorizon.intValue());
+			}
+			if (dirty.get(15))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(16))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(17))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(18))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "ScheduledEvent: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -242,34 +242,34 @@ public class SDMSScheduledEventTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			ownerId = new Long (r.getLong(2));
-			sceId = new Long (r.getLong(3));
-			evtId = new Long (r.getLong(4));
-			isActive = new Boolean ((r.getInt(5) == 0 ? false : true));
-			isBroken = new Boolean ((r.getInt(6) == 0 ? false : true));
+			id     = Long.valueOf (r.getLong(1));
+			ownerId = Long.valueOf (r.getLong(2));
+			sceId = Long.valueOf (r.getLong(3));
+			evtId = Long.valueOf (r.getLong(4));
+			isActive = Boolean.valueOf ((r.getInt(5) == 0 ? false : true));
+			isBroken = Boolean.valueOf ((r.getInt(6) == 0 ? false : true));
 			errorCode = r.getString(7);
 			if (r.wasNull()) errorCode = null;
 			errorMsg = r.getString(8);
 			if (r.wasNull()) errorMsg = null;
-			lastStartTime = new Long (r.getLong(9));
+			lastStartTime = Long.valueOf (r.getLong(9));
 			if (r.wasNull()) lastStartTime = null;
-			nextActivityTime = new Long (r.getLong(10));
+			nextActivityTime = Long.valueOf (r.getLong(10));
 			if (r.wasNull()) nextActivityTime = null;
-			nextActivityIsTrigger = new Boolean ((r.getInt(11) == 0 ? false : true));
+			nextActivityIsTrigger = Boolean.valueOf ((r.getInt(11) == 0 ? false : true));
 			if (r.wasNull()) nextActivityIsTrigger = null;
-			backlogHandling = new Integer (r.getInt(12));
-			suspendLimit = new Integer (r.getInt(13));
+			backlogHandling = Integer.valueOf (r.getInt(12));
+			suspendLimit = Integer.valueOf (r.getInt(13));
 			if (r.wasNull()) suspendLimit = null;
-			suspendLimitMultiplier = new Integer (r.getInt(14));
+			suspendLimitMultiplier = Integer.valueOf (r.getInt(14));
 			if (r.wasNull()) suspendLimitMultiplier = null;
-			isCalendar = new Boolean ((r.getInt(15) == 0 ? false : true));
-			calendarHorizon = new Integer (r.getInt(16));
+			isCalendar = Boolean.valueOf ((r.getInt(15) == 0 ? false : true));
+			calendarHorizon = Integer.valueOf (r.getInt(16));
 			if (r.wasNull()) calendarHorizon = null;
-			creatorUId = new Long (r.getLong(17));
-			createTs = new Long (r.getLong(18));
-			changerUId = new Long (r.getLong(19));
-			changeTs = new Long (r.getLong(20));
+			creatorUId = Long.valueOf (r.getLong(17));
+			createTs = Long.valueOf (r.getLong(18));
+			changerUId = Long.valueOf (r.getLong(19));
+			changeTs = Long.valueOf (r.getLong(20));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -303,42 +303,32 @@ public class SDMSScheduledEventTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "OWNER_ID" + equote +
-		                                   ", " + squote + "SCE_ID" + equote +
-		                                   ", " + squote + "EVT_ID" + equote +
-		                                   ", " + squote + "ACTIVE" + equote +
-		                                   ", " + squote + "BROKEN" + equote +
-		                                   ", " + squote + "ERROR_CODE" + equote +
-		                                   ", " + squote + "ERROR_MSG" + equote +
-		                                   ", " + squote + "LAST_START_TIME" + equote +
-		                                   ", " + squote + "NEXT_START_TIME" + equote +
-		                                   ", " + squote + "NEXT_IS_TRIGGER" + equote +
-		                                   ", " + squote + "BACKLOG_HANDLING" + equote +
-		                                   ", " + squote + "SUSPEND_LIMIT" + equote +
-		                                   ", " + squote + "SUSPEND_LIMIT_MULTIPLIER" + equote +
-		                                   ", " + squote + "IS_CALENDAR" + equote +
-		                                   ", " + squote + "CALENDAR_HORIZON" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "OWNER_ID" + equote +
+		               ", " + squote + "SCE_ID" + equote +
+		               ", " + squote + "EVT_ID" + equote +
+		               ", " + squote + "ACTIVE" + equote +
+		               ", " + squote + "BROKEN" + equote +
+		               ", " + squote + "ERROR_CODE" + equote +
+		               ", " + squote + "ERROR_MSG" + equote +
+		               ", " + squote + "LAST_START_TIME" + equote +
+		               ", " + squote + "NEXT_START_TIME" + equote +
+		               ", " + squote + "NEXT_IS_TRIGGER" + equote +
+		               ", " + squote + "BACKLOG_HANDLING" + equote +
+		               ", " + squote + "SUSPEND_LIMIT" + equote +
+		               ", " + squote + "SUSPEND_LIMIT_MULTIPLIER" + equote +
+		               ", " + squote + "IS_CALENDAR" + equote +
+		               ", " + squote + "CALENDAR_HORIZON" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
@@ -388,11 +388,11 @@ public class SDMSSchedulingEntityTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
+			id     = Long.valueOf (r.getLong(1));
 			name = r.getString(2);
-			folderId = new Long (r.getLong(3));
-			ownerId = new Long (r.getLong(4));
-			type = new Integer (r.getInt(5));
+			folderId = Long.valueOf (r.getLong(3));
+			ownerId = Long.valueOf (r.getLong(4));
+			type = Integer.valueOf (r.getInt(5));
 			runProgram = r.getString(6);
 			if (r.wasNull()) runProgram = null;
 			rerunProgram = r.getString(7);
@@ -403,59 +403,59 @@ public class SDMSSchedulingEntityTableGeneric extends SDMSTable
 			if (r.wasNull()) workdir = null;
 			logfile = r.getString(10);
 			if (r.wasNull()) logfile = null;
-			truncLog = new Boolean ((r.getInt(11) == 0 ? false : true));
+			truncLog = Boolean.valueOf ((r.getInt(11) == 0 ? false : true));
 			if (r.wasNull()) truncLog = null;
 			errlogfile = r.getString(12);
 			if (r.wasNull()) errlogfile = null;
-			truncErrlog = new Boolean ((r.getInt(13) == 0 ? false : true));
+			truncErrlog = Boolean.valueOf ((r.getInt(13) == 0 ? false : true));
 			if (r.wasNull()) truncErrlog = null;
-			expectedRuntime = new Integer (r.getInt(14));
+			expectedRuntime = Integer.valueOf (r.getInt(14));
 			if (r.wasNull()) expectedRuntime = null;
-			expectedFinaltime = new Integer (r.getInt(15));
+			expectedFinaltime = Integer.valueOf (r.getInt(15));
 			if (r.wasNull()) expectedFinaltime = null;
 			getExpectedRuntime = r.getString(16);
 			if (r.wasNull()) getExpectedRuntime = null;
-			priority = new Integer (r.getInt(17));
-			minPriority = new Integer (r.getInt(18));
+			priority = Integer.valueOf (r.getInt(17));
+			minPriority = Integer.valueOf (r.getInt(18));
 			if (r.wasNull()) minPriority = null;
-			agingAmount = new Integer (r.getInt(19));
+			agingAmount = Integer.valueOf (r.getInt(19));
 			if (r.wasNull()) agingAmount = null;
-			agingBase = new Integer (r.getInt(20));
+			agingBase = Integer.valueOf (r.getInt(20));
 			if (r.wasNull()) agingBase = null;
-			submitSuspended = new Boolean ((r.getInt(21) == 0 ? false : true));
+			submitSuspended = Boolean.valueOf ((r.getInt(21) == 0 ? false : true));
 			resumeAt = r.getString(22);
 			if (r.wasNull()) resumeAt = null;
-			resumeIn = new Integer (r.getInt(23));
+			resumeIn = Integer.valueOf (r.getInt(23));
 			if (r.wasNull()) resumeIn = null;
-			resumeBase = new Integer (r.getInt(24));
+			resumeBase = Integer.valueOf (r.getInt(24));
 			if (r.wasNull()) resumeBase = null;
-			masterSubmittable = new Boolean ((r.getInt(25) == 0 ? false : true));
-			timeoutAmount = new Integer (r.getInt(26));
+			masterSubmittable = Boolean.valueOf ((r.getInt(25) == 0 ? false : true));
+			timeoutAmount = Integer.valueOf (r.getInt(26));
 			if (r.wasNull()) timeoutAmount = null;
-			timeoutBase = new Integer (r.getInt(27));
+			timeoutBase = Integer.valueOf (r.getInt(27));
 			if (r.wasNull()) timeoutBase = null;
-			timeoutStateId = new Long (r.getLong(28));
+			timeoutStateId = Long.valueOf (r.getLong(28));
 			if (r.wasNull()) timeoutStateId = null;
-			sameNode = new Boolean ((r.getInt(29) == 0 ? false : true));
+			sameNode = Boolean.valueOf ((r.getInt(29) == 0 ? false : true));
 			if (r.wasNull()) sameNode = null;
-			gangSchedule = new Boolean ((r.getInt(30) == 0 ? false : true));
+			gangSchedule = Boolean.valueOf ((r.getInt(30) == 0 ? false : true));
 			if (r.wasNull()) gangSchedule = null;
-			dependencyOperation = new Integer (r.getInt(31));
-			esmpId = new Long (r.getLong(32));
+			dependencyOperation = Integer.valueOf (r.getInt(31));
+			esmpId = Long.valueOf (r.getLong(32));
 			if (r.wasNull()) esmpId = null;
-			espId = new Long (r.getLong(33));
+			espId = Long.valueOf (r.getLong(33));
 			if (r.wasNull()) espId = null;
-			qaId = new Long (r.getLong(34));
+			qaId = Long.valueOf (r.getLong(34));
 			if (r.wasNull()) qaId = null;
-			neId = new Long (r.getLong(35));
+			neId = Long.valueOf (r.getLong(35));
 			if (r.wasNull()) neId = null;
-			fpId = new Long (r.getLong(36));
+			fpId = Long.valueOf (r.getLong(36));
 			if (r.wasNull()) fpId = null;
-			inheritPrivs = new Long (r.getLong(37));
-			creatorUId = new Long (r.getLong(38));
-			createTs = new Long (r.getLong(39));
-			changerUId = new Long (r.getLong(40));
-			changeTs = new Long (r.getLong(41));
+			inheritPrivs = Long.valueOf (r.getLong(37));
+			creatorUId = Long.valueOf (r.getLong(38));
+			createTs = Long.valueOf (r.getLong(39));
+			changerUId = Long.valueOf (r.getLong(40));
+			changeTs = Long.valueOf (r.getLong(41));
 			validFrom = r.getLong(42);
 			validTo = r.getLong(43);
 		} catch(SQLException sqle) {
@@ -510,67 +510,57 @@ public class SDMSSchedulingEntityTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "NAME" + equote +
-		                                   ", " + squote + "FOLDER_ID" + equote +
-		                                   ", " + squote + "OWNER_ID" + equote +
-		                                   ", " + squote + "TYPE" + equote +
-		                                   ", " + squote + "RUN_PROGRAM" + equote +
-		                                   ", " + squote + "RERUN_PROGRAM" + equote +
-		                                   ", " + squote + "KILL_PROGRAM" + equote +
-		                                   ", " + squote + "WORKDIR" + equote +
-		                                   ", " + squote + "LOGFILE" + equote +
-		                                   ", " + squote + "TRUNC_LOG" + equote +
-		                                   ", " + squote + "ERRLOGFILE" + equote +
-		                                   ", " + squote + "TRUNC_ERRLOG" + equote +
-		                                   ", " + squote + "EXPECTED_RUNTIME" + equote +
-		                                   ", " + squote + "EXPECTED_FINALTIME" + equote +
-		                                   ", " + squote + "GET_EXPECTED_RUNTIME" + equote +
-		                                   ", " + squote + "PRIORITY" + equote +
-		                                   ", " + squote + "MIN_PRIORITY" + equote +
-		                                   ", " + squote + "AGING_AMOUNT" + equote +
-		                                   ", " + squote + "AGING_BASE" + equote +
-		                                   ", " + squote + "SUBMIT_SUSPENDED" + equote +
-		                                   ", " + squote + "RESUME_AT" + equote +
-		                                   ", " + squote + "RESUME_IN" + equote +
-		                                   ", " + squote + "RESUME_BASE" + equote +
-		                                   ", " + squote + "MASTER_SUBMITTABLE" + equote +
-		                                   ", " + squote + "TIMEOUT_AMOUNT" + equote +
-		                                   ", " + squote + "TIMEOUT_BASE" + equote +
-		                                   ", " + squote + "TIMEOUT_STATE_ID" + equote +
-		                                   ", " + squote + "SAME_NODE" + equote +
-		                                   ", " + squote + "GANG_SCHEDULE" + equote +
-		                                   ", " + squote + "DEPENDENCY_OPERATION" + equote +
-		                                   ", " + squote + "ESMP_ID" + equote +
-		                                   ", " + squote + "ESP_ID" + equote +
-		                                   ", " + squote + "QA_ID" + equote +
-		                                   ", " + squote + "NE_ID" + equote +
-		                                   ", " + squote + "FP_ID" + equote +
-		                                   ", " + squote + "INHERIT_PRIVS" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", VALID_FROM, VALID_TO " +
-		                                   " FROM " + tableName() +
-		                                   " WHERE VALID_TO >= " + (postgres ?
-		                                                   "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
-		                                                   "" + env.lowestActiveVersion) +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "NAME" + equote +
+		               ", " + squote + "FOLDER_ID" + equote +
+		               ", " + squote + "OWNER_ID" + equote +
+		               ", " + squote + "TYPE" + equote +
+		               ", " + squote + "RUN_PROGRAM" + equote +
+		               ", " + squote + "RERUN_PROGRAM" + equote +
+		               ", " + squote + "KILL_PROGRAM" + equote +
+		               ", " + squote + "WORKDIR" + equote +
+		               ", " + squote + "LOGFILE" + equote +
+		               ", " + squote + "TRUNC_LOG" + equote +
+		               ", " + squote + "ERRLOGFILE" + equote +
+		               ", " + squote + "TRUNC_ERRLOG" + equote +
+		               ", " + squote + "EXPECTED_RUNTIME" + equote +
+		               ", " + squote + "EXPECTED_FINALTIME" + equote +
+		               ", " + squote + "GET_EXPECTED_RUNTIME" + equote +
+		               ", " + squote + "PRIORITY" + equote +
+		               ", " + squote + "MIN_PRIORITY" + equote +
+		               ", " + squote + "AGING_AMOUNT" + equote +
+		               ", " + squote + "AGING_BASE" + equote +
+		               ", " + squote + "SUBMIT_SUSPENDED" + equote +
+		               ", " + squote + "RESUME_AT" + equote +
+		               ", " + squote + "RESUME_IN" + equote +
+		               ", " + squote + "RESUME_BASE" + equote +
+		               ", " + squote + "MASTER_SUBMITTABLE" + equote +
+		               ", " + squote + "TIMEOUT_AMOUNT" + equote +
+		               ", " + squote + "TIMEOUT_BASE" + equote +
+		               ", " + squote + "TIMEOUT_STATE_ID" + equote +
+		               ", " + squote + "SAME_NODE" + equote +
+		               ", " + squote + "GANG_SCHEDULE" + equote +
+		               ", " + squote + "DEPENDENCY_OPERATION" + equote +
+		               ", " + squote + "ESMP_ID" + equote +
+		               ", " + squote + "ESP_ID" + equote +
+		               ", " + squote + "QA_ID" + equote +
+		               ", " + squote + "NE_ID" + equote +
+		               ", " + squote + "FP_ID" + equote +
+		               ", " + squote + "INHERIT_PRIVS" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", VALID_FROM, VALID_TO " +
+		               " FROM " + tableName() +
+		               " WHERE VALID_TO >= " + (postgres ?
+		                               "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
+		                               "" + env.lowestActiveVersion) +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
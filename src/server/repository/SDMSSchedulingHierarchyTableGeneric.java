@@ -230,30 +230,30 @@ public class SDMSSchedulingHierarchyTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			seParentId = new Long (r.getLong(2));
+			id     = Long.valueOf (r.getLong(1));
+			seParentId = Long.valueOf (r.getLong(2));
 			if (r.wasNull()) seParentId = null;
-			seChildId = new Long (r.getLong(3));
+			seChildId = Long.valueOf (r.getLong(3));
 			if (r.wasNull()) seChildId = null;
 			aliasName = r.getString(4);
 			if (r.wasNull()) aliasName = null;
-			isStatic = new Boolean ((r.getInt(5) == 0 ? false : true));
-			isDisabled = new Boolean ((r.getInt(6) == 0 ? false : true));
-			priority = new Integer (r.getInt(7));
-			suspend = new Integer (r.getInt(8));
+			isStatic = Boolean.valueOf ((r.getInt(5) == 0 ? false : true));
+			isDisabled = Boolean.valueOf ((r.getInt(6) == 0 ? false : true));
+			priority = Integer.valueOf (r.getInt(7));
+			suspend = Integer.valueOf (r.getInt(8));
 			resumeAt = r.getString(9);
 			if (r.wasNull()) resumeAt = null;
-			resumeIn = new Integer (r.getInt(10));
+			resumeIn = Integer.valueOf (r.getInt(10));
 			if (r.wasNull()) resumeIn = null;
-			resumeBase = new Integer (r.getInt(11));
+			resumeBase = Integer.valueOf (r.getInt(11));
 			if (r.wasNull()) resumeBase = null;
-			mergeMode = new Integer (r.getInt(12));
-			estpId = new Long (r.getLong(13));
+			mergeMode = Integer.valueOf (r.getInt(12));
+			estpId = Long.valueOf (r.getLong(13));
 			if (r.wasNull()) estpId = null;
-			creatorUId = new Long (r.getLong(14));
-			createTs = new Long (r.getLong(15));
-			changerUId = new Long (r.getLong(16));
-			changeTs = new Long (r.getLong(17));
+			creatorUId = Long.valueOf (r.getLong(14));
+			createTs = Long.valueOf (r.getLong(15));
+			changerUId = Long.valueOf (r.getLong(16));
+			changeTs = Long.valueOf (r.getLong(17));
 			validFrom = r.getLong(18);
 			validTo = r.getLong(19);
 		} catch(SQLException sqle) {
@@ -284,43 +284,33 @@ public class SDMSSchedulingHierarchyTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "SE_PARENT_ID" + equote +
-		                                   ", " + squote + "SE_CHILD_ID" + equote +
-		                                   ", " + squote + "ALIAS_NAME" + equote +
-		                                   ", " + squote + "IS_STATIC" + equote +
-		                                   ", " + squote + "IS_DISABLED" + equote +
-		                                   ", " + squote + "PRIORITY" + equote +
-		                                   ", " + squote + "SUSPEND" + equote +
-		                                   ", " + squote + "RESUME_AT" + equote +
-		                                   ", " + squote + "RESUME_IN" + equote +
-		                                   ", " + squote + "RESUME_BASE" + equote +
-		                                   ", " + squote + "MERGE_MODE" + equote +
-		                                   ", " + squote + "ESTP_ID" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", VALID_FROM, VALID_TO " +
-		                                   " FROM " + tableName() +
-		                                   " WHERE VALID_TO >= " + (postgres ?
-		                                                   "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
-		                                                   "" + env.lowestActiveVersion) +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "SE_PARENT_ID" + equote +
+		               ", " + squote + "SE_CHILD_ID" + equote +
+		               ", " + squote + "ALIAS_NAME" + equote +
+		               ", " + squote + "IS_STATIC" + equote +
+		               ", " + squote + "IS_DISABLED" + equote +
+		               ", " + squote + "PRIORITY" + equote +
+		               ", " + squote + "SUSPEND" + equote +
+		               ", " + squote + "RESUME_AT" + equote +
+		               ", " + squote + "RESUME_IN" + equote +
+		               ", " + squote + "RESUME_BASE" + equote +
+		               ", " + squote + "MERGE_MODE" + equote +
+		               ", " + squote + "ESTP_ID" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", VALID_FROM, VALID_TO " +
+		               " FROM " + tableName() +
+		               " WHERE VALID_TO >= " + (postgres ?
+		                               "CAST (\'" + env.lowestActiveVersion + "\' AS DECIMAL)" :
+		                               "" + env.lowestActiveVersion) +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
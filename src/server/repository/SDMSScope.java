@@ -180,8 +180,8 @@ public class SDMSScope extends SDMSScopeProxyGeneric
 	{
 		SDMSThread[]    list;
 		ThreadGroup tg = SystemEnvironment.utg;
-		list = new SDMSThread[tg.activeCount()];
-		int nt = tg.enumerate(list);
+		list = ListenThread.getSessions(tg);
+		int nt = list.length;
 		UserConnection uc;
 
 		for(int i=0; i<nt; i++) {
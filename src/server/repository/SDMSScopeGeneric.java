@@ -96,7 +96,31 @@ public class SDMSScopeGeneric extends SDMSObject
 	protected Long changeTs;
 	protected Long inheritPrivs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"NAME",
+		"OWNER_ID",
+		"PARENT_ID",
+		"TYPE",
+		"IS_TERMINATE",
+		"HAS_ALTEREDCONFIG",
+		"IS_SUSPENDED",
+		"IS_ENABLED",
+		"IS_REGISTERED",
+		"STATE",
+		"PASSWD",
+		"SALT",
+		"METHOD",
+		"PID",
+		"NODE",
+		"ERRMSG",
+		"LAST_ACTIVE",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS",
+		"INHERIT_PRIVS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("SCOPE", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -1050,7 +1074,7 @@ public class SDMSScopeGeneric extends SDMSObject
 			myInsert.setLong (21, changerUId.longValue());
 			myInsert.setLong (22, changeTs.longValue());
 			myInsert.setLong (23, inheritPrivs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "Scope: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -1074,7 +1098,7 @@ public class SDMSScopeGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "Scope: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -1083,108 +1107,139 @@ public class SDMSScopeGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSScopeGeneric o = (SDMSScopeGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(name, o.name)) dirty.set(0);
+		if (changed(ownerId, o.ownerId)) dirty.set(1);
+		if (changed(parentId, o.parentId)) dirty.set(2);
+		if (changed(type, o.type)) dirty.set(3);
+		if (changed(isTerminate, o.isTerminate)) dirty.set(4);
+		if (changed(hasAlteredConfig, o.hasAlteredConfig)) dirty.set(5);
+		if (changed(isSuspended, o.isSuspended)) dirty.set(6);
+		if (changed(isEnabled, o.isEnabled)) dirty.set(7);
+		if (changed(isRegistered, o.isRegistered)) dirty.set(8);
+		if (changed(state, o.state)) dirty.set(9);
+		if (changed(passwd, o.passwd)) dirty.set(10);
+		if (changed(salt, o.salt)) dirty.set(11);
+		if (changed(method, o.method)) dirty.set(12);
+		if (changed(pid, o.pid)) dirty.set(13);
+		if (changed(node, o.node)) dirty.set(14);
+		if (changed(errmsg, o.errmsg)) dirty.set(15);
+		if (changed(lastActive, o.lastActive)) dirty.set(16);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(17);
+		if (changed(createTs, o.createTs)) dirty.set(18);
+		if (changed(changerUId, o.changerUId)) dirty.set(19);
+		if (changed(changeTs, o.changeTs)) dirty.set(20);
+		if (changed(inheritPrivs, o.inheritPrivs)) dirty.set(21);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE SCOPE SET " +
-				        "" + squote + "NAME" + equote + " = ? " +
-				        ", " + squote + "OWNER_ID" + equote + " = ? " +
-				        ", " + squote + "PARENT_ID" + equote + " = ? " +
-				        ", " + squote + "TYPE" + equote + " = ? " +
-				        ", " + squote + "IS_TERMINATE" + equote + " = ? " +
-				        ", " + squote + "HAS_ALTEREDCONFIG" + equote + " = ? " +
-				        ", " + squote + "IS_SUSPENDED" + equote + " = ? " +
-				        ", " + squote + "IS_ENABLED" + equote + " = ? " +
-				        ", " + squote + "IS_REGISTERED" + equote + " = ? " +
-				        ", " + squote + "STATE" + equote + " = ? " +
-				        ", " + squote + "PASSWD" + equote + " = ? " +
-				        ", " + squote + "SALT" + equote + " = ? " +
-				        ", " + squote + "METHOD" + equote + " = ? " +
-				        ", " + squote + "PID" + equote + " = ? " +
-				        ", " + squote + "NODE" + equote + " = ? " +
-				        ", " + squote + "ERRMSG" + equote + " = ? " +
-				        ", " + squote + "LAST_ACTIVE" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        ", " + squote + "INHERIT_PRIVS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "Scope: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "Scope: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setString(1, name);
-			myUpdate.setLong (2, ownerId.longValue());
-			if (parentId == null)
-				myUpdate.setNull(3, Types.INTEGER);
-			else
-				myUpdate.setLong (3, parentId.longValue());
-			myUpdate.setInt(4, type.intValue());
-			if (isTerminate == null)
-				myUpdate.setNull(5, Types.INTEGER);
-			else
-				myUpdate.setInt (5, isTerminate.booleanValue() ? 1 : 0);
-			if (hasAlteredConfig == null)
-				myUpdate.setNull(6, Types.INTEGER);
-			else
-				myUpdate.setInt (6, hasAlteredConfig.booleanValue() ? 1 : 0);
-			if (isSuspended == null)
-				myUpdate.setNull(7, Types.INTEGER);
-			else
-				myUpdate.setInt (7, isSuspended.booleanValue() ? 1 : 0);
-			if (isEnabled == null)
-				myUpdate.setNull(8, Types.INTEGER);
-			else
-				myUpdate.setInt (8, isEnabled.booleanValue() ? 1 : 0);
-			if (isRegistered == null)
-				myUpdate.setNull(9, Types.INTEGER);
-			else
-				myUpdate.setInt (9, isRegistered.booleanValue() ? 1 : 0);
-			if (state == null)
-				myUpdate.setNull(10, Types.INTEGER);
-			else
-				myUpdate.setInt(10, state.intValue());
-			if (passwd == null)
-				myUpdate.setNull(11, Types.VARCHAR);
-			else
-				myUpdate.setString(11, passwd);
-			if (salt == null)
-				myUpdate.setNull(12, Types.VARCHAR);
-			else
-				myUpdate.setString(12, salt);
-			myUpdate.setInt(13, method.intValue());
-			if (pid == null)
-				myUpdate.setNull(14, Types.VARCHAR);
-			else
-				myUpdate.setString(14, pid);
-			if (node == null)
-				myUpdate.setNull(15, Types.VARCHAR);
-			else
-				myUpdate.setString(15, node);
-			if (errmsg == null)
-				myUpdate.setNull(16, Types.VARCHAR);
-			else
-				myUpdate.setString(16, errmsg);
-			if (lastActive == null)
-				myUpdate.setNull(17, Types.INTEGER);
-			else
-				myUpdate.setLong (17, lastActive.longValue());
-			myUpdate.setLong (18, creatorUId.longValue());
-			myUpdate.setLong (19, createTs.longValue());
-			myUpdate.setLong (20, changerUId.longValue());
-			myUpdate.setLong (21, changeTs.longValue());
-			myUpdate.setLong (22, inheritPrivs.longValue());
-			myUpdate.setLong(23, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setString(p++, name);
+			if (dirty.get(1))
+				myUpdate.setLong (p++, ownerId.longValue());
+			if (dirty.get(2)) {
+				if (parentId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, parentId.longValue());
+			}
+			if (dirty.get(3))
+				myUpdate.setInt(p++, type.intValue());
+			if (dirty.get(4)) {
+				if (isTerminate == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt (p++, isTerminate.booleanValue() ? 1 : 0);
+			}
+			if (dirty.get(5)) {
+				if (hasAlteredConfig == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt (p++, hasAlteredConfig.booleanValue() ? 1 : 0);
+			}
+			if (dirty.get(6)) {
+				if (isSuspended == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt (p++, isSuspended.booleanValue() ? 1 : 0);
+			}
+			if (dirty.get(7)) {
+				if (isEnabled == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt (p++, isEnabled.booleanValue() ? 1 : 0);
+			}
+			if (dirty.get(8)) {
+				if (isRegistered == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt (p++, isRegistered.booleanValue() ? 1 : 0);
+			}
+			if (dirty.get(9)) {
+				if (state == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, state.intValue());
+			}
+			if (dirty.get(10)) {
+				if (passwd == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, passwd);
+			}
+			if (dirty.get(11)) {
+				if (salt == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, salt);
+			}
+			if (dirty.get(12))
+				myUpdate.setInt(p++, method.intValue());
+			if (dirty.get(13)) {
+				if (pid == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, pid);
+			}
+			if (dirty.get(14)) {
+				if (node == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, node);
+			}
+			if (dirty.get(15)) {
+				if (errmsg == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, errmsg);
+			}
+			if (dirty.get(16)) {
+				if (lastActive == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, lastActive.longValue());
+			}
+			if (dirty.get(17))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(18))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(19))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(20))
+				myUpdate.setLong (p++, changeTs.longValue());
+			if (dirty.get(21))
+				myUpdate.setLong (p++, inheritPrivs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "Scope: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
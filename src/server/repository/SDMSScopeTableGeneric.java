@@ -262,42 +262,42 @@ public class SDMSScopeTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
+			id     = Long.valueOf (r.getLong(1));
 			name = r.getString(2);
-			ownerId = new Long (r.getLong(3));
-			parentId = new Long (r.getLong(4));
+			ownerId = Long.valueOf (r.getLong(3));
+			parentId = Long.valueOf (r.getLong(4));
 			if (r.wasNull()) parentId = null;
-			type = new Integer (r.getInt(5));
-			isTerminate = new Boolean ((r.getInt(6) == 0 ? false : true));
+			type = Integer.valueOf (r.getInt(5));
+			isTerminate = Boolean.valueOf ((r.getInt(6) == 0 ? false : true));
 			if (r.wasNull()) isTerminate = null;
-			hasAlteredConfig = new Boolean ((r.getInt(7) == 0 ? false : true));
+			hasAlteredConfig = Boolean.valueOf ((r.getInt(7) == 0 ? false : true));
 			if (r.wasNull()) hasAlteredConfig = null;
-			isSuspended = new Boolean ((r.getInt(8) == 0 ? false : true));
+			isSuspended = Boolean.valueOf ((r.getInt(8) == 0 ? false : true));
 			if (r.wasNull()) isSuspended = null;
-			isEnabled = new Boolean ((r.getInt(9) == 0 ? false : true));
+			isEnabled = Boolean.valueOf ((r.getInt(9) == 0 ? false : true));
 			if (r.wasNull()) isEnabled = null;
-			isRegistered = new Boolean ((r.getInt(10) == 0 ? false : true));
+			isRegistered = Boolean.valueOf ((r.getInt(10) == 0 ? false : true));
 			if (r.wasNull()) isRegistered = null;
-			state = new Integer (r.getInt(11));
+			state = Integer.valueOf (r.getInt(11));
 			if (r.wasNull()) state = null;
 			passwd = r.getString(12);
 			if (r.wasNull()) passwd = null;
 			salt = r.getString(13);
 			if (r.wasNull()) salt = null;
-			method = new Integer (r.getInt(14));
+			method = Integer.valueOf (r.getInt(14));
 			pid = r.getString(15);
 			if (r.wasNull()) pid = null;
 			node = r.getString(16);
 			if (r.wasNull()) node = null;
 			errmsg = r.getString(17);
 			if (r.wasNull()) errmsg = null;
-			lastActive = new Long (r.getLong(18));
+			lastActive = Long.valueOf (r.getLong(18));
 			if (r.wasNull()) lastActive = null;
-			creatorUId = new Long (r.getLong(19));
-			createTs = new Long (r.getLong(20));
-			changerUId = new Long (r.getLong(21));
-			changeTs = new Long (r.getLong(22));
-			inheritPrivs = new Long (r.getLong(23));
+			creatorUId = Long.valueOf (r.getLong(19));
+			createTs = Long.valueOf (r.getLong(20));
+			changerUId = Long.valueOf (r.getLong(21));
+			changeTs = Long.valueOf (r.getLong(22));
+			inheritPrivs = Long.valueOf (r.getLong(23));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -334,45 +334,35 @@ public class SDMSScopeTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "NAME" + equote +
-		                                   ", " + squote + "OWNER_ID" + equote +
-		                                   ", " + squote + "PARENT_ID" + equote +
-		                                   ", " + squote + "TYPE" + equote +
-		                                   ", " + squote + "IS_TERMINATE" + equote +
-		                                   ", " + squote + "HAS_ALTEREDCONFIG" + equote +
-		                                   ", " + squote + "IS_SUSPENDED" + equote +
-		                                   ", " + squote + "IS_ENABLED" + equote +
-		                                   ", " + squote + "IS_REGISTERED" + equote +
-		                                   ", " + squote + "STATE" + equote +
-		                                   ", " + squote + "PASSWD" + equote +
-		                                   ", " + squote + "SALT" + equote +
-		                                   ", " + squote + "METHOD" + equote +
-		                                   ", " + squote + "PID" + equote +
-		                                   ", " + squote + "NODE" + equote +
-		                                   ", " + squote + "ERRMSG" + equote +
-		                                   ", " + squote + "LAST_ACTIVE" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   ", " + squote + "INHERIT_PRIVS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "NAME" + equote +
+		               ", " + squote + "OWNER_ID" + equote +
+		               ", " + squote + "PARENT_ID" + equote +
+		               ", " + squote + "TYPE" + equote +
+		               ", " + squote + "IS_TERMINATE" + equote +
+		               ", " + squote + "HAS_ALTEREDCONFIG" + equote +
+		               ", " + squote + "IS_SUSPENDED" + equote +
+		               ", " + squote + "IS_ENABLED" + equote +
+		               ", " + squote + "IS_REGISTERED" + equote +
+		               ", " + squote + "STATE" + equote +
+		               ", " + squote + "PASSWD" + equote +
+		               ", " + squote + "SALT" + equote +
+		               ", " + squote + "METHOD" + equote +
+		               ", " + squote + "PID" + equote +
+		               ", " + squote + "NODE" + equote +
+		               ", " + squote + "ERRMSG" + equote +
+		               ", " + squote + "LAST_ACTIVE" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               ", " + squote + "INHERIT_PRIVS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
@@ -62,7 +62,18 @@ public class SDMSSmeCounterGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"JAHR",
+		"MONAT",
+		"TAG",
+		"ANZAHL",
+		"CHECKSUM",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("SME_COUNTER", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -429,7 +440,7 @@ public class SDMSSmeCounterGeneric extends SDMSObject
 			myInsert.setLong (8, createTs.longValue());
 			myInsert.setLong (9, changerUId.longValue());
 			myInsert.setLong (10, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "SmeCounter: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -453,7 +464,7 @@ public class SDMSSmeCounterGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "SmeCounter: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -462,43 +473,48 @@ public class SDMSSmeCounterGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSSmeCounterGeneric o = (SDMSSmeCounterGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(jahr, o.jahr)) dirty.set(0);
+		if (changed(monat, o.monat)) dirty.set(1);
+		if (changed(tag, o.tag)) dirty.set(2);
+		if (changed(anzahl, o.anzahl)) dirty.set(3);
+		if (changed(checksum, o.checksum)) dirty.set(4);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(5);
+		if (changed(createTs, o.createTs)) dirty.set(6);
+		if (changed(changerUId, o.changerUId)) dirty.set(7);
+		if (changed(changeTs, o.changeTs)) dirty.set(8);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE SME_COUNTER SET " +
-				        "" + squote + "JAHR" + equote + " = ? " +
-				        ", " + squote + "MONAT" + equote + " = ? " +
-				        ", " + squote + "TAG" + equote + " = ? " +
-				        ", " + squote + "ANZAHL" + equote + " = ? " +
-				        ", " + squote + "CHECKSUM" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "SmeCounter: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "SmeCounter: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setInt(1, jahr.intValue());
-			myUpdate.setInt(2, monat.intValue());
-			myUpdate.setInt(3, tag.intValue());
-			myUpdate.setInt(4, anzahl.intValue());
-			myUpdate.setLong (5, checksum.longValue());
-			myUpdate.setLong (6, creatorUId.longValue());
-			myUpdate.setLong (7, createTs.longValue());
-			myUpdate.setLong (8, changerUId.longValue());
-			myUpdate.setLong (9, changeTs.longValue());
-			myUpdate.setLong(10, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setInt(p++, jahr.intValue());
+			if (dirty.get(1))
+				myUpdate.setInt(p++, monat.intValue());
+			if (dirty.get(2))
+				myUpdate.setInt(p++, tag.intValue());
+			if (dirty.get(3))
+				myUpdate.setInt(p++, anzahl.intValue());
+			if (dirty.get(4))
+				myUpdate.setLong (p++, checksum.longValue());
+			if (dirty.get(5))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(6))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(7))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(8))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "SmeCounter: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
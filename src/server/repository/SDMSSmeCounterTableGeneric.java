@@ -166,16 +166,16 @@ public class SDMSSmeCounterTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			jahr = new Integer (r.getInt(2));
-			monat = new Integer (r.getInt(3));
-			tag = new Integer (r.getInt(4));
-			anzahl = new Integer (r.getInt(5));
-			checksum = new Long (r.getLong(6));
-			creatorUId = new Long (r.getLong(7));
-			createTs = new Long (r.getLong(8));
-			changerUId = new Long (r.getLong(9));
-			changeTs = new Long (r.getLong(10));
+			id     = Long.valueOf (r.getLong(1));
+			jahr = Integer.valueOf (r.getInt(2));
+			monat = Integer.valueOf (r.getInt(3));
+			tag = Integer.valueOf (r.getInt(4));
+			anzahl = Integer.valueOf (r.getInt(5));
+			checksum = Long.valueOf (r.getLong(6));
+			creatorUId = Long.valueOf (r.getLong(7));
+			createTs = Long.valueOf (r.getLong(8));
+			changerUId = Long.valueOf (r.getLong(9));
+			changeTs = Long.valueOf (r.getLong(10));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -199,32 +199,22 @@ public class SDMSSmeCounterTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "JAHR" + equote +
-		                                   ", " + squote + "MONAT" + equote +
-		                                   ", " + squote + "TAG" + equote +
-		                                   ", " + squote + "ANZAHL" + equote +
-		                                   ", " + squote + "CHECKSUM" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "JAHR" + equote +
+		               ", " + squote + "MONAT" + equote +
+		               ", " + squote + "TAG" + equote +
+		               ", " + squote + "ANZAHL" + equote +
+		               ", " + squote + "CHECKSUM" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
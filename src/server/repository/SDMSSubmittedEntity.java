@@ -112,7 +112,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 	public static final String S_IDLE_PCT	= "IDLE_PCT";
 
 	protected static Long internalId = null;
-	protected static final Integer zero = new Integer(0);
+	protected static final Integer zero = Integer.valueOf(0);
 	protected static final Long lzero = new Long(0);
 
 	protected static final VariableResolver SVR = new SmeVariableResolver();
@@ -121,23 +121,23 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 
 	static
 	{
-		mapper.put(new Integer(Parser.SUBMITTED),		new Integer(SDMSSubmittedEntity.SUBMITTED));
-		mapper.put(new Integer(Parser.DEPENDENCY_WAIT),		new Integer(SDMSSubmittedEntity.DEPENDENCY_WAIT));
-		mapper.put(new Integer(Parser.SYNCHRONIZE_WAIT),	new Integer(SDMSSubmittedEntity.SYNCHRONIZE_WAIT));
-		mapper.put(new Integer(Parser.RESOURCE_WAIT),		new Integer(SDMSSubmittedEntity.RESOURCE_WAIT));
-		mapper.put(new Integer(Parser.RUNNABLE),		new Integer(SDMSSubmittedEntity.RUNNABLE));
-		mapper.put(new Integer(Parser.STARTING),		new Integer(SDMSSubmittedEntity.STARTING));
-		mapper.put(new Integer(Parser.STARTED),			new Integer(SDMSSubmittedEntity.STARTED));
-		mapper.put(new Integer(Parser.RUNNING),			new Integer(SDMSSubmittedEntity.RUNNING));
-		mapper.put(new Integer(Parser.FINISHED),		new Integer(SDMSSubmittedEntity.FINISHED));
-		mapper.put(new Integer(Parser.FINAL),			new Integer(SDMSSubmittedEntity.FINAL));
-		mapper.put(new Integer(Parser.BROKEN_ACTIVE),		new Integer(SDMSSubmittedEntity.BROKEN_ACTIVE));
-		mapper.put(new Integer(Parser.BROKEN_FINISHED),		new Integer(SDMSSubmittedEntity.BROKEN_FINISHED));
-		mapper.put(new Integer(Parser.ERROR_TOKEN),		new Integer(SDMSSubmittedEntity.ERROR));
-		mapper.put(new Integer(Parser.TO_KILL),			new Integer(SDMSSubmittedEntity.TO_KILL));
-		mapper.put(new Integer(Parser.KILLED),			new Integer(SDMSSubmittedEntity.KILLED));
-		mapper.put(new Integer(Parser.CANCELLED),		new Integer(SDMSSubmittedEntity.CANCELLED));
-		mapper.put(new Integer(Parser.UNREACHABLE),		new Integer(SDMSSubmittedEntity.UNREACHABLE));
+		mapper.put(Integer.valueOf(Parser.SUBMITTED),		Integer.valueOf(SDMSSubmittedEntity.SUBMITTED));
+		mapper.put(Integer.valueOf(Parser.DEPENDENCY_WAIT),		Integer.valueOf(SDMSSubmittedEntity.DEPENDENCY_WAIT));
+		mapper.put(Integer.valueOf(Parser.SYNCHRONIZE_WAIT),	Integer.valueOf(SDMSSubmittedEntity.SYNCHRONIZE_WAIT));
+		mapper.put(Integer.valueOf(Parser.RESOURCE_WAIT),		Integer.valueOf(SDMSSubmittedEntity.RESOURCE_WAIT));
+		mapper.put(Integer.valueOf(Parser.RUNNABLE),		Integer.valueOf(SDMSSubmittedEntity.RUNNABLE));
+		mapper.put(Integer.valueOf(Parser.STARTING),		Integer.valueOf(SDMSSubmittedEntity.STARTING));
+		mapper.put(Integer.valueOf(Parser.STARTED),			Integer.valueOf(SDMSSubmittedEntity.STARTED));
+		mapper.put(Integer.valueOf(Parser.RUNNING),			Integer.valueOf(SDMSSubmittedEntity.RUNNING));
+		mapper.put(Integer.valueOf(Parser.FINISHED),		Integer.valueOf(SDMSSubmittedEntity.FINISHED));
+		mapper.put(Integer.valueOf(Parser.FINAL),			Integer.valueOf(SDMSSubmittedEntity.FINAL));
+		mapper.put(Integer.valueOf(Parser.BROKEN_ACTIVE),		Integer.valueOf(SDMSSubmittedEntity.BROKEN_ACTIVE));
+		mapper.put(Integer.valueOf(Parser.BROKEN_FINISHED),		Integer.valueOf(SDMSSubmittedEntity.BROKEN_FINISHED));
+		mapper.put(Integer.valueOf(Parser.ERROR_TOKEN),		Integer.valueOf(SDMSSubmittedEntity.ERROR));
+		mapper.put(Integer.valueOf(Parser.TO_KILL),			Integer.valueOf(SDMSSubmittedEntity.TO_KILL));
+		mapper.put(Integer.valueOf(Parser.KILLED),			Integer.valueOf(SDMSSubmittedEntity.KILLED));
+		mapper.put(Integer.valueOf(Parser.CANCELLED),		Integer.valueOf(SDMSSubmittedEntity.CANCELLED));
+		mapper.put(Integer.valueOf(Parser.UNREACHABLE),		Integer.valueOf(SDMSSubmittedEntity.UNREACHABLE));
 	}
 
 	protected SDMSSubmittedEntity(SDMSObject p_object)
@@ -256,12 +256,12 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			setFinishTs(sysEnv, null);
 			int state = getState(sysEnv).intValue();
 			if(state != ERROR)
-				setRerunSeq(sysEnv, new Integer(getRerunSeq(sysEnv).intValue() + 1));
+				setRerunSeq(sysEnv, Integer.valueOf(getRerunSeq(sysEnv).intValue() + 1));
 			setErrorMsg(sysEnv, null);
 			setJobEsdId(sysEnv, null, false);
 			setJobEsdPref(sysEnv, null);
 
-			setState(sysEnv, new Integer(DEPENDENCY_WAIT));
+			setState(sysEnv, Integer.valueOf(DEPENDENCY_WAIT));
 
 			SystemEnvironment.sched.notifyChange(sysEnv, this, SchedulingThread.RERUN);
 			return true;
@@ -304,7 +304,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 								       getSeVersion(sysEnv),
 								       getId(sysEnv),
 								       getScopeId(sysEnv),
-								       new Integer(RUNNABLE),
+								       Integer.valueOf(RUNNABLE),
 								       null,
 								       cmdLine,
 								       getLogfile(sysEnv),
@@ -321,7 +321,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 		SDMSRunnableQueueTable.table.create(sysEnv, kj.getId(sysEnv), getScopeId(sysEnv), kj.getState(sysEnv));
 
 		setKillId(sysEnv, kj.getId(sysEnv));
-		setState(sysEnv, new Integer(TO_KILL));
+		setState(sysEnv, Integer.valueOf(TO_KILL));
 		s.notify(sysEnv);
 	}
 
@@ -392,7 +392,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			releaseResources(sysEnv, CANCELLED);
 
 		if (!active)
-			setState(sysEnv, new Integer(CANCELLED));
+			setState(sysEnv, Integer.valueOf(CANCELLED));
 		Vector v_sme = SDMSSubmittedEntityTable.idx_parentId.getVector(sysEnv, smeId);
 		Iterator i_sme = v_sme.iterator();
 		while (i_sme.hasNext()) {
@@ -577,7 +577,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 
 			releaseResources(sysEnv, FINAL);
 
-			setState(sysEnv, new Integer(FINAL));
+			setState(sysEnv, Integer.valueOf(FINAL));
 			removeAsyncTrigger(sysEnv);
 			deleteLocalResources(sysEnv);
 			try {
@@ -639,7 +639,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			else
 				local = false;
 		} else {
-			setIsSuspendedLocal(sysEnv, new Boolean(local));
+			setIsSuspendedLocal(sysEnv, Boolean.valueOf(local));
 			setResumeTs(sysEnv, null);
 		}
 
@@ -651,7 +651,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 		else
 			newSuspended = NOSUSPEND;
 
-		setIsSuspended(sysEnv, new Integer(newSuspended));
+		setIsSuspended(sysEnv, Integer.valueOf(newSuspended));
 		if (!suspend)
 			setIsSuspendedLocal(sysEnv, Boolean.FALSE);
 
@@ -690,7 +690,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			int state = getState(sysEnv).intValue();
 			if(state == RESOURCE_WAIT || state == RUNNABLE) {
 				releaseResources(sysEnv, SYNCHRONIZE_WAIT);
-				setState(sysEnv, new Integer(DEPENDENCY_WAIT));
+				setState(sysEnv, Integer.valueOf(DEPENDENCY_WAIT));
 			}
 			if (operator)
 				setOpSusresTs(sysEnv, new Long(-ts));
@@ -713,7 +713,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			SDMSSubmittedEntity child_sme = SDMSSubmittedEntityTable.getObject(sysEnv, hi.getChildId(sysEnv));
 			Integer childParentSuspended = child_sme.getParentSuspended(sysEnv).intValue();
 			int newParentSuspended = parentSuspended + childParentSuspended;
-			child_sme.setParentSuspended(sysEnv, new Integer (newParentSuspended));
+			child_sme.setParentSuspended(sysEnv, Integer.valueOf(newParentSuspended));
 			if(childParentSuspended == 0 && parentSuspended > 0) {
 				int state = child_sme.getState(sysEnv).intValue();
 				if(state == RESOURCE_WAIT || state == RUNNABLE) {
@@ -889,15 +889,15 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 							internalId = SDMSUserTable.idx_name_deleteVersion_getUnique(sysEnv, new SDMSKey(SDMSUser.INTERNAL, new Long(0))).getId(sysEnv);
 						continue;
 					case SDMSDependencyDefinition.DEFER:
-						state = new Integer(SDMSDependencyInstance.DEFERED);
+						state = Integer.valueOf(SDMSDependencyInstance.DEFERED);
 						break;
 				}
 			} else {
 				Long smeId = sme.getId(sysEnv);
 				requiredId = smeId;
-				state = new Integer(SDMSDependencyInstance.OPEN);
+				state = Integer.valueOf(SDMSDependencyInstance.OPEN);
 			}
-			Integer ignore = new Integer(SDMSDependencyInstance.NO);
+			Integer ignore = Integer.valueOf(SDMSDependencyInstance.NO);
 
 			SDMSDependencyInstance di;
 			try {
@@ -971,7 +971,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 				Long dSeId = dSme.getSeId(sysEnv);
 				SDMSSchedulingEntity se = SDMSSchedulingEntityTable.getObject(sysEnv, dSeId, seVersion);
 				Integer dependencyOperation = se.getDependencyOperation(sysEnv);
-				state = new Integer(SDMSDependencyInstance.OPEN);
+				state = Integer.valueOf(SDMSDependencyInstance.OPEN);
 				try {
 					boolean found = false;
 					Vector v_di = SDMSDependencyInstanceTable.idx_dependentId.getVector(sysEnv, dSmeId);
@@ -997,7 +997,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 						}
 					}
 					if (!found) {
-						Integer ignore = new Integer(SDMSDependencyInstance.NO);
+						Integer ignore = Integer.valueOf(SDMSDependencyInstance.NO);
 						SDMSDependencyInstance di = SDMSDependencyInstanceTable.table.create(sysEnv,
 										ddId,
 										dSmeId,
@@ -1281,11 +1281,11 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 		int type = se.getType(sysEnv).intValue();
 		switch (result) {
 			case NOTYET:
-				setState(sysEnv, new Integer(DEPENDENCY_WAIT));
+				setState(sysEnv, Integer.valueOf(DEPENDENCY_WAIT));
 				break;
 			case FULFILLED:
 				if(getState(sysEnv).intValue() == SUBMITTED)
-					setState(sysEnv, new Integer(DEPENDENCY_WAIT));
+					setState(sysEnv, Integer.valueOf(DEPENDENCY_WAIT));
 				if(getState(sysEnv).intValue() == ERROR)
 					break;
 				switch (type) {
@@ -1293,13 +1293,13 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 						boolean isRR = (getOldState(sysEnv) == null);
 						if (!getIsDisabled(sysEnv).booleanValue()) {
 							if (isRR)
-								setState(sysEnv, new Integer(SYNCHRONIZE_WAIT));
+								setState(sysEnv, Integer.valueOf(SYNCHRONIZE_WAIT));
 							break;
 						}
 					case SDMSSchedulingEntity.BATCH:
 					case SDMSSchedulingEntity.MILESTONE:
 						setJobIsFinal(sysEnv, Boolean.TRUE);
-						setState(sysEnv, new Integer(FINISHED));
+						setState(sysEnv, Integer.valueOf(FINISHED));
 						trigger (sysEnv, SDMSTrigger.UNTIL_FINISHED);
 						trigger (sysEnv, SDMSTrigger.UNTIL_FINAL);
 						mergeExitStates(sysEnv);
@@ -1313,7 +1313,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 				final Long esdIdUR = esp.getUnreachableState(sysEnv, seVersion);
 
 				if (esdIdUR == null) {
-					setState(sysEnv, new Integer(UNREACHABLE));
+					setState(sysEnv, Integer.valueOf(UNREACHABLE));
 				} else {
 					final Integer esdPrevUR = esp.getUnreachableStatePreference(sysEnv, seVersion);
 					final SDMSExitState es = SDMSExitStateTable.idx_espId_esdId_getUnique(sysEnv, new SDMSKey(espId, esdIdUR), seVersion);
@@ -1321,7 +1321,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 				}
 				break;
 			case UNREACHABLE_CANCELLED:
-				setState(sysEnv, new Integer(UNREACHABLE));
+				setState(sysEnv, Integer.valueOf(UNREACHABLE));
 				break;
 			case BROKEN:
 				setToError(sysEnv, "Broken Dependency");
@@ -1364,7 +1364,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 				doSubmitChild(sysEnv, seId, parentSuspended, null ,
 				              ownerId, sh, seVersion, newReplaceSmeId, null , null , null , true ,
 				              sh.getIsDisabled(sysEnv),
-				              new Integer(parentNiceX100));
+				              Integer.valueOf(parentNiceX100));
 			}
 		}
 	}
@@ -1373,7 +1373,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 				       SDMSSchedulingEntity se, SDMSSchedulingHierarchy sh)
 		throws SDMSException
 	{
-		SDMSKey k = new SDMSKey (masterId, seChildId, new Integer(SDMSSchedulingHierarchy.FAILURE));
+		SDMSKey k = new SDMSKey (masterId, seChildId, Integer.valueOf(SDMSSchedulingHierarchy.FAILURE));
 		Vector v = SDMSSubmittedEntityTable.idx_masterId_seId_mergeMode.getVector(sysEnv, k);
 		if (v.size() != 0) {
 			Long failId = ((SDMSSubmittedEntity)(v.elementAt(0))).getId(sysEnv);
@@ -1519,26 +1519,26 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 		if (sme.getJobIsRestartable(sysEnv).booleanValue() == true) fixRestartable ++;
 		if (sme.getIsSuspended(sysEnv).intValue() != NOSUSPEND) fixChildSuspended ++;
 		if (sme.isPending(sysEnv)) fixPending ++;
-		if (fixSubmitted	!= 0) setCntSubmitted(sysEnv, new Integer(getCntSubmitted(sysEnv).intValue() + fixSubmitted));
-		if (fixDependencyWait	!= 0) setCntDependencyWait(sysEnv, new Integer(getCntDependencyWait(sysEnv).intValue() + fixDependencyWait));
-		if (fixSynchronizeWait	!= 0) setCntSynchronizeWait(sysEnv, new Integer(getCntSynchronizeWait(sysEnv).intValue() + fixSynchronizeWait));
-		if (fixResourceWait	!= 0) setCntResourceWait(sysEnv, new Integer(getCntResourceWait(sysEnv).intValue() + fixResourceWait));
-		if (fixRunnable		!= 0) setCntRunnable(sysEnv, new Integer(getCntRunnable(sysEnv).intValue() + fixRunnable));
-		if (fixStarting		!= 0) setCntStarting(sysEnv, new Integer(getCntStarting(sysEnv).intValue() + fixStarting));
-		if (fixStarted		!= 0) setCntStarted(sysEnv, new Integer(getCntStarted(sysEnv).intValue() + fixStarted));
-		if (fixRunning		!= 0) setCntRunning(sysEnv, new Integer(getCntRunning(sysEnv).intValue() + fixRunning));
-		if (fixToKill		!= 0) setCntToKill(sysEnv, new Integer(getCntToKill(sysEnv).intValue() + fixToKill));
-		if (fixKilled		!= 0) setCntKilled(sysEnv, new Integer(getCntKilled(sysEnv).intValue() + fixKilled));
-		if (fixCancelled	!= 0) setCntCancelled(sysEnv, new Integer(getCntCancelled(sysEnv).intValue() + fixCancelled));
-		if (fixFinished		!= 0) setCntFinished(sysEnv, new Integer(getCntFinished(sysEnv).intValue() + fixFinished));
-		if (fixFinal		!= 0) setCntFinal(sysEnv, new Integer(getCntFinal(sysEnv).intValue() + fixFinal));
-		if (fixBrokenActive	!= 0) setCntBrokenActive(sysEnv, new Integer(getCntBrokenActive(sysEnv).intValue() + fixBrokenActive));
-		if (fixBrokenFinished	!= 0) setCntBrokenFinished(sysEnv, new Integer(getCntBrokenFinished(sysEnv).intValue() + fixBrokenFinished));
-		if (fixError		!= 0) setCntError(sysEnv, new Integer(getCntError(sysEnv).intValue() + fixError));
-		if (fixUnreachable	!= 0) setCntUnreachable(sysEnv, new Integer(getCntUnreachable(sysEnv).intValue() + fixUnreachable));
-		if (fixRestartable	!= 0) setCntRestartable(sysEnv, new Integer(getCntRestartable(sysEnv).intValue() + fixRestartable));
-		if (fixChildSuspended	!= 0) setChildSuspended(sysEnv, new Integer(getChildSuspended(sysEnv).intValue() + fixChildSuspended));
-		if (fixPending		!= 0) setCntPending(sysEnv, new Integer(getCntPending(sysEnv).intValue() + fixPending));
+		if (fixSubmitted	!= 0) setCntSubmitted(sysEnv, Integer.valueOf(getCntSubmitted(sysEnv).intValue() + fixSubmitted));
+		if (fixDependencyWait	!= 0) setCntDependencyWait(sysEnv, Integer.valueOf(getCntDependencyWait(sysEnv).intValue() + fixDependencyWait));
+		if (fixSynchronizeWait	!= 0) setCntSynchronizeWait(sysEnv, Integer.valueOf(getCntSynchronizeWait(sysEnv).intValue() + fixSynchronizeWait));
+		if (fixResourceWait	!= 0) setCntResourceWait(sysEnv, Integer.valueOf(getCntResourceWait(sysEnv).intValue() + fixResourceWait));
+		if (fixRunnable		!= 0) setCntRunnable(sysEnv, Integer.valueOf(getCntRunnable(sysEnv).intValue() + fixRunnable));
+		if (fixStarting		!= 0) setCntStarting(sysEnv, Integer.valueOf(getCntStarting(sysEnv).intValue() + fixStarting));
+		if (fixStarted		!= 0) setCntStarted(sysEnv, Integer.valueOf(getCntStarted(sysEnv).intValue() + fixStarted));
+		if (fixRunning		!= 0) setCntRunning(sysEnv, Integer.valueOf(getCntRunning(sysEnv).intValue() + fixRunning));
+		if (fixToKill		!= 0) setCntToKill(sysEnv, Integer.valueOf(getCntToKill(sysEnv).intValue() + fixToKill));
+		if (fixKilled		!= 0) setCntKilled(sysEnv, Integer.valueOf(getCntKilled(sysEnv).intValue() + fixKilled));
+		if (fixCancelled	!= 0) setCntCancelled(sysEnv, Integer.valueOf(getCntCancelled(sysEnv).intValue() + fixCancelled));
+		if (fixFinished		!= 0) setCntFinished(sysEnv, Integer.valueOf(getCntFinished(sysEnv).intValue() + fixFinished));
+		if (fixFinal		!= 0) setCntFinal(sysEnv, Integer.valueOf(getCntFinal(sysEnv).intValue() + fixFinal));
+		if (fixBrokenActive	!= 0) setCntBrokenActive(sysEnv, Integer.valueOf(getCntBrokenActive(sysEnv).intValue() + fixBrokenActive));
+		if (fixBrokenFinished	!= 0) setCntBrokenFinished(sysEnv, Integer.valueOf(getCntBrokenFinished(sysEnv).intValue() + fixBrokenFinished));
+		if (fixError		!= 0) setCntError(sysEnv, Integer.valueOf(getCntError(sysEnv).intValue() + fixError));
+		if (fixUnreachable	!= 0) setCntUnreachable(sysEnv, Integer.valueOf(getCntUnreachable(sysEnv).intValue() + fixUnreachable));
+		if (fixRestartable	!= 0) setCntRestartable(sysEnv, Integer.valueOf(getCntRestartable(sysEnv).intValue() + fixRestartable));
+		if (fixChildSuspended	!= 0) setChildSuspended(sysEnv, Integer.valueOf(getChildSuspended(sysEnv).intValue() + fixChildSuspended));
+		if (fixPending		!= 0) setCntPending(sysEnv, Integer.valueOf(getCntPending(sysEnv).intValue() + fixPending));
 		fixCntInParents(sysEnv, fixSubmitted, fixDependencyWait, fixSynchronizeWait, fixResourceWait,
 				fixRunnable, fixStarting, fixStarted, fixRunning, fixToKill, fixKilled,
 				fixCancelled, fixFinished, fixFinal, fixBrokenActive, fixBrokenFinished,
@@ -1607,7 +1607,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 				merged = true;
 				if (parentSuspended > 0) {
 					int sme_ps = sme.getParentSuspended(sysEnv).intValue() + parentSuspended;
-					sme.setParentSuspended(sysEnv, new Integer(sme_ps));
+					sme.setParentSuspended(sysEnv, Integer.valueOf(sme_ps));
 					sme.addParentSuspendedToChildren (sysEnv, parentSuspended);
 				}
 			}
@@ -1617,7 +1617,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 		if (submit) {
 			checkValidESP(sysEnv, se, seVersion);
 
-			sme = createSme(sysEnv, se, sh, childTag, ownerId, isStatic, isDisabled, (suspended.booleanValue() ? (forceSuspend == null ? new Integer(SUSPEND) : forceSuspend) : new Integer(NOSUSPEND)), parentSuspended, myResumeTs, replaceSmeId, submitTag, submitTs);
+			sme = createSme(sysEnv, se, sh, childTag, ownerId, isStatic, isDisabled, (suspended.booleanValue() ? (forceSuspend == null ? Integer.valueOf(SUSPEND) : forceSuspend) : Integer.valueOf(NOSUSPEND)), parentSuspended, myResumeTs, replaceSmeId, submitTag, submitTs);
 		}
 		SDMSHierarchyInstance hi = SDMSHierarchyInstanceTable.table.create(sysEnv,
 					   id,
@@ -1680,7 +1680,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 					}
 				}
 			}
-			sme.setRawPriority(sysEnv, new Integer(parentNiceX100 + sme.getRawPriority(sysEnv).intValue()));
+			sme.setRawPriority(sysEnv, Integer.valueOf(parentNiceX100 + sme.getRawPriority(sysEnv).intValue()));
 
 			sme.submitChilds(sysEnv, parentSuspended + (suspended.booleanValue() ? 1 : 0) + msParentSuspended,
 			                 ownerId, replaceSmeId, parentNiceX100 + sme.getNice(sysEnv) * 100);
@@ -1715,7 +1715,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			int newPrio = parentNiceX100 + sme.getNice(sysEnv).intValue() * 100 + sme.getRawPriority(sysEnv).intValue();
 			int deltaPrio = newPrio - sme.getRawPriority(sysEnv);
 			if (deltaPrio != 0) {
-				sme.setRawPriority(sysEnv, new Integer(newPrio));
+				sme.setRawPriority(sysEnv, Integer.valueOf(newPrio));
 				sme.fixChildPrioritiesAndNpNice(sysEnv, deltaPrio, null);
 			}
 		}
@@ -1747,9 +1747,9 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			try {
 				Integer ignore;
 				if (di.getIgnore(sysEnv).intValue() == SDMSDependencyInstance.RECURSIVE) {
-					ignore = new Integer(SDMSDependencyInstance.RECURSIVE);
+					ignore = Integer.valueOf(SDMSDependencyInstance.RECURSIVE);
 				} else {
-					ignore = new Integer(SDMSDependencyInstance.NO);
+					ignore = Integer.valueOf(SDMSDependencyInstance.NO);
 				}
 				Long dependentIdOrig = di.getDependentIdOrig(sysEnv);
 				Integer dependencyOperation = di.getDependencyOperation(sysEnv);
@@ -1880,7 +1880,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 		} else {
 			setJobIsRestartable(sysEnv, Boolean.FALSE);
 		}
-		setState(sysEnv, new Integer (FINISHED));
+		setState(sysEnv, Integer.valueOf(FINISHED));
 		if (finishTs != null)
 			setFinishTs(sysEnv, finishTs);
 
@@ -2273,13 +2273,13 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 
 		if (newState == DEPENDENCY_WAIT) {
 			if (se.getType(sysEnv).intValue() == SDMSSchedulingEntity.JOB) {
-				this.setOldState(sysEnv, new Integer(oldState));
+				this.setOldState(sysEnv, Integer.valueOf(oldState));
 				SystemEnvironment.sched.addToRequestList(sysEnv, mySmeId);
 			}
 			SystemEnvironment.sched.notifyChange(sysEnv, this, SchedulingThread.STATECHANGE);
 		}
 		if (newState == SYNCHRONIZE_WAIT) {
-			this.setOldState(sysEnv, new Integer(oldState));
+			this.setOldState(sysEnv, Integer.valueOf(oldState));
 			SystemEnvironment.sched.addToRequestList(sysEnv, mySmeId);
 			setSyncTs(sysEnv, ts);
 			SystemEnvironment.sched.notifyChange(sysEnv, this, SchedulingThread.STATECHANGE);
@@ -2309,12 +2309,17 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 		return;
 	}
 
+	// Only the dependents which have a dependency on this job that changed its state
+	// are tested, and each of them only once after all its dependencies are checked.
 	private void checkDependents(SystemEnvironment sysEnv)
 		throws SDMSException
 	{
+		final Integer TEST = Integer.valueOf(1);
+		final Integer VERIFY = Integer.valueOf(0);
 		Long id = getId(sysEnv);
 		Vector v_di = SDMSDependencyInstanceTable.idx_requiredId.getVectorForUpdate(sysEnv, id);
 		HashMap checkCache = new HashMap();
+		LinkedHashMap dependents = new LinkedHashMap();
 		Iterator i = v_di.iterator();
 		while (i.hasNext()) {
 			SDMSDependencyInstance di = (SDMSDependencyInstance)i.next();
@@ -2323,10 +2328,35 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			if (newDiState != SDMSDependencyInstance.OPEN ||
 			    (oldDiState == SDMSDependencyInstance.FAILED && newDiState != SDMSDependencyInstance.FAILED)) {
 				Long dSmeId = di.getDependentId(sysEnv);
-				SDMSSubmittedEntity dSme = SDMSSubmittedEntityTable.getObject(sysEnv, dSmeId);
-				dSme.testDependencies(sysEnv);
+				if (newDiState != oldDiState)
+					dependents.put(dSmeId, TEST);
+				else if (!dependents.containsKey(dSmeId))
+					dependents.put(dSmeId, VERIFY);
 			}
 		}
+		long tested = 0;
+		long skipped = 0;
+		long mismatch = 0;
+		i = dependents.keySet().iterator();
+		while (i.hasNext()) {
+			Long dSmeId = (Long) i.next();
+			SDMSSubmittedEntity dSme = SDMSSubmittedEntityTable.getObject(sysEnv, dSmeId);
+			if (dependents.get(dSmeId) == TEST) {
+				dSme.testDependencies(sysEnv);
+				++tested;
+			} else if (SystemEnvironment.verifyDependencyCheck) {
+				Integer oldState = dSme.getState(sysEnv);
+				dSme.testDependencies(sysEnv);
+				if (!oldState.equals(dSme.getState(sysEnv))) {
+					++mismatch;
+					SDMSThread.doTrace(sysEnv.cEnv, "Incremental dependency check missed state change of " + dSmeId +
+					                   " from " + oldState + " to " + dSme.getState(sysEnv), SDMSThread.SEVERITY_WARNING);
+				}
+				++skipped;
+			} else
+				++skipped;
+		}
+		SystemEnvironment.incrCntDep(tested, skipped, mismatch);
 	}
 
 	private void fixCntInParents(SystemEnvironment sysEnv,
@@ -2347,67 +2377,67 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			SDMSSubmittedEntity sme = SDMSSubmittedEntityTable.getObjectForUpdate(sysEnv, parentId);
 
 			if (fixSubmitted	!= 0) {
-				sme.setCntSubmitted(sysEnv, new Integer(sme.getCntSubmitted(sysEnv).intValue() + fixSubmitted));
+				sme.setCntSubmitted(sysEnv, Integer.valueOf(sme.getCntSubmitted(sysEnv).intValue() + fixSubmitted));
 			}
 			if (fixDependencyWait	!= 0) {
-				sme.setCntDependencyWait(sysEnv, new Integer(sme.getCntDependencyWait(sysEnv).intValue() + fixDependencyWait));
+				sme.setCntDependencyWait(sysEnv, Integer.valueOf(sme.getCntDependencyWait(sysEnv).intValue() + fixDependencyWait));
 			}
 			if (fixSynchronizeWait	!= 0) {
-				sme.setCntSynchronizeWait(sysEnv, new Integer(sme.getCntSynchronizeWait(sysEnv).intValue() + fixSynchronizeWait));
+				sme.setCntSynchronizeWait(sysEnv, Integer.valueOf(sme.getCntSynchronizeWait(sysEnv).intValue() + fixSynchronizeWait));
 			}
 			if (fixResourceWait	!= 0) {
-				sme.setCntResourceWait(sysEnv, new Integer(sme.getCntResourceWait(sysEnv).intValue() + fixResourceWait));
+				sme.setCntResourceWait(sysEnv, Integer.valueOf(sme.getCntResourceWait(sysEnv).intValue() + fixResourceWait));
 			}
 			if (fixRunnable		!= 0) {
-				sme.setCntRunnable(sysEnv, new Integer(sme.getCntRunnable(sysEnv).intValue() + fixRunnable));
+				sme.setCntRunnable(sysEnv, Integer.valueOf(sme.getCntRunnable(sysEnv).intValue() + fixRunnable));
 			}
 			if (fixStarting		!= 0) {
-				sme.setCntStarting(sysEnv, new Integer(sme.getCntStarting(sysEnv).intValue() + fixStarting));
+				sme.setCntStarting(sysEnv, Integer.valueOf(sme.getCntStarting(sysEnv).intValue() + fixStarting));
 			}
 			if (fixStarted		!= 0) {
-				sme.setCntStarted(sysEnv, new Integer(sme.getCntStarted(sysEnv).intValue() + fixStarted));
+				sme.setCntStarted(sysEnv, Integer.valueOf(sme.getCntStarted(sysEnv).intValue() + fixStarted));
 			}
 			if (fixRunning		!= 0) {
-				sme.setCntRunning(sysEnv, new Integer(sme.getCntRunning(sysEnv).intValue() + fixRunning));
+				sme.setCntRunning(sysEnv, Integer.valueOf(sme.getCntRunning(sysEnv).intValue() + fixRunning));
 			}
 			if (fixToKill		!= 0) {
-				sme.setCntToKill(sysEnv, new Integer(sme.getCntToKill(sysEnv).intValue() + fixToKill));
+				sme.setCntToKill(sysEnv, Integer.valueOf(sme.getCntToKill(sysEnv).intValue() + fixToKill));
 			}
 			if (fixKilled		!= 0) {
-				sme.setCntKilled(sysEnv, new Integer(sme.getCntKilled(sysEnv).intValue() + fixKilled));
+				sme.setCntKilled(sysEnv, Integer.valueOf(sme.getCntKilled(sysEnv).intValue() + fixKilled));
 			}
 			if (fixCancelled		!= 0) {
-				sme.setCntCancelled(sysEnv, new Integer(sme.getCntCancelled(sysEnv).intValue() + fixCancelled));
+				sme.setCntCancelled(sysEnv, Integer.valueOf(sme.getCntCancelled(sysEnv).intValue() + fixCancelled));
 			}
 			if (fixFinished		!= 0) {
-				sme.setCntFinished(sysEnv, new Integer(sme.getCntFinished(sysEnv).intValue() + fixFinished));
+				sme.setCntFinished(sysEnv, Integer.valueOf(sme.getCntFinished(sysEnv).intValue() + fixFinished));
 			}
 			if (fixFinal		!= 0) {
-				sme.setCntFinal(sysEnv, new Integer(sme.getCntFinal(sysEnv).intValue() + fixFinal));
+				sme.setCntFinal(sysEnv, Integer.valueOf(sme.getCntFinal(sysEnv).intValue() + fixFinal));
 			}
 			if (fixBrokenActive	!= 0) {
-				sme.setCntBrokenActive(sysEnv, new Integer(sme.getCntBrokenActive(sysEnv).intValue() + fixBrokenActive));
+				sme.setCntBrokenActive(sysEnv, Integer.valueOf(sme.getCntBrokenActive(sysEnv).intValue() + fixBrokenActive));
 			}
 			if (fixBrokenFinished	!= 0) {
-				sme.setCntBrokenFinished(sysEnv, new Integer(sme.getCntBrokenFinished(sysEnv).intValue() + fixBrokenFinished));
+				sme.setCntBrokenFinished(sysEnv, Integer.valueOf(sme.getCntBrokenFinished(sysEnv).intValue() + fixBrokenFinished));
 			}
 			if (fixError		!= 0) {
-				sme.setCntError(sysEnv, new Integer(sme.getCntError(sysEnv).intValue() + fixError));
+				sme.setCntError(sysEnv, Integer.valueOf(sme.getCntError(sysEnv).intValue() + fixError));
 			}
 			if (fixUnreachable	!= 0) {
-				sme.setCntUnreachable(sysEnv, new Integer(sme.getCntUnreachable(sysEnv).intValue() + fixUnreachable));
+				sme.setCntUnreachable(sysEnv, Integer.valueOf(sme.getCntUnreachable(sysEnv).intValue() + fixUnreachable));
 			}
 			if (fixRestartable	!= 0) {
-				sme.setCntRestartable(sysEnv, new Integer(sme.getCntRestartable(sysEnv).intValue() + fixRestartable));
+				sme.setCntRestartable(sysEnv, Integer.valueOf(sme.getCntRestartable(sysEnv).intValue() + fixRestartable));
 			}
 			if (fixWarn		!= 0) {
-				sme.setCntWarn(sysEnv, new Integer(sme.getCntWarn(sysEnv).intValue() + fixWarn));
+				sme.setCntWarn(sysEnv, Integer.valueOf(sme.getCntWarn(sysEnv).intValue() + fixWarn));
 			}
 			if (fixChildSuspended		!= 0) {
-				sme.setChildSuspended(sysEnv, new Integer(sme.getChildSuspended(sysEnv).intValue() + fixChildSuspended));
+				sme.setChildSuspended(sysEnv, Integer.valueOf(sme.getChildSuspended(sysEnv).intValue() + fixChildSuspended));
 			}
 			if (fixPending		!= 0) {
-				sme.setCntPending(sysEnv, new Integer(sme.getCntPending(sysEnv).intValue() + fixPending));
+				sme.setCntPending(sysEnv, Integer.valueOf(sme.getCntPending(sysEnv).intValue() + fixPending));
 			}
 
 			sme.fixCntInParents(sysEnv, fixSubmitted, fixDependencyWait, fixSynchronizeWait, fixResourceWait, fixRunnable,
@@ -2436,14 +2466,14 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 		   )
 			idle = true;
 		if (idle && idleTs == null) {
-			setIdleTs(sysEnv, new Integer((int)((sysEnv.cEnv.last() - getSubmitTs(sysEnv).longValue()) / 1000)));
+			setIdleTs(sysEnv, Integer.valueOf((int)((sysEnv.cEnv.last() - getSubmitTs(sysEnv).longValue()) / 1000)));
 		}
 		if (!idle && idleTs != null) {
 			Integer idleTime = getIdleTime(sysEnv);
 			int iT = 0;
 			if (idleTime != null) iT = idleTime.intValue();
 			setIdleTime(sysEnv,
-			            new Integer(iT + (int)((sysEnv.cEnv.last() - getSubmitTs(sysEnv).longValue()) / 1000) - idleTs.intValue()));
+			            Integer.valueOf(iT + (int)((sysEnv.cEnv.last() - getSubmitTs(sysEnv).longValue()) / 1000) - idleTs.intValue()));
 			setIdleTs(sysEnv, null);
 		}
 	}
@@ -2764,14 +2794,14 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			lockmode &= dra.getLockmode(sysEnv).intValue();
 		}
 
-		mra.setLockmode(sysEnv, new Integer(lockmode));
+		mra.setLockmode(sysEnv, Integer.valueOf(lockmode));
 
 		int origAmount = mra.getOrigAmount(sysEnv).intValue();
 		if (origAmount > amount) {
 			int mraAmount = mra.getAmount(sysEnv).intValue() - (origAmount - amount);
 
-			mra.setOrigAmount(sysEnv, new Integer(amount));
-			mra.setAmount(sysEnv, new Integer(mraAmount));
+			mra.setOrigAmount(sysEnv, Integer.valueOf(amount));
+			mra.setAmount(sysEnv, Integer.valueOf(mraAmount));
 		}
 	}
 
@@ -2900,7 +2930,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			ths = new HashSet();
 			sysEnv.tx.txData.put(SystemEnvironment.S_TRIGGER_HASHSET, ths);
 		}
-		Vector v_tr = SDMSTriggerTable.idx_fireId_type.getVector(sysEnv, new SDMSKey(fireSeId, new Integer(trigger_type)), seVersion);
+		Vector v_tr = SDMSTriggerTable.idx_fireId_type.getVector(sysEnv, new SDMSKey(fireSeId, Integer.valueOf(trigger_type)), seVersion);
 		Iterator i_tr = v_tr.iterator();
 		while (i_tr.hasNext()) {
 			SDMSTrigger tr = (SDMSTrigger)i_tr.next();
@@ -2930,39 +2960,39 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			rawPrio = zero;
 		} else {
 			prio = se.getPriority(sysEnv);
-			rawPrio = new Integer (se.getPriority(sysEnv).intValue() * 100);
+			rawPrio = Integer.valueOf(se.getPriority(sysEnv).intValue() * 100);
 			nice = zero;
 		}
 		Integer minEP = se.getMinPriority(sysEnv);
 		if(minEP == null) {
-			minEP = new Integer(SystemEnvironment.priorityLowerBound);
+			minEP = Integer.valueOf(SystemEnvironment.priorityLowerBound);
 		}
 		Integer agingAmount = se.getAgingAmount(sysEnv);
 		Integer agingBase = se.getAgingBase(sysEnv);
 		if (agingAmount == null || agingBase == null) {
-			agingAmount = new Integer(SystemEnvironment.priorityDelay);
-			agingBase = new Integer(SDMSInterval.MINUTE);
+			agingAmount = Integer.valueOf(SystemEnvironment.priorityDelay);
+			agingBase = Integer.valueOf(SDMSInterval.MINUTE);
 		}
 		switch(agingBase.intValue()) {
 			case SDMSInterval.MINUTE:
 				break;
 			case SDMSInterval.HOUR:
-				agingAmount = new Integer((int) (agingAmount.intValue() * SDMSInterval.HOUR_DUR_M));
+				agingAmount = Integer.valueOf((int) (agingAmount.intValue() * SDMSInterval.HOUR_DUR_M));
 				break;
 			case SDMSInterval.DAY:
-				agingAmount = new Integer((int) (agingAmount.intValue() * SDMSInterval.DAY_DUR_M));
+				agingAmount = Integer.valueOf((int) (agingAmount.intValue() * SDMSInterval.DAY_DUR_M));
 				break;
 			case SDMSInterval.WEEK:
-				agingAmount = new Integer((int) (agingAmount.intValue() * SDMSInterval.WEEK_DUR_M));
+				agingAmount = Integer.valueOf((int) (agingAmount.intValue() * SDMSInterval.WEEK_DUR_M));
 				break;
 			case SDMSInterval.MONTH:
-				agingAmount = new Integer((int) (agingAmount.intValue() * SDMSInterval.MONTH_DUR_M));
+				agingAmount = Integer.valueOf((int) (agingAmount.intValue() * SDMSInterval.MONTH_DUR_M));
 				break;
 			case SDMSInterval.YEAR:
-				agingAmount = new Integer((int) (agingAmount.intValue() * SDMSInterval.YEAR_DUR_M));
+				agingAmount = Integer.valueOf((int) (agingAmount.intValue() * SDMSInterval.YEAR_DUR_M));
 				break;
 		}
-		agingBase = new Integer(SDMSInterval.MINUTE);
+		agingBase = Integer.valueOf(SDMSInterval.MINUTE);
 
 		Long opSusresTs = null;
 		if (suspended.intValue() != SDMSSubmittedEntity.NOSUSPEND)
@@ -2979,11 +3009,11 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 				ownerId,
 				getId(sysEnv),
 				null,
-				new Boolean(isStatic),
-		                new Boolean(isDisabled),
+				Boolean.valueOf(isStatic),
+		                Boolean.valueOf(isDisabled),
 		                null,
 				sh.getMergeMode(sysEnv),
-				new Integer(SDMSSubmittedEntity.SUBMITTED),
+				Integer.valueOf(SDMSSubmittedEntity.SUBMITTED),
 				null,
 				null,
 				Boolean.FALSE,
@@ -3018,7 +3048,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 				zero,
 				minEP,
 				agingAmount,
-				new Integer(parentSuspended),
+				Integer.valueOf(parentSuspended),
 				zero,
 				zero,
 				null,
@@ -3091,7 +3121,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			int parents = SDMSHierarchyInstanceTable.idx_childId.getVector(sysEnv, csme.getId(sysEnv)).size();
 			prioDelta =  prioDelta / parents;
 			if (prioDelta != 0)
-				csme.setRawPriority(sysEnv, new Integer(csme.getRawPriority(sysEnv).intValue() + prioDelta));
+				csme.setRawPriority(sysEnv, Integer.valueOf(csme.getRawPriority(sysEnv).intValue() + prioDelta));
 			csme.fixChildPrioritiesAndNpNice(sysEnv, prioDelta, np_nicevalue);
 			if (np_nicevalue != null)
 				csme.setNpNice(sysEnv, np_nicevalue);
@@ -3135,7 +3165,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 			if(inv > SchedulingThread.MIN_PRIORITY)
 				inv = SchedulingThread.MIN_PRIORITY;
 			niceDelta = inv - getNice(sysEnv).intValue();
-			setNice(sysEnv, new Integer (inv));
+			setNice(sysEnv, Integer.valueOf(inv));
 		}
 		int npNiceDelta = 0;
 		if (np_nicevalue != null) {
@@ -3148,7 +3178,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 		if (pr != null) {
 			if (rpDelta != 0) {
 				ipr = pr.intValue() + rpDelta;
-				setRawPriority(sysEnv, new Integer(ipr));
+				setRawPriority(sysEnv, Integer.valueOf(ipr));
 			}
 		}
 		fixChildPrioritiesAndNpNice(sysEnv, rpDelta, np_nicevalue);
@@ -3157,7 +3187,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 	public void setPriority(SystemEnvironment sysEnv, Integer priority)
 	throws SDMSException
 	{
-		setRawPriority(sysEnv, new Integer(priority.intValue() * 100), true);
+		setRawPriority(sysEnv, Integer.valueOf(priority.intValue() * 100), true);
 	}
 
 	public void setRawPriority(SystemEnvironment sysEnv, Integer priority)
@@ -3190,7 +3220,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 
 		super.setRawPriority(sysEnv, priority);
 		if (ipr != cpr) {
-			super.setPriority(sysEnv, new Integer(ipr));
+			super.setPriority(sysEnv, Integer.valueOf(ipr));
 			SystemEnvironment.sched.notifyChange(sysEnv, this, SchedulingThread.PRIORITY);
 		}
 	}
@@ -3287,7 +3317,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 	public void setToError(SystemEnvironment sysEnv, String msg)
 		throws SDMSException
 	{
-		setState(sysEnv, new Integer(ERROR));
+		setState(sysEnv, Integer.valueOf(ERROR));
 		if(msg != null) {
 			setErrorMsg(sysEnv, msg);
 		}
@@ -3393,13 +3423,13 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 					break;
 			}
 			if (statTime == null)
-				statTime = new Integer(0);
+				statTime = Integer.valueOf(0);
 			int now = (int)((sysEnv.cEnv.last() - getSubmitTs(sysEnv).longValue()) / 1000);
 			if (now < 0) now = 0;
 
 			int delta = now - statTs;
 
-			statTime = new Integer(statTime.intValue() + delta);
+			statTime = Integer.valueOf(statTime.intValue() + delta);
 
 			switch (oldStatSelect) {
 				case STAT_DEPENDENCY_WAIT:
@@ -3424,7 +3454,7 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 					setChildWaitTime(sysEnv, statTime);
 					break;
 			}
-			setStatisticTs(sysEnv, new Integer(now * 10 + newStatSelect));
+			setStatisticTs(sysEnv, Integer.valueOf(now * 10 + newStatSelect));
 		}
 	}
 
@@ -3444,6 +3474,6 @@ public class SDMSSubmittedEntity extends SDMSSubmittedEntityProxyGeneric
 				t += now - ts;
 			}
 		}
-		return new Integer(t);
+		return Integer.valueOf(t);
 	}
 }
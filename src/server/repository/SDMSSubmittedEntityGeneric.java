@@ -275,7 +275,107 @@ public class SDMSSubmittedEntityGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"ACCESS_KEY",
+		"MASTER_ID",
+		"SUBMIT_TAG",
+		"UNRESOLVED_HANDLING",
+		"SE_ID",
+		"CHILD_TAG",
+		"SE_VERSION",
+		"OWNER_ID",
+		"PARENT_ID",
+		"SCOPE_ID",
+		"IS_STATIC",
+		"IS_DISABLED",
+		"OLD_STATE",
+		"MERGE_MODE",
+		"STATE",
+		"JOB_ESD_ID",
+		"JOB_ESD_PREF",
+		"JOB_IS_FINAL",
+		"JOB_IS_RESTARTABLE",
+		"FINAL_ESD_ID",
+		"EXIT_CODE",
+		"COMMANDLINE",
+		"RR_COMMANDLINE",
+		"RERUN_SEQ",
+		"IS_REPLACED",
+		"IS_CANCELLED",
+		"BASE_SME_ID",
+		"REASON_SME_ID",
+		"FIRE_SME_ID",
+		"FIRE_SE_ID",
+		"TR_ID",
+		"TR_SD_ID_OLD",
+		"TR_SD_ID_NEW",
+		"TR_SEQ",
+		"WORKDIR",
+		"LOGFILE",
+		"ERRLOGFILE",
+		"PID",
+		"EXTPID",
+		"ERROR_MSG",
+		"KILL_ID",
+		"KILL_EXIT_CODE",
+		"IS_SUSPENDED",
+		"IS_SUSPENDED_LOCAL",
+		"PRIORITY",
+		"RAW_PRIORITY",
+		"NICE",
+		"NP_NICE",
+		"MIN_PRIORITY",
+		"AGING_AMOUNT",
+		"PARENT_SUSPENDED",
+		"CHILD_SUSPENDED",
+		"WARN_COUNT",
+		"WARN_LINK",
+		"SUBMIT_TS",
+		"RESUME_TS",
+		"SYNC_TS",
+		"RESOURCE_TS",
+		"RUNNABLE_TS",
+		"START_TS",
+		"FINSH_TS",
+		"FINAL_TS",
+		"CNT_SUBMITTED",
+		"CNT_DEPENDENCY_WAIT",
+		"CNT_SYNCHRONIZE_WAIT",
+		"CNT_RESOURCE_WAIT",
+		"CNT_RUNNABLE",
+		"CNT_STARTING",
+		"CNT_STARTED",
+		"CNT_RUNNING",
+		"CNT_TO_KILL",
+		"CNT_KILLED",
+		"CNT_CANCELLED",
+		"CNT_FINISHED",
+		"CNT_FINAL",
+		"CNT_BROKEN_ACTIVE",
+		"CNT_BROKEN_FINISHED",
+		"CNT_ERROR",
+		"CNT_UNREACHABLE",
+		"CNT_RESTARTABLE",
+		"CNT_WARN",
+		"CNT_PENDING",
+		"IDLE_TS",
+		"IDLE_TIME",
+		"STATISTIC_TS",
+		"DEPENDENCY_WAIT_TIME",
+		"SUSPEND_TIME",
+		"SYNC_TIME",
+		"RESOURCE_TIME",
+		"JOBSERVER_TIME",
+		"RESTARTABLE_TIME",
+		"CHILD_WAIT_TIME",
+		"OP_SUSRES_TS",
+		"NPE_ID",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("SUBMITTED_ENTITY", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -3979,7 +4079,7 @@ public class SDMSSubmittedEntityGeneric extends SDMSObject
 			myInsert.setLong (97, createTs.longValue());
 			myInsert.setLong (98, changerUId.longValue());
 			myInsert.setLong (99, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "SubmittedEntity: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -4003,7 +4103,7 @@ public class SDMSSubmittedEntityGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "SubmittedEntity: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -4012,368 +4112,511 @@ public class SDMSSubmittedEntityGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSSubmittedEntityGeneric o = (SDMSSubmittedEntityGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(accessKey, o.accessKey)) dirty.set(0);
+		if (changed(masterId, o.masterId)) dirty.set(1);
+		if (changed(submitTag, o.submitTag)) dirty.set(2);
+		if (changed(unresolvedHandling, o.unresolvedHandling)) dirty.set(3);
+		if (changed(seId, o.seId)) dirty.set(4);
+		if (changed(childTag, o.childTag)) dirty.set(5);
+		if (changed(seVersion, o.seVersion)) dirty.set(6);
+		if (changed(ownerId, o.ownerId)) dirty.set(7);
+		if (changed(parentId, o.parentId)) dirty.set(8);
+		if (changed(scopeId, o.scopeId)) dirty.set(9);
+		if (changed(isStatic, o.isStatic)) dirty.set(10);
+		if (changed(isDisabled, o.isDisabled)) dirty.set(11);
+		if (changed(oldState, o.oldState)) dirty.set(12);
+		if (changed(mergeMode, o.mergeMode)) dirty.set(13);
+		if (changed(state, o.state)) dirty.set(14);
+		if (changed(jobEsdId, o.jobEsdId)) dirty.set(15);
+		if (changed(jobEsdPref, o.jobEsdPref)) dirty.set(16);
+		if (changed(jobIsFinal, o.jobIsFinal)) dirty.set(17);
+		if (changed(jobIsRestartable, o.jobIsRestartable)) dirty.set(18);
+		if (changed(finalEsdId, o.finalEsdId)) dirty.set(19);
+		if (changed(exitCode, o.exitCode)) dirty.set(20);
+		if (changed(commandline, o.commandline)) dirty.set(21);
+		if (changed(rrCommandline, o.rrCommandline)) dirty.set(22);
+		if (changed(rerunSeq, o.rerunSeq)) dirty.set(23);
+		if (changed(isReplaced, o.isReplaced)) dirty.set(24);
+		if (changed(isCancelled, o.isCancelled)) dirty.set(25);
+		if (changed(baseSmeId, o.baseSmeId)) dirty.set(26);
+		if (changed(reasonSmeId, o.reasonSmeId)) dirty.set(27);
+		if (changed(fireSmeId, o.fireSmeId)) dirty.set(28);
+		if (changed(fireSeId, o.fireSeId)) dirty.set(29);
+		if (changed(trId, o.trId)) dirty.set(30);
+		if (changed(trSdIdOld, o.trSdIdOld)) dirty.set(31);
+		if (changed(trSdIdNew, o.trSdIdNew)) dirty.set(32);
+		if (changed(trSeq, o.trSeq)) dirty.set(33);
+		if (changed(workdir, o.workdir)) dirty.set(34);
+		if (changed(logfile, o.logfile)) dirty.set(35);
+		if (changed(errlogfile, o.errlogfile)) dirty.set(36);
+		if (changed(pid, o.pid)) dirty.set(37);
+		if (changed(extPid, o.extPid)) dirty.set(38);
+		if (changed(errorMsg, o.errorMsg)) dirty.set(39);
+		if (changed(killId, o.killId)) dirty.set(40);
+		if (changed(killExitCode, o.killExitCode)) dirty.set(41);
+		if (changed(isSuspended, o.isSuspended)) dirty.set(42);
+		if (changed(isSuspendedLocal, o.isSuspendedLocal)) dirty.set(43);
+		if (changed(priority, o.priority)) dirty.set(44);
+		if (changed(rawPriority, o.rawPriority)) dirty.set(45);
+		if (changed(nice, o.nice)) dirty.set(46);
+		if (changed(npNice, o.npNice)) dirty.set(47);
+		if (changed(minPriority, o.minPriority)) dirty.set(48);
+		if (changed(agingAmount, o.agingAmount)) dirty.set(49);
+		if (changed(parentSuspended, o.parentSuspended)) dirty.set(50);
+		if (changed(childSuspended, o.childSuspended)) dirty.set(51);
+		if (changed(warnCount, o.warnCount)) dirty.set(52);
+		if (changed(warnLink, o.warnLink)) dirty.set(53);
+		if (changed(submitTs, o.submitTs)) dirty.set(54);
+		if (changed(resumeTs, o.resumeTs)) dirty.set(55);
+		if (changed(syncTs, o.syncTs)) dirty.set(56);
+		if (changed(resourceTs, o.resourceTs)) dirty.set(57);
+		if (changed(runnableTs, o.runnableTs)) dirty.set(58);
+		if (changed(startTs, o.startTs)) dirty.set(59);
+		if (changed(finishTs, o.finishTs)) dirty.set(60);
+		if (changed(finalTs, o.finalTs)) dirty.set(61);
+		if (changed(cntSubmitted, o.cntSubmitted)) dirty.set(62);
+		if (changed(cntDependencyWait, o.cntDependencyWait)) dirty.set(63);
+		if (changed(cntSynchronizeWait, o.cntSynchronizeWait)) dirty.set(64);
+		if (changed(cntResourceWait, o.cntResourceWait)) dirty.set(65);
+		if (changed(cntRunnable, o.cntRunnable)) dirty.set(66);
+		if (changed(cntStarting, o.cntStarting)) dirty.set(67);
+		if (changed(cntStarted, o.cntStarted)) dirty.set(68);
+		if (changed(cntRunning, o.cntRunning)) dirty.set(69);
+		if (changed(cntToKill, o.cntToKill)) dirty.set(70);
+		if (changed(cntKilled, o.cntKilled)) dirty.set(71);
+		if (changed(cntCancelled, o.cntCancelled)) dirty.set(72);
+		if (changed(cntFinished, o.cntFinished)) dirty.set(73);
+		if (changed(cntFinal, o.cntFinal)) dirty.set(74);
+		if (changed(cntBrokenActive, o.cntBrokenActive)) dirty.set(75);
+		if (changed(cntBrokenFinished, o.cntBrokenFinished)) dirty.set(76);
+		if (changed(cntError, o.cntError)) dirty.set(77);
+		if (changed(cntUnreachable, o.cntUnreachable)) dirty.set(78);
+		if (changed(cntRestartable, o.cntRestartable)) dirty.set(79);
+		if (changed(cntWarn, o.cntWarn)) dirty.set(80);
+		if (changed(cntPending, o.cntPending)) dirty.set(81);
+		if (changed(idleTs, o.idleTs)) dirty.set(82);
+		if (changed(idleTime, o.idleTime)) dirty.set(83);
+		if (changed(statisticTs, o.statisticTs)) dirty.set(84);
+		if (changed(dependencyWaitTime, o.dependencyWaitTime)) dirty.set(85);
+		if (changed(suspendTime, o.suspendTime)) dirty.set(86);
+		if (changed(syncTime, o.syncTime)) dirty.set(87);
+		if (changed(resourceTime, o.resourceTime)) dirty.set(88);
+		if (changed(jobserverTime, o.jobserverTime)) dirty.set(89);
+		if (changed(restartableTime, o.restartableTime)) dirty.set(90);
+		if (changed(childWaitTime, o.childWaitTime)) dirty.set(91);
+		if (changed(opSusresTs, o.opSusresTs)) dirty.set(92);
+		if (changed(npeId, o.npeId)) dirty.set(93);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(94);
+		if (changed(createTs, o.createTs)) dirty.set(95);
+		if (changed(changerUId, o.changerUId)) dirty.set(96);
+		if (changed(changeTs, o.changeTs)) dirty.set(97);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE SUBMITTED_ENTITY SET " +
-				        "" + squote + "ACCESS_KEY" + equote + " = ? " +
-				        ", " + squote + "MASTER_ID" + equote + " = ? " +
-				        ", " + squote + "SUBMIT_TAG" + equote + " = ? " +
-				        ", " + squote + "UNRESOLVED_HANDLING" + equote + " = ? " +
-				        ", " + squote + "SE_ID" + equote + " = ? " +
-				        ", " + squote + "CHILD_TAG" + equote + " = ? " +
-				        ", " + squote + "SE_VERSION" + equote + " = ? " +
-				        ", " + squote + "OWNER_ID" + equote + " = ? " +
-				        ", " + squote + "PARENT_ID" + equote + " = ? " +
-				        ", " + squote + "SCOPE_ID" + equote + " = ? " +
-				        ", " + squote + "IS_STATIC" + equote + " = ? " +
-				        ", " + squote + "IS_DISABLED" + equote + " = ? " +
-				        ", " + squote + "OLD_STATE" + equote + " = ? " +
-				        ", " + squote + "MERGE_MODE" + equote + " = ? " +
-				        ", " + squote + "STATE" + equote + " = ? " +
-				        ", " + squote + "JOB_ESD_ID" + equote + " = ? " +
-				        ", " + squote + "JOB_ESD_PREF" + equote + " = ? " +
-				        ", " + squote + "JOB_IS_FINAL" + equote + " = ? " +
-				        ", " + squote + "JOB_IS_RESTARTABLE" + equote + " = ? " +
-				        ", " + squote + "FINAL_ESD_ID" + equote + " = ? " +
-				        ", " + squote + "EXIT_CODE" + equote + " = ? " +
-				        ", " + squote + "COMMANDLINE" + equote + " = ? " +
-				        ", " + squote + "RR_COMMANDLINE" + equote + " = ? " +
-				        ", " + squote + "RERUN_SEQ" + equote + " = ? " +
-				        ", " + squote + "IS_REPLACED" + equote + " = ? " +
-				        ", " + squote + "IS_CANCELLED" + equote + " = ? " +
-				        ", " + squote + "BASE_SME_ID" + equote + " = ? " +
-				        ", " + squote + "REASON_SME_ID" + equote + " = ? " +
-				        ", " + squote + "FIRE_SME_ID" + equote + " = ? " +
-				        ", " + squote + "FIRE_SE_ID" + equote + " = ? " +
-				        ", " + squote + "TR_ID" + equote + " = ? " +
-				        ", " + squote + "TR_SD_ID_OLD" + equote + " = ? " +
-				        ", " + squote + "TR_SD_ID_NEW" + equote + " = ? " +
-				        ", " + squote + "TR_SEQ" + equote + " = ? " +
-				        ", " + squote + "WORKDIR" + equote + " = ? " +
-				        ", " + squote + "LOGFILE" + equote + " = ? " +
-				        ", " + squote + "ERRLOGFILE" + equote + " = ? " +
-				        ", " + squote + "PID" + equote + " = ? " +
-				        ", " + squote + "EXTPID" + equote + " = ? " +
-				        ", " + squote + "ERROR_MSG" + equote + " = ? " +
-				        ", " + squote + "KILL_ID" + equote + " = ? " +
-				        ", " + squote + "KILL_EXIT_CODE" + equote + " = ? " +
-				        ", " + squote + "IS_SUSPENDED" + equote + " = ? " +
-				        ", " + squote + "IS_SUSPENDED_LOCAL" + equote + " = ? " +
-				        ", " + squote + "PRIORITY" + equote + " = ? " +
-				        ", " + squote + "RAW_PRIORITY" + equote + " = ? " +
-				        ", " + squote + "NICE" + equote + " = ? " +
-				        ", " + squote + "NP_NICE" + equote + " = ? " +
-				        ", " + squote + "MIN_PRIORITY" + equote + " = ? " +
-				        ", " + squote + "AGING_AMOUNT" + equote + " = ? " +
-				        ", " + squote + "PARENT_SUSPENDED" + equote + " = ? " +
-				        ", " + squote + "CHILD_SUSPENDED" + equote + " = ? " +
-				        ", " + squote + "WARN_COUNT" + equote + " = ? " +
-				        ", " + squote + "WARN_LINK" + equote + " = ? " +
-				        ", " + squote + "SUBMIT_TS" + equote + " = ? " +
-				        ", " + squote + "RESUME_TS" + equote + " = ? " +
-				        ", " + squote + "SYNC_TS" + equote + " = ? " +
-				        ", " + squote + "RESOURCE_TS" + equote + " = ? " +
-				        ", " + squote + "RUNNABLE_TS" + equote + " = ? " +
-				        ", " + squote + "START_TS" + equote + " = ? " +
-				        ", " + squote + "FINSH_TS" + equote + " = ? " +
-				        ", " + squote + "FINAL_TS" + equote + " = ? " +
-				        ", " + squote + "CNT_SUBMITTED" + equote + " = ? " +
-				        ", " + squote + "CNT_DEPENDENCY_WAIT" + equote + " = ? " +
-				        ", " + squote + "CNT_SYNCHRONIZE_WAIT" + equote + " = ? " +
-				        ", " + squote + "CNT_RESOURCE_WAIT" + equote + " = ? " +
-				        ", " + squote + "CNT_RUNNABLE" + equote + " = ? " +
-				        ", " + squote + "CNT_STARTING" + equote + " = ? " +
-				        ", " + squote + "CNT_STARTED" + equote + " = ? " +
-				        ", " + squote + "CNT_RUNNING" + equote + " = ? " +
-				        ", " + squote + "CNT_TO_KILL" + equote + " = ? " +
-				        ", " + squote + "CNT_KILLED" + equote + " = ? " +
-				        ", " + squote + "CNT_CANCELLED" + equote + " = ? " +
-				        ", " + squote + "CNT_FINISHED" + equote + " = ? " +
-				        ", " + squote + "CNT_FINAL" + equote + " = ? " +
-				        ", " + squote + "CNT_BROKEN_ACTIVE" + equote + " = ? " +
-				        ", " + squote + "CNT_BROKEN_FINISHED" + equote + " = ? " +
-				        ", " + squote + "CNT_ERROR" + equote + " = ? " +
-				        ", " + squote + "CNT_UNREACHABLE" + equote + " = ? " +
-				        ", " + squote + "CNT_RESTARTABLE" + equote + " = ? " +
-				        ", " + squote + "CNT_WARN" + equote + " = ? " +
-				        ", " + squote + "CNT_PENDING" + equote + " = ? " +
-				        ", " + squote + "IDLE_TS" + equote + " = ? " +
-				        ", " + squote + "IDLE_TIME" + equote + " = ? " +
-				        ", " + squote + "STATISTIC_TS" + equote + " = ? " +
-				        ", " + squote + "DEPENDENCY_WAIT_TIME" + equote + " = ? " +
-				        ", " + squote + "SUSPEND_TIME" + equote + " = ? " +
-				        ", " + squote + "SYNC_TIME" + equote + " = ? " +
-				        ", " + squote + "RESOURCE_TIME" + equote + " = ? " +
-				        ", " + squote + "JOBSERVER_TIME" + equote + " = ? " +
-				        ", " + squote + "RESTARTABLE_TIME" + equote + " = ? " +
-				        ", " + squote + "CHILD_WAIT_TIME" + equote + " = ? " +
-				        ", " + squote + "OP_SUSRES_TS" + equote + " = ? " +
-				        ", " + squote + "NPE_ID" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "SubmittedEntity: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "SubmittedEntity: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, accessKey.longValue());
-			myUpdate.setLong (2, masterId.longValue());
-			if (submitTag == null)
-				myUpdate.setNull(3, Types.VARCHAR);
-			else
-				myUpdate.setString(3, submitTag);
-			if (unresolvedHandling == null)
-				myUpdate.setNull(4, Types.INTEGER);
-			else
-				myUpdate.setInt(4, unresolvedHandling.intValue());
-			myUpdate.setLong (5, seId.longValue());
-			if (childTag == null)
-				myUpdate.setNull(6, Types.VARCHAR);
-			else
-				myUpdate.setString(6, childTag);
-			myUpdate.setLong (7, seVersion.longValue());
-			myUpdate.setLong (8, ownerId.longValue());
-			if (parentId == null)
-				myUpdate.setNull(9, Types.INTEGER);
-			else
-				myUpdate.setLong (9, parentId.longValue());
-			if (scopeId == null)
-				myUpdate.setNull(10, Types.INTEGER);
-			else
-				myUpdate.setLong (10, scopeId.longValue());
-			myUpdate.setInt (11, isStatic.booleanValue() ? 1 : 0);
-			myUpdate.setInt (12, isDisabled.booleanValue() ? 1 : 0);
-			if (oldState == null)
-				myUpdate.setNull(13, Types.INTEGER);
-			else
-				myUpdate.setInt(13, oldState.intValue());
-			myUpdate.setInt(14, mergeMode.intValue());
-			myUpdate.setInt(15, state.intValue());
-			if (jobEsdId == null)
-				myUpdate.setNull(16, Types.INTEGER);
-			else
-				myUpdate.setLong (16, jobEsdId.longValue());
-			if (jobEsdPref == null)
-				myUpdate.setNull(17, Types.INTEGER);
-			else
-				myUpdate.setInt(17, jobEsdPref.intValue());
-			myUpdate.setInt (18, jobIsFinal.booleanValue() ? 1 : 0);
-			myUpdate.setInt (19, jobIsRestartable.booleanValue() ? 1 : 0);
-			if (finalEsdId == null)
-				myUpdate.setNull(20, Types.INTEGER);
-			else
-				myUpdate.setLong (20, finalEsdId.longValue());
-			if (exitCode == null)
-				myUpdate.setNull(21, Types.INTEGER);
-			else
-				myUpdate.setInt(21, exitCode.intValue());
-			if (commandline == null)
-				myUpdate.setNull(22, Types.VARCHAR);
-			else
-				myUpdate.setString(22, commandline);
-			if (rrCommandline == null)
-				myUpdate.setNull(23, Types.VARCHAR);
-			else
-				myUpdate.setString(23, rrCommandline);
-			myUpdate.setInt(24, rerunSeq.intValue());
-			myUpdate.setInt (25, isReplaced.booleanValue() ? 1 : 0);
-			if (isCancelled == null)
-				myUpdate.setNull(26, Types.INTEGER);
-			else
-				myUpdate.setInt (26, isCancelled.booleanValue() ? 1 : 0);
-			if (baseSmeId == null)
-				myUpdate.setNull(27, Types.INTEGER);
-			else
-				myUpdate.setLong (27, baseSmeId.longValue());
-			if (reasonSmeId == null)
-				myUpdate.setNull(28, Types.INTEGER);
-			else
-				myUpdate.setLong (28, reasonSmeId.longValue());
-			if (fireSmeId == null)
-				myUpdate.setNull(29, Types.INTEGER);
-			else
-				myUpdate.setLong (29, fireSmeId.longValue());
-			if (fireSeId == null)
-				myUpdate.setNull(30, Types.INTEGER);
-			else
-				myUpdate.setLong (30, fireSeId.longValue());
-			if (trId == null)
-				myUpdate.setNull(31, Types.INTEGER);
-			else
-				myUpdate.setLong (31, trId.longValue());
-			if (trSdIdOld == null)
-				myUpdate.setNull(32, Types.INTEGER);
-			else
-				myUpdate.setLong (32, trSdIdOld.longValue());
-			if (trSdIdNew == null)
-				myUpdate.setNull(33, Types.INTEGER);
-			else
-				myUpdate.setLong (33, trSdIdNew.longValue());
-			myUpdate.setInt(34, trSeq.intValue());
-			if (workdir == null)
-				myUpdate.setNull(35, Types.VARCHAR);
-			else
-				myUpdate.setString(35, workdir);
-			if (logfile == null)
-				myUpdate.setNull(36, Types.VARCHAR);
-			else
-				myUpdate.setString(36, logfile);
-			if (errlogfile == null)
-				myUpdate.setNull(37, Types.VARCHAR);
-			else
-				myUpdate.setString(37, errlogfile);
-			if (pid == null)
-				myUpdate.setNull(38, Types.VARCHAR);
-			else
-				myUpdate.setString(38, pid);
-			if (extPid == null)
-				myUpdate.setNull(39, Types.VARCHAR);
-			else
-				myUpdate.setString(39, extPid);
-			if (errorMsg == null)
-				myUpdate.setNull(40, Types.VARCHAR);
-			else
-				myUpdate.setString(40, errorMsg);
-			if (killId == null)
-				myUpdate.setNull(41, Types.INTEGER);
-			else
-				myUpdate.setLong (41, killId.longValue());
-			if (killExitCode == null)
-				myUpdate.setNull(42, Types.INTEGER);
-			else
-				myUpdate.setInt(42, killExitCode.intValue());
-			myUpdate.setInt(43, isSuspended.intValue());
-			if (isSuspendedLocal == null)
-				myUpdate.setNull(44, Types.INTEGER);
-			else
-				myUpdate.setInt (44, isSuspendedLocal.booleanValue() ? 1 : 0);
-			myUpdate.setInt(45, priority.intValue());
-			myUpdate.setInt(46, rawPriority.intValue());
-			myUpdate.setInt(47, nice.intValue());
-			myUpdate.setInt(48, npNice.intValue());
-			myUpdate.setInt(49, minPriority.intValue());
-			myUpdate.setInt(50, agingAmount.intValue());
-			myUpdate.setInt(51, parentSuspended.intValue());
-			myUpdate.setInt(52, childSuspended.intValue());
-			myUpdate.setInt(53, warnCount.intValue());
-			if (warnLink == null)
-				myUpdate.setNull(54, Types.INTEGER);
-			else
-				myUpdate.setLong (54, warnLink.longValue());
-			myUpdate.setLong (55, submitTs.longValue());
-			if (resumeTs == null)
-				myUpdate.setNull(56, Types.INTEGER);
-			else
-				myUpdate.setLong (56, resumeTs.longValue());
-			if (syncTs == null)
-				myUpdate.setNull(57, Types.INTEGER);
-			else
-				myUpdate.setLong (57, syncTs.longValue());
-			if (resourceTs == null)
-				myUpdate.setNull(58, Types.INTEGER);
-			else
-				myUpdate.setLong (58, resourceTs.longValue());
-			if (runnableTs == null)
-				myUpdate.setNull(59, Types.INTEGER);
-			else
-				myUpdate.setLong (59, runnableTs.longValue());
-			if (startTs == null)
-				myUpdate.setNull(60, Types.INTEGER);
-			else
-				myUpdate.setLong (60, startTs.longValue());
-			if (finishTs == null)
-				myUpdate.setNull(61, Types.INTEGER);
-			else
-				myUpdate.setLong (61, finishTs.longValue());
-			if (finalTs == null)
-				myUpdate.setNull(62, Types.INTEGER);
-			else
-				myUpdate.setLong (62, finalTs.longValue());
-			myUpdate.setInt(63, cntSubmitted.intValue());
-			myUpdate.setInt(64, cntDependencyWait.intValue());
-			myUpdate.setInt(65, cntSynchronizeWait.intValue());
-			myUpdate.setInt(66, cntResourceWait.intValue());
-			myUpdate.setInt(67, cntRunnable.intValue());
-			myUpdate.setInt(68, cntStarting.intValue());
-			myUpdate.setInt(69, cntStarted.intValue());
-			myUpdate.setInt(70, cntRunning.intValue());
-			myUpdate.setInt(71, cntToKill.intValue());
-			myUpdate.setInt(72, cntKilled.intValue());
-			myUpdate.setInt(73, cntCancelled.intValue());
-			myUpdate.setInt(74, cntFinished.intValue());
-			myUpdate.setInt(75, cntFinal.intValue());
-			myUpdate.setInt(76, cntBrokenActive.intValue());
-			myUpdate.setInt(77, cntBrokenFinished.intValue());
-			myUpdate.setInt(78, cntError.intValue());
-			myUpdate.setInt(79, cntUnreachable.intValue());
-			myUpdate.setInt(80, cntRestartable.intValue());
-			myUpdate.setInt(81, cntWarn.intValue());
-			myUpdate.setInt(82, cntPending.intValue());
-			if (idleTs == null)
-				myUpdate.setNull(83, Types.INTEGER);
-			else
-				myUpdate.setInt(83, idleTs.intValue());
-			if (idleTime == null)
-				myUpdate.setNull(84, Types.INTEGER);
-			else
-				myUpdate.setInt(84, idleTime.intValue());
-			if (statisticTs == null)
-				myUpdate.setNull(85, Types.INTEGER);
-			else
-				myUpdate.setInt(85, statisticTs.intValue());
-			if (dependencyWaitTime == null)
-				myUpdate.setNull(86, Types.INTEGER);
-			else
-				myUpdate.setInt(86, dependencyWaitTime.intValue());
-			if (suspendTime == null)
-				myUpdate.setNull(87, Types.INTEGER);
-			else
-				myUpdate.setInt(87, suspendTime.intValue());
-			if (syncTime == null)
-				myUpdate.setNull(88, Types.INTEGER);
-			else
-				myUpdate.setInt(88, syncTime.intValue());
-			if (resourceTime == null)
-				myUpdate.setNull(89, Types.INTEGER);
-			else
-				myUpdate.setInt(89, resourceTime.intValue());
-			if (jobserverTime == null)
-				myUpdate.setNull(90, Types.INTEGER);
-			else
-				myUpdate.setInt(90, jobserverTime.intValue());
-			if (restartableTime == null)
-				myUpdate.setNull(91, Types.INTEGER);
-			else
-				myUpdate.setInt(91, restartableTime.intValue());
-			if (childWaitTime == null)
-				myUpdate.setNull(92, Types.INTEGER);
-			else
-				myUpdate.setInt(92, childWaitTime.intValue());
-			if (opSusresTs == null)
-				myUpdate.setNull(93, Types.INTEGER);
-			else
-				myUpdate.setLong (93, opSusresTs.longValue());
-			if (npeId == null)
-				myUpdate.setNull(94, Types.INTEGER);
-			else
-				myUpdate.setLong (94, npeId.longValue());
-			myUpdate.setLong (95, creatorUId.longValue());
-			myUpdate.setLong (96, createTs.longValue());
-			myUpdate.setLong (97, changerUId.longValue());
-			myUpdate.setLong (98, changeTs.longValue());
-			myUpdate.setLong(99, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, accessKey.longValue());
+			if (dirty.get(1))
+				myUpdate.setLong (p++, masterId.longValue());
+			if (dirty.get(2)) {
+				if (submitTag == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, submitTag);
+			}
+			if (dirty.get(3)) {
+				if (unresolvedHandling == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, unresolvedHandling.intValue());
+			}
+			if (dirty.get(4))
+				myUpdate.setLong (p++, seId.longValue());
+			if (dirty.get(5)) {
+				if (childTag == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, childTag);
+			}
+			if (dirty.get(6))
+				myUpdate.setLong (p++, seVersion.longValue());
+			if (dirty.get(7))
+				myUpdate.setLong (p++, ownerId.longValue());
+			if (dirty.get(8)) {
+				if (parentId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, parentId.longValue());
+			}
+			if (dirty.get(9)) {
+				if (scopeId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, scopeId.longValue());
+			}
+			if (dirty.get(10))
+				myUpdate.setInt (p++, isStatic.booleanValue() ? 1 : 0);
+			if (dirty.get(11))
+				myUpdate.setInt (p++, isDisabled.booleanValue() ? 1 : 0);
+			if (dirty.get(12)) {
+				if (oldState == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, oldState.intValue());
+			}
+			if (dirty.get(13))
+				myUpdate.setInt(p++, mergeMode.intValue());
+			if (dirty.get(14))
+				myUpdate.setInt(p++, state.intValue());
+			if (dirty.get(15)) {
+				if (jobEsdId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, jobEsdId.longValue());
+			}
+			if (dirty.get(16)) {
+				if (jobEsdPref == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, jobEsdPref.intValue());
+			}
+			if (dirty.get(17))
+				myUpdate.setInt (p++, jobIsFinal.booleanValue() ? 1 : 0);
+			if (dirty.get(18))
+				myUpdate.setInt (p++, jobIsRestartable.booleanValue() ? 1 : 0);
+			if (dirty.get(19)) {
+				if (finalEsdId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, finalEsdId.longValue());
+			}
+			if (dirty.get(20)) {
+				if (exitCode == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, exitCode.intValue());
+			}
+			if (dirty.get(21)) {
+				if (commandline == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, commandline);
+			}
+			if (dirty.get(22)) {
+				if (rrCommandline == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, rrCommandline);
+			}
+			if (dirty.get(23))
+				myUpdate.setInt(p++, rerunSeq.intValue());
+			if (dirty.get(24))
+				myUpdate.setInt (p++, isReplaced.booleanValue() ? 1 : 0);
+			if (dirty.get(25)) {
+				if (isCancelled == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt (p++, isCancelled.booleanValue() ? 1 : 0);
+			}
+			if (dirty.get(26)) {
+				if (baseSmeId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, baseSmeId.longValue());
+			}
+			if (dirty.get(27)) {
+				if (reasonSmeId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, reasonSmeId.longValue());
+			}
+			if (dirty.get(28)) {
+				if (fireSmeId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, fireSmeId.longValue());
+			}
+			if (dirty.get(29)) {
+				if (fireSeId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, fireSeId.longValue());
+			}
+			if (dirty.get(30)) {
+				if (trId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, trId.longValue());
+			}
+			if (dirty.get(31)) {
+				if (trSdIdOld == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, trSdIdOld.longValue());
+			}
+			if (dirty.get(32)) {
+				if (trSdIdNew == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, trSdIdNew.longValue());
+			}
+			if (dirty.get(33))
+				myUpdate.setInt(p++, trSeq.intValue());
+			if (dirty.get(34)) {
+				if (workdir == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, workdir);
+			}
+			if (dirty.get(35)) {
+				if (logfile == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, logfile);
+			}
+			if (dirty.get(36)) {
+				if (errlogfile == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, errlogfile);
+			}
+			if (dirty.get(37)) {
+				if (pid == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, pid);
+			}
+			if (dirty.get(38)) {
+				if (extPid == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, extPid);
+			}
+			if (dirty.get(39)) {
+				if (errorMsg == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, errorMsg);
+			}
+			if (dirty.get(40)) {
+				if (killId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, killId.longValue());
+			}
+			if (dirty.get(41)) {
+				if (killExitCode == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, killExitCode.intValue());
+			}
+			if (dirty.get(42))
+				myUpdate.setInt(p++, isSuspended.intValue());
+			if (dirty.get(43)) {
+				if (isSuspendedLocal == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt (p++, isSuspendedLocal.booleanValue() ? 1 : 0);
+			}
+			if (dirty.get(44))
+				myUpdate.setInt(p++, priority.intValue());
+			if (dirty.get(45))
+				myUpdate.setInt(p++, rawPriority.intValue());
+			if (dirty.get(46))
+				myUpdate.setInt(p++, nice.intValue());
+			if (dirty.get(47))
+				myUpdate.setInt(p++, npNice.intValue());
+			if (dirty.get(48))
+				myUpdate.setInt(p++, minPriority.intValue());
+			if (dirty.get(49))
+				myUpdate.setInt(p++, agingAmount.intValue());
+			if (dirty.get(50))
+				myUpdate.setInt(p++, parentSuspended.intValue());
+			if (dirty.get(51))
+				myUpdate.setInt(p++, childSuspended.intValue());
+			if (dirty.get(52))
+				myUpdate.setInt(p++, warnCount.intValue());
+			if (dirty.get(53)) {
+				if (warnLink == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, warnLink.longValue());
+			}
+			if (dirty.get(54))
+				myUpdate.setLong (p++, submitTs.longValue());
+			if (dirty.get(55)) {
+				if (resumeTs == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, resumeTs.longValue());
+			}
+			if (dirty.get(56)) {
+				if (syncTs == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, syncTs.longValue());
+			}
+			if (dirty.get(57)) {
+				if (resourceTs == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, resourceTs.longValue());
+			}
+			if (dirty.get(58)) {
+				if (runnableTs == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, runnableTs.longValue());
+			}
+			if (dirty.get(59)) {
+				if (startTs == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, startTs.longValue());
+			}
+			if (dirty.get(60)) {
+				if (finishTs == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, finishTs.longValue());
+			}
+			if (dirty.get(61)) {
+				if (finalTs == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, finalTs.longValue());
+			}
+			if (dirty.get(62))
+				myUpdate.setInt(p++, cntSubmitted.intValue());
+			if (dirty.get(63))
+				myUpdate.setInt(p++, cntDependencyWait.intValue());
+			if (dirty.get(64))
+				myUpdate.setInt(p++, cntSynchronizeWait.intValue());
+			if (dirty.get(65))
+				myUpdate.setInt(p++, cntResourceWait.intValue());
+			if (dirty.get(66))
+				myUpdate.setInt(p++, cntRunnable.intValue());
+			if (dirty.get(67))
+				myUpdate.setInt(p++, cntStarting.intValue());
+			if (dirty.get(68))
+				myUpdate.setInt(p++, cntStarted.intValue());
+			if (dirty.get(69))
+				myUpdate.setInt(p++, cntRunning.intValue());
+			if (dirty.get(70))
+				myUpdate.setInt(p++, cntToKill.intValue());
+			if (dirty.get(71))
+				myUpdate.setInt(p++, cntKilled.intValue());
+			if (dirty.get(72))
+				myUpdate.setInt(p++, cntCancelled.intValue());
+			if (dirty.get(73))
+				myUpdate.setInt(p++, cntFinished.intValue());
+			if (dirty.get(74))
+				myUpdate.setInt(p++, cntFinal.intValue());
+			if (dirty.get(75))
+				myUpdate.setInt(p++, cntBrokenActive.intValue());
+			if (dirty.get(76))
+				myUpdate.setInt(p++, cntBrokenFinished.intValue());
+			if (dirty.get(77))
+				myUpdate.setInt(p++, cntError.intValue());
+			if (dirty.get(78))
+				myUpdate.setInt(p++, cntUnreachable.intValue());
+			if (dirty.get(79))
+				myUpdate.setInt(p++, cntRestartable.intValue());
+			if (dirty.get(80))
+				myUpdate.setInt(p++, cntWarn.intValue());
+			if (dirty.get(81))
+				myUpdate.setInt(p++, cntPending.intValue());
+			if (dirty.get(82)) {
+				if (idleTs == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, idleTs.intValue());
+			}
+			if (dirty.get(83)) {
+				if (idleTime == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, idleTime.intValue());
+			}
+			if (dirty.get(84)) {
+				if (statisticTs == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, statisticTs.intValue());
+			}
+			if (dirty.get(85)) {
+				if (dependencyWaitTime == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, dependencyWaitTime.intValue());
+			}
+			if (dirty.get(86)) {
+				if (suspendTime == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, suspendTime.intValue());
+			}
+			if (dirty.get(87)) {
+				if (syncTime == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, syncTime.intValue());
+			}
+			if (dirty.get(88)) {
+				if (resourceTime == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, resourceTime.intValue());
+			}
+			if (dirty.get(89)) {
+				if (jobserverTime == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, jobserverTime.intValue());
+			}
+			if (dirty.get(90)) {
+				if (restartableTime == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, restartableTime.intValue());
+			}
+			if (dirty.get(91)) {
+				if (childWaitTime == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setInt(p++, childWaitTime.intValue());
+			}
+			if (dirty.get(92)) {
+				if (opSusresTs == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, opSusresTs.longValue());
+			}
+			if (dirty.get(93)) {
+				if (npeId == null)
+					myUpdate.setNull(p++, Types.INTEGER);
+				else
+					myUpdate.setLong (p++, npeId.longValue());
+			}
+			if (dirty.get(94))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(95))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(96))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(97))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "SubmittedEntity: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
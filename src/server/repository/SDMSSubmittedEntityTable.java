@@ -374,6 +374,23 @@ public class SDMSSubmittedEntityTable extends SDMSSubmittedEntityTableGeneric
 		return sme;
 	}
 
+	// jobs of final masters released from memory might still be held by the history archive
+	public SDMSProxy get(SystemEnvironment env, Long id)
+		throws SDMSException
+	{
+		if (SDMSHistoryArchive.archive != null && id != null && !contains(id))
+			SDMSHistoryArchive.archive.faultIn(env, id);
+		return super.get(env, id);
+	}
+
+	public boolean exists(SystemEnvironment env, Long id)
+		throws SDMSException
+	{
+		if (SDMSHistoryArchive.archive != null && id != null && !contains(id))
+			SDMSHistoryArchive.archive.faultIn(env, id);
+		return super.exists(env, id);
+	}
+
 	protected SDMSObject rowToObject(SystemEnvironment env, ResultSet r)
 	throws SDMSException
 	{
@@ -732,61 +732,61 @@ public class SDMSSubmittedEntityTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			accessKey = new Long (r.getLong(2));
-			masterId = new Long (r.getLong(3));
+			id     = Long.valueOf (r.getLong(1));
+			accessKey = Long.valueOf (r.getLong(2));
+			masterId = Long.valueOf (r.getLong(3));
 			submitTag = r.getString(4);
 			if (r.wasNull()) submitTag = null;
-			unresolvedHandling = new Integer (r.getInt(5));
+			unresolvedHandling = Integer.valueOf (r.getInt(5));
 			if (r.wasNull()) unresolvedHandling = null;
-			seId = new Long (r.getLong(6));
+			seId = Long.valueOf (r.getLong(6));
 			childTag = r.getString(7);
 			if (r.wasNull()) childTag = null;
-			seVersion = new Long (r.getLong(8));
-			ownerId = new Long (r.getLong(9));
-			parentId = new Long (r.getLong(10));
+			seVersion = Long.valueOf (r.getLong(8));
+			ownerId = Long.valueOf (r.getLong(9));
+			parentId = Long.valueOf (r.getLong(10));
 			if (r.wasNull()) parentId = null;
-			scopeId = new Long (r.getLong(11));
+			scopeId = Long.valueOf (r.getLong(11));
 			if (r.wasNull()) scopeId = null;
-			isStatic = new Boolean ((r.getInt(12) == 0 ? false : true));
-			isDisabled = new Boolean ((r.getInt(13) == 0 ? false : true));
-			oldState = new Integer (r.getInt(14));
+			isStatic = Boolean.valueOf ((r.getInt(12) == 0 ? false : true));
+			isDisabled = Boolean.valueOf ((r.getInt(13) == 0 ? false : true));
+			oldState = Integer.valueOf (r.getInt(14));
 			if (r.wasNull()) oldState = null;
-			mergeMode = new Integer (r.getInt(15));
-			state = new Integer (r.getInt(16));
-			jobEsdId = new Long (r.getLong(17));
+			mergeMode = Integer.valueOf (r.getInt(15));
+			state = Integer.valueOf (r.getInt(16));
+			jobEsdId = Long.valueOf (r.getLong(17));
 			if (r.wasNull()) jobEsdId = null;
-			jobEsdPref = new Integer (r.getInt(18));
+			jobEsdPref = Integer.valueOf (r.getInt(18));
 			if (r.wasNull()) jobEsdPref = null;
-			jobIsFinal = new Boolean ((r.getInt(19) == 0 ? false : true));
-			jobIsRestartable = new Boolean ((r.getInt(20) == 0 ? false : true));
-			finalEsdId = new Long (r.getLong(21));
+			jobIsFinal = Boolean.valueOf ((r.getInt(19) == 0 ? false : true));
+			jobIsRestartable = Boolean.valueOf ((r.getInt(20) == 0 ? false : true));
+			finalEsdId = Long.valueOf (r.getLong(21));
 			if (r.wasNull()) finalEsdId = null;
-			exitCode = new Integer (r.getInt(22));
+			exitCode = Integer.valueOf (r.getInt(22));
 			if (r.wasNull()) exitCode = null;
 			commandline = r.getString(23);
 			if (r.wasNull()) commandline = null;
 			rrCommandline = r.getString(24);
 			if (r.wasNull()) rrCommandline = null;
-			rerunSeq = new Integer (r.getInt(25));
-			isReplaced = new Boolean ((r.getInt(26) == 0 ? false : true));
-			isCancelled = new Boolean ((r.getInt(27) == 0 ? false : true));
+			rerunSeq = Integer.valueOf (r.getInt(25));
+			isReplaced = Boolean.valueOf ((r.getInt(26) == 0 ? false : true));
+			isCancelled = Boolean.valueOf ((r.getInt(27) == 0 ? false : true));
 			if (r.wasNull()) isCancelled = null;
-			baseSmeId = new Long (r.getLong(28));
+			baseSmeId = Long.valueOf (r.getLong(28));
 			if (r.wasNull()) baseSmeId = null;
-			reasonSmeId = new Long (r.getLong(29));
+			reasonSmeId = Long.valueOf (r.getLong(29));
 			if (r.wasNull()) reasonSmeId = null;
-			fireSmeId = new Long (r.getLong(30));
+			fireSmeId = Long.valueOf (r.getLong(30));
 			if (r.wasNull()) fireSmeId = null;
-			fireSeId = new Long (r.getLong(31));
+			fireSeId = Long.valueOf (r.getLong(31));
 			if (r.wasNull()) fireSeId = null;
-			trId = new Long (r.getLong(32));
+			trId = Long.valueOf (r.getLong(32));
 			if (r.wasNull()) trId = null;
-			trSdIdOld = new Long (r.getLong(33));
+			trSdIdOld = Long.valueOf (r.getLong(33));
 			if (r.wasNull()) trSdIdOld = null;
-			trSdIdNew = new Long (r.getLong(34));
+			trSdIdNew = Long.valueOf (r.getLong(34));
 			if (r.wasNull()) trSdIdNew = null;
-			trSeq = new Integer (r.getInt(35));
+			trSeq = Integer.valueOf (r.getInt(35));
 			workdir = r.getString(36);
 			if (r.wasNull()) workdir = null;
 			logfile = r.getString(37);
@@ -799,87 +799,87 @@ public class SDMSSubmittedEntityTableGeneric extends SDMSTable
 			if (r.wasNull()) extPid = null;
 			errorMsg = r.getString(41);
 			if (r.wasNull()) errorMsg = null;
-			killId = new Long (r.getLong(42));
+			killId = Long.valueOf (r.getLong(42));
 			if (r.wasNull()) killId = null;
-			killExitCode = new Integer (r.getInt(43));
+			killExitCode = Integer.valueOf (r.getInt(43));
 			if (r.wasNull()) killExitCode = null;
-			isSuspended = new Integer (r.getInt(44));
-			isSuspendedLocal = new Boolean ((r.getInt(45) == 0 ? false : true));
+			isSuspended = Integer.valueOf (r.getInt(44));
+			isSuspendedLocal = Boolean.valueOf ((r.getInt(45) == 0 ? false : true));
 			if (r.wasNull()) isSuspendedLocal = null;
-			priority = new Integer (r.getInt(46));
-			rawPriority = new Integer (r.getInt(47));
-			nice = new Integer (r.getInt(48));
-			npNice = new Integer (r.getInt(49));
-			minPriority = new Integer (r.getInt(50));
-			agingAmount = new Integer (r.getInt(51));
-			parentSuspended = new Integer (r.getInt(52));
-			childSuspended = new Integer (r.getInt(53));
-			warnCount = new Integer (r.getInt(54));
-			warnLink = new Long (r.getLong(55));
+			priority = Integer.valueOf (r.getInt(46));
+			rawPriority = Integer.valueOf (r.getInt(47));
+			nice = Integer.valueOf (r.getInt(48));
+			npNice = Integer.valueOf (r.getInt(49));
+			minPriority = Integer.valueOf (r.getInt(50));
+			agingAmount = Integer.valueOf (r.getInt(51));
+			parentSuspended = Integer.valueOf (r.getInt(52));
+			childSuspended = Integer.valueOf (r.getInt(53));
+			warnCount = Integer.valueOf (r.getInt(54));
+			warnLink = Long.valueOf (r.getLong(55));
 			if (r.wasNull()) warnLink = null;
-			submitTs = new Long (r.getLong(56));
-			resumeTs = new Long (r.getLong(57));
+			submitTs = Long.valueOf (r.getLong(56));
+			resumeTs = Long.valueOf (r.getLong(57));
 			if (r.wasNull()) resumeTs = null;
-			syncTs = new Long (r.getLong(58));
+			syncTs = Long.valueOf (r.getLong(58));
 			if (r.wasNull()) syncTs = null;
-			resourceTs = new Long (r.getLong(59));
+			resourceTs = Long.valueOf (r.getLong(59));
 			if (r.wasNull()) resourceTs = null;
-			runnableTs = new Long (r.getLong(60));
+			runnableTs = Long.valueOf (r.getLong(60));
 			if (r.wasNull()) runnableTs = null;
-			startTs = new Long (r.getLong(61));
+			startTs = Long.valueOf (r.getLong(61));
 			if (r.wasNull()) startTs = null;
-			finishTs = new Long (r.getLong(62));
+			finishTs = Long.valueOf (r.getLong(62));
 			if (r.wasNull()) finishTs = null;
-			finalTs = new Long (r.getLong(63));
+			finalTs = Long.valueOf (r.getLong(63));
 			if (r.wasNull()) finalTs = null;
-			cntSubmitted = new Integer (r.getInt(64));
-			cntDependencyWait = new Integer (r.getInt(65));
-			cntSynchronizeWait = new Integer (r.getInt(66));
-			cntResourceWait = new Integer (r.getInt(67));
-			cntRunnable = new Integer (r.getInt(68));
-			cntStarting = new Integer (r.getInt(69));
-			cntStarted = new Integer (r.getInt(70));
-			cntRunning = new Integer (r.getInt(71));
-			cntToKill = new Integer (r.getInt(72));
-			cntKilled = new Integer (r.getInt(73));
-			cntCancelled = new Integer (r.getInt(74));
-			cntFinished = new Integer (r.getInt(75));
-			cntFinal = new Integer (r.getInt(76));
-			cntBrokenActive = new Integer (r.getInt(77));
-			cntBrokenFinished = new Integer (r.getInt(78));
-			cntError = new Integer (r.getInt(79));
-			cntUnreachable = new Integer (r.getInt(80));
-			cntRestartable = new Integer (r.getInt(81));
-			cntWarn = new Integer (r.getInt(82));
-			cntPending = new Integer (r.getInt(83));
-			idleTs = new Integer (r.getInt(84));
+			cntSubmitted = Integer.valueOf (r.getInt(64));
+			cntDependencyWait = Integer.valueOf (r.getInt(65));
+			cntSynchronizeWait = Integer.valueOf (r.getInt(66));
+			cntResourceWait = Integer.valueOf (r.getInt(67));
+			cntRunnable = Integer.valueOf (r.getInt(68));
+			cntStarting = Integer.valueOf (r.getInt(69));
+			cntStarted = Integer.valueOf (r.getInt(70));
+			cntRunning = Integer.valueOf (r.getInt(71));
+			cntToKill = Integer.valueOf (r.getInt(72));
+			cntKilled = Integer.valueOf (r.getInt(73));
+			cntCancelled = Integer.valueOf (r.getInt(74));
+			cntFinished = Integer.valueOf (r.getInt(75));
+			cntFinal = Integer.valueOf (r.getInt(76));
+			cntBrokenActive = Integer.valueOf (r.getInt(77));
+			cntBrokenFinished = Integer.valueOf (r.getInt(78));
+			cntError = Integer.valueOf (r.getInt(79));
+			cntUnreachable = Integer.valueOf (r.getInt(80));
+			cntRestartable = Integer.valueOf (r.getInt(81));
+			cntWarn = Integer.valueOf (r.getInt(82));
+			cntPending = Integer.valueOf (r.getInt(83));
+			idleTs = Integer.valueOf (r.getInt(84));
 			if (r.wasNull()) idleTs = null;
-			idleTime = new Integer (r.getInt(85));
+			idleTime = Integer.valueOf (r.getInt(85));
 			if (r.wasNull()) idleTime = null;
-			statisticTs = new Integer (r.getInt(86));
+			statisticTs = Integer.valueOf (r.getInt(86));
 			if (r.wasNull()) statisticTs = null;
-			dependencyWaitTime = new Integer (r.getInt(87));
+			dependencyWaitTime = Integer.valueOf (r.getInt(87));
 			if (r.wasNull()) dependencyWaitTime = null;
-			suspendTime = new Integer (r.getInt(88));
+			suspendTime = Integer.valueOf (r.getInt(88));
 			if (r.wasNull()) suspendTime = null;
-			syncTime = new Integer (r.getInt(89));
+			syncTime = Integer.valueOf (r.getInt(89));
 			if (r.wasNull()) syncTime = null;
-			resourceTime = new Integer (r.getInt(90));
+			resourceTime = Integer.valueOf (r.getInt(90));
 			if (r.wasNull()) resourceTime = null;
-			jobserverTime = new Integer (r.getInt(91));
+			jobserverTime = Integer.valueOf (r.getInt(91));
 			if (r.wasNull()) jobserverTime = null;
-			restartableTime = new Integer (r.getInt(92));
+			restartableTime = Integer.valueOf (r.getInt(92));
 			if (r.wasNull()) restartableTime = null;
-			childWaitTime = new Integer (r.getInt(93));
+			childWaitTime = Integer.valueOf (r.getInt(93));
 			if (r.wasNull()) childWaitTime = null;
-			opSusresTs = new Long (r.getLong(94));
+			opSusresTs = Long.valueOf (r.getLong(94));
 			if (r.wasNull()) opSusresTs = null;
-			npeId = new Long (r.getLong(95));
+			npeId = Long.valueOf (r.getLong(95));
 			if (r.wasNull()) npeId = null;
-			creatorUId = new Long (r.getLong(96));
-			createTs = new Long (r.getLong(97));
-			changerUId = new Long (r.getLong(98));
-			changeTs = new Long (r.getLong(99));
+			creatorUId = Long.valueOf (r.getLong(96));
+			createTs = Long.valueOf (r.getLong(97));
+			changerUId = Long.valueOf (r.getLong(98));
+			changeTs = Long.valueOf (r.getLong(99));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -992,123 +992,113 @@ public class SDMSSubmittedEntityTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "ACCESS_KEY" + equote +
-		                                   ", " + squote + "MASTER_ID" + equote +
-		                                   ", " + squote + "SUBMIT_TAG" + equote +
-		                                   ", " + squote + "UNRESOLVED_HANDLING" + equote +
-		                                   ", " + squote + "SE_ID" + equote +
-		                                   ", " + squote + "CHILD_TAG" + equote +
-		                                   ", " + squote + "SE_VERSION" + equote +
-		                                   ", " + squote + "OWNER_ID" + equote +
-		                                   ", " + squote + "PARENT_ID" + equote +
-		                                   ", " + squote + "SCOPE_ID" + equote +
-		                                   ", " + squote + "IS_STATIC" + equote +
-		                                   ", " + squote + "IS_DISABLED" + equote +
-		                                   ", " + squote + "OLD_STATE" + equote +
-		                                   ", " + squote + "MERGE_MODE" + equote +
-		                                   ", " + squote + "STATE" + equote +
-		                                   ", " + squote + "JOB_ESD_ID" + equote +
-		                                   ", " + squote + "JOB_ESD_PREF" + equote +
-		                                   ", " + squote + "JOB_IS_FINAL" + equote +
-		                                   ", " + squote + "JOB_IS_RESTARTABLE" + equote +
-		                                   ", " + squote + "FINAL_ESD_ID" + equote +
-		                                   ", " + squote + "EXIT_CODE" + equote +
-		                                   ", " + squote + "COMMANDLINE" + equote +
-		                                   ", " + squote + "RR_COMMANDLINE" + equote +
-		                                   ", " + squote + "RERUN_SEQ" + equote +
-		                                   ", " + squote + "IS_REPLACED" + equote +
-		                                   ", " + squote + "IS_CANCELLED" + equote +
-		                                   ", " + squote + "BASE_SME_ID" + equote +
-		                                   ", " + squote + "REASON_SME_ID" + equote +
-		                                   ", " + squote + "FIRE_SME_ID" + equote +
-		                                   ", " + squote + "FIRE_SE_ID" + equote +
-		                                   ", " + squote + "TR_ID" + equote +
-		                                   ", " + squote + "TR_SD_ID_OLD" + equote +
-		                                   ", " + squote + "TR_SD_ID_NEW" + equote +
-		                                   ", " + squote + "TR_SEQ" + equote +
-		                                   ", " + squote + "WORKDIR" + equote +
-		                                   ", " + squote + "LOGFILE" + equote +
-		                                   ", " + squote + "ERRLOGFILE" + equote +
-		                                   ", " + squote + "PID" + equote +
-		                                   ", " + squote + "EXTPID" + equote +
-		                                   ", " + squote + "ERROR_MSG" + equote +
-		                                   ", " + squote + "KILL_ID" + equote +
-		                                   ", " + squote + "KILL_EXIT_CODE" + equote +
-		                                   ", " + squote + "IS_SUSPENDED" + equote +
-		                                   ", " + squote + "IS_SUSPENDED_LOCAL" + equote +
-		                                   ", " + squote + "PRIORITY" + equote +
-		                                   ", " + squote + "RAW_PRIORITY" + equote +
-		                                   ", " + squote + "NICE" + equote +
-		                                   ", " + squote + "NP_NICE" + equote +
-		                                   ", " + squote + "MIN_PRIORITY" + equote +
-		                                   ", " + squote + "AGING_AMOUNT" + equote +
-		                                   ", " + squote + "PARENT_SUSPENDED" + equote +
-		                                   ", " + squote + "CHILD_SUSPENDED" + equote +
-		                                   ", " + squote + "WARN_COUNT" + equote +
-		                                   ", " + squote + "WARN_LINK" + equote +
-		                                   ", " + squote + "SUBMIT_TS" + equote +
-		                                   ", " + squote + "RESUME_TS" + equote +
-		                                   ", " + squote + "SYNC_TS" + equote +
-		                                   ", " + squote + "RESOURCE_TS" + equote +
-		                                   ", " + squote + "RUNNABLE_TS" + equote +
-		                                   ", " + squote + "START_TS" + equote +
-		                                   ", " + squote + "FINSH_TS" + equote +
-		                                   ", " + squote + "FINAL_TS" + equote +
-		                                   ", " + squote + "CNT_SUBMITTED" + equote +
-		                                   ", " + squote + "CNT_DEPENDENCY_WAIT" + equote +
-		                                   ", " + squote + "CNT_SYNCHRONIZE_WAIT" + equote +
-		                                   ", " + squote + "CNT_RESOURCE_WAIT" + equote +
-		                                   ", " + squote + "CNT_RUNNABLE" + equote +
-		                                   ", " + squote + "CNT_STARTING" + equote +
-		                                   ", " + squote + "CNT_STARTED" + equote +
-		                                   ", " + squote + "CNT_RUNNING" + equote +
-		                                   ", " + squote + "CNT_TO_KILL" + equote +
-		                                   ", " + squote + "CNT_KILLED" + equote +
-		                                   ", " + squote + "CNT_CANCELLED" + equote +
-		                                   ", " + squote + "CNT_FINISHED" + equote +
-		                                   ", " + squote + "CNT_FINAL" + equote +
-		                                   ", " + squote + "CNT_BROKEN_ACTIVE" + equote +
-		                                   ", " + squote + "CNT_BROKEN_FINISHED" + equote +
-		                                   ", " + squote + "CNT_ERROR" + equote +
-		                                   ", " + squote + "CNT_UNREACHABLE" + equote +
-		                                   ", " + squote + "CNT_RESTARTABLE" + equote +
-		                                   ", " + squote + "CNT_WARN" + equote +
-		                                   ", " + squote + "CNT_PENDING" + equote +
-		                                   ", " + squote + "IDLE_TS" + equote +
-		                                   ", " + squote + "IDLE_TIME" + equote +
-		                                   ", " + squote + "STATISTIC_TS" + equote +
-		                                   ", " + squote + "DEPENDENCY_WAIT_TIME" + equote +
-		                                   ", " + squote + "SUSPEND_TIME" + equote +
-		                                   ", " + squote + "SYNC_TIME" + equote +
-		                                   ", " + squote + "RESOURCE_TIME" + equote +
-		                                   ", " + squote + "JOBSERVER_TIME" + equote +
-		                                   ", " + squote + "RESTARTABLE_TIME" + equote +
-		                                   ", " + squote + "CHILD_WAIT_TIME" + equote +
-		                                   ", " + squote + "OP_SUSRES_TS" + equote +
-		                                   ", " + squote + "NPE_ID" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   "  FROM " + tableName() + ", " +
-		                                   "       SME2LOAD " +
-		                                   " WHERE " + tableName() + ".ID = SME2LOAD.ID"
-		                                  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "ACCESS_KEY" + equote +
+		               ", " + squote + "MASTER_ID" + equote +
+		               ", " + squote + "SUBMIT_TAG" + equote +
+		               ", " + squote + "UNRESOLVED_HANDLING" + equote +
+		               ", " + squote + "SE_ID" + equote +
+		               ", " + squote + "CHILD_TAG" + equote +
+		               ", " + squote + "SE_VERSION" + equote +
+		               ", " + squote + "OWNER_ID" + equote +
+		               ", " + squote + "PARENT_ID" + equote +
+		               ", " + squote + "SCOPE_ID" + equote +
+		               ", " + squote + "IS_STATIC" + equote +
+		               ", " + squote + "IS_DISABLED" + equote +
+		               ", " + squote + "OLD_STATE" + equote +
+		               ", " + squote + "MERGE_MODE" + equote +
+		               ", " + squote + "STATE" + equote +
+		               ", " + squote + "JOB_ESD_ID" + equote +
+		               ", " + squote + "JOB_ESD_PREF" + equote +
+		               ", " + squote + "JOB_IS_FINAL" + equote +
+		               ", " + squote + "JOB_IS_RESTARTABLE" + equote +
+		               ", " + squote + "FINAL_ESD_ID" + equote +
+		               ", " + squote + "EXIT_CODE" + equote +
+		               ", " + squote + "COMMANDLINE" + equote +
+		               ", " + squote + "RR_COMMANDLINE" + equote +
+		               ", " + squote + "RERUN_SEQ" + equote +
+		               ", " + squote + "IS_REPLACED" + equote +
+		               ", " + squote + "IS_CANCELLED" + equote +
+		               ", " + squote + "BASE_SME_ID" + equote +
+		               ", " + squote + "REASON_SME_ID" + equote +
+		               ", " + squote + "FIRE_SME_ID" + equote +
+		               ", " + squote + "FIRE_SE_ID" + equote +
+		               ", " + squote + "TR_ID" + equote +
+		               ", " + squote + "TR_SD_ID_OLD" + equote +
+		               ", " + squote + "TR_SD_ID_NEW" + equote +
+		               ", " + squote + "TR_SEQ" + equote +
+		               ", " + squote + "WORKDIR" + equote +
+		               ", " + squote + "LOGFILE" + equote +
+		               ", " + squote + "ERRLOGFILE" + equote +
+		               ", " + squote + "PID" + equote +
+		               ", " + squote + "EXTPID" + equote +
+		               ", " + squote + "ERROR_MSG" + equote +
+		               ", " + squote + "KILL_ID" + equote +
+		               ", " + squote + "KILL_EXIT_CODE" + equote +
+		               ", " + squote + "IS_SUSPENDED" + equote +
+		               ", " + squote + "IS_SUSPENDED_LOCAL" + equote +
+		               ", " + squote + "PRIORITY" + equote +
+		               ", " + squote + "RAW_PRIORITY" + equote +
+		               ", " + squote + "NICE" + equote +
+		               ", " + squote + "NP_NICE" + equote +
+		               ", " + squote + "MIN_PRIORITY" + equote +
+		               ", " + squote + "AGING_AMOUNT" + equote +
+		               ", " + squote + "PARENT_SUSPENDED" + equote +
+		               ", " + squote + "CHILD_SUSPENDED" + equote +
+		               ", " + squote + "WARN_COUNT" + equote +
+		               ", " + squote + "WARN_LINK" + equote +
+		               ", " + squote + "SUBMIT_TS" + equote +
+		               ", " + squote + "RESUME_TS" + equote +
+		               ", " + squote + "SYNC_TS" + equote +
+		               ", " + squote + "RESOURCE_TS" + equote +
+		               ", " + squote + "RUNNABLE_TS" + equote +
+		               ", " + squote + "START_TS" + equote +
+		               ", " + squote + "FINSH_TS" + equote +
+		               ", " + squote + "FINAL_TS" + equote +
+		               ", " + squote + "CNT_SUBMITTED" + equote +
+		               ", " + squote + "CNT_DEPENDENCY_WAIT" + equote +
+		               ", " + squote + "CNT_SYNCHRONIZE_WAIT" + equote +
+		               ", " + squote + "CNT_RESOURCE_WAIT" + equote +
+		               ", " + squote + "CNT_RUNNABLE" + equote +
+		               ", " + squote + "CNT_STARTING" + equote +
+		               ", " + squote + "CNT_STARTED" + equote +
+		               ", " + squote + "CNT_RUNNING" + equote +
+		               ", " + squote + "CNT_TO_KILL" + equote +
+		               ", " + squote + "CNT_KILLED" + equote +
+		               ", " + squote + "CNT_CANCELLED" + equote +
+		               ", " + squote + "CNT_FINISHED" + equote +
+		               ", " + squote + "CNT_FINAL" + equote +
+		               ", " + squote + "CNT_BROKEN_ACTIVE" + equote +
+		               ", " + squote + "CNT_BROKEN_FINISHED" + equote +
+		               ", " + squote + "CNT_ERROR" + equote +
+		               ", " + squote + "CNT_UNREACHABLE" + equote +
+		               ", " + squote + "CNT_RESTARTABLE" + equote +
+		               ", " + squote + "CNT_WARN" + equote +
+		               ", " + squote + "CNT_PENDING" + equote +
+		               ", " + squote + "IDLE_TS" + equote +
+		               ", " + squote + "IDLE_TIME" + equote +
+		               ", " + squote + "STATISTIC_TS" + equote +
+		               ", " + squote + "DEPENDENCY_WAIT_TIME" + equote +
+		               ", " + squote + "SUSPEND_TIME" + equote +
+		               ", " + squote + "SYNC_TIME" + equote +
+		               ", " + squote + "RESOURCE_TIME" + equote +
+		               ", " + squote + "JOBSERVER_TIME" + equote +
+		               ", " + squote + "RESTARTABLE_TIME" + equote +
+		               ", " + squote + "CHILD_WAIT_TIME" + equote +
+		               ", " + squote + "OP_SUSRES_TS" + equote +
+		               ", " + squote + "NPE_ID" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               "  FROM " + tableName() + ", " +
+		               "       SME2LOAD " +
+		               " WHERE " + tableName() + ".ID = SME2LOAD.ID"
+		              );
 	}
 
 	public String checkIndex(SDMSObject o)
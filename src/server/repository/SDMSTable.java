@@ -28,6 +28,8 @@ package de.independit.scheduler.server.repository;
 
 import java.lang.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.sql.*;
 import de.independit.scheduler.server.*;
 import de.independit.scheduler.server.util.*;
@@ -38,22 +40,29 @@ public abstract class SDMSTable
 {
 	public static final String __version = "@(#) $Id: SDMSTable.java,v 2.15.2.1 2013/03/14 10:25:26 ronald Exp $";
 
-	private HashMap hashMap = null;
+	// The map is accessed by all workers and internal threads concurrently.
+	// Reads don't lock at all, writes only lock a single bin of the map.
+	private ConcurrentHashMap<Long,SDMSVersions> hashMap = null;
 	protected boolean hashMapTrace = false;
 
 	protected void hashMapRemove(Object id)
 	{
 		if (hashMapTrace)
 			System.out.println (tableName() + ":hashMapRemove(" + id + ")");
-		synchronized(hashMap) {
+		if (id != null)
 			hashMap.remove(id);
-		}
 	}
 
 	protected int tableIndex;
 
 	protected boolean isVersioned;
 
+	// progress of a load which might be split into several ID ranges
+	private final AtomicLong loadRead = new AtomicLong(0);
+	private final AtomicLong loadLoaded = new AtomicLong(0);
+	private final AtomicInteger loadPending = new AtomicInteger(0);
+	private long loadStart = 0;
+
 	public final static String STAT_ID_COUNT      = "ID_COUNT";
 	public final static String STAT_VERSION_COUNT = "VERSION_COUNT";
 	public final static String STAT_LOW_VERSION   = "LOW_VERSION";
@@ -66,7 +75,7 @@ public abstract class SDMSTable
 			throw new FatalException (new SDMSMessage(env,
 					"03110251129", "Tried to initialize table twice"));
 		}
-		hashMap = new HashMap();
+		hashMap = new ConcurrentHashMap<Long,SDMSVersions>();
 		isVersioned = true;
 		tableIndex = SDMSRepository.getTableIndex();
 	}
@@ -121,12 +130,11 @@ public abstract class SDMSTable
 		Vector r = new Vector();
 		SDMSVersions v;
 		SDMSProxy p = null;
-		Object va[];
-		synchronized(hashMap) {
-		va = hashMap.values().toArray();
-		}
-		for (int i = 0; i < va.length; ++i) {
-			v = (SDMSVersions) va[i];
+		// the values view is weakly consistent; objects inserted or removed
+		// concurrently may or may not be seen, which is what the versioning expects anyway
+		Iterator<SDMSVersions> vi = hashMap.values().iterator();
+		while (vi.hasNext()) {
+			v = vi.next();
 			if (env.tx.mode == SDMSTransaction.READWRITE && env.maxWriter > 1 && !unlocked)
 				LockingSystem.lock(env, v, readLock);
 			SDMSObject o = v.getRaw(env, unlocked);
@@ -146,9 +154,7 @@ public abstract class SDMSTable
 
 	public int rawSize()
 	{
-		synchronized(hashMap) {
-			return hashMap.size();
-		}
+		return hashMap.size();
 	}
 
 	public void clearTableUnlocked(SystemEnvironment env)
@@ -169,22 +175,118 @@ public abstract class SDMSTable
 	protected abstract SDMSObject rowToObject(SystemEnvironment env, ResultSet r)
 		throws SDMSException;
 
+	// Called by the generated loadTable() with the query selecting all rows to load.
+	// Large tables are split into ID ranges, which are loaded by the free TableLoaders.
+	protected void loadTable(SystemEnvironment env, String query)
+		throws SQLException, SDMSException
+	{
+		loadStart = System.currentTimeMillis();
+		loadRead.set(0);
+		loadLoaded.set(0);
+		Vector<LoadUnit> units = null;
+		String firstQuery = query;
+		try {
+			long ranges[] = getLoadRanges(env);
+			if (ranges != null) {
+				int n = ranges.length / 2;
+				loadPending.set(n);
+				units = new Vector<LoadUnit>();
+				for (int i = 1; i < n; ++i)
+					units.add(new LoadUnit(this, rangeQuery(query, ranges[2 * i], ranges[2 * i + 1])));
+				firstQuery = rangeQuery(query, ranges[0], ranges[1]);
+				SDMSThread.doTrace(null, "Loading " + tableName() + " in " + n + " ID ranges", SDMSThread.SEVERITY_INFO);
+			} else
+				loadPending.set(1);
+		} finally {
+			SystemEnvironment.repository.addLoadUnits(units);
+		}
+		loadRange(env, firstQuery);
+	}
+
+	// returns the pairs of the lower and upper bounds of the ID ranges, or null if the table isn't split
+	private long[] getLoadRanges(SystemEnvironment env)
+		throws SQLException
+	{
+		if (SystemEnvironment.dbLoaders < 2 || SystemEnvironment.dbLoadPartitionSize == 0)
+			return null;
+		long min, max, cnt;
+		Statement stmt = env.dbConnection.createStatement();
+		try {
+			ResultSet rset = stmt.executeQuery("SELECT MIN(ID), MAX(ID), COUNT(*) FROM " + tableName());
+			if (!rset.next())
+				return null;
+			min = rset.getLong(1);
+			max = rset.getLong(2);
+			cnt = rset.getLong(3);
+		} finally {
+			stmt.close();
+		}
+		long n = Math.min(cnt / SystemEnvironment.dbLoadPartitionSize, 2 * SystemEnvironment.dbLoaders);
+		if (n < 2)
+			return null;
+		long step = (max - min) / n + 1;
+		long ranges[] = new long[(int) (2 * n)];
+		for (int i = 0; i < n; ++i) {
+			ranges[2 * i] = min + i * step;
+			ranges[2 * i + 1] = (i == n - 1 ? max : min + (i + 1) * step - 1);
+		}
+		return ranges;
+	}
+
+	private String rangeQuery(String query, long low, long high)
+	{
+		return query + (query.indexOf(" WHERE ") >= 0 ? " AND " : " WHERE ") +
+		       tableName() + ".ID BETWEEN " + low + " AND " + high;
+	}
+
+	// Reads the rows selected by query. The objects are created by the calling thread,
+	// they are added to the table and its indexes by a separate LoadIndexer thread.
+	protected void loadRange(SystemEnvironment env, String query)
+		throws SQLException, SDMSException
+	{
+		int read = 0;
+		LoadIndexer indexer = new LoadIndexer(this, env);
+		indexer.start();
+		Statement stmt = env.dbConnection.createStatement();
+		try {
+			stmt.setFetchSize(SystemEnvironment.dbFetchSize);
+			ResultSet rset = stmt.executeQuery(query);
+			while(rset.next()) {
+				indexer.post(rowToObject(env, rset));
+				++read;
+			}
+		} finally {
+			stmt.close();
+			indexer.finish();
+		}
+		indexer.checkError();
+		long totalRead = loadRead.addAndGet(read);
+		long totalLoaded = loadLoaded.addAndGet(indexer.loaded);
+		if (loadPending.decrementAndGet() == 0) {
+			long ms = System.currentTimeMillis() - loadStart;
+			SDMSThread.doTrace(null, "Read " + totalRead + ", Loaded " + totalLoaded + " rows for " + tableName() +
+			                   " in " + ms + " ms (" + (totalRead * 1000 / (ms == 0 ? 1 : ms)) + " rows/s)", SDMSThread.SEVERITY_INFO);
+		}
+	}
+
 	protected boolean loadObject(SystemEnvironment env, ResultSet r)
 		throws SDMSException
+	{
+		return addLoadedObject(env, rowToObject (env, r));
+	}
+
+	protected boolean addLoadedObject(SystemEnvironment env, SDMSObject o)
+		throws SDMSException
 	{
 		SDMSVersions versions;
-		SDMSObject   o;
 
-		o = rowToObject (env, r);
 		if(o == null) return false;
-		synchronized(hashMap) {
-			versions = (SDMSVersions)hashMap.get(o.id);
-		}
+		versions = hashMap.get(o.id);
 		if (versions == null) {
-			versions = new SDMSVersions(this, o.id);
-			synchronized(hashMap) {
-				hashMap.put(o.id, versions);
-			}
+			SDMSVersions nv = new SDMSVersions(this, o.id);
+			versions = hashMap.putIfAbsent(o.id, nv);
+			if (versions == null)
+				versions = nv;
 		}
 		o.versions = versions;
 		versions.add(env, o);
@@ -205,6 +307,20 @@ public abstract class SDMSTable
 		return true;
 	}
 
+	// Puts an object faulted in from the history archive back into the table.
+	// The caller might be a reader, hence the buckets of the indexes aren't locked.
+	protected void addArchivedObject(SystemEnvironment env, SDMSObject o)
+		throws SDMSException
+	{
+		SDMSVersions versions = new SDMSVersions(this, o.id);
+		versions.add(env, o);
+		if (hashMap.putIfAbsent(o.id, versions) != null) {
+			throw new FatalException (new SDMSMessage(env,
+					"03610181700", "Duplicate id $1 during fault in", o.id));
+		}
+		index(env, o, 0);
+	}
+
 	protected void remove(SystemEnvironment env, Long id)
 		throws SDMSException
 	{
@@ -235,9 +351,8 @@ public abstract class SDMSTable
 		SDMSProxy p;
 		SDMSVersions versions;
 
-		synchronized (hashMap) {
-			versions = (SDMSVersions)hashMap.get (id);
-		}
+		// the ConcurrentHashMap doesn't accept null keys
+		versions = (id == null ? null : hashMap.get (id));
 		if(versions == null) {
 			throw new NotFoundException (new SDMSMessage(env, "03110251037", "Key $1 not found (" + this.getClass().getName() + ")", id));
 		}
@@ -257,25 +372,21 @@ public abstract class SDMSTable
 
 	public SDMSVersions getVersions(Long id)
 	{
-		synchronized (hashMap) {
-			return (SDMSVersions)hashMap.get (id);
-		}
+		if (id == null) return null;
+		return hashMap.get (id);
 	}
 
 	public boolean contains(Long id)
 	{
-		synchronized (hashMap) {
-			return hashMap.containsKey (id);
-		}
+		if (id == null) return false;
+		return hashMap.containsKey (id);
 	}
 
 	public SDMSProxy get (SystemEnvironment env, Long id, long version)
 		throws SDMSException
 	{
 		SDMSVersions versions;
-		synchronized (hashMap) {
-			versions = (SDMSVersions)(hashMap.get (id));
-		}
+		versions = (id == null ? null : hashMap.get (id));
 		if(versions == null) {
 			throw new NotFoundException (new SDMSMessage(env, "03110251039", "Key $1 not found", id));
 		}
@@ -290,9 +401,7 @@ public abstract class SDMSTable
 
 		SDMSVersions versions;
 
-		synchronized (hashMap) {
-			versions = (SDMSVersions)hashMap.get (id);
-		}
+		versions = (id == null ? null : hashMap.get (id));
 		if(versions == null) {
 			return false;
 		}
@@ -312,17 +421,13 @@ public abstract class SDMSTable
 	protected void put(SystemEnvironment env, Long id, SDMSVersions versions)
 		throws SDMSException
 	{
-		synchronized (hashMap) {
-			if (hashMapTrace)
-				System.out.println (tableName() + ":hashMap.put(" + id + ")");
-			hashMap.put(id, versions);
-		}
+		if (hashMapTrace)
+			System.out.println (tableName() + ":hashMap.put(" + id + ")");
+		hashMap.put(id, versions);
 		try {
 			index(env, (SDMSObject)(versions.o_v.getLast()));
 		} catch(SDMSException e) {
-			synchronized (hashMap) {
-				hashMapRemove(id);
-			}
+			hashMapRemove(id);
 			throw e;
 		}
 	}
@@ -332,12 +437,10 @@ public abstract class SDMSTable
 	{
 		SDMSVersions v;
 
-		synchronized(hashMap) {
-			Iterator i = hashMap.values().iterator();
-			while(i.hasNext()) {
-				v = (SDMSVersions) i.next();
-				v.dump();
-			}
+		Iterator i = hashMap.values().iterator();
+		while(i.hasNext()) {
+			v = (SDMSVersions) i.next();
+			v.dump();
 		}
 	}
 
@@ -356,18 +459,16 @@ public abstract class SDMSTable
 		long maxVersions = 0;
 		long countVersions = 0;
 
-		synchronized(hashMap) {
-			Iterator i = hashMap.values().iterator();
-			while(i.hasNext()) {
-				countIds++;
-				SDMSVersions v = (SDMSVersions) i.next();
-				HashMap vStat = v.stat(sysEnv);
-				long vVersionsCount = ((Long)(vStat.get(SDMSVersions.STAT_VERSION_COUNT))).longValue();
-				countVersions += vVersionsCount;
-				if (vVersionsCount > maxVersions) maxVersions = vVersionsCount;
-				long vLowVersion = ((Long)(vStat.get(SDMSVersions.STAT_LOW_VERSION))).longValue();
-				if (vLowVersion < lowVersion) lowVersion = vLowVersion;
-			}
+		Iterator i = hashMap.values().iterator();
+		while(i.hasNext()) {
+			countIds++;
+			SDMSVersions v = (SDMSVersions) i.next();
+			HashMap vStat = v.stat(sysEnv);
+			long vVersionsCount = ((Long)(vStat.get(SDMSVersions.STAT_VERSION_COUNT))).longValue();
+			countVersions += vVersionsCount;
+			if (vVersionsCount > maxVersions) maxVersions = vVersionsCount;
+			long vLowVersion = ((Long)(vStat.get(SDMSVersions.STAT_LOW_VERSION))).longValue();
+			if (vLowVersion < lowVersion) lowVersion = vLowVersion;
 		}
 		result.put(STAT_ID_COUNT, new Long(countIds));
 		result.put(STAT_VERSION_COUNT, new Long(countVersions));
@@ -377,3 +478,102 @@ public abstract class SDMSTable
 		return result;
 	}
 }
+
+class LoadIndexer extends SDMSThread
+{
+	private final static int QUEUE_SIZE = 1000;
+	private final static Object END = new Object();
+
+	private final SDMSTable table;
+	private SystemEnvironment sysEnv;
+	private final ArrayBlockingQueue<Object> queue = new ArrayBlockingQueue<Object>(QUEUE_SIZE);
+	private SDMSException error = null;
+	protected int loaded = 0;
+
+	public LoadIndexer(SDMSTable table, SystemEnvironment env)
+		throws SDMSException
+	{
+		super("LoadIndexer(" + table.tableName() + ")");
+		this.table = table;
+		try {
+			sysEnv = (SystemEnvironment) env.clone();
+		} catch (CloneNotSupportedException cnse) {
+			throw new FatalException(new SDMSMessage(env, "03610181610", "Error Cloning System Environment"));
+		}
+	}
+
+	public int id()
+	{
+		return 0;
+	}
+
+	// objects are posted by the reading thread; a null object is a row which isn't loaded
+	protected void post(SDMSObject o)
+		throws SDMSException
+	{
+		if (o == null)
+			return;
+		try {
+			while (!queue.offer(o, 1000, TimeUnit.MILLISECONDS)) {
+				if (!isAlive())
+					break;
+			}
+		} catch (InterruptedException ie) {
+			throw new FatalException(new SDMSMessage(sysEnv, "03610181611", "Interrupted while loading $1", table.tableName()));
+		}
+		checkError();
+	}
+
+	protected void finish()
+	{
+		boolean interrupted = false;
+		while (isAlive()) {
+			try {
+				if (queue.offer(END, 1000, TimeUnit.MILLISECONDS))
+					break;
+			} catch (InterruptedException ie) {
+				interrupted = true;
+			}
+		}
+		while (true) {
+			try {
+				join();
+			} catch (InterruptedException ie) {
+				interrupted = true;
+				continue;
+			}
+			break;
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+
+	protected synchronized void checkError()
+		throws SDMSException
+	{
+		if (error != null)
+			throw error;
+	}
+
+	public void SDMSrun()
+	{
+		sysEnv.thread = this;
+		try {
+			while (true) {
+				Object o = queue.take();
+				if (o == END)
+					break;
+				if (table.addLoadedObject(sysEnv, (SDMSObject) o))
+					++loaded;
+			}
+		} catch (InterruptedException ie) {
+			synchronized (this) {
+				error = new FatalException(new SDMSMessage(sysEnv, "03610181612", "Interrupted while loading $1", table.tableName()));
+			}
+		} catch (SDMSException e) {
+			synchronized (this) {
+				error = e;
+			}
+		}
+	}
+}
@@ -371,7 +371,7 @@ public class SDMSTemplateVariableGeneric extends SDMSObject
 			myInsert.setLong (8, changeTs.longValue());
 			myInsert.setLong(9, env.tx.versionId);
 			myInsert.setLong(10, Long.MAX_VALUE);
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "TemplateVariable: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -421,7 +421,7 @@ public class SDMSTemplateVariableGeneric extends SDMSObject
 			myUpdate.setLong(2, changeTs.longValue());
 			myUpdate.setLong(3, changerUId.longValue());
 			myUpdate.setLong(4, id.longValue());
-			myUpdate.executeUpdate();
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181956", "TemplateVariable: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -79,6 +79,13 @@ public class SDMSTransaction
 
 	public boolean traceSubTx = false;
 
+	// rows written and statements sent to the database by the last flush
+	public int flushRows = 0;
+	public int flushRoundTrips = 0;
+
+	// the statements batched during a flush; at most one of them has pending rows at any time
+	private LinkedHashMap<PreparedStatement, int[]> batch = null;
+
 	public SDMSTransaction(SystemEnvironment env, int m, Long version)
 		throws SDMSException
 	{
@@ -225,18 +232,36 @@ public class SDMSTransaction
 		SDMSChangeListElement ce;
 
 		int lockmode = ObjectLock.SHARED;
+		SDMSGroupCommit.Group group = null;
 		if (isCommit) {
-			boolean again = true;
+			if (env.maxWriter > 1 && SystemEnvironment.groupCommitWindow > 0)
+				group = SDMSGroupCommit.commit(env, this);
+			if (group != null) {
+				// the changes have been committed through the connection of the group leader,
+				// the transaction still open on our own connection holds no changes and is ended here.
+				// A failure must not prevent us from taking our turn below, the later members wait for it.
+				try {
+					env.dbConnection.rollback();
+				} catch (SQLException sqle) {
+					SDMSThread.doTrace(null, "Rollback after group commit failed (ignored) : " + sqle.toString(), SDMSThread.SEVERITY_WARNING);
+				}
+			}
+			boolean again = (group == null);
 			while (again) {
 				again = false;
 				if (env.maxWriter > 1)
 					LockingSystem.lock(env, commitLock, lockmode);
 				try {
+					flushRows = 0;
+					flushRoundTrips = 0;
+					if (SystemEnvironment.dbBatchSize > 1)
+						batch = new LinkedHashMap<PreparedStatement, int[]>();
 					i = touchList.iterator();
 					while(i.hasNext()) {
 						ce = (SDMSChangeListElement) i.next();
 						ce.versions.flush(env, ce.isNew);
 					}
+					executeBatches(env);
 				} catch (SDMSSQLException sqle) {
 					if (lockmode == ObjectLock.EXCLUSIVE) {
 						throw sqle;
@@ -250,6 +275,8 @@ public class SDMSTransaction
 						LockingSystem.release(env, commitLock);
 
 					continue;
+				} finally {
+					clearBatches();
 				}
 
 				SystemEnvironment.ticketThread.renewTicket(env);
@@ -262,18 +289,188 @@ public class SDMSTransaction
 			env.dbConnection.rollback();
 		}
 
-		i = touchList.iterator();
-		while(i.hasNext()) {
-			ce = (SDMSChangeListElement) i.next();
-			ce.versions.commitOrRollback(env, versionId, ce.isNew, isCommit);
+		if (group != null)
+			group.awaitTurn(this);
+		try {
+			i = touchList.iterator();
+			while(i.hasNext()) {
+				ce = (SDMSChangeListElement) i.next();
+				ce.versions.commitOrRollback(env, versionId, ce.isNew, isCommit);
+			}
+		} finally {
+			if (group != null)
+				group.turnDone();
 		}
 		if (env.maxWriter > 1)
 			LockingSystem.release(env);
 		nextId.releaseVersion(env);
+		if (isCommit && SystemEnvironment.eagerPurge)
+			eagerPurge(env);
 		SDMSRepository.releaseProxies(usedProxies);
 		endTime = System.currentTimeMillis();
 	}
 
+	// Drops the versions replaced by this transaction as soon as no reader can see them anymore.
+	// Must be called after releaseVersion(), before that the read only version is older than ours.
+	// Whatever cannot be purged yet stays in the purge sets and is handled by the regular purge.
+	private void eagerPurge(SystemEnvironment env)
+	{
+		try {
+			long purgeLow = env.roTxList.first(env);
+			long vPurgeLow = env.seVersionList.first(env);
+			if (vPurgeLow > purgeLow)
+				vPurgeLow = purgeLow;
+			Iterator i = touchList.iterator();
+			while(i.hasNext()) {
+				SDMSChangeListElement ce = (SDMSChangeListElement) i.next();
+				if (ce.isNew) continue;
+				SDMSVersions v = ce.versions;
+				if (v.table.getIsVersioned()) {
+					if (v.purge(env, vPurgeLow))
+						env.vPurgeSet.remove(env, v);
+				} else {
+					if (v.purge(env, purgeLow))
+						env.nvPurgeSet.remove(env, v);
+				}
+			}
+		} catch (SDMSException e) {
+			SDMSThread.doTrace(null, "Eager purge failed (ignored) : " + e.toString(), SDMSThread.SEVERITY_WARNING);
+		}
+	}
+
+	// Flushes the changes of all members of a group commit using the connection of env and commits them at once.
+	// Called by the leader of the group, which is a member itself. Returns false if the group has been rolled back.
+	protected boolean commitGroup(SystemEnvironment env, Vector<SDMSTransaction> members)
+		throws SDMSException
+	{
+		boolean success = false;
+		LinkedHashMap<PreparedStatement, int[]> sharedBatch = null;
+		if (SystemEnvironment.dbBatchSize > 1)
+			sharedBatch = new LinkedHashMap<PreparedStatement, int[]>();
+		LockingSystem.lock(env, commitLock, ObjectLock.SHARED);
+		try {
+			for (int j = 0; j < members.size(); ++j) {
+				SDMSTransaction tx = members.get(j);
+				tx.flushRows = 0;
+				tx.flushRoundTrips = 0;
+				tx.batch = sharedBatch;
+				env.tx = tx;
+				Iterator i = tx.touchList.iterator();
+				while(i.hasNext()) {
+					SDMSChangeListElement ce = (SDMSChangeListElement) i.next();
+					ce.versions.flush(env, ce.isNew);
+				}
+			}
+			env.tx = this;
+			executeBatches(env);
+			SystemEnvironment.ticketThread.renewTicket(env);
+			env.dbConnection.commit();
+			success = true;
+		} catch (SDMSSQLException sqle) {
+			SDMSThread.doTrace(null, "Group commit failed, committing individually : " + sqle.toString(), SDMSThread.SEVERITY_MESSAGE);
+		} catch (SQLException sqle) {
+			SDMSThread.doTrace(null, "Group commit failed, committing individually : " + sqle.toString(), SDMSThread.SEVERITY_MESSAGE);
+		} finally {
+			env.tx = this;
+			clearBatches();
+			for (int j = 0; j < members.size(); ++j)
+				members.get(j).batch = null;
+			if (!success) {
+				try {
+					env.dbConnection.rollback();
+				} catch (SQLException sqle) {  }
+			}
+			LockingSystem.release(env, commitLock);
+		}
+		return success;
+	}
+
+	// called by the generated insert, update and delete methods while the transaction is flushed
+	public void executeUpdate(SystemEnvironment env, PreparedStatement stmt)
+		throws SQLException
+	{
+		if (batch == null) {
+			flushRows += stmt.executeUpdate();
+			flushRoundTrips ++;
+			return;
+		}
+		int[] cnt = batch.get(stmt);
+		if (cnt == null || cnt[0] == 0) {
+			// the statements have to reach the database in the order they were issued; a versioned
+			// update closes the current row before it inserts the new one with the same id
+			runBatches();
+			if (cnt == null) {
+				cnt = new int[1];
+				batch.put(stmt, cnt);
+			}
+		}
+		stmt.addBatch();
+		cnt[0] ++;
+		if (cnt[0] >= SystemEnvironment.dbBatchSize) {
+			executeBatch(stmt);
+			cnt[0] = 0;
+		}
+	}
+
+	public boolean isBatched(PreparedStatement stmt)
+	{
+		return (batch != null && batch.containsKey(stmt));
+	}
+
+	private void executeBatch(PreparedStatement stmt)
+		throws SQLException
+	{
+		int[] rc = stmt.executeBatch();
+		flushRoundTrips ++;
+		for (int j = 0; j < rc.length; ++j) {
+			if (rc[j] == Statement.SUCCESS_NO_INFO)
+				flushRows ++;
+			else if (rc[j] > 0)
+				flushRows += rc[j];
+		}
+	}
+
+	private void executeBatches(SystemEnvironment env)
+		throws SDMSException
+	{
+		if (batch == null)
+			return;
+		try {
+			runBatches();
+		} catch (SQLException sqle) {
+			String msg = sqle.getMessage();
+			if (sqle.getNextException() != null)
+				msg = msg + "\n" + sqle.getNextException().getMessage();
+			throw new SDMSSQLException(new SDMSMessage(env, "03610181520", "Error executing batch: $1 $2", new Integer(sqle.getErrorCode()), msg));
+		}
+	}
+
+	private void runBatches()
+		throws SQLException
+	{
+		Iterator<Map.Entry<PreparedStatement, int[]>> i = batch.entrySet().iterator();
+		while (i.hasNext()) {
+			Map.Entry<PreparedStatement, int[]> e = i.next();
+			if (e.getValue()[0] > 0) {
+				executeBatch(e.getKey());
+				e.getValue()[0] = 0;
+			}
+		}
+	}
+
+	private void clearBatches()
+	{
+		if (batch == null)
+			return;
+		Iterator<PreparedStatement> i = batch.keySet().iterator();
+		while (i.hasNext()) {
+			try {
+				i.next().clearBatch();
+			} catch (SQLException sqle) {  }
+		}
+		batch = null;
+	}
+
 	public void beginSubTransaction(SystemEnvironment env)
 	{
 		subTxId ++;
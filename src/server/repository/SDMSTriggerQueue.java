@@ -43,4 +43,12 @@ public class SDMSTriggerQueue extends SDMSTriggerQueueProxyGeneric
 	{
 		super(p_object);
 	}
+
+	public void setNextTriggerTime (SystemEnvironment sysEnv, Long nextTriggerTime)
+	throws SDMSException
+	{
+		super.setNextTriggerTime(sysEnv, nextTriggerTime);
+		if (sysEnv.tt != null)
+			sysEnv.tt.enqueue(sysEnv, getId(sysEnv), nextTriggerTime);
+	}
 }
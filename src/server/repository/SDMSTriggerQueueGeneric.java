@@ -62,7 +62,18 @@ public class SDMSTriggerQueueGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"SME_ID",
+		"TR_ID",
+		"NEXT_TRIGGER_TIME",
+		"TIMES_CHECKED",
+		"TIMES_TRIGGERED",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("TRIGGER_QUEUE", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -421,7 +432,7 @@ public class SDMSTriggerQueueGeneric extends SDMSObject
 			myInsert.setLong (8, createTs.longValue());
 			myInsert.setLong (9, changerUId.longValue());
 			myInsert.setLong (10, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "TriggerQueue: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -445,7 +456,7 @@ public class SDMSTriggerQueueGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "TriggerQueue: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -454,43 +465,48 @@ public class SDMSTriggerQueueGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSTriggerQueueGeneric o = (SDMSTriggerQueueGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(smeId, o.smeId)) dirty.set(0);
+		if (changed(trId, o.trId)) dirty.set(1);
+		if (changed(nextTriggerTime, o.nextTriggerTime)) dirty.set(2);
+		if (changed(timesChecked, o.timesChecked)) dirty.set(3);
+		if (changed(timesTriggered, o.timesTriggered)) dirty.set(4);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(5);
+		if (changed(createTs, o.createTs)) dirty.set(6);
+		if (changed(changerUId, o.changerUId)) dirty.set(7);
+		if (changed(changeTs, o.changeTs)) dirty.set(8);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE TRIGGER_QUEUE SET " +
-				        "" + squote + "SME_ID" + equote + " = ? " +
-				        ", " + squote + "TR_ID" + equote + " = ? " +
-				        ", " + squote + "NEXT_TRIGGER_TIME" + equote + " = ? " +
-				        ", " + squote + "TIMES_CHECKED" + equote + " = ? " +
-				        ", " + squote + "TIMES_TRIGGERED" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "TriggerQueue: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "TriggerQueue: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setLong (1, smeId.longValue());
-			myUpdate.setLong (2, trId.longValue());
-			myUpdate.setLong (3, nextTriggerTime.longValue());
-			myUpdate.setInt(4, timesChecked.intValue());
-			myUpdate.setInt(5, timesTriggered.intValue());
-			myUpdate.setLong (6, creatorUId.longValue());
-			myUpdate.setLong (7, createTs.longValue());
-			myUpdate.setLong (8, changerUId.longValue());
-			myUpdate.setLong (9, changeTs.longValue());
-			myUpdate.setLong(10, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setLong (p++, smeId.longValue());
+			if (dirty.get(1))
+				myUpdate.setLong (p++, trId.longValue());
+			if (dirty.get(2))
+				myUpdate.setLong (p++, nextTriggerTime.longValue());
+			if (dirty.get(3))
+				myUpdate.setInt(p++, timesChecked.intValue());
+			if (dirty.get(4))
+				myUpdate.setInt(p++, timesTriggered.intValue());
+			if (dirty.get(5))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(6))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(7))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(8))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "TriggerQueue: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
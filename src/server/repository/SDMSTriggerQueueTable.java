@@ -44,4 +44,19 @@ public class SDMSTriggerQueueTable extends SDMSTriggerQueueTableGeneric
 	{
 		super(env);
 	}
+
+	public SDMSTriggerQueue create(SystemEnvironment env
+	                               ,Long p_smeId
+	                               ,Long p_trId
+	                               ,Long p_nextTriggerTime
+	                               ,Integer p_timesChecked
+	                               ,Integer p_timesTriggered
+	                              )
+	throws SDMSException
+	{
+		SDMSTriggerQueue tq = super.create(env, p_smeId, p_trId, p_nextTriggerTime, p_timesChecked, p_timesTriggered);
+		if (env.tt != null)
+			env.tt.enqueue(env, tq.getId(env), p_nextTriggerTime);
+		return tq;
+	}
 }
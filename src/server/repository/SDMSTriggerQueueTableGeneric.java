@@ -170,16 +170,16 @@ public class SDMSTriggerQueueTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
-			smeId = new Long (r.getLong(2));
-			trId = new Long (r.getLong(3));
-			nextTriggerTime = new Long (r.getLong(4));
-			timesChecked = new Integer (r.getInt(5));
-			timesTriggered = new Integer (r.getInt(6));
-			creatorUId = new Long (r.getLong(7));
-			createTs = new Long (r.getLong(8));
-			changerUId = new Long (r.getLong(9));
-			changeTs = new Long (r.getLong(10));
+			id     = Long.valueOf (r.getLong(1));
+			smeId = Long.valueOf (r.getLong(2));
+			trId = Long.valueOf (r.getLong(3));
+			nextTriggerTime = Long.valueOf (r.getLong(4));
+			timesChecked = Integer.valueOf (r.getInt(5));
+			timesTriggered = Integer.valueOf (r.getInt(6));
+			creatorUId = Long.valueOf (r.getLong(7));
+			createTs = Long.valueOf (r.getLong(8));
+			changerUId = Long.valueOf (r.getLong(9));
+			changeTs = Long.valueOf (r.getLong(10));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -203,32 +203,22 @@ public class SDMSTriggerQueueTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "SME_ID" + equote +
-		                                   ", " + squote + "TR_ID" + equote +
-		                                   ", " + squote + "NEXT_TRIGGER_TIME" + equote +
-		                                   ", " + squote + "TIMES_CHECKED" + equote +
-		                                   ", " + squote + "TIMES_TRIGGERED" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "SME_ID" + equote +
+		               ", " + squote + "TR_ID" + equote +
+		               ", " + squote + "NEXT_TRIGGER_TIME" + equote +
+		               ", " + squote + "TIMES_CHECKED" + equote +
+		               ", " + squote + "TIMES_TRIGGERED" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
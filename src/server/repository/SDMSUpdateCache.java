@@ -0,0 +1,100 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software:
+you can redistribute it and/or modify it under the terms of the
+GNU Affero General Public License as published by the
+Free Software Foundation, either version 3 of the License,
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+package de.independit.scheduler.server.repository;
+
+import java.lang.*;
+import java.util.*;
+import java.sql.*;
+
+import de.independit.scheduler.server.*;
+
+public class SDMSUpdateCache
+{
+	private final static int MAX_CONNECTIONS = 128;
+	private final static int MAX_STATEMENTS = 64;
+
+	private final String tableName;
+	private final String columns[];
+
+	// The prepared UPDATE statements per database connection, keyed by the set of changed columns.
+	// Like the other prepared statements, a slot is only used by the thread owning the connection.
+	private final HashMap<BitSet, PreparedStatement> statements[];
+	private final Connection connections[];
+
+	@SuppressWarnings("unchecked")
+	public SDMSUpdateCache(String tableName, String columns[])
+	{
+		this.tableName = tableName;
+		this.columns = columns;
+		statements = new HashMap[MAX_CONNECTIONS];
+		connections = new Connection[MAX_CONNECTIONS];
+	}
+
+	public PreparedStatement getStatement(SystemEnvironment env, BitSet dirty)
+	throws SQLException
+	{
+		int nr = env.dbConnectionNr;
+		HashMap<BitSet, PreparedStatement> m = statements[nr];
+		if (m == null || connections[nr] != env.dbConnection) {
+			m = new HashMap<BitSet, PreparedStatement>();
+			statements[nr] = m;
+			connections[nr] = env.dbConnection;
+		}
+		PreparedStatement stmt = m.get(dirty);
+		if (stmt == null) {
+			if (m.size() >= MAX_STATEMENTS) {
+				// statements with a pending batch of the current flush must survive
+				Iterator<PreparedStatement> i = m.values().iterator();
+				while (i.hasNext()) {
+					PreparedStatement p = i.next();
+					if (env.tx != null && env.tx.isBatched(p))
+						continue;
+					try {
+						p.close();
+					} catch (SQLException sqle) {  }
+					i.remove();
+				}
+			}
+			stmt = env.dbConnection.prepareStatement(getStatementText(dirty));
+			m.put((BitSet) dirty.clone(), stmt);
+		}
+		return stmt;
+	}
+
+	public String getStatementText(BitSet dirty)
+	{
+		String squote = SystemEnvironment.SQUOTE;
+		String equote = SystemEnvironment.EQUOTE;
+		StringBuilder stmt = new StringBuilder("UPDATE " + tableName + " SET ");
+		String sep = "";
+		for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+			stmt.append(sep + squote + columns[i] + equote + " = ? ");
+			sep = ", ";
+		}
+		stmt.append("WHERE ID = ?");
+		return stmt.toString();
+	}
+}
@@ -73,7 +73,20 @@ public class SDMSUserGeneric extends SDMSObject
 	protected Long changerUId;
 	protected Long changeTs;
 
-	private static PreparedStatement pUpdate[] = new PreparedStatement[128];
+	private static final String updateColumns[] = {
+		"NAME",
+		"PASSWD",
+		"SALT",
+		"METHOD",
+		"IS_ENABLED",
+		"DEFAULT_G_ID",
+		"DELETE_VERSION",
+		"CREATOR_U_ID",
+		"CREATE_TS",
+		"CHANGER_U_ID",
+		"CHANGE_TS"
+	};
+	private static final SDMSUpdateCache pUpdate = new SDMSUpdateCache("USERS", updateColumns);
 	private static PreparedStatement pDelete[] = new PreparedStatement[128];
 	private static PreparedStatement pInsert[] = new PreparedStatement[128];
 
@@ -536,7 +549,7 @@ public class SDMSUserGeneric extends SDMSObject
 			myInsert.setLong (10, createTs.longValue());
 			myInsert.setLong (11, changerUId.longValue());
 			myInsert.setLong (12, changeTs.longValue());
-			myInsert.executeUpdate();
+			env.tx.executeUpdate(env, myInsert);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110181954", "User: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -560,7 +573,7 @@ public class SDMSUserGeneric extends SDMSObject
 		try {
 			myDelete.clearParameters();
 			myDelete.setLong(1, id.longValue());
-			myDelete.executeUpdate();
+			env.tx.executeUpdate(env, myDelete);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182002", "User: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
@@ -569,50 +582,58 @@ public class SDMSUserGeneric extends SDMSObject
 	protected void updateDBObject(SystemEnvironment env, SDMSObject old)
 	throws SDMSException
 	{
-		String stmt = "";
+		SDMSUserGeneric o = (SDMSUserGeneric) old;
+		BitSet dirty = new BitSet(updateColumns.length);
+		if (changed(name, o.name)) dirty.set(0);
+		if (changed(passwd, o.passwd)) dirty.set(1);
+		if (changed(salt, o.salt)) dirty.set(2);
+		if (changed(method, o.method)) dirty.set(3);
+		if (changed(isEnabled, o.isEnabled)) dirty.set(4);
+		if (changed(defaultGId, o.defaultGId)) dirty.set(5);
+		if (changed(deleteVersion, o.deleteVersion)) dirty.set(6);
+		if (changed(creatorUId, o.creatorUId)) dirty.set(7);
+		if (changed(createTs, o.createTs)) dirty.set(8);
+		if (changed(changerUId, o.changerUId)) dirty.set(9);
+		if (changed(changeTs, o.changeTs)) dirty.set(10);
+		if (dirty.isEmpty())
+			return;
 		PreparedStatement myUpdate;
-		if(pUpdate[env.dbConnectionNr] == null) {
-			try {
-				String squote = SystemEnvironment.SQUOTE;
-				String equote = SystemEnvironment.EQUOTE;
-				stmt =
-				        "UPDATE USERS SET " +
-				        "" + squote + "NAME" + equote + " = ? " +
-				        ", " + squote + "PASSWD" + equote + " = ? " +
-				        ", " + squote + "SALT" + equote + " = ? " +
-				        ", " + squote + "METHOD" + equote + " = ? " +
-				        ", " + squote + "IS_ENABLED" + equote + " = ? " +
-				        ", " + squote + "DEFAULT_G_ID" + equote + " = ? " +
-				        ", " + squote + "DELETE_VERSION" + equote + " = ? " +
-				        ", " + squote + "CREATOR_U_ID" + equote + " = ? " +
-				        ", " + squote + "CREATE_TS" + equote + " = ? " +
-				        ", " + squote + "CHANGER_U_ID" + equote + " = ? " +
-				        ", " + squote + "CHANGE_TS" + equote + " = ? " +
-				        "WHERE ID = ?";
-				pUpdate[env.dbConnectionNr] = env.dbConnection.prepareStatement(stmt);
-			} catch(SQLException sqle) {
-				throw new FatalException(new SDMSMessage(env, "01110182005", "User: $1\n$2", stmt, sqle.toString()));
-			}
+		try {
+			myUpdate = pUpdate.getStatement(env, dirty);
+		} catch(SQLException sqle) {
+			throw new FatalException(new SDMSMessage(env, "01110182005", "User: $1\n$2", pUpdate.getStatementText(dirty), sqle.toString()));
 		}
-		myUpdate = pUpdate[env.dbConnectionNr];
 		try {
+			int p = 1;
 			myUpdate.clearParameters();
-			myUpdate.setString(1, name);
-			myUpdate.setString(2, passwd);
-			if (salt == null)
-				myUpdate.setNull(3, Types.VARCHAR);
-			else
-				myUpdate.setString(3, salt);
-			myUpdate.setInt(4, method.intValue());
-			myUpdate.setInt (5, isEnabled.booleanValue() ? 1 : 0);
-			myUpdate.setLong (6, defaultGId.longValue());
-			myUpdate.setLong (7, deleteVersion.longValue());
-			myUpdate.setLong (8, creatorUId.longValue());
-			myUpdate.setLong (9, createTs.longValue());
-			myUpdate.setLong (10, changerUId.longValue());
-			myUpdate.setLong (11, changeTs.longValue());
-			myUpdate.setLong(12, id.longValue());
-			myUpdate.executeUpdate();
+			if (dirty.get(0))
+				myUpdate.setString(p++, name);
+			if (dirty.get(1))
+				myUpdate.setString(p++, passwd);
+			if (dirty.get(2)) {
+				if (salt == null)
+					myUpdate.setNull(p++, Types.VARCHAR);
+				else
+					myUpdate.setString(p++, salt);
+			}
+			if (dirty.get(3))
+				myUpdate.setInt(p++, method.intValue());
+			if (dirty.get(4))
+				myUpdate.setInt (p++, isEnabled.booleanValue() ? 1 : 0);
+			if (dirty.get(5))
+				myUpdate.setLong (p++, defaultGId.longValue());
+			if (dirty.get(6))
+				myUpdate.setLong (p++, deleteVersion.longValue());
+			if (dirty.get(7))
+				myUpdate.setLong (p++, creatorUId.longValue());
+			if (dirty.get(8))
+				myUpdate.setLong (p++, createTs.longValue());
+			if (dirty.get(9))
+				myUpdate.setLong (p++, changerUId.longValue());
+			if (dirty.get(10))
+				myUpdate.setLong (p++, changeTs.longValue());
+			myUpdate.setLong(p, id.longValue());
+			env.tx.executeUpdate(env, myUpdate);
 		} catch(SQLException sqle) {
 			throw new SDMSSQLException(new SDMSMessage(env, "01110182006", "User: $1 $2", new Integer(sqle.getErrorCode()), sqle.getMessage()));
 		}
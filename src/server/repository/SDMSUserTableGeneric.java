@@ -185,19 +185,19 @@ public class SDMSUserTableGeneric extends SDMSTable
 		long validTo;
 
 		try {
-			id     = new Long (r.getLong(1));
+			id     = Long.valueOf (r.getLong(1));
 			name = r.getString(2);
 			passwd = r.getString(3);
 			salt = r.getString(4);
 			if (r.wasNull()) salt = null;
-			method = new Integer (r.getInt(5));
-			isEnabled = new Boolean ((r.getInt(6) == 0 ? false : true));
-			defaultGId = new Long (r.getLong(7));
-			deleteVersion = new Long (r.getLong(8));
-			creatorUId = new Long (r.getLong(9));
-			createTs = new Long (r.getLong(10));
-			changerUId = new Long (r.getLong(11));
-			changeTs = new Long (r.getLong(12));
+			method = Integer.valueOf (r.getInt(5));
+			isEnabled = Boolean.valueOf ((r.getInt(6) == 0 ? false : true));
+			defaultGId = Long.valueOf (r.getLong(7));
+			deleteVersion = Long.valueOf (r.getLong(8));
+			creatorUId = Long.valueOf (r.getLong(9));
+			createTs = Long.valueOf (r.getLong(10));
+			changerUId = Long.valueOf (r.getLong(11));
+			changeTs = Long.valueOf (r.getLong(12));
 			validFrom = 0;
 			validTo = Long.MAX_VALUE;
 		} catch(SQLException sqle) {
@@ -223,34 +223,24 @@ public class SDMSUserTableGeneric extends SDMSTable
 	protected void loadTable(SystemEnvironment env)
 	throws SQLException, SDMSException
 	{
-		int read = 0;
-		int loaded = 0;
-
 		final boolean postgres = SystemEnvironment.isPostgreSQL;
 		String squote = SystemEnvironment.SQUOTE;
 		String equote = SystemEnvironment.EQUOTE;
-		Statement stmt = env.dbConnection.createStatement();
-		ResultSet rset = stmt.executeQuery("SELECT " +
-		                                   tableName() + ".ID" +
-		                                   ", " + squote + "NAME" + equote +
-		                                   ", " + squote + "PASSWD" + equote +
-		                                   ", " + squote + "SALT" + equote +
-		                                   ", " + squote + "METHOD" + equote +
-		                                   ", " + squote + "IS_ENABLED" + equote +
-		                                   ", " + squote + "DEFAULT_G_ID" + equote +
-		                                   ", " + squote + "DELETE_VERSION" + equote +
-		                                   ", " + squote + "CREATOR_U_ID" + equote +
-		                                   ", " + squote + "CREATE_TS" + equote +
-		                                   ", " + squote + "CHANGER_U_ID" + equote +
-		                                   ", " + squote + "CHANGE_TS" + equote +
-		                                   " FROM " + tableName() +
-		                                   ""						  );
-		while(rset.next()) {
-			if(loadObject(env, rset)) ++loaded;
-			++read;
-		}
-		stmt.close();
-		SDMSThread.doTrace(null, "Read " + read + ", Loaded " + loaded + " rows for " + tableName(), SDMSThread.SEVERITY_INFO);
+		loadTable(env, "SELECT " +
+		               tableName() + ".ID" +
+		               ", " + squote + "NAME" + equote +
+		               ", " + squote + "PASSWD" + equote +
+		               ", " + squote + "SALT" + equote +
+		               ", " + squote + "METHOD" + equote +
+		               ", " + squote + "IS_ENABLED" + equote +
+		               ", " + squote + "DEFAULT_G_ID" + equote +
+		               ", " + squote + "DELETE_VERSION" + equote +
+		               ", " + squote + "CREATOR_U_ID" + equote +
+		               ", " + squote + "CREATE_TS" + equote +
+		               ", " + squote + "CHANGER_U_ID" + equote +
+		               ", " + squote + "CHANGE_TS" + equote +
+		               " FROM " + tableName() +
+		               ""						  );
 	}
 
 	public String checkIndex(SDMSObject o)
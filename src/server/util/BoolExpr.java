@@ -43,34 +43,34 @@ public class BoolExpr
 {
 	public static final String __version = "@(#) $Id: BoolExpr.java,v 2.4.8.1 2013/03/14 10:25:28 ronald Exp $";
 
+	// compiled expressions are shared by all BoolExprs with the same condition;
+	// the keys are weak, the cache is cleared if it grows beyond MAX_CACHED entries
+	private static final int MAX_CACHED = 10000;
+	private static final WeakHashMap<String, ExprNode> cache = new WeakHashMap<String, ExprNode>();
+
 	final String condition;
-	final StringReader sr;
-	ExprScanner exprs;
-	ExprParser  exprp;
 
 	public BoolExpr(String c)
 	{
 		condition = c;
-		if(condition != null)
-			sr = new StringReader(condition);
-		else
-			sr = null;
-		exprs = null;
-		exprp = null;
 	}
 
-	private void initParser(SystemEnvironment sysEnv, SDMSSubmittedEntity sme, SDMSResource r, SDMSTrigger t, SDMSTriggerQueue tq, SDMSScope s, boolean checkOnly)
-	throws SDMSException, IOException
+	private ExprNode compile()
+	throws IOException, ExprParser.yyException, SDMSException
 	{
-		if(exprs == null) {
-			exprs = new ExprScanner(sr);
-			exprp = new ExprParser();
-		} else {
-			sr.reset();
-			exprs.yyreset(sr);
+		ExprNode tree;
+		synchronized(cache) {
+			tree = cache.get(condition);
+		}
+		if (tree != null) return tree;
+
+		tree = (ExprNode) new ExprParser().yyparse(new ExprScanner(new StringReader(condition)));
+		synchronized(cache) {
+			if (cache.size() >= MAX_CACHED)
+				cache.clear();
+			cache.put(condition, tree);
 		}
-		exprp.set(sysEnv, sme, r, t, tq, s);
-		exprp.checkOnly = checkOnly;
+		return tree;
 	}
 
 	public void checkConditionSyntax(SystemEnvironment sysEnv)
@@ -80,8 +80,7 @@ public class BoolExpr
 		if(condition == null) return;
 
 		try {
-			initParser(sysEnv, null, null, null, null, null, true);
-			exprp.yyparse(exprs);
+			compile();
 		} catch (Exception e) {
 			msg = new SDMSMessage(sysEnv, "03602151611", "Syntax Error ($1) while parsing '$2'", e.toString(), condition);
 		} catch (Error e) {
@@ -110,8 +109,7 @@ public class BoolExpr
 		if(condition == null) return null;
 
 		try {
-			initParser(sysEnv, sme, r, t, tq, s, false);
-			rc = exprp.yyparse(exprs);
+			rc = compile().eval(new ExprContext(sysEnv, sme, r, t, tq, s));
 		} catch (IOException ioe) {
 			msg = new SDMSMessage(sysEnv, "03506171435", "I/O Error parsing '$1'", condition);
 		} catch (NotFoundException nfe) {
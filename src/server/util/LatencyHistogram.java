@@ -0,0 +1,131 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software:
+you can redistribute it and/or modify it under the terms of the
+GNU Affero General Public License as published by the
+Free Software Foundation, either version 3 of the License,
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+
+
+package de.independit.scheduler.server.util;
+
+import java.lang.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+// A histogram of durations in microseconds with log-linear buckets:
+// every power of two is divided into 16 buckets, so any recorded value
+// is reported with an error of less than 1/16.
+public class LatencyHistogram
+{
+	private static final int SUB_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BITS;
+	private static final int MAX_BIT = 40;
+	private static final long MAX_VALUE = (1L << (MAX_BIT + 1)) - 1;
+	private static final int NUM_BUCKETS = (MAX_BIT - SUB_BITS + 2) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+	private final AtomicLong count = new AtomicLong(0);
+	private final AtomicLong sum = new AtomicLong(0);
+	private final AtomicLong max = new AtomicLong(0);
+
+	public LatencyHistogram()
+	{
+	}
+
+	private static int bucketOf(long v)
+	{
+		if (v < SUB_BUCKETS) return (int) v;
+		int msb = 63 - Long.numberOfLeadingZeros(v);
+		int sub = (int) (v >> (msb - SUB_BITS)) & (SUB_BUCKETS - 1);
+		return (msb - SUB_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	// the largest value which falls into the bucket
+	private static long upperBound(int idx)
+	{
+		if (idx < SUB_BUCKETS) return idx;
+		int shift = idx / SUB_BUCKETS - 1;
+		long lower = ((long) (SUB_BUCKETS + idx % SUB_BUCKETS)) << shift;
+		return lower + (1L << shift) - 1;
+	}
+
+	public void record(long micros)
+	{
+		if (micros < 0) micros = 0;
+		if (micros > MAX_VALUE) micros = MAX_VALUE;
+		counts.incrementAndGet(bucketOf(micros));
+		count.incrementAndGet();
+		sum.addAndGet(micros);
+		long m = max.get();
+		while (micros > m && !max.compareAndSet(m, micros))
+			m = max.get();
+	}
+
+	public long getCount()
+	{
+		return count.get();
+	}
+
+	public long getSum()
+	{
+		return sum.get();
+	}
+
+	public long getMax()
+	{
+		return max.get();
+	}
+
+	public long getMean()
+	{
+		long c = count.get();
+		return (c == 0 ? 0 : sum.get() / c);
+	}
+
+	// the smallest bucket bound below which the given fraction of the values lie
+	public long getPercentile(double fraction)
+	{
+		long c = count.get();
+		if (c == 0) return 0;
+		long rank = (long) Math.ceil(fraction * c);
+		if (rank < 1) rank = 1;
+		long seen = 0;
+		for (int i = 0; i < NUM_BUCKETS; ++i) {
+			seen += counts.get(i);
+			if (seen >= rank)
+				return Math.min(upperBound(i), max.get());
+		}
+		return max.get();
+	}
+
+	// the number of values not larger than limit; the bucket containing limit is counted completely,
+	// so the bound is only approximate within 1/16 of the limit
+	public long getCountBelow(long limit)
+	{
+		long seen = 0;
+		for (int i = 0; i < NUM_BUCKETS; ++i) {
+			seen += counts.get(i);
+			if (upperBound(i) >= limit) break;
+		}
+		return seen;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software:
+you can redistribute it and/or modify it under the terms of the
+GNU Affero General Public License as published by the
+Free Software Foundation, either version 3 of the License,
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+
+
+package de.independit.scheduler.server.util;
+
+import java.lang.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Latency histograms of the commands and of the phases of the scheduling thread.
+// All durations are in microseconds.
+public class Metrics
+{
+	public static final int QUEUE_WAIT = 0;
+	public static final int EXECUTION  = 1;
+	public static final int COMMIT     = 2;
+	public static final int LOCK_WAIT  = 3;
+
+	public static final String[] KIND_NAMES = { "QUEUE_WAIT", "EXECUTION", "COMMIT", "LOCK_WAIT" };
+
+	private static final ConcurrentHashMap<String, LatencyHistogram[]> commands = new ConcurrentHashMap<String, LatencyHistogram[]>();
+	private static final ConcurrentHashMap<String, LatencyHistogram> phases = new ConcurrentHashMap<String, LatencyHistogram>();
+
+	private Metrics()
+	{
+	}
+
+	public static void recordCommand(String command, int kind, long micros)
+	{
+		LatencyHistogram[] h = commands.get(command);
+		if (h == null) {
+			h = new LatencyHistogram[KIND_NAMES.length];
+			for (int i = 0; i < h.length; ++i)
+				h[i] = new LatencyHistogram();
+			LatencyHistogram[] old = commands.putIfAbsent(command, h);
+			if (old != null) h = old;
+		}
+		h[kind].record(micros);
+	}
+
+	public static void recordPhase(String phase, long micros)
+	{
+		LatencyHistogram h = phases.get(phase);
+		if (h == null) {
+			h = new LatencyHistogram();
+			LatencyHistogram old = phases.putIfAbsent(phase, h);
+			if (old != null) h = old;
+		}
+		h.record(micros);
+	}
+
+	public static Vector<String> getCommandNames()
+	{
+		Vector<String> v = new Vector<String>(commands.keySet());
+		Collections.sort(v);
+		return v;
+	}
+
+	public static LatencyHistogram getCommand(String command, int kind)
+	{
+		LatencyHistogram[] h = commands.get(command);
+		return (h == null ? null : h[kind]);
+	}
+
+	public static Vector<String> getPhaseNames()
+	{
+		Vector<String> v = new Vector<String>(phases.keySet());
+		Collections.sort(v);
+		return v;
+	}
+
+	public static LatencyHistogram getPhase(String phase)
+	{
+		return phases.get(phase);
+	}
+}
@@ -29,6 +29,7 @@ import java.lang.*;
 import java.io.*;
 import java.net.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.text.*;
 import de.independit.scheduler.server.*;
 import de.independit.scheduler.server.exception.*;
@@ -55,6 +56,14 @@ public abstract class SDMSThread extends Thread
 	public int readLock = ObjectLock.SHARED;
 	public SDMSThread lockThread = null;
 
+	// the locks held by this thread and the lock it is waiting for; maintained by the LockingSystem
+	public volatile ConcurrentHashMap<Object, ObjectLock> locksHeld = null;
+	public volatile ObjectLock waitLock = null;
+	public long lockStartTs = 0;
+	public volatile boolean deadlockVictim = false;
+	// time spent waiting for locks, in nanoseconds; reset by the owner of the thread
+	public long lockWaitNanos = 0;
+
 	public long exceptionsToTrace = 0;
 
 	public SDMSThread()
@@ -81,6 +90,13 @@ public abstract class SDMSThread extends Thread
 		run = true;
 	}
 
+	// a stackSize of 0 means the default stack size of the JVM
+	public SDMSThread  (ThreadGroup t, String s, long stackSize)
+	{
+		super(t, null, s, stackSize);
+		run = true;
+	}
+
 	public void print(PrintStream o)
 	{
 		o.println(getName());
@@ -123,14 +139,23 @@ public abstract class SDMSThread extends Thread
 
 	public static final String getHeader (final ConnectionEnvironment cEnv, final int severity)
 	{
-		String name;
-		String thread = Thread.currentThread().getName();
+		Long uid = null;
+		String name = null;
 		if (cEnv != null) {
-			final Long uid = cEnv.uid();
+			uid = cEnv.uid();
+			name = cEnv.name();
+		}
+		return formatHeader(System.currentTimeMillis(), Thread.currentThread().getName(), uid, name, severity);
+	}
+
+	static final String formatHeader (long ts, String thread, Long uid, String cEnvName, int severity)
+	{
+		String name;
+		if (cEnvName != null) {
 			if (uid != null)
-				name = cEnv.uid() + "," + cEnv.name() + "(" + thread + ")";
+				name = uid + "," + cEnvName + "(" + thread + ")";
 			else
-				name = cEnv.name() + "(" + thread + ")";
+				name = cEnvName + "(" + thread + ")";
 		} else
 			name = thread;
 
@@ -139,10 +164,16 @@ public abstract class SDMSThread extends Thread
 			header += "\t";
 
 		synchronized (sysDateFmt) {
-			return header + "\t" + sysDateFmt.format (new java.util.Date (System.currentTimeMillis())) + " ";
+			return header + "\t" + sysDateFmt.format (new java.util.Date (ts)) + " ";
 		}
 	}
 
+	// callers building expensive trace messages should check this first
+	public static boolean isTraced(ConnectionEnvironment cEnv, int severity)
+	{
+		return severity <= SystemEnvironment.getTraceLevel() || (cEnv != null && severity <= cEnv.getTraceLevel());
+	}
+
 	public static void doTrace(ConnectionEnvironment cEnv, String msg, int severity)
 	{
 		doTrace(cEnv, msg, null, severity, false);
@@ -152,9 +183,40 @@ public abstract class SDMSThread extends Thread
 		doTrace(cEnv, txt, msg, severity, false);
 	}
 	public static void doTrace(ConnectionEnvironment cEnv, String txt, Object msg[], int severity, boolean fatalIsError)
+	{
+		boolean traced = isTraced(cEnv, severity);
+		if (!traced && severity > SEVERITY_ERROR)
+			return;
+
+		if (TraceWriter.isActive()) {
+			TraceWriter.Record r = new TraceWriter.Record();
+			r.ts = System.currentTimeMillis();
+			r.severity = severity;
+			r.thread = Thread.currentThread().getName();
+			if (cEnv != null) {
+				r.uid = cEnv.uid();
+				r.name = cEnv.name();
+			}
+			r.txt = txt;
+			r.msg = msg;
+			r.traced = traced;
+			if (severity <= SEVERITY_ERROR)
+				r.stack = (new Throwable()).getStackTrace();
+			if (!TraceWriter.append(r))
+				writeTrace(cEnv, txt, msg, severity, traced);
+		} else
+			writeTrace(cEnv, txt, msg, severity, traced);
+
+		if(severity == SEVERITY_FATAL && !fatalIsError) {
+			TraceWriter.flush();
+			System.exit(1);
+		}
+	}
+
+	private static void writeTrace(ConnectionEnvironment cEnv, String txt, Object msg[], int severity, boolean traced)
 	{
 		String header = getHeader(cEnv, severity);
-		if(severity <= SystemEnvironment.getTraceLevel() || (cEnv != null && severity <= cEnv.getTraceLevel())) {
+		if (traced) {
 			System.err.println(header + txt);
 			if (msg != null) {
 				for(int i = 0; i < msg.length; i++) {
@@ -166,9 +228,6 @@ public abstract class SDMSThread extends Thread
 		if(severity <= SEVERITY_ERROR) {
 			printStackTrace(header);
 		}
-		if(severity == SEVERITY_FATAL && !fatalIsError) {
-			System.exit(1);
-		}
 	}
 
 	public static void printMyStackTrace(String header)
@@ -182,12 +241,23 @@ public abstract class SDMSThread extends Thread
 		System.err.println(header + "****************** End Stacktrace   *********************");
 	}
 
+	// index of the first frame of a stack trace taken inside doTrace() which belongs to its caller
+	static int firstCallerFrame(StackTraceElement[] ste)
+	{
+		int first = 0;
+		for(int i = 0; i < ste.length; i++) {
+			if (ste[i].getClassName().endsWith("SDMSThread") && ste[i].getMethodName().equals("doTrace"))
+				first = i + 1;
+		}
+		return first;
+	}
+
 	private static void printStackTrace(String header)
 	{
 		StackTraceElement[] ste = (new Throwable()).getStackTrace();
 
 		System.err.println(header + "****************** Start Stacktrace *********************");
-		for(int i = 2; i < ste.length; i++) {
+		for(int i = firstCallerFrame(ste); i < ste.length; i++) {
 			System.err.println(header + ste[i].toString());
 		}
 		System.err.println(header + "****************** End Stacktrace   *********************");
@@ -30,36 +30,91 @@ package de.independit.scheduler.server.util;
 import java.io.*;
 import java.util.*;
 import java.lang.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 public class SyncFifo
 {
 
 	public final static String __version = "@(#) $Id: SyncFifo.java,v 2.0.20.1 2013/03/14 10:25:29 ronald Exp $";
 
-	private LinkedList l;
+	public final static int DEFAULT_CAPACITY = 1000;
+
+	// A bounded blocking queue with separate locks for producers and consumers.
+	// If the queue is full, post() blocks until a consumer removes an entry.
+	private final LinkedBlockingQueue<Object> l;
+	private final int capacity;
+
+	private final AtomicLong posted = new AtomicLong(0);
+	private final AtomicLong fullWaits = new AtomicLong(0);
+	private final AtomicInteger hwm = new AtomicInteger(0);
 
 	public SyncFifo()
 	{
-		l = new LinkedList();
+		this(DEFAULT_CAPACITY);
 	}
 
-	public synchronized void post(Object o)
+	public SyncFifo(int capacity)
 	{
-		l.addLast(o);
-		notify();
+		this.capacity = capacity;
+		l = new LinkedBlockingQueue<Object>(capacity);
 	}
 
-	public synchronized Object get()
+	public void post(Object o)
 	{
-		if(l.size() == 0) {
-			try {
-				wait(1000);
-			} catch(InterruptedException ie) {}
+		if (!l.offer(o)) {
+			fullWaits.incrementAndGet();
+			boolean interrupted = false;
+			while (true) {
+				try {
+					l.put(o);
+					break;
+				} catch(InterruptedException ie) {
+					interrupted = true;
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
 		}
-		if(l.size() > 0) {
-			return l.removeFirst();
+		posted.incrementAndGet();
+		int size = l.size();
+		int h = hwm.get();
+		while (size > h && !hwm.compareAndSet(h, size))
+			h = hwm.get();
+	}
+
+	// blocks until an entry is available, returns null if the calling thread is interrupted
+	public Object get()
+	{
+		try {
+			return l.take();
+		} catch(InterruptedException ie) {
+			return null;
 		}
-		return null;
 	}
-}
 
+	public int size()
+	{
+		return l.size();
+	}
+
+	public int getCapacity()
+	{
+		return capacity;
+	}
+
+	public int getHWM()
+	{
+		return hwm.get();
+	}
+
+	public long getPosted()
+	{
+		return posted.get();
+	}
+
+	public long getFullWaits()
+	{
+		return fullWaits.get();
+	}
+}
@@ -0,0 +1,345 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software:
+you can redistribute it and/or modify it under the terms of the
+GNU Affero General Public License as published by the
+Free Software Foundation, either version 3 of the License,
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+
+
+package de.independit.scheduler.server.util;
+
+import java.lang.*;
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+import de.independit.scheduler.server.*;
+
+// Writes the trace messages of all threads from a ring buffer.
+// The tracing threads only claim a slot and store the raw message; headers, dates, json
+// and stack traces are formatted here.
+public class TraceWriter extends SDMSThread
+{
+	private static volatile TraceWriter writer = null;
+
+	private final AtomicReferenceArray<Record> ring;
+	private final int mask;
+	private final AtomicLong head = new AtomicLong(0);
+	private volatile long tail = 0;
+	private volatile boolean sleeping = false;
+
+	private final String fileName;
+	private final long maxSize;
+	private final long maxAge;
+	private final int fileCount;
+	private final boolean json;
+
+	private PrintStream out;
+	private CountingOutputStream counter = null;
+	private long openTime;
+
+	static class Record
+	{
+		long ts;
+		int severity;
+		String thread;
+		Long uid;
+		String name;
+		String txt;
+		Object[] msg;
+		boolean traced;
+		StackTraceElement[] stack;
+	}
+
+	private static class CountingOutputStream extends FilterOutputStream
+	{
+		long count = 0;
+
+		CountingOutputStream(OutputStream o)
+		{
+			super(o);
+		}
+
+		public void write(int b) throws IOException
+		{
+			out.write(b);
+			++count;
+		}
+
+		public void write(byte[] b, int off, int len) throws IOException
+		{
+			out.write(b, off, len);
+			count += len;
+		}
+	}
+
+	private TraceWriter()
+	{
+		super("TraceWriter");
+		int size = 1;
+		while (size < SystemEnvironment.traceBufferSize) size <<= 1;
+		ring = new AtomicReferenceArray<Record>(size);
+		mask = size - 1;
+		fileName = SystemEnvironment.traceFile;
+		maxSize = SystemEnvironment.traceFileSize * 1024L * 1024L;
+		maxAge = SystemEnvironment.traceFileAge * 3600000L;
+		fileCount = SystemEnvironment.traceFileCount;
+		json = SystemEnvironment.traceJson;
+		setDaemon(true);
+	}
+
+	public int id()
+	{
+		return 0;
+	}
+
+	public static synchronized void startWriter()
+	{
+		if (writer != null) return;
+		TraceWriter w = new TraceWriter();
+		try {
+			w.open();
+		} catch (IOException ioe) {
+			doTrace(null, "Cannot open trace file " + w.fileName + " : " + ioe.toString(), SEVERITY_WARNING);
+			return;
+		}
+		w.start();
+		writer = w;
+	}
+
+	public static boolean isActive()
+	{
+		return writer != null;
+	}
+
+	// returns false if there is no writer; the caller has to write the message itself then
+	static boolean append(Record r)
+	{
+		TraceWriter w = writer;
+		if (w == null) return false;
+		if (Thread.currentThread() == w) return false;
+		w.put(r);
+		return true;
+	}
+
+	// waits until all messages appended so far are written
+	public static void flush()
+	{
+		TraceWriter w = writer;
+		if (w == null || Thread.currentThread() == w) return;
+		long target = w.head.get();
+		while (w.tail < target && w.isAlive()) {
+			LockSupport.unpark(w);
+			LockSupport.parkNanos(1000000L);
+		}
+	}
+
+	private void put(Record r)
+	{
+		long seq;
+		while (true) {
+			seq = head.get();
+			if (seq - tail > mask) {
+				// buffer full; wait for the writer
+				LockSupport.unpark(this);
+				LockSupport.parkNanos(100000L);
+				continue;
+			}
+			if (head.compareAndSet(seq, seq + 1)) break;
+		}
+		ring.set((int) (seq & mask), r);
+		if (sleeping)
+			LockSupport.unpark(this);
+	}
+
+	public void SDMSrun()
+	{
+		while (true) {
+			long t = tail;
+			if (t == head.get()) {
+				out.flush();
+				sleeping = true;
+				if (t == head.get())
+					LockSupport.parkNanos(100000000L);
+				sleeping = false;
+				continue;
+			}
+			int idx = (int) (t & mask);
+			Record r = ring.get(idx);
+			if (r == null) {
+				// the slot is claimed but not yet filled
+				Thread.yield();
+				continue;
+			}
+			ring.set(idx, null);
+			try {
+				write(r);
+			} catch (RuntimeException e) {
+				System.err.println("ERROR   [TraceWriter] " + e.toString());
+			}
+			tail = t + 1;
+		}
+	}
+
+	private void open()
+		throws IOException
+	{
+		openTime = System.currentTimeMillis();
+		if (fileName == null || fileName.equals("")) {
+			out = System.err;
+			return;
+		}
+		counter = new CountingOutputStream(new FileOutputStream(fileName, true));
+		counter.count = new File(fileName).length();
+		out = new PrintStream(new BufferedOutputStream(counter, 65536), false);
+	}
+
+	private void rotate()
+	{
+		out.close();
+		File f = new File(fileName + "." + fileCount);
+		f.delete();
+		for (int i = fileCount - 1; i >= 1; --i) {
+			f = new File(fileName + "." + i);
+			if (f.exists())
+				f.renameTo(new File(fileName + "." + (i + 1)));
+		}
+		new File(fileName).renameTo(new File(fileName + ".1"));
+		try {
+			open();
+		} catch (IOException ioe) {
+			System.err.println("ERROR   [TraceWriter] Cannot open trace file " + fileName + " : " + ioe.toString());
+			out = System.err;
+			counter = null;
+		}
+	}
+
+	private void write(Record r)
+	{
+		if (counter != null) {
+			if ((maxSize > 0 && counter.count >= maxSize) ||
+			    (maxAge > 0 && r.ts - openTime >= maxAge))
+				rotate();
+		}
+		if (json)
+			writeJson(r);
+		else
+			writeText(r);
+		if (r.severity <= SEVERITY_ERROR)
+			out.flush();
+	}
+
+	private void writeText(Record r)
+	{
+		String header = formatHeader(r.ts, r.thread, r.uid, r.name, r.severity);
+		if (r.traced) {
+			out.println(header + r.txt);
+			if (r.msg != null) {
+				for (int i = 0; i < r.msg.length; i++)
+					out.println(header + r.msg[i].toString());
+			}
+		}
+		if (r.stack != null) {
+			out.println(header + "****************** Start Stacktrace *********************");
+			for (int i = firstCallerFrame(r.stack); i < r.stack.length; i++)
+				out.println(header + r.stack[i].toString());
+			out.println(header + "****************** End Stacktrace   *********************");
+		}
+	}
+
+	private void writeJson(Record r)
+	{
+		StringBuffer sb = new StringBuffer();
+		sb.append("{\"ts\":");
+		sb.append(r.ts);
+		sb.append(",\"severity\":\"").append(severityName(r.severity).trim()).append('"');
+		sb.append(",\"thread\":");
+		quote(sb, r.thread);
+		if (r.uid != null)
+			sb.append(",\"uid\":").append(r.uid);
+		if (r.name != null) {
+			sb.append(",\"name\":");
+			quote(sb, r.name);
+		}
+		if (r.traced) {
+			sb.append(",\"msg\":");
+			quote(sb, r.txt);
+			if (r.msg != null) {
+				sb.append(",\"detail\":[");
+				for (int i = 0; i < r.msg.length; i++) {
+					if (i > 0) sb.append(',');
+					quote(sb, r.msg[i].toString());
+				}
+				sb.append(']');
+			}
+		}
+		if (r.stack != null) {
+			sb.append(",\"stack\":[");
+			int first = firstCallerFrame(r.stack);
+			for (int i = first; i < r.stack.length; i++) {
+				if (i > first) sb.append(',');
+				quote(sb, r.stack[i].toString());
+			}
+			sb.append(']');
+		}
+		sb.append('}');
+		out.println(sb.toString());
+	}
+
+	private static void quote(StringBuffer sb, String s)
+	{
+		if (s == null) {
+			sb.append("null");
+			return;
+		}
+		sb.append('"');
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			switch (c) {
+				case '"':
+					sb.append("\\\"");
+					break;
+				case '\\':
+					sb.append("\\\\");
+					break;
+				case '\n':
+					sb.append("\\n");
+					break;
+				case '\r':
+					sb.append("\\r");
+					break;
+				case '\t':
+					sb.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						String h = Integer.toHexString(c);
+						sb.append("\\u");
+						for (int j = h.length(); j < 4; j++) sb.append('0');
+						sb.append(h);
+					} else
+						sb.append(c);
+			}
+		}
+		sb.append('"');
+	}
+}
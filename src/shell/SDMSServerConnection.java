@@ -120,6 +120,12 @@ public class SDMSServerConnection
 	}
 
 	public SDMSOutput connect() throws IOException
+	{
+		return connect((isJob ? "job " : "") + user);
+	}
+
+	// connects as the given kind of session, e.g. "jobserver GLOBAL.HOST.SERVER"
+	public SDMSOutput connect(String who) throws IOException
 	{
 		if (use_ssl) {
 			SSLSocketFactory sslsocketfactory = (SSLSocketFactory) SSLSocketFactory.getDefault();
@@ -137,7 +143,7 @@ public class SDMSServerConnection
 
 		out = new PrintStream(svrConnection.getOutputStream(), true);
 
-		return execute("connect " + (isJob ? "job " : "") + user + " identified by '" + passwd +
+		return execute("connect " + who + " identified by '" + passwd +
 			"' with protocol = SERIAL" +
 			(timeout != -1 ? ", timeout = " + timeout : "") +
 			(info != null ? ", session = '" + info + "'" : "" ) + ";");
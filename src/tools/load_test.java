@@ -0,0 +1,241 @@
+/*
+Copyright (c) 2000-2013 "independIT Integrative Technologies GmbH",
+Authors: Ronald Jeninga, Dieter Stubler
+
+schedulix Enterprise Job Scheduling System
+
+independIT Integrative Technologies GmbH [http://www.independit.de]
+mailto:contact@independit.de
+
+This file is part of schedulix
+
+schedulix is free software:
+you can redistribute it and/or modify it under the terms of the
+GNU Affero General Public License as published by the
+Free Software Foundation, either version 3 of the License,
+or (at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU Affero General Public License for more details.
+
+You should have received a copy of the GNU Affero General Public License
+along with this program. If not, see <http://www.gnu.org/licenses/>.
+*/
+package de.independit.scheduler.tools;
+
+import java.io.*;
+import java.lang.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import de.independit.scheduler.SDMSApp.*;
+import de.independit.scheduler.shell.*;
+import de.independit.scheduler.server.output.*;
+
+// Opens many simulated sessions, e.g. of jobservers, against a server and reports
+// the throughput and the latency of the commands they send.
+class load_test extends App
+{
+	public final static String CONNECTIONS = "CONNECTIONS";
+	public final static String REQUESTS = "REQUESTS";
+	public final static String THREADS = "THREADS";
+	public final static String JOBSERVER = "JOBSERVER";
+	public final static String JSPASS = "JSPASS";
+	public final static String COMMAND = "COMMAND";
+	public final static String THINK = "THINK";
+
+	private int connections;
+	private int requests;
+	private int threads;
+	private long think;
+	private String command;
+
+	private ScheduledExecutorService pool;
+	private CountDownLatch running;
+	private long[] latencies;
+	private final AtomicInteger executed = new AtomicInteger(0);
+	private final AtomicInteger failed = new AtomicInteger(0);
+
+	public void addOptions()
+	{
+		addOption("n", "connections", null, CONNECTIONS, "100", "number"      , false, "Number of simulated sessions (default 100)");
+		addOption("r", "requests"   , null, REQUESTS   , "10" , "number"      , false, "Number of commands sent by each session (default 10)");
+		addOption("T", "threads"    , null, THREADS    , "20" , "number"      , false, "Number of threads sending the commands (default 20)");
+		addOption("J", "jobserver"  , null, JOBSERVER  , null , "pattern"     , false, "Connect as jobservers; a %d in the pattern is replaced by the number of the session, e.g. GLOBAL.LOAD.JS%d");
+		addOption("P", "jspass"     , null, JSPASS     , null , "password"    , false, "Password of the jobservers (defaults to the pass option)");
+		addOption("C", "command"    , null, COMMAND    , null , "command"     , false, "Command to send (defaults to get next job for jobservers and show session for users)");
+		addOption("d", "think"      , null, THINK      , "0"  , "milliseconds", false, "Time a session waits between its commands (default 0)");
+	}
+	public String getName()
+	{
+		return "load_test";
+	}
+	public boolean userOnly()
+	{
+		return true;
+	}
+	public boolean validateOptions()
+	{
+		try {
+			connections = Integer.parseInt(options.getValue(CONNECTIONS));
+			requests = Integer.parseInt(options.getValue(REQUESTS));
+			threads = Integer.parseInt(options.getValue(THREADS));
+			think = Long.parseLong(options.getValue(THINK));
+		} catch (NumberFormatException nfe) {
+			if (!silent) System.err.println("connections, requests, threads and think must be integers !");
+			return false;
+		}
+		if (connections < 1 || requests < 0 || threads < 1 || think < 0) {
+			if (!silent) System.err.println("connections and threads must be positive, requests and think must not be negative !");
+			return false;
+		}
+		if (options.isSet(COMMAND))
+			command = options.getValue(COMMAND);
+		else
+			command = options.isSet(JOBSERVER) ? "get next job" : "show session";
+		return true;
+	}
+
+	public int go()
+		throws RetryException
+	{
+		SDMSServerConnection[] sessions = new SDMSServerConnection[connections];
+		latencies = new long[connections * requests];
+		pool = Executors.newScheduledThreadPool(threads);
+
+		long start = System.nanoTime();
+		int connected = connect(sessions);
+		long connectTime = System.nanoTime() - start;
+		System.out.println("Sessions : " + connected + " connected, " + (connections - connected) + " failed in " + seconds(connectTime) + " s");
+
+		start = System.nanoTime();
+		running = new CountDownLatch(connected);
+		for (int i = 0; i < connections; ++i)
+			if (sessions[i] != null)
+				pool.execute(new Session(sessions[i]));
+		await(running);
+		long runTime = System.nanoTime() - start;
+		pool.shutdown();
+
+		for (int i = 0; i < connections; ++i) {
+			if (sessions[i] == null) continue;
+			try {
+				sessions[i].finish();
+			} catch (IOException ioe) { }
+		}
+
+		int n = executed.get();
+		System.out.println("Commands : " + n + " executed, " + failed.get() + " failed in " + seconds(runTime) + " s" +
+		                   (runTime > 0 ? ", " + Math.round(n * 1e9 / runTime) + " per second" : ""));
+		if (n > 0) {
+			long[] l = new long[n];
+			System.arraycopy(latencies, 0, l, 0, n);
+			Arrays.sort(l);
+			System.out.println("Latency  : min " + millis(l[0]) +
+			                   " ms, 50% " + millis(l[(n - 1) / 2]) +
+			                   " ms, 90% " + millis(l[(int) ((n - 1) * 0.9)]) +
+			                   " ms, 99% " + millis(l[(int) ((n - 1) * 0.99)]) +
+			                   " ms, max " + millis(l[n - 1]) + " ms");
+		}
+
+		return (connected < connections || failed.get() > 0) ? 1 : 0;
+	}
+
+	private int connect(final SDMSServerConnection[] sessions)
+	{
+		final String host = options.getValue(App.HOST);
+		final int port = Integer.parseInt(options.getValue(App.PORT));
+		final boolean tls = options.isSet(App.TLS) ? options.getOption(App.TLS).getBValue() : false;
+		final String pattern = options.isSet(JOBSERVER) ? options.getValue(JOBSERVER) : null;
+		final String pass = options.isSet(JSPASS) && pattern != null ? options.getValue(JSPASS) : options.getValue(App.PASS);
+		final AtomicInteger connected = new AtomicInteger(0);
+		final CountDownLatch done = new CountDownLatch(connections);
+
+		for (int i = 0; i < connections; ++i) {
+			final int nr = i;
+			pool.execute(new Runnable() {
+				public void run()
+				{
+					String who = (pattern == null ? options.getValue(App.USER) : "jobserver " + pattern.replace("%d", Integer.toString(nr + 1)));
+					SDMSServerConnection c = new SDMSServerConnection(host, port, options.getValue(App.USER), pass, -1, tls);
+					try {
+						SDMSOutput o = c.connect(who);
+						if (o.error != null) {
+							printError(o.error, "CONNECT " + who);
+							c.finish();
+						} else {
+							sessions[nr] = c;
+							connected.incrementAndGet();
+						}
+					} catch (IOException ioe) {
+						if (!silent) System.err.println("CONNECT " + who + ":" + ioe.toString());
+					}
+					done.countDown();
+				}
+			});
+		}
+		await(done);
+		return connected.get();
+	}
+
+	private static void await(CountDownLatch l)
+	{
+		while (true) {
+			try {
+				l.await();
+				return;
+			} catch (InterruptedException ie) { }
+		}
+	}
+
+	private static String seconds(long nanos)
+	{
+		return Long.toString(nanos / 1000000000L) + "." + Long.toString(nanos / 1000000L % 1000L + 1000L).substring(1);
+	}
+
+	private static String millis(long nanos)
+	{
+		return Long.toString(nanos / 1000000L) + "." + Long.toString(nanos / 1000L % 1000L + 1000L).substring(1);
+	}
+
+	// sends the commands of one simulated session, one at a time
+	private class Session implements Runnable
+	{
+		private final SDMSServerConnection connection;
+		private int sent = 0;
+
+		Session(SDMSServerConnection c)
+		{
+			connection = c;
+		}
+
+		public void run()
+		{
+			if (sent >= requests) {
+				running.countDown();
+				return;
+			}
+			long start = System.nanoTime();
+			SDMSOutput o = connection.execute(command);
+			long latency = System.nanoTime() - start;
+			latencies[executed.getAndIncrement()] = latency;
+			if (o.error != null) {
+				failed.incrementAndGet();
+				if (verbose) printError(o.error);
+			}
+			sent++;
+			if (think > 0)
+				pool.schedule(this, think, TimeUnit.MILLISECONDS);
+			else
+				pool.execute(this);
+		}
+	}
+
+	public static void main (String[] argv)
+	{
+		System.exit(new load_test().run(argv));
+	}
+}